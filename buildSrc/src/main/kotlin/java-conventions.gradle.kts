@@ -70,8 +70,9 @@ tasks.compileTestJava {
 
 tasks.javadoc { options.encoding = "UTF-8" }
 
+tasks.test { finalizedBy(tasks.jacocoTestReport) }
+
 tasks.withType<Test> {
-    finalizedBy(tasks.jacocoTestReport)
     jvmArgs = listOf("-XX:+EnableDynamicAgentLoading") // Allow byte buddy for Mockito
     maxHeapSize = "4096m"
     minHeapSize = "1024m"
@@ -84,6 +85,21 @@ tasks.withType<Test> {
     }
 }
 
+tasks.register<Test>("performanceTest") {
+    description = "Runs the performance tests and fails on a regression against their baseline"
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform { includeTags("performance") }
+    // Also enables module specific performance tests like the gRPC listener's that default to this property
+    systemProperty("hedera.mirror.test.performance.enabled", "true")
+
+    // Copy load test overrides like the duration or baseline update to the forked test process
+    System.getProperties()
+        .filter { it.key.toString().startsWith("hedera.mirror.test.performance.") }
+        .forEach { systemProperty(it.key.toString(), it.value) }
+}
+
 tasks.jacocoTestReport {
     dependsOn(tasks.test)
     reports {
@@ -32,10 +32,13 @@ dependencies {
     api("org.apache.tuweni:tuweni-bytes")
     api("org.apache.tuweni:tuweni-units")
     api("org.springframework.boot:spring-boot-starter-data-jpa")
+    implementation("io.micrometer:micrometer-core")
+    implementation("org.springframework.boot:spring-boot-starter-validation")
+    testImplementation("org.awaitility:awaitility")
     testImplementation("org.hyperledger.besu:evm")
     testImplementation("org.springframework.boot:spring-boot-testcontainers")
     testImplementation("org.testcontainers:postgresql")
-    testImplementation("io.micrometer:micrometer-core")
+    testRuntimeOnly("org.postgresql:postgresql")
     testClasses(sourceSets["test"].output)
 }
 
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.db;
+
+import java.util.function.Supplier;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Declares the scope of a unit of reads, such as a request, and how fresh the data read in it needs to be. The routing
+ * data source picks a single database the first time a connection is needed in a scope and uses it for every later
+ * read in the same scope, so the reads never observe state from different replay points. Reads made outside any scope
+ * go to the primary.
+ */
+@UtilityClass
+public class ReplicaFreshness {
+
+    public static final long LATEST = Long.MAX_VALUE;
+
+    private static final ThreadLocal<Scope> SCOPE = new ThreadLocal<>();
+
+    /**
+     * Requires reads made by the supplier to see everything the primary had ingested when the scope was first read in.
+     *
+     * @param supplier the reads to perform
+     * @return the result of the supplier
+     */
+    public static <T> T latest(Supplier<T> supplier) {
+        return require(LATEST, supplier);
+    }
+
+    /**
+     * Requires reads made by the supplier to see at least the record files up to the given consensus timestamp.
+     *
+     * @param consensusTimestamp the consensus timestamp in nanoseconds the reads are bounded by
+     * @param supplier           the reads to perform
+     * @return the result of the supplier
+     */
+    public static <T> T require(long consensusTimestamp, Supplier<T> supplier) {
+        var scope = open(consensusTimestamp);
+        try {
+            return supplier.get();
+        } finally {
+            scope.close();
+        }
+    }
+
+    /**
+     * Opens a scope for the current thread that lasts until the returned scope is closed. Scopes can be nested, in
+     * which case the inner scope picks its own database.
+     *
+     * @param consensusTimestamp the consensus timestamp in nanoseconds the reads are bounded by, or {@link #LATEST}
+     * @return the opened scope
+     */
+    public static Scope open(long consensusTimestamp) {
+        var scope = new Scope(consensusTimestamp, SCOPE.get());
+        SCOPE.set(scope);
+        return scope;
+    }
+
+    static Scope getScope() {
+        return SCOPE.get();
+    }
+
+    @Getter(AccessLevel.PACKAGE)
+    public static final class Scope implements AutoCloseable {
+
+        private final long required;
+        private final Scope previous;
+        private Object target;
+
+        private Scope(long required, Scope previous) {
+            this.required = required;
+            this.previous = previous;
+        }
+
+        void setTarget(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public void close() {
+            if (previous != null) {
+                SCOPE.set(previous);
+            } else {
+                SCOPE.remove();
+            }
+        }
+    }
+}
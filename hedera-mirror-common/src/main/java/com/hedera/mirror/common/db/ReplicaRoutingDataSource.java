@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.db;
+
+import com.hedera.mirror.common.util.DomainUtils;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.CustomLog;
+import lombok.Getter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes the reads of a {@link ReplicaFreshness} scope to a PostgreSQL streaming replica that has replayed enough of
+ * the primary to satisfy the freshness the scope requires, falling back to the primary. The database is picked once
+ * per scope so all of its reads see a single, monotonically advancing replay point. A scope that needs the latest data
+ * compares the replicas against the consensus end of the primary's latest record file at the time the scope is first
+ * read in, minus the configured maximum lag, while a historical scope compares them against its timestamp bound. The
+ * replicas are polled periodically and only ever move forward, so their polled consensus end is a safe lower bound.
+ * Reads outside any scope or inside a read-write transaction always go to the primary, so this data source needs to be
+ * wrapped in a lazy connection proxy for the transaction state to be known.
+ */
+@CustomLog
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean, MeterBinder {
+
+    static final String PRIMARY = "primary";
+
+    private static final String LATEST_QUERY =
+            "select consensus_end from record_file order by consensus_end desc limit 1";
+
+    private final AtomicInteger counter = new AtomicInteger();
+    private final DataSource primary;
+    private final ReplicaProperties properties;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final ScheduledExecutorService scheduler;
+
+    private volatile long primaryConsensusEnd = -1L;
+
+    public ReplicaRoutingDataSource(
+            DataSource primary, Map<String, DataSource> replicas, ReplicaProperties properties) {
+        this.primary = primary;
+        this.properties = properties;
+        this.scheduler =
+                Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("replica-monitor").factory());
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach((name, dataSource) -> {
+            this.replicas.add(new Replica(name, dataSource));
+            targets.put(name, dataSource);
+        });
+
+        setDefaultTargetDataSource(primary);
+        setTargetDataSources(targets);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        refresh();
+        long interval = properties.getInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::refresh, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (var replica : replicas) {
+            Gauge.builder("hedera.mirror.db.replica.lag", replica, this::getLagSeconds)
+                    .baseUnit("seconds")
+                    .description("How far the replica's latest record file is behind the primary's at the last poll")
+                    .tag("replica", replica.getName())
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        scheduler.shutdownNow();
+        for (var replica : replicas) {
+            if (replica.getDataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+
+        var scope = ReplicaFreshness.getScope();
+        if (scope == null) {
+            return PRIMARY;
+        }
+
+        if (scope.getTarget() == null) {
+            scope.setTarget(select(scope.getRequired()));
+        }
+
+        return scope.getTarget();
+    }
+
+    void refresh() {
+        try {
+            primaryConsensusEnd = getConsensusEnd(primary);
+        } catch (Exception e) {
+            log.warn("Unable to determine the latest record file of the primary: {}", e.getMessage());
+        }
+
+        for (var replica : replicas) {
+            try {
+                replica.consensusEnd = getConsensusEnd(replica.getDataSource());
+            } catch (Exception e) {
+                // Stop routing to an unreachable replica until it answers again
+                replica.consensusEnd = -1L;
+                log.warn(
+                        "Unable to determine the latest record file of replica {}: {}",
+                        replica.getName(),
+                        e.getMessage());
+            }
+        }
+    }
+
+    private Object select(long required) {
+        if (replicas.isEmpty()) {
+            return PRIMARY;
+        }
+
+        if (required == ReplicaFreshness.LATEST) {
+            try {
+                required = getConsensusEnd(primary) - properties.getMaxLag().toNanos();
+            } catch (Exception e) {
+                log.warn("Unable to determine the latest record file of the primary: {}", e.getMessage());
+                return PRIMARY;
+            }
+        }
+
+        var candidates = new ArrayList<Replica>(replicas.size());
+        for (var replica : replicas) {
+            long replicaEnd = replica.getConsensusEnd();
+            if (replicaEnd >= 0 && replicaEnd >= required) {
+                candidates.add(replica);
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return PRIMARY;
+        }
+
+        return candidates.get(Math.floorMod(counter.getAndIncrement(), candidates.size())).getName();
+    }
+
+    private double getLagSeconds(Replica replica) {
+        long primaryEnd = primaryConsensusEnd;
+        long replicaEnd = replica.getConsensusEnd();
+        if (primaryEnd < 0 || replicaEnd < 0) {
+            return Double.NaN;
+        }
+        return (double) Math.max(0L, primaryEnd - replicaEnd) / DomainUtils.NANOS_PER_SECOND;
+    }
+
+    private long getConsensusEnd(DataSource dataSource) {
+        var consensusEnd = new JdbcTemplate(dataSource).query(LATEST_QUERY, rs -> rs.next() ? rs.getLong(1) : 0L);
+        return consensusEnd != null ? consensusEnd : 0L;
+    }
+
+    @Getter
+    private static class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile long consensusEnd = -1L;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.domain.entity;
+
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * Published by the importer when an entity's alias or EVM address is set or when the entity is deleted, so that
+ * services caching alias and EVM address resolution can evict entries that may have become stale.
+ *
+ * @param id         the entity id
+ * @param alias      the hex encoded alias, if set
+ * @param evmAddress the hex encoded EVM address, if set
+ * @param deleted    whether the entity was deleted
+ */
+public record EntityNotification(long id, String alias, String evmAddress, boolean deleted) {
+
+    public static final String CHANNEL = "entity";
+
+    public static EntityNotification of(Entity entity) {
+        return new EntityNotification(
+                entity.getId(),
+                toHex(entity.getAlias()),
+                toHex(entity.getEvmAddress()),
+                Boolean.TRUE.equals(entity.getDeleted()));
+    }
+
+    public static boolean isRelevant(Entity entity) {
+        return entity.getAlias() != null || entity.getEvmAddress() != null || Boolean.TRUE.equals(entity.getDeleted());
+    }
+
+    private static String toHex(byte[] bytes) {
+        return bytes != null ? Hex.encodeHexString(bytes) : null;
+    }
+}
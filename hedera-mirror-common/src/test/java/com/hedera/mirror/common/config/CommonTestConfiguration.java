@@ -18,6 +18,7 @@ package com.hedera.mirror.common.config;
 
 import com.google.common.collect.ImmutableMap;
 import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.test.performance.LoadProperties;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityManager;
@@ -91,6 +92,12 @@ public class CommonTestConfiguration {
         return flywayProperties;
     }
 
+    @Bean
+    @ConfigurationProperties("hedera.mirror.test.performance")
+    LoadProperties loadProperties() {
+        return new LoadProperties();
+    }
+
     @Bean
     MeterRegistry meterRegistry() {
         return new SimpleMeterRegistry();
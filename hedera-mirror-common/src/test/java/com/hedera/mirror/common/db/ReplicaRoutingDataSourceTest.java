@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.db;
+
+import static com.hedera.mirror.common.db.ReplicaRoutingDataSource.PRIMARY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final AtomicLong primaryConsensusEnd = new AtomicLong();
+    private final ReplicaProperties properties = new ReplicaProperties();
+
+    @AfterEach
+    void cleanup() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    void noScope() {
+        var routing = routing(100L, 100L);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    void freshReplica() {
+        var routing = routing(100L, 100L, 90L);
+        assertThat(latest(routing)).isEqualTo("replica1");
+        assertThat(latest(routing)).isEqualTo("replica1");
+    }
+
+    @Test
+    void roundRobin() {
+        var routing = routing(100L, 100L, 100L);
+        assertThat(latest(routing)).isEqualTo("replica1");
+        assertThat(latest(routing)).isEqualTo("replica2");
+        assertThat(latest(routing)).isEqualTo("replica1");
+    }
+
+    @Test
+    void pinnedToScope() {
+        var routing = routing(100L, 100L, 100L);
+        var scope = ReplicaFreshness.open(ReplicaFreshness.LATEST);
+        try {
+            assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica1");
+            primaryConsensusEnd.set(110L);
+            routing.refresh();
+            assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica1");
+            assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica1");
+        } finally {
+            scope.close();
+        }
+
+        assertThat(ReplicaFreshness.getScope()).isNull();
+        assertThat(latest(routing)).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    void primaryAdvancedSincePoll() {
+        var routing = routing(100L, 100L);
+        primaryConsensusEnd.set(110L);
+        assertThat(latest(routing)).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    void lagging() {
+        var routing = routing(100L, 90L, 80L);
+        assertThat(latest(routing)).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    void maxLag() {
+        properties.setMaxLag(Duration.ofNanos(10L));
+        var routing = routing(100L, 90L, 80L);
+        assertThat(latest(routing)).isEqualTo("replica1");
+    }
+
+    @Test
+    void historical() {
+        var routing = routing(100L, 90L, 80L);
+        assertThat(ReplicaFreshness.require(85L, routing::determineCurrentLookupKey)).isEqualTo("replica1");
+        assertThat(ReplicaFreshness.require(
+                        95L, () -> ReplicaFreshness.require(85L, routing::determineCurrentLookupKey)))
+                .isEqualTo("replica1");
+        assertThat(ReplicaFreshness.require(80L, () -> {
+                    var inner = ReplicaFreshness.require(95L, routing::determineCurrentLookupKey);
+                    return inner + "," + routing.determineCurrentLookupKey();
+                }))
+                .isEqualTo(PRIMARY + ",replica1");
+        assertThat(ReplicaFreshness.getScope()).isNull();
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    void readOnlyTransaction() {
+        var routing = routing(100L, 100L);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(latest(routing)).isEqualTo("replica1");
+    }
+
+    @Test
+    void readWriteTransaction() {
+        var routing = routing(100L, 100L);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        assertThat(latest(routing)).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    void notRefreshed() {
+        primaryConsensusEnd.set(100L);
+        var routing = new ReplicaRoutingDataSource(
+                dataSource(primaryConsensusEnd), Map.of("replica1", dataSource(100L)), properties);
+        assertThat(latest(routing)).isEqualTo(PRIMARY);
+        assertThat(ReplicaFreshness.require(50L, routing::determineCurrentLookupKey)).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    @SneakyThrows
+    void unreachable() {
+        var unreachable = mock(DataSource.class);
+        when(unreachable.getConnection()).thenThrow(new SQLException("Connection refused"));
+        var replicas = new LinkedHashMap<String, DataSource>();
+        replicas.put("replica1", unreachable);
+        replicas.put("replica2", dataSource(95L));
+        primaryConsensusEnd.set(100L);
+        var routing = new ReplicaRoutingDataSource(dataSource(primaryConsensusEnd), replicas, properties);
+        routing.refresh();
+
+        assertThat(latest(routing)).isEqualTo(PRIMARY);
+        assertThat(ReplicaFreshness.require(90L, routing::determineCurrentLookupKey)).isEqualTo("replica2");
+    }
+
+    @Test
+    void lagMetric() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var routing = routing(100L, 100L, 60L);
+        routing.bindTo(meterRegistry);
+
+        assertThat(meterRegistry.get("hedera.mirror.db.replica.lag").tag("replica", "replica1").gauge().value())
+                .isZero();
+        assertThat(meterRegistry.get("hedera.mirror.db.replica.lag").tag("replica", "replica2").gauge().value())
+                .isCloseTo(40e-9, within(1e-15));
+    }
+
+    private Object latest(ReplicaRoutingDataSource routing) {
+        return ReplicaFreshness.latest(routing::determineCurrentLookupKey);
+    }
+
+    private ReplicaRoutingDataSource routing(long primary, long... replicas) {
+        var replicaDataSources = new LinkedHashMap<String, DataSource>();
+        for (int i = 0; i < replicas.length; i++) {
+            replicaDataSources.put("replica" + (i + 1), dataSource(replicas[i]));
+        }
+        primaryConsensusEnd.set(primary);
+        var routing = new ReplicaRoutingDataSource(dataSource(primaryConsensusEnd), replicaDataSources, properties);
+        routing.refresh();
+        return routing;
+    }
+
+    private DataSource dataSource(long consensusEnd) {
+        return dataSource(new AtomicLong(consensusEnd));
+    }
+
+    @SneakyThrows
+    private DataSource dataSource(AtomicLong consensusEnd) {
+        var dataSource = mock(DataSource.class);
+        var connection = mock(Connection.class);
+        var statement = mock(Statement.class);
+        var resultSet = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenAnswer(invocation -> consensusEnd.get());
+        return dataSource;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.db;
+
+import static com.hedera.mirror.common.db.ReplicaRoutingDataSource.PRIMARY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Routes reads against a real primary and a hot standby fed by PostgreSQL streaming replication, pausing the standby's
+ * WAL replay to make it fall behind the primary.
+ */
+class ReplicaStreamingReplicationTest {
+
+    private static final DockerImageName IMAGE = DockerImageName.parse("postgres:16-alpine");
+    private static final String LATEST_QUERY = "select max(consensus_end) from record_file";
+    private static final String REPLICA = "replica";
+
+    private static Network network;
+    private static PostgreSQLContainer<?> primaryContainer;
+    private static GenericContainer<?> replicaContainer;
+    private static HikariDataSource primary;
+
+    @BeforeAll
+    static void setup() {
+        network = Network.newNetwork();
+        primaryContainer = new PostgreSQLContainer<>(IMAGE)
+                .withCommand("postgres", "-c", "wal_level=replica", "-c", "max_wal_senders=4")
+                .withCopyToContainer(
+                        Transferable.of("echo 'host replication all all trust' >> \"$PGDATA/pg_hba.conf\""),
+                        "/docker-entrypoint-initdb.d/replication.sh")
+                .withNetwork(network)
+                .withNetworkAliases("primary");
+        primaryContainer.start();
+
+        var standby = "until pg_basebackup -h primary -U %s -D /tmp/standby -R -X stream; do rm -rf /tmp/standby; "
+                + "sleep 1; done; chmod 700 /tmp/standby; exec postgres -D /tmp/standby";
+        replicaContainer = new GenericContainer<>(IMAGE)
+                .withCommand("su-exec", "postgres", "sh", "-c", standby.formatted(primaryContainer.getUsername()))
+                .withExposedPorts(PostgreSQLContainer.POSTGRESQL_PORT)
+                .withNetwork(network)
+                .waitingFor(Wait.forLogMessage(".*ready to accept read-only connections.*", 1));
+        replicaContainer.start();
+
+        primary = dataSource(primaryContainer.getJdbcUrl());
+        var jdbcTemplate = new JdbcTemplate(primary);
+        jdbcTemplate.execute("create table record_file (consensus_end bigint not null)");
+        jdbcTemplate.update("insert into record_file values (100)");
+    }
+
+    @AfterAll
+    static void teardown() {
+        primary.close();
+        replicaContainer.stop();
+        primaryContainer.stop();
+        network.close();
+    }
+
+    @Test
+    void replication() throws Exception {
+        var replica = dataSource("jdbc:postgresql://%s:%d/%s"
+                .formatted(
+                        replicaContainer.getHost(),
+                        replicaContainer.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT),
+                        primaryContainer.getDatabaseName()));
+        var properties = new ReplicaProperties();
+        properties.setInterval(Duration.ofMillis(100L));
+        var routing = new ReplicaRoutingDataSource(primary, Map.of(REPLICA, replica), properties);
+        routing.afterPropertiesSet();
+
+        try {
+            // The standby serves the latest reads once it has replayed the primary's record file
+            await().atMost(Duration.ofSeconds(30L))
+                    .untilAsserted(() -> assertThat(latest(routing)).isEqualTo(REPLICA));
+            assertThat(ReplicaFreshness.latest(() -> read(routing))).isEqualTo(100L);
+
+            // A paused standby falls behind, so latest reads go to the primary while historical reads still don't
+            new JdbcTemplate(replica).execute("select pg_wal_replay_pause()");
+            var scope = ReplicaFreshness.open(ReplicaFreshness.LATEST);
+            try {
+                assertThat(read(routing)).isEqualTo(100L);
+                new JdbcTemplate(primary).update("insert into record_file values (200)");
+                assertThat(read(routing)).as("pinned to the standby").isEqualTo(100L);
+            } finally {
+                scope.close();
+            }
+
+            assertThat(latest(routing)).isEqualTo(PRIMARY);
+            assertThat(ReplicaFreshness.latest(() -> read(routing))).isEqualTo(200L);
+            assertThat(ReplicaFreshness.require(100L, routing::determineCurrentLookupKey)).isEqualTo(REPLICA);
+            assertThat(ReplicaFreshness.require(100L, () -> read(routing))).isEqualTo(100L);
+            assertThat(ReplicaFreshness.require(200L, routing::determineCurrentLookupKey)).isEqualTo(PRIMARY);
+
+            // Once replay resumes the standby catches up and serves the latest reads again
+            new JdbcTemplate(replica).execute("select pg_wal_replay_resume()");
+            await().atMost(Duration.ofSeconds(30L))
+                    .untilAsserted(() -> assertThat(latest(routing)).isEqualTo(REPLICA));
+            assertThat(ReplicaFreshness.latest(() -> read(routing))).isEqualTo(200L);
+        } finally {
+            routing.destroy();
+        }
+    }
+
+    private static HikariDataSource dataSource(String jdbcUrl) {
+        var dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(jdbcUrl);
+        dataSource.setUsername(primaryContainer.getUsername());
+        dataSource.setPassword(primaryContainer.getPassword());
+        return dataSource;
+    }
+
+    private Object latest(ReplicaRoutingDataSource routing) {
+        return ReplicaFreshness.latest(routing::determineCurrentLookupKey);
+    }
+
+    private Long read(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForObject(LATEST_QUERY, Long.class);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.test.performance;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
+
+@Data
+public class LoadProperties {
+
+    @NotBlank
+    private String baseline = "src/test/resources/performance/baseline.json";
+
+    @Min(1)
+    private int concurrency = 16;
+
+    @DurationMin(seconds = 1L)
+    @NotNull
+    private Duration duration = Duration.ofSeconds(30L);
+
+    private boolean enabled = false;
+
+    @DecimalMin("0.0")
+    private double maxAllocationRegression = 0.1;
+
+    @DecimalMin("0.0")
+    private double maxLatencyRegression = 0.2;
+
+    @NotBlank
+    private String output = "build/performance";
+
+    @Min(1)
+    private int scale = 1000;
+
+    private boolean updateBaseline = false;
+
+    @NotNull
+    private Duration warmup = Duration.ofSeconds(10L);
+}
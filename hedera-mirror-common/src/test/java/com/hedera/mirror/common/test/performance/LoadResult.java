@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.test.performance;
+
+/**
+ * The outcome of driving a single endpoint at a fixed concurrency.
+ *
+ * @param requests                        the number of successful requests
+ * @param errors                          the number of requests that failed or returned a non-2xx status
+ * @param throughput                      the successful requests per second
+ * @param p50Micros                       the median latency in microseconds
+ * @param p99Micros                       the 99th percentile latency in microseconds
+ * @param processAllocationRate           the heap allocation rate of the whole JVM in MiB per second
+ * @param processAllocatedBytesPerRequest the bytes allocated by the whole JVM per request
+ */
+public record LoadResult(
+        long requests,
+        long errors,
+        double throughput,
+        long p50Micros,
+        long p99Micros,
+        double processAllocationRate,
+        long processAllocatedBytesPerRequest) {}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.test.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.CustomLog;
+import lombok.SneakyThrows;
+
+/**
+ * Drives an HTTP endpoint from a fixed number of concurrent clients for a warmup period and then a measured period,
+ * and compares the measured latency percentiles and allocations against a stored baseline. A scenario without a
+ * baseline records its result as the baseline and warns instead of comparing. The server runs in the same JVM as the clients, so the
+ * allocation figures are process-wide: they include the load generating clients and any background threads and are
+ * only meaningful relative to a baseline recorded by the same test.
+ */
+@CustomLog
+public class LoadTester {
+
+    private static final TypeReference<TreeMap<String, LoadResult>> RESULTS_TYPE = new TypeReference<>() {};
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final LoadProperties properties;
+
+    public LoadTester(LoadProperties properties) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5L))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        this.objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        this.properties = properties;
+    }
+
+    /**
+     * Runs the load test and fails if any request failed or the result regressed against its baseline. When
+     * updateBaseline is set the result replaces its baseline instead.
+     *
+     * @param name    the unique name of the scenario used to look up its baseline
+     * @param request the supplier of the request each client sends repeatedly
+     * @return the measured result
+     */
+    @SneakyThrows
+    public LoadResult run(String name, Supplier<HttpRequest> request) {
+        log.info("Warming up {} for {}", name, properties.getWarmup());
+        drive(request, properties.getWarmup());
+
+        log.info("Measuring {} for {} with {} clients", name, properties.getDuration(), properties.getConcurrency());
+        var result = drive(request, properties.getDuration());
+        log.info("{}: {}", name, result);
+
+        var output = Path.of(properties.getOutput());
+        Files.createDirectories(output);
+        objectMapper.writeValue(output.resolve(name + ".json").toFile(), result);
+
+        assertThat(result.errors()).as("%s errors", name).isZero();
+        assertThat(result.requests()).as("%s requests", name).isPositive();
+        compare(name, result);
+        return result;
+    }
+
+    private void compare(String name, LoadResult result) throws IOException {
+        var file = Path.of(properties.getBaseline());
+        var baseline = Files.exists(file)
+                ? objectMapper.readValue(file.toFile(), RESULTS_TYPE)
+                : new TreeMap<String, LoadResult>();
+
+        var expected = baseline.get(name);
+        if (properties.isUpdateBaseline() || expected == null) {
+            baseline.put(name, result);
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            objectMapper.writeValue(file.toFile(), baseline);
+
+            if (expected == null) {
+                log.warn("No baseline of {} in {}, recorded this result as its baseline", name, file);
+            } else {
+                log.info("Updated the baseline of {} in {}", name, file);
+            }
+            return;
+        }
+
+        double latency = 1.0 + properties.getMaxLatencyRegression();
+        double allocation = 1.0 + properties.getMaxAllocationRegression();
+        assertThat(result.p50Micros())
+                .as("%s p50 latency", name)
+                .isLessThanOrEqualTo((long) (expected.p50Micros() * latency));
+        assertThat(result.p99Micros())
+                .as("%s p99 latency", name)
+                .isLessThanOrEqualTo((long) (expected.p99Micros() * latency));
+        assertThat(result.processAllocatedBytesPerRequest())
+                .as("%s process-wide allocated bytes per request", name)
+                .isLessThanOrEqualTo((long) (expected.processAllocatedBytesPerRequest() * allocation));
+    }
+
+    private LoadResult drive(Supplier<HttpRequest> request, Duration duration) {
+        var threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long deadline = System.nanoTime() + duration.toNanos();
+        var workers = new ArrayList<Worker>(properties.getConcurrency());
+        long allocatedBefore = threadMXBean.getTotalThreadAllocatedBytes();
+        long start = System.nanoTime();
+
+        try (var executor = Executors.newFixedThreadPool(properties.getConcurrency())) {
+            for (int i = 0; i < properties.getConcurrency(); i++) {
+                var worker = new Worker(deadline, request);
+                workers.add(worker);
+                executor.execute(worker);
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        long allocated = Math.max(0L, threadMXBean.getTotalThreadAllocatedBytes() - allocatedBefore);
+        return toResult(workers, elapsed, allocated);
+    }
+
+    private LoadResult toResult(List<Worker> workers, long elapsedNanos, long allocated) {
+        long errors = 0;
+        int count = 0;
+        for (var worker : workers) {
+            errors += worker.errors;
+            count += worker.count;
+        }
+
+        var latencies = new long[count];
+        int offset = 0;
+        for (var worker : workers) {
+            System.arraycopy(worker.latencies, 0, latencies, offset, worker.count);
+            offset += worker.count;
+        }
+        Arrays.sort(latencies);
+
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        return new LoadResult(
+                count,
+                errors,
+                count / seconds,
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.99),
+                allocated / seconds / (1024 * 1024),
+                count > 0 ? allocated / count : 0L);
+    }
+
+    private long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0L;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return TimeUnit.NANOSECONDS.toMicros(sorted[Math.max(0, index)]);
+    }
+
+    private class Worker implements Runnable {
+
+        private final long deadline;
+        private final Supplier<HttpRequest> request;
+
+        private int count;
+        private long errors;
+        private long[] latencies = new long[1024];
+
+        Worker(long deadline, Supplier<HttpRequest> request) {
+            this.deadline = deadline;
+            this.request = request;
+        }
+
+        @Override
+        public void run() {
+            while (System.nanoTime() < deadline) {
+                long begin = System.nanoTime();
+                try {
+                    var response = httpClient.send(request.get(), BodyHandlers.discarding());
+                    if (response.statusCode() / 100 != 2) {
+                        errors++;
+                        continue;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (IOException e) {
+                    errors++;
+                    continue;
+                }
+
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+                latencies[count++] = System.nanoTime() - begin;
+            }
+        }
+    }
+}
@@ -25,6 +25,9 @@ import org.springframework.validation.annotation.Validated;
 @Data
 @Validated
 public class CacheProperties {
+    @NotBlank
+    private String persistedQuery = "expireAfterAccess=1d,maximumSize=10000,recordStats";
+
     @NotBlank
     private String query = "expireAfterWrite=1h,maximumSize=1000,recordStats";
 }
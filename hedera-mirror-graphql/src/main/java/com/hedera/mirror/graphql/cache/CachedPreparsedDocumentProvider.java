@@ -17,26 +17,73 @@
 package com.hedera.mirror.graphql.cache;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import graphql.ExecutionInput;
 import graphql.execution.preparsed.PreparsedDocumentEntry;
 import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.ApolloPersistedQuerySupport;
+import graphql.execution.preparsed.persisted.PersistedQueryCache;
+import graphql.execution.preparsed.persisted.PersistedQueryCacheMiss;
 import jakarta.inject.Named;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
+/**
+ * Caches parsed and validated documents. Requests that follow the automatic persisted queries (APQ) protocol are
+ * cached by the SHA-256 hash of their query so clients only need to send the full query text when the hash is not yet
+ * registered. All other requests are cached by their query text.
+ */
 @Named
 final class CachedPreparsedDocumentProvider implements PreparsedDocumentProvider {
 
+    static final String PERSISTED_QUERY = "persistedQuery";
+
     private final AsyncCache<String, PreparsedDocumentEntry> cache;
+    private final PreparsedDocumentProvider persistedQuerySupport;
 
     CachedPreparsedDocumentProvider(CacheProperties properties) {
         cache = Caffeine.from(properties.getQuery()).buildAsync();
+        Cache<Object, PreparsedDocumentEntry> persistedQueries =
+                Caffeine.from(properties.getPersistedQuery()).build();
+        persistedQuerySupport = new ApolloPersistedQuerySupport(new CaffeinePersistedQueryCache(persistedQueries));
     }
 
     @Override
     public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(
             ExecutionInput executionInput, Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
-        return cache.get(executionInput.getQuery(), key -> parseAndValidateFunction.apply(executionInput));
+        Function<ExecutionInput, PreparsedDocumentEntry> planningFunction =
+                input -> PlannedDocumentEntry.of(parseAndValidateFunction.apply(input));
+        CompletableFuture<PreparsedDocumentEntry> entry;
+
+        if (isPersistedQuery(executionInput)) {
+            entry = persistedQuerySupport.getDocumentAsync(executionInput, planningFunction);
+        } else {
+            entry = cache.get(executionInput.getQuery(), key -> planningFunction.apply(executionInput));
+        }
+
+        return entry.thenApply(e -> {
+            if (e instanceof PlannedDocumentEntry plannedEntry) {
+                executionInput.getGraphQLContext().put(FieldSelection.class, plannedEntry.getFieldSelection());
+            }
+            return e;
+        });
+    }
+
+    private boolean isPersistedQuery(ExecutionInput executionInput) {
+        var extensions = executionInput.getExtensions();
+        return extensions != null && extensions.get(PERSISTED_QUERY) instanceof Map;
+    }
+
+    private record CaffeinePersistedQueryCache(Cache<Object, PreparsedDocumentEntry> cache)
+            implements PersistedQueryCache {
+
+        @Override
+        public CompletableFuture<PreparsedDocumentEntry> getPersistedQueryDocumentAsync(
+                Object persistedQueryId, ExecutionInput executionInput, PersistedQueryCacheMiss onCacheMiss) {
+            var entry = cache.get(persistedQueryId, k -> onCacheMiss.apply(executionInput.getQuery()));
+            return CompletableFuture.completedFuture(entry);
+        }
     }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.cache;
+
+import graphql.GraphQLContext;
+import graphql.language.Document;
+import graphql.language.Field;
+import graphql.language.Node;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The names of all fields selected anywhere in a GraphQL document. It's computed once when a document is parsed and
+ * cached alongside it so mappers can skip populating fields that a query never selects. Since it's the union of all
+ * selection sets in the document, it may include fields not selected for a particular object but never excludes one.
+ */
+public record FieldSelection(Set<String> fields) {
+
+    public static final FieldSelection ALL = new FieldSelection(null);
+
+    public static FieldSelection from(GraphQLContext context) {
+        return context.getOrDefault(FieldSelection.class, ALL);
+    }
+
+    public static FieldSelection of(Document document) {
+        var fields = new HashSet<String>();
+        collect(document, fields);
+        return new FieldSelection(Set.copyOf(fields));
+    }
+
+    private static void collect(Node<?> node, Set<String> fields) {
+        if (node instanceof Field field) {
+            fields.add(field.getName());
+        }
+
+        for (var child : node.getChildren()) {
+            collect(child, fields);
+        }
+    }
+
+    public boolean contains(String field) {
+        return fields == null || fields.contains(field);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.cache;
+
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.language.Document;
+import lombok.Getter;
+
+/**
+ * A parsed and validated document along with its precomputed field selection.
+ */
+@Getter
+final class PlannedDocumentEntry extends PreparsedDocumentEntry {
+
+    private final FieldSelection fieldSelection;
+
+    private PlannedDocumentEntry(Document document) {
+        super(document);
+        this.fieldSelection = FieldSelection.of(document);
+    }
+
+    static PreparsedDocumentEntry of(PreparsedDocumentEntry entry) {
+        if (entry.hasErrors() || entry instanceof PlannedDocumentEntry) {
+            return entry;
+        }
+
+        return new PlannedDocumentEntry(entry.getDocument());
+    }
+}
@@ -20,18 +20,27 @@ import static com.hedera.mirror.graphql.util.GraphQlUtils.convertCurrency;
 import static com.hedera.mirror.graphql.util.GraphQlUtils.toEntityId;
 import static com.hedera.mirror.graphql.util.GraphQlUtils.validateOneOf;
 
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityType;
+import com.hedera.mirror.graphql.cache.FieldSelection;
 import com.hedera.mirror.graphql.mapper.AccountMapper;
 import com.hedera.mirror.graphql.service.EntityService;
 import com.hedera.mirror.graphql.viewmodel.Account;
 import com.hedera.mirror.graphql.viewmodel.AccountInput;
+import com.hedera.mirror.graphql.viewmodel.Accountable;
 import com.hedera.mirror.graphql.viewmodel.HbarUnit;
+import graphql.GraphQLContext;
+import jakarta.annotation.PostConstruct;
 import jakarta.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
+import org.dataloader.DataLoader;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
 import org.springframework.stereotype.Controller;
 import reactor.core.publisher.Mono;
 
@@ -41,10 +50,24 @@ import reactor.core.publisher.Mono;
 class AccountController {
 
     private final AccountMapper accountMapper;
+    private final BatchLoaderRegistry batchLoaderRegistry;
     private final EntityService entityService;
 
+    /**
+     * Registers a per-request data loader that collects the IDs of all entities referenced at the same level of a
+     * query and loads them with a single query. The data loader also caches the entities it loaded for the rest of the
+     * request so an entity referenced multiple times is only retrieved once.
+     */
+    @PostConstruct
+    void registerBatchLoaders() {
+        batchLoaderRegistry
+                .forTypePair(Long.class, Entity.class)
+                .registerMappedBatchLoader((ids, env) -> Mono.fromSupplier(() -> entityService.getByIds(ids)));
+    }
+
     @QueryMapping
-    Mono<Account> account(@Argument @Valid AccountInput input) {
+    Mono<Account> account(@Argument @Valid AccountInput input, GraphQLContext context) {
+        final var fieldSelection = FieldSelection.from(context);
         final var alias = input.getAlias();
         final var evmAddress = input.getEvmAddress();
         final var entityId = input.getEntityId();
@@ -55,18 +78,19 @@ class AccountController {
         if (entityId != null) {
             return Mono.justOrEmpty(entityService
                     .getByIdAndType(toEntityId(entityId), EntityType.ACCOUNT)
-                    .map(accountMapper::map));
+                    .map(e -> accountMapper.map(e, fieldSelection)));
         }
 
         if (alias != null) {
-            return Mono.justOrEmpty(
-                    entityService.getByAliasAndType(alias, EntityType.ACCOUNT).map(accountMapper::map));
+            return Mono.justOrEmpty(entityService
+                    .getByAliasAndType(alias, EntityType.ACCOUNT)
+                    .map(e -> accountMapper.map(e, fieldSelection)));
         }
 
         if (evmAddress != null) {
             return Mono.justOrEmpty(entityService
                     .getByEvmAddressAndType(evmAddress, EntityType.ACCOUNT)
-                    .map(accountMapper::map));
+                    .map(e -> accountMapper.map(e, fieldSelection)));
         }
 
         return Mono.error(new IllegalStateException("Not implemented"));
@@ -76,4 +100,36 @@ class AccountController {
     Mono<Long> balance(@Argument @Valid HbarUnit unit, Account account) {
         return Mono.justOrEmpty(convertCurrency(unit, account.getBalance()));
     }
+
+    @SchemaMapping
+    CompletableFuture<Account> autoRenewAccount(
+            Account account, DataLoader<Long, Entity> entityLoader, GraphQLContext context) {
+        return loadAccount(account.getAutoRenewAccount(), entityLoader, context);
+    }
+
+    @SchemaMapping
+    CompletableFuture<Account> obtainer(
+            Account account, DataLoader<Long, Entity> entityLoader, GraphQLContext context) {
+        return loadAccount(account.getObtainer(), entityLoader, context);
+    }
+
+    @SchemaMapping
+    CompletableFuture<Account> stakedAccount(
+            Account account, DataLoader<Long, Entity> entityLoader, GraphQLContext context) {
+        return loadAccount(account.getStakedAccount(), entityLoader, context);
+    }
+
+    private CompletableFuture<Account> loadAccount(
+            Accountable reference, DataLoader<Long, Entity> entityLoader, GraphQLContext context) {
+        if (reference == null || reference.getEntityId() == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        var entityId = reference.getEntityId();
+        var id = EntityId.of(entityId.getShard(), entityId.getRealm(), entityId.getNum()).getId();
+        var fieldSelection = FieldSelection.from(context);
+        return entityLoader.load(id).thenApply(e -> e != null && e.getType() == EntityType.ACCOUNT
+                ? accountMapper.map(e, fieldSelection)
+                : null);
+    }
 }
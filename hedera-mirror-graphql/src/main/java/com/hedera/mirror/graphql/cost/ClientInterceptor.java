@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.cost;
+
+import jakarta.inject.Named;
+import java.util.Map;
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Identifies the client making a request and stores it in the GraphQL context so the cost of its queries can be
+ * charged against its own budget. The client is identified by its remote address since request headers are under the
+ * client's control. Deployments behind a trusted proxy should configure {@code server.forward-headers-strategy} so
+ * that the remote address is resolved from the proxy's forwarded headers.
+ */
+@Named
+class ClientInterceptor implements WebGraphQlInterceptor {
+
+    static final String CLIENT = "client";
+    static final String UNKNOWN = "unknown";
+
+    @Override
+    public Mono<WebGraphQlResponse> intercept(WebGraphQlRequest request, Chain chain) {
+        var client = getClient(request);
+        request.configureExecutionInput((executionInput, builder) ->
+                builder.graphQLContext(Map.of(CLIENT, client)).build());
+        return chain.next(request);
+    }
+
+    private String getClient(WebGraphQlRequest request) {
+        var remoteAddress = request.getRemoteAddress();
+
+        if (remoteAddress != null && remoteAddress.getAddress() != null) {
+            return remoteAddress.getAddress().getHostAddress();
+        }
+
+        return UNKNOWN;
+    }
+}
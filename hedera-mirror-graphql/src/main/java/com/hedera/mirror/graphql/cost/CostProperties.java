@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.cost;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@ConfigurationProperties("hedera.mirror.graphql.cost")
+@Data
+@Validated
+public class CostProperties {
+
+    @Min(1)
+    private long clientCacheSize = 10_000L;
+
+    @DurationMin(seconds = 1L)
+    @NotNull
+    private Duration clientExpiry = Duration.ofMinutes(1L);
+
+    @Min(1)
+    private long costPerSecond = 5_000L;
+
+    @Min(0)
+    private int defaultWeight = 1;
+
+    private boolean enabled = true;
+
+    @Min(1)
+    private long maxCost = 1_000L;
+}
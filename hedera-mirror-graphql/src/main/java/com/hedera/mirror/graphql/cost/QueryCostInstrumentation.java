@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.cost;
+
+import static com.hedera.mirror.graphql.cost.ClientInterceptor.CLIENT;
+import static com.hedera.mirror.graphql.cost.ClientInterceptor.UNKNOWN;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import graphql.ExecutionResult;
+import graphql.analysis.QueryTraverser;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.ExecutionContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.schema.GraphQLFieldDefinition;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Named;
+import java.time.Duration;
+import lombok.CustomLog;
+
+/**
+ * Statically calculates the cost of a query before executing it by summing the weights declared via the {@code @Cost}
+ * schema directive for every field it selects. Queries that exceed the maximum cost, or whose client has used up its
+ * token bucket budget, are rejected before they reach the database.
+ */
+@CustomLog
+@Named
+class QueryCostInstrumentation extends SimplePerformantInstrumentation {
+
+    static final String COST_DIRECTIVE = "Cost";
+    static final String METRIC_COST = "hedera.mirror.graphql.query.cost";
+    static final String METRIC_REJECTED = "hedera.mirror.graphql.query.rejected";
+    static final String WEIGHT_ARGUMENT = "weight";
+
+    private final Cache<String, Bucket> buckets;
+    private final Counter.Builder budgetExceeded;
+    private final DistributionSummary.Builder costMetric;
+    private final Counter.Builder maxCostExceeded;
+    private final MeterRegistry meterRegistry;
+    private final CostProperties properties;
+
+    QueryCostInstrumentation(CostProperties properties, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(properties.getClientExpiry())
+                .maximumSize(properties.getClientCacheSize())
+                .build();
+        this.costMetric = DistributionSummary.builder(METRIC_COST)
+                .description("The statically calculated cost of a GraphQL query");
+        this.budgetExceeded = rejectedCounter("budget");
+        this.maxCostExceeded = rejectedCounter("max_cost");
+    }
+
+    private static Counter.Builder rejectedCounter(String reason) {
+        return Counter.builder(METRIC_REJECTED)
+                .description("The number of GraphQL queries rejected due to their cost")
+                .tag("reason", reason);
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(
+            InstrumentationExecuteOperationParameters parameters, InstrumentationState state) {
+        if (!properties.isEnabled()) {
+            return SimpleInstrumentationContext.noOp();
+        }
+
+        var executionContext = parameters.getExecutionContext();
+        long cost = calculateCost(executionContext);
+        costMetric.register(meterRegistry).record(cost);
+
+        if (cost > properties.getMaxCost()) {
+            maxCostExceeded.register(meterRegistry).increment();
+            throw new AbortExecutionException(
+                    String.format("Query cost %d exceeds the maximum of %d", cost, properties.getMaxCost()));
+        }
+
+        String client = executionContext.getGraphQLContext().getOrDefault(CLIENT, UNKNOWN);
+        var bucket = buckets.get(client, k -> newBucket());
+
+        if (!bucket.tryConsume(cost)) {
+            budgetExceeded.register(meterRegistry).increment();
+            log.warn("Rejecting query with cost {} from client {} that exceeded its budget", cost, client);
+            throw new AbortExecutionException("Query cost budget exceeded, please try again later");
+        }
+
+        return SimpleInstrumentationContext.noOp();
+    }
+
+    void resetBudgets() {
+        buckets.invalidateAll();
+    }
+
+    long calculateCost(ExecutionContext executionContext) {
+        var queryTraverser = QueryTraverser.newQueryTraverser()
+                .schema(executionContext.getGraphQLSchema())
+                .document(executionContext.getDocument())
+                .operationName(executionContext.getExecutionInput().getOperationName())
+                .coercedVariables(executionContext.getCoercedVariables())
+                .build();
+        return queryTraverser.reducePreOrder((env, cost) -> cost + getWeight(env.getFieldDefinition()), 0L);
+    }
+
+    private long getWeight(GraphQLFieldDefinition fieldDefinition) {
+        var directive = fieldDefinition.getAppliedDirective(COST_DIRECTIVE);
+
+        if (directive != null) {
+            Integer weight = directive.getArgument(WEIGHT_ARGUMENT).getValue();
+            if (weight != null) {
+                return weight;
+            }
+        }
+
+        return properties.getDefaultWeight();
+    }
+
+    private Bucket newBucket() {
+        long costPerSecond = properties.getCostPerSecond();
+        var limit = Bandwidth.builder()
+                .capacity(costPerSecond)
+                .refillGreedy(costPerSecond, Duration.ofSeconds(1L))
+                .build();
+        return Bucket.builder().addLimit(limit).build();
+    }
+}
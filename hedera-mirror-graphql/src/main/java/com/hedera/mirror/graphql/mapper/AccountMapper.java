@@ -17,10 +17,54 @@
 package com.hedera.mirror.graphql.mapper;
 
 import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.graphql.cache.FieldSelection;
 import com.hedera.mirror.graphql.viewmodel.Account;
+import com.hedera.mirror.graphql.viewmodel.Accountable;
+import org.mapstruct.Condition;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.TargetPropertyName;
 
 @Mapper(config = EntityMapper.class)
 public interface AccountMapper {
-    Account map(Entity source);
+
+    @Mapping(source = "autoRenewAccountId", target = "autoRenewAccount")
+    @Mapping(source = "obtainerId", target = "obtainer")
+    @Mapping(source = "stakedAccountId", target = "stakedAccount")
+    Account map(Entity source, @Context FieldSelection fieldSelection);
+
+    default Account map(Entity source) {
+        return map(source, FieldSelection.ALL);
+    }
+
+    @Condition
+    default boolean isSelected(@TargetPropertyName String field, @Context FieldSelection fieldSelection) {
+        return fieldSelection.contains(field);
+    }
+
+    /**
+     * Maps an account reference to a placeholder that only contains its entity ID. The controller resolves the
+     * remaining fields of the placeholder in batches when a query selects them.
+     */
+    default Account mapReference(Long id) {
+        if (id == null || id <= 0) {
+            return null;
+        }
+
+        var entityId = EntityId.of(id);
+        var viewModel = new com.hedera.mirror.graphql.viewmodel.EntityId();
+        viewModel.setShard(entityId.getShard());
+        viewModel.setRealm(entityId.getRealm());
+        viewModel.setNum(entityId.getNum());
+
+        var account = new Account();
+        account.setEntityId(viewModel);
+        return account;
+    }
+
+    default Accountable mapReference(EntityId entityId) {
+        return EntityId.isEmpty(entityId) ? null : mapReference(entityId.getId());
+    }
 }
@@ -17,6 +17,7 @@
 package com.hedera.mirror.graphql.repository;
 
 import com.hedera.mirror.common.domain.entity.Entity;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
@@ -29,4 +30,7 @@ public interface EntityRepository extends CrudRepository<Entity, Long> {
 
     @Query(value = "select * from entity where evm_address = ?1 and deleted is not true", nativeQuery = true)
     Optional<Entity> findByEvmAddress(byte[] evmAddress);
+
+    @Query(value = "select * from entity where id = any(?1)", nativeQuery = true)
+    List<Entity> findByIds(Long[] ids);
 }
@@ -19,6 +19,8 @@ package com.hedera.mirror.graphql.service;
 import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityType;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 public interface EntityService {
@@ -28,4 +30,6 @@ public interface EntityService {
     Optional<Entity> getByAliasAndType(String alias, EntityType type);
 
     Optional<Entity> getByEvmAddressAndType(String evmAddress, EntityType type);
+
+    Map<Long, Entity> getByIds(Collection<Long> ids);
 }
@@ -25,7 +25,12 @@ import com.hedera.mirror.common.domain.entity.EntityType;
 import com.hedera.mirror.graphql.repository.EntityRepository;
 import jakarta.inject.Named;
 import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 
 @Named
@@ -53,4 +58,15 @@ public class EntityServiceImpl implements EntityService {
         }
         return entityRepository.findByEvmAddress(evmAddressBytes).filter(e -> e.getType() == type);
     }
+
+    @Override
+    public Map<Long, Entity> getByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        var distinctIds = ids.stream().distinct().toArray(Long[]::new);
+        return entityRepository.findByIds(distinctIds).stream()
+                .collect(Collectors.toMap(Entity::getId, Function.identity()));
+    }
 }
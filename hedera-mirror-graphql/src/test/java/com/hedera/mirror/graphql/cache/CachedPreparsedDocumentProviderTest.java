@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.cache;
+
+import com.hedera.mirror.graphql.GraphqlIntegrationTest;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@AutoConfigureWebTestClient
+@RequiredArgsConstructor
+class CachedPreparsedDocumentProviderTest extends GraphqlIntegrationTest {
+
+    private static final String QUERY = "query Account($id: Long!) { account(input: {entityId: {num: $id}}) { memo }}";
+
+    private final WebTestClient webTestClient;
+
+    @Test
+    void persistedQuery() {
+        var entity = domainBuilder.entity().persist();
+        var hash = DigestUtils.sha256Hex(QUERY.getBytes(StandardCharsets.UTF_8));
+
+        // Hash not registered yet
+        execute(null, hash, entity.getNum())
+                .jsonPath("$.errors[0].message")
+                .isEqualTo("PersistedQueryNotFound")
+                .jsonPath("$.data")
+                .doesNotExist();
+
+        // Register the query along with its hash
+        execute(QUERY, hash, entity.getNum()).jsonPath("$.data.account.memo").isEqualTo(entity.getMemo());
+
+        // Hash only
+        execute(null, hash, entity.getNum()).jsonPath("$.data.account.memo").isEqualTo(entity.getMemo());
+    }
+
+    @Test
+    void persistedQueryHashMismatch() {
+        var entity = domainBuilder.entity().persist();
+        var hash = DigestUtils.sha256Hex("query { account { id }}".getBytes(StandardCharsets.UTF_8));
+
+        execute(QUERY, hash, entity.getNum())
+                .jsonPath("$.errors[0].message")
+                .isEqualTo("PersistedQueryIdInvalid")
+                .jsonPath("$.data")
+                .doesNotExist();
+    }
+
+    @Test
+    void query() {
+        var entity = domainBuilder.entity().persist();
+        execute(QUERY, null, entity.getNum()).jsonPath("$.data.account.memo").isEqualTo(entity.getMemo());
+        execute(QUERY, null, entity.getNum()).jsonPath("$.data.account.memo").isEqualTo(entity.getMemo());
+    }
+
+    private WebTestClient.BodyContentSpec execute(String query, String hash, long id) {
+        var body = new HashMap<String, Object>();
+        body.put("variables", Map.of("id", id));
+
+        if (query != null) {
+            body.put("query", query);
+        }
+
+        if (hash != null) {
+            var persistedQuery = Map.of("version", 1, "sha256Hash", hash);
+            body.put("extensions", Map.of(CachedPreparsedDocumentProvider.PERSISTED_QUERY, persistedQuery));
+        }
+
+        return webTestClient
+                .post()
+                .uri("/graphql/alpha")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody();
+    }
+}
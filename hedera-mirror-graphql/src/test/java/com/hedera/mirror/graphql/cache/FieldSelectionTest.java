@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import graphql.GraphQLContext;
+import graphql.parser.Parser;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class FieldSelectionTest {
+
+    @Test
+    void of() {
+        var document = Parser.parse(
+                """
+                query Account($id: Long!) {
+                  account(input: { entityId: { num: $id } }) {
+                    memo
+                    alias: entityId { num }
+                    stakedAccount { ...fields }
+                  }
+                }
+                fragment fields on Account { balance(unit: HBAR) }
+                """);
+        var fieldSelection = FieldSelection.of(document);
+        assertThat(fieldSelection.fields())
+                .containsExactlyInAnyOrder("account", "balance", "entityId", "memo", "num", "stakedAccount");
+        assertThat(fieldSelection.contains("memo")).isTrue();
+        assertThat(fieldSelection.contains("alias")).isFalse();
+        assertThat(fieldSelection.contains("key")).isFalse();
+    }
+
+    @Test
+    void all() {
+        assertThat(FieldSelection.ALL.contains("key")).isTrue();
+        assertThat(FieldSelection.from(GraphQLContext.getDefault())).isEqualTo(FieldSelection.ALL);
+    }
+
+    @Test
+    void from() {
+        var fieldSelection = FieldSelection.of(Parser.parse("{ account { memo } }"));
+        var context = GraphQLContext.of(Map.of(FieldSelection.class, fieldSelection));
+        assertThat(FieldSelection.from(context)).isSameAs(fieldSelection);
+    }
+}
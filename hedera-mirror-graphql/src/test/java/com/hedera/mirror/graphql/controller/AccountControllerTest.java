@@ -35,6 +35,8 @@ import org.springframework.graphql.test.tester.HttpGraphQlTester;
 @RequiredArgsConstructor
 class AccountControllerTest extends GraphqlIntegrationTest {
 
+    private static final String[] REFERENCES = {"autoRenewAccount", "obtainer", "stakedAccount"};
+
     private final AccountMapper accountMapper;
     private final HttpGraphQlTester tester;
 
@@ -114,7 +116,10 @@ class AccountControllerTest extends GraphqlIntegrationTest {
                 .path("account")
                 .hasValue()
                 .entity(Account.class)
-                .satisfies(a -> assertThat(a).usingRecursiveComparison().isEqualTo(accountMapper.map(entity)));
+                .satisfies(a -> assertThat(a)
+                        .usingRecursiveComparison()
+                        .ignoringFields(REFERENCES)
+                        .isEqualTo(accountMapper.map(entity)));
     }
 
     @CsvSource(
@@ -168,7 +173,10 @@ class AccountControllerTest extends GraphqlIntegrationTest {
                 .path("account")
                 .hasValue()
                 .entity(Account.class)
-                .satisfies(a -> assertThat(a).usingRecursiveComparison().isEqualTo(accountMapper.map(entity)));
+                .satisfies(a -> assertThat(a)
+                        .usingRecursiveComparison()
+                        .ignoringFields(REFERENCES)
+                        .isEqualTo(accountMapper.map(entity)));
     }
 
     @Test
@@ -207,7 +215,91 @@ class AccountControllerTest extends GraphqlIntegrationTest {
                 .path("account")
                 .hasValue()
                 .entity(Account.class)
-                .satisfies(a -> assertThat(a).usingRecursiveComparison().isEqualTo(accountMapper.map(entity)));
+                .satisfies(a -> assertThat(a)
+                        .usingRecursiveComparison()
+                        .ignoringFields(REFERENCES)
+                        .isEqualTo(accountMapper.map(entity)));
+    }
+
+    @Test
+    void nestedAccounts() {
+        var autoRenewAccount = domainBuilder.entity().persist();
+        var obtainer = domainBuilder
+                .entity()
+                .customize(e -> e.autoRenewAccountId(autoRenewAccount.getId()))
+                .persist();
+        var stakedAccount = domainBuilder
+                .entity()
+                .customize(e -> e.autoRenewAccountId(autoRenewAccount.getId()).obtainerId(obtainer.toEntityId()))
+                .persist();
+        var entity = domainBuilder
+                .entity()
+                .customize(e -> e.autoRenewAccountId(autoRenewAccount.getId())
+                        .obtainerId(obtainer.toEntityId())
+                        .stakedAccountId(stakedAccount.getId()))
+                .persist();
+        var response = tester.document(
+                        """
+                        query Account($id: Long!) {
+                          account(input: { entityId: { num: $id } }) {
+                            autoRenewAccount { entityId { num } }
+                            obtainer { entityId { num } }
+                            stakedAccount {
+                              autoRenewAccount { entityId { num } }
+                              entityId { num }
+                              obtainer { entityId { num } autoRenewAccount { entityId { num } } }
+                            }
+                          }
+                        }
+                        """)
+                .variable("id", entity.getNum())
+                .execute()
+                .errors()
+                .verify();
+
+        response.path("account.autoRenewAccount.entityId.num")
+                .entity(Long.class)
+                .isEqualTo(autoRenewAccount.getNum());
+        response.path("account.obtainer.entityId.num")
+                .entity(Long.class)
+                .isEqualTo(obtainer.getNum());
+        response.path("account.stakedAccount.entityId.num")
+                .entity(Long.class)
+                .isEqualTo(stakedAccount.getNum());
+        response.path("account.stakedAccount.autoRenewAccount.entityId.num")
+                .entity(Long.class)
+                .isEqualTo(autoRenewAccount.getNum());
+        response.path("account.stakedAccount.obtainer.entityId.num")
+                .entity(Long.class)
+                .isEqualTo(obtainer.getNum());
+        response.path("account.stakedAccount.obtainer.autoRenewAccount.entityId.num")
+                .entity(Long.class)
+                .isEqualTo(autoRenewAccount.getNum());
+    }
+
+    @Test
+    void nestedAccountsMissing() {
+        var entity = domainBuilder.entity().persist();
+        tester.document(
+                        """
+                        query Account($id: Long!) {
+                          account(input: { entityId: { num: $id } }) {
+                            autoRenewAccount { entityId { num } }
+                            obtainer { entityId { num } }
+                            stakedAccount { entityId { num } }
+                          }
+                        }
+                        """)
+                .variable("id", entity.getNum())
+                .execute()
+                .errors()
+                .verify()
+                .path("account.autoRenewAccount")
+                .valueIsNull()
+                .path("account.obtainer")
+                .valueIsNull()
+                .path("account.stakedAccount")
+                .valueIsNull();
     }
 
     @Test
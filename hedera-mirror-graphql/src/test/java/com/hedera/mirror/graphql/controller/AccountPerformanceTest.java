@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hedera.mirror.common.test.performance.LoadProperties;
+import com.hedera.mirror.common.test.performance.LoadTester;
+import com.hedera.mirror.graphql.GraphqlIntegrationTest;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.time.Duration;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.junit.jupiter.EnabledIf;
+
+@EnabledIf(expression = "${hedera.mirror.test.performance.enabled:false}", loadContext = true)
+@RequiredArgsConstructor
+@SpringBootTest(
+        properties = "hedera.mirror.graphql.cost.enabled=false",
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Tag("performance")
+class AccountPerformanceTest extends GraphqlIntegrationTest {
+
+    private static final String QUERY =
+            """
+            query Account($id: Long!) {
+              account(input: { entityId: { num: $id } }) {
+                alias
+                balance
+                createdTimestamp
+                entityId { shard, realm, num }
+                key
+                memo
+                stakedAccount { entityId { num } }
+                timestamp { from, to }
+                type
+              }
+            }
+            """;
+
+    private final ObjectMapper objectMapper;
+    private final LoadProperties properties;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    @SneakyThrows
+    void account() {
+        var staked = domainBuilder.entity().persist();
+        for (int i = 2; i < properties.getScale(); i++) {
+            domainBuilder.entity().persist();
+        }
+        var account = domainBuilder
+                .entity()
+                .customize(e -> e.stakedAccountId(staked.getId()))
+                .persist();
+
+        var body = Map.of("query", QUERY, "variables", Map.of("id", account.getNum()));
+        var uri = URI.create("http://localhost:%d/graphql/alpha".formatted(port));
+        var request = HttpRequest.newBuilder(uri)
+                .header("Accept", "application/json")
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(10L))
+                .POST(BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+        new LoadTester(properties).run("graphql-account", () -> request);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.graphql.cost;
+
+import static com.hedera.mirror.graphql.cost.QueryCostInstrumentation.METRIC_COST;
+import static com.hedera.mirror.graphql.cost.QueryCostInstrumentation.METRIC_REJECTED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.graphql.GraphqlIntegrationTest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.graphql.tester.AutoConfigureHttpGraphQlTester;
+import org.springframework.graphql.ResponseError;
+import org.springframework.graphql.test.tester.HttpGraphQlTester;
+import org.springframework.http.HttpHeaders;
+
+@AutoConfigureHttpGraphQlTester
+@RequiredArgsConstructor
+class QueryCostInstrumentationTest extends GraphqlIntegrationTest {
+
+    // account (10) + memo (1) + autoRenewAccount (10) + memo (1)
+    private static final long COST = 22L;
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+    private static final String QUERY =
+            """
+            query Account($id: Long!) {
+              account(input: { entityId: { num: $id } }) {
+                memo
+                autoRenewAccount { memo }
+              }
+            }
+            """;
+
+    private final CostProperties costProperties;
+    private final QueryCostInstrumentation instrumentation;
+    private final MeterRegistry meterRegistry;
+    private final HttpGraphQlTester tester;
+
+    @AfterEach
+    void cleanup() {
+        var defaults = new CostProperties();
+        costProperties.setCostPerSecond(defaults.getCostPerSecond());
+        costProperties.setEnabled(defaults.isEnabled());
+        costProperties.setMaxCost(defaults.getMaxCost());
+        instrumentation.resetBudgets();
+    }
+
+    @Test
+    void cost() {
+        var entity = domainBuilder.entity().persist();
+        tester.document(QUERY)
+                .variable("id", entity.getNum())
+                .execute()
+                .errors()
+                .verify()
+                .path("account.memo")
+                .entity(String.class)
+                .isEqualTo(entity.getMemo());
+
+        var summary = meterRegistry.find(METRIC_COST).summary();
+        assertThat(summary).isNotNull();
+        assertThat(summary.count()).isOne();
+        assertThat(summary.totalAmount()).isEqualTo(COST);
+    }
+
+    @Test
+    void maxCostExceeded() {
+        costProperties.setMaxCost(COST - 1);
+        var entity = domainBuilder.entity().persist();
+
+        tester.document(QUERY)
+                .variable("id", entity.getNum())
+                .execute()
+                .errors()
+                .satisfy(r -> assertThat(r)
+                        .hasSize(1)
+                        .first()
+                        .extracting(ResponseError::getMessage)
+                        .asString()
+                        .contains("Query cost 22 exceeds the maximum of 21"));
+        assertThat(meterRegistry.find(METRIC_REJECTED).tag("reason", "max_cost").counter())
+                .isNotNull()
+                .returns(1.0, Counter::count);
+    }
+
+    @Test
+    void budgetExceeded() {
+        costProperties.setCostPerSecond(COST + 1);
+        var entity = domainBuilder.entity().persist();
+
+        tester.document(QUERY).variable("id", entity.getNum()).execute().errors().verify();
+        assertBudgetExceeded(tester, entity.getNum());
+        assertThat(meterRegistry.find(METRIC_REJECTED).tag("reason", "budget").counter())
+                .isNotNull()
+                .returns(1.0, Counter::count);
+    }
+
+    @Test
+    void budgetExceededForwardedHeaders() {
+        costProperties.setCostPerSecond(COST + 1);
+        var entity = domainBuilder.entity().persist();
+
+        tester.mutate()
+                .header(X_FORWARDED_FOR, "10.0.0.1")
+                .build()
+                .document(QUERY)
+                .variable("id", entity.getNum())
+                .execute()
+                .errors()
+                .verify();
+
+        // A spoofed forwarded header doesn't get the client a new budget
+        assertBudgetExceeded(tester.mutate().header(X_FORWARDED_FOR, "10.0.0.2").build(), entity.getNum());
+        assertBudgetExceeded(tester.mutate().header(HttpHeaders.FORWARDED, "for=10.0.0.3").build(), entity.getNum());
+        assertThat(meterRegistry.find(METRIC_REJECTED).tag("reason", "budget").counter())
+                .isNotNull()
+                .returns(2.0, Counter::count);
+    }
+
+    @Test
+    void disabled() {
+        costProperties.setEnabled(false);
+        costProperties.setMaxCost(1L);
+        var entity = domainBuilder.entity().persist();
+
+        tester.document(QUERY).variable("id", entity.getNum()).execute().errors().verify();
+        assertThat(meterRegistry.find(METRIC_COST).summary()).isNull();
+    }
+
+    private void assertBudgetExceeded(HttpGraphQlTester client, long id) {
+        client.document(QUERY)
+                .variable("id", id)
+                .execute()
+                .errors()
+                .satisfy(r -> assertThat(r)
+                        .hasSize(1)
+                        .first()
+                        .extracting(ResponseError::getMessage)
+                        .asString()
+                        .contains("budget exceeded"));
+    }
+}
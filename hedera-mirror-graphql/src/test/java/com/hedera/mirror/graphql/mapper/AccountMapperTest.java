@@ -21,6 +21,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.google.protobuf.ByteString;
 import com.hedera.mirror.common.domain.DomainBuilder;
 import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.graphql.cache.FieldSelection;
 import com.hedera.mirror.graphql.viewmodel.Account;
 import com.hedera.mirror.graphql.viewmodel.EntityId;
 import com.hedera.mirror.graphql.viewmodel.EntityType;
@@ -29,6 +30,7 @@ import com.hederahashgraph.api.proto.java.Key;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
+import java.util.Set;
 import org.apache.commons.codec.binary.Hex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -48,7 +50,10 @@ class AccountMapperTest {
     void map() {
         var bytes = ByteString.copyFrom(new byte[] {0, 1, 2});
         var key = Key.newBuilder().setECDSASecp256K1(bytes).build().toByteArray();
-        var entity = domainBuilder.entity().customize(e -> e.key(key)).get();
+        var entity = domainBuilder
+                .entity()
+                .customize(e -> e.key(key).stakedAccountId(domainBuilder.id()))
+                .get();
 
         assertThat(accountMapper.map(entity))
                 .returns(Hex.encodeHexString(entity.getAlias()), Account::getAlias)
@@ -69,17 +74,40 @@ class AccountMapperTest {
                         .returns(entity.getShard(), EntityId::getShard)
                         .returns(entity.getRealm(), EntityId::getRealm)
                         .returns(entity.getNum(), EntityId::getNum))
+                .satisfies(a -> assertThat(a.getAutoRenewAccount().getEntityId())
+                        .returns(entity.getAutoRenewAccountId(), EntityId::getNum))
+                .satisfies(a -> assertThat(a.getObtainer().getEntityId())
+                        .returns(entity.getObtainerId().getNum(), EntityId::getNum))
+                .satisfies(a -> assertThat(a.getStakedAccount().getEntityId())
+                        .returns(entity.getStakedAccountId(), EntityId::getNum))
                 .satisfies(a -> assertThat(a.getTimestamp())
                         .returns(Instant.ofEpochSecond(0L, entity.getTimestampLower()), TimestampRange::getFrom)
                         .returns(null, TimestampRange::getTo));
     }
 
+    @Test
+    void mapFieldSelection() {
+        var entity = domainBuilder.entity().get();
+        var fieldSelection = new FieldSelection(Set.of("balance", "entityId", "memo"));
+
+        assertThat(accountMapper.map(entity, fieldSelection))
+                .returns(null, Account::getAutoRenewAccount)
+                .returns(entity.getBalance(), Account::getBalance)
+                .returns(null, Account::getCreatedTimestamp)
+                .returns(null, Account::getKey)
+                .returns(entity.getMemo(), Account::getMemo)
+                .returns(null, Account::getObtainer)
+                .returns(null, Account::getTimestamp)
+                .satisfies(a -> assertThat(a.getEntityId()).returns(entity.getNum(), EntityId::getNum));
+    }
+
     @Test
     void mapNulls() {
         var entity = new Entity();
 
         assertThat(accountMapper.map(entity))
                 .returns(null, Account::getAlias)
+                .returns(null, Account::getAutoRenewAccount)
                 .returns(null, Account::getAutoRenewPeriod)
                 .returns(null, Account::getBalance)
                 .returns(null, Account::getCreatedTimestamp)
@@ -92,8 +120,10 @@ class AccountMapperTest {
                 .returns(null, Account::getMaxAutomaticTokenAssociations)
                 .returns(null, Account::getMemo)
                 .returns(null, Account::getNonce)
+                .returns(null, Account::getObtainer)
                 .returns(null, Account::getPendingReward)
                 .returns(null, Account::getReceiverSigRequired)
+                .returns(null, Account::getStakedAccount)
                 .returns(null, Account::getStakePeriodStart)
                 .returns(null, Account::getTimestamp)
                 .returns(null, Account::getType);
@@ -46,4 +46,13 @@ class EntityRepositoryTest extends GraphqlIntegrationTest {
                 .get()
                 .isEqualTo(entity);
     }
+
+    @Test
+    void findByIds() {
+        var entity1 = domainBuilder.entity().persist();
+        var entity2 = domainBuilder.entity().persist();
+        domainBuilder.entity().persist();
+        assertThat(entityRepository.findByIds(new Long[] {entity1.getId(), entity2.getId(), -1L}))
+                .containsExactlyInAnyOrder(entity1, entity2);
+    }
 }
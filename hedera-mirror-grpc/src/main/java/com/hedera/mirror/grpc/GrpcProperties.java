@@ -37,6 +37,9 @@ public class GrpcProperties {
     @Min(1)
     private int entityCacheSize = 50_000;
 
+    @Min(1)
+    private int maxTopicsPerSubscription = 100;
+
     @NotNull
     private NettyProperties netty = new NettyProperties();
 }
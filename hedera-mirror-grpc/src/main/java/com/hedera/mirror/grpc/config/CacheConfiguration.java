@@ -34,6 +34,7 @@ import org.springframework.context.annotation.Primary;
 public class CacheConfiguration {
 
     public static final String ADDRESS_BOOK_ENTRY_CACHE = "addressBookEntryCache";
+    public static final String NODES_CACHE = "nodesCache";
     public static final String NODE_STAKE_CACHE = "nodeStakeCache";
     public static final String ENTITY_CACHE = "entityCache";
     public static final String CACHE_NAME = "default";
@@ -49,6 +50,17 @@ public class CacheConfiguration {
         return caffeineCacheManager;
     }
 
+    @Bean(NODES_CACHE)
+    CacheManager nodesCache(AddressBookProperties addressBookProperties) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME));
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(addressBookProperties.getNodesCacheExpiry())
+                .maximumSize(addressBookProperties.getNodesCacheSize())
+                .recordStats());
+        return caffeineCacheManager;
+    }
+
     @Bean(NODE_STAKE_CACHE)
     CacheManager nodeStakeCache(AddressBookProperties addressBookProperties) {
         CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
@@ -20,10 +20,12 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.hedera.mirror.grpc.GrpcProperties;
 import io.grpc.ServerBuilder;
 import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.concurrent.Executor;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
 import net.devh.boot.grpc.server.serverfactory.GrpcServerConfigurer;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
@@ -51,6 +53,12 @@ class GrpcConfiguration {
         return serverBuilder -> customizeServerBuilder(serverBuilder, nettyProperties);
     }
 
+    @Bean
+    @GrpcGlobalServerInterceptor
+    WritabilityInterceptor writabilityInterceptor(MeterRegistry meterRegistry) {
+        return new WritabilityInterceptor(meterRegistry);
+    }
+
     private void customizeServerBuilder(ServerBuilder<?> serverBuilder, NettyProperties nettyProperties) {
         if (serverBuilder instanceof NettyServerBuilder nettyServerBuilder) {
             Executor executor = new ThreadPoolExecutor(
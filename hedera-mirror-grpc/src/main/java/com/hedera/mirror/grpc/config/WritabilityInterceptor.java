@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.config;
+
+import io.grpc.ForwardingServerCall.SimpleForwardingServerCall;
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures how often and how long server streams wait on the transport. A call is not ready when the Netty channel is
+ * not writable or the HTTP/2 flow control window is exhausted, so messages sent while not ready are buffered by the
+ * transport until the client reads them.
+ */
+class WritabilityInterceptor implements ServerInterceptor {
+
+    static final String METRIC_UNWRITABLE = "hedera.mirror.grpc.transport.unwritable";
+    static final String METRIC_WAIT = "hedera.mirror.grpc.transport.wait";
+
+    private final Counter unwritableMetric;
+    private final Timer waitMetric;
+
+    WritabilityInterceptor(MeterRegistry meterRegistry) {
+        unwritableMetric = Counter.builder(METRIC_UNWRITABLE)
+                .description("The number of messages sent while the transport was not writable")
+                .baseUnit("messages")
+                .register(meterRegistry);
+        waitMetric = Timer.builder(METRIC_WAIT)
+                .description("How long a call waits for the transport to become writable again")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q> interceptCall(
+            ServerCall<Q, R> call, Metadata headers, ServerCallHandler<Q, R> next) {
+        var unwritableSince = new AtomicLong(0L);
+        var writabilityCall = new SimpleForwardingServerCall<>(call) {
+            @Override
+            public void sendMessage(R message) {
+                if (!isReady()) {
+                    unwritableMetric.increment();
+                    unwritableSince.compareAndSet(0L, System.nanoTime());
+                }
+                super.sendMessage(message);
+            }
+        };
+
+        return new SimpleForwardingServerCallListener<>(next.startCall(writabilityCall, headers)) {
+            @Override
+            public void onReady() {
+                long start = unwritableSince.getAndSet(0L);
+                if (start > 0) {
+                    waitMetric.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+                super.onReady();
+            }
+        };
+    }
+}
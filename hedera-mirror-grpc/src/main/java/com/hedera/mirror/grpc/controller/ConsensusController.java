@@ -19,16 +19,20 @@ package com.hedera.mirror.grpc.controller;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.mirror.api.proto.ConsensusTopicQuery;
 import com.hedera.mirror.api.proto.ConsensusTopicResponse;
+import com.hedera.mirror.api.proto.ConsensusTopicsQuery;
+import com.hedera.mirror.api.proto.ConsensusTopicsResponse;
 import com.hedera.mirror.api.proto.ReactorConsensusServiceGrpc;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.domain.TopicsMessageFilter;
 import com.hedera.mirror.grpc.service.TopicMessageService;
 import com.hedera.mirror.grpc.util.ProtoUtil;
 import com.hederahashgraph.api.proto.java.ConsensusMessageChunkInfo;
 import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.TransactionID;
+import java.util.LinkedHashSet;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import net.devh.boot.grpc.server.service.GrpcService;
@@ -56,6 +60,17 @@ public class ConsensusController extends ReactorConsensusServiceGrpc.ConsensusSe
                 .onErrorMap(ProtoUtil::toStatusRuntimeException);
     }
 
+    @Override
+    public Flux<ConsensusTopicsResponse> subscribeTopics(Mono<ConsensusTopicsQuery> request) {
+        return request.map(this::toFilter)
+                .flatMapMany(topicMessageService::subscribeTopics)
+                .map(t -> ConsensusTopicsResponse.newBuilder()
+                        .setTopicID(ProtoUtil.toTopicID(t.getTopicId()))
+                        .setResponse(toResponse(t))
+                        .build())
+                .onErrorMap(ProtoUtil::toStatusRuntimeException);
+    }
+
     private TopicMessageFilter toFilter(ConsensusTopicQuery query) {
         var filter = TopicMessageFilter.builder().limit(query.getLimit());
 
@@ -76,6 +91,24 @@ public class ConsensusController extends ReactorConsensusServiceGrpc.ConsensusSe
         return filter.build();
     }
 
+    private TopicsMessageFilter toFilter(ConsensusTopicsQuery query) {
+        var topicIds = new LinkedHashSet<EntityId>();
+        query.getTopicIDsList().forEach(t -> topicIds.add(EntityId.of(t)));
+        var filter = TopicsMessageFilter.builder().limit(query.getLimit()).topicIds(topicIds);
+
+        if (query.hasConsensusStartTime()) {
+            long startTime = convertTimestamp(query.getConsensusStartTime());
+            filter.startTime(startTime);
+        }
+
+        if (query.hasConsensusEndTime()) {
+            long endTime = convertTimestamp(query.getConsensusEndTime());
+            filter.endTime(endTime);
+        }
+
+        return filter.build();
+    }
+
     // The util class logs an error if the timestamp overflows, so return MAX_VALUE if it's close to max db bigint.
     private long convertTimestamp(Timestamp timestamp) {
         if (timestamp.getSeconds() >= 9223372035L) {
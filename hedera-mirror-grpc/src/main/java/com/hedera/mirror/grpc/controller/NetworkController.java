@@ -16,6 +16,8 @@
 
 package com.hedera.mirror.grpc.controller;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.protobuf.ByteString;
 import com.hedera.mirror.api.proto.AddressBookQuery;
 import com.hedera.mirror.api.proto.ReactorNetworkServiceGrpc;
@@ -42,11 +44,15 @@ public class NetworkController extends ReactorNetworkServiceGrpc.NetworkServiceI
 
     private final NetworkService networkService;
 
+    // Nodes are cached by the service and reused across calls, so memoize by identity to convert them only once
+    private final Cache<AddressBookEntry, NodeAddress> nodeAddresses =
+            Caffeine.newBuilder().weakKeys().build();
+
     @Override
     public Flux<NodeAddress> getNodes(Mono<AddressBookQuery> request) {
         return request.map(this::toFilter)
                 .flatMapMany(networkService::getNodes)
-                .map(this::toNodeAddress)
+                .map(e -> nodeAddresses.get(e, this::toNodeAddress))
                 .onErrorMap(ProtoUtil::toStatusRuntimeException);
     }
 
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.domain;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.util.DomainUtils;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.security.SecureRandom;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Value;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * A filter for a subscription to multiple topics over a single stream. The limit applies to the total number of messages
+ * across all topics.
+ */
+@Builder(toBuilder = true)
+@Validated
+@Value
+public class TopicsMessageFilter {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private Long endTime;
+
+    @Min(0)
+    private long limit;
+
+    @Min(0)
+    @NotNull
+    @Builder.Default
+    private long startTime = DomainUtils.now();
+
+    @Builder.Default
+    private String subscriberId = RandomStringUtils.random(8, 0, 0, true, true, null, RANDOM);
+
+    @NotEmpty
+    private Set<@NotNull EntityId> topicIds;
+
+    public boolean hasLimit() {
+        return limit > 0;
+    }
+
+    @AssertTrue(message = "End time must be after start time")
+    public boolean isValidEndTime() {
+        return endTime == null || endTime > startTime;
+    }
+
+    @AssertTrue(message = "Start time must be before the current time")
+    public boolean isValidStartTime() {
+        return startTime <= DomainUtils.now();
+    }
+
+    /**
+     * Creates the unlimited filter for an individual topic of this subscription.
+     *
+     * @param topicId the topic to filter
+     * @return the topic message filter
+     */
+    public TopicMessageFilter toFilter(EntityId topicId) {
+        return TopicMessageFilter.builder()
+                .endTime(endTime)
+                .startTime(startTime)
+                .subscriberId(subscriberId)
+                .topicId(topicId)
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.listener;
+
+import com.hedera.mirror.common.util.DomainUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Calculates the delay until the next poll based upon the outcome of the previous poll. A full page or a consensus lag
+ * beyond the expected ingest latency indicates the listener is falling behind, so the interval is reset to its
+ * minimum. An empty poll indicates the network is idle, so the interval backs off exponentially up to its maximum.
+ * Otherwise, the interval converges back towards the configured base interval.
+ */
+class AdaptivePollingInterval {
+
+    static final String METRIC_INTERVAL = "hedera.mirror.grpc.listener.interval";
+
+    private final ListenerProperties listenerProperties;
+    private final AtomicLong current;
+    private final Timer intervalMetric;
+
+    AdaptivePollingInterval(ListenerProperties listenerProperties, MeterRegistry meterRegistry, String mode) {
+        this.listenerProperties = listenerProperties;
+        this.current = new AtomicLong(listenerProperties.getInterval().toNanos());
+        this.intervalMetric = Timer.builder(METRIC_INTERVAL)
+                .description("The delay chosen between consecutive polls of the database")
+                .tag(TopicListener.METRIC_TAG, mode)
+                .register(meterRegistry);
+    }
+
+    Duration current() {
+        return Duration.ofNanos(current.get());
+    }
+
+    /**
+     * Calculates and records the delay before the next poll.
+     *
+     * @param count                  the number of messages returned by the last poll
+     * @param pageSize               the maximum number of messages the last poll could have returned
+     * @param lastConsensusTimestamp the consensus timestamp of the latest message seen so far, or zero if unknown
+     * @return the delay before the next poll
+     */
+    Duration next(long count, int pageSize, long lastConsensusTimestamp) {
+        long base = listenerProperties.getInterval().toNanos();
+        var adaptive = listenerProperties.getAdaptive();
+
+        if (!adaptive.isEnabled()) {
+            return record(base);
+        }
+
+        long min = Math.min(adaptive.getMinInterval().toNanos(), base);
+        long max = Math.max(adaptive.getMaxInterval().toNanos(), base);
+        long previous = current.get();
+        long next;
+
+        if (count >= pageSize || isLagging(count, lastConsensusTimestamp, base)) {
+            next = min;
+        } else if (count == 0) {
+            next = (long) (Math.max(previous, base) * adaptive.getMultiplier());
+        } else if (previous < base) {
+            next = (long) (previous * adaptive.getMultiplier());
+        } else {
+            next = base;
+        }
+
+        return record(Math.min(Math.max(next, min), max));
+    }
+
+    /*
+     * Messages only become visible once their record file is closed, downloaded and parsed, so under steady traffic
+     * the newest message returned is up to the ingest latency plus one polling interval behind. Only a lag beyond that
+     * means there is a backlog to drain.
+     */
+    private boolean isLagging(long count, long lastConsensusTimestamp, long base) {
+        if (count == 0 || lastConsensusTimestamp <= 0) {
+            return false;
+        }
+
+        long lag = DomainUtils.now() - lastConsensusTimestamp;
+        long threshold = listenerProperties.getAdaptive().getIngestLatency().toNanos() + base;
+        return lag > threshold;
+    }
+
+    private Duration record(long nanos) {
+        current.set(nanos);
+        var interval = Duration.ofNanos(nanos);
+        intervalMetric.record(interval);
+        return interval;
+    }
+}
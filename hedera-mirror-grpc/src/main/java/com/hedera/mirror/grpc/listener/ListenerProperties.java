@@ -16,6 +16,7 @@
 
 package com.hedera.mirror.grpc.listener;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
@@ -30,6 +31,10 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hedera.mirror.grpc.listener")
 public class ListenerProperties {
 
+    @NotNull
+    @Valid
+    private AdaptiveProperties adaptive = new AdaptiveProperties();
+
     private boolean enabled = true;
 
     @Min(8192)
@@ -43,13 +48,51 @@ public class ListenerProperties {
     @NotNull
     private Duration interval = Duration.ofMillis(500L);
 
+    @NotNull
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DISCONNECT;
+
     @Min(4)
     @Max(256)
     private int prefetch = 48;
 
+    @Min(0)
+    @Max(100)
+    private int slowSubscribers = 0;
+
+    @DurationMin(seconds = 1)
+    @NotNull
+    private Duration slowSubscribersInterval = Duration.ofSeconds(10L);
+
     @NotNull
     private ListenerType type = ListenerType.REDIS;
 
+    @Data
+    public static class AdaptiveProperties {
+
+        private boolean enabled = true;
+
+        @DurationMin(millis = 100)
+        @NotNull
+        private Duration ingestLatency = Duration.ofSeconds(10L);
+
+        @DurationMin(millis = 10)
+        @NotNull
+        private Duration maxInterval = Duration.ofSeconds(2L);
+
+        @DurationMin(millis = 1)
+        @NotNull
+        private Duration minInterval = Duration.ofMillis(20L);
+
+        @Min(1)
+        private double multiplier = 2.0;
+    }
+
+    public enum OverflowPolicy {
+        CATCH_UP, // Drop the newest messages and let the subscription retrieve them from the database
+        DISCONNECT, // Fail the subscription with an overflow error
+        DROP // Drop the newest messages and skip the resulting sequence gap without querying the database
+    }
+
     public enum ListenerType {
         NOTIFY,
         POLL,
@@ -54,8 +54,9 @@ public class NotifyingTopicListener extends SharedTopicListener {
             JdbcConnectionDetails connectionDetails,
             DbProperties dbProperties,
             ListenerProperties listenerProperties,
-            ObservationRegistry observationRegistry) {
-        super(listenerProperties);
+            ObservationRegistry observationRegistry,
+            SubscriberBufferMonitor subscriberBufferMonitor) {
+        super(listenerProperties, subscriberBufferMonitor);
         this.connectionDetails = connectionDetails;
         this.dbProperties = dbProperties;
 
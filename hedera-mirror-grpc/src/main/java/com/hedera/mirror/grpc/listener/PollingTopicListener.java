@@ -19,9 +19,12 @@ package com.hedera.mirror.grpc.listener;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
 import com.hedera.mirror.grpc.repository.TopicMessageRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.ObservationRegistry;
 import jakarta.inject.Named;
 import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.CustomLog;
@@ -29,17 +32,19 @@ import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
-import reactor.retry.Jitter;
-import reactor.retry.Repeat;
 
 @Named
 @CustomLog
 @RequiredArgsConstructor
 public class PollingTopicListener implements TopicListener {
 
+    private static final double JITTER = 0.1;
+
     private final ListenerProperties listenerProperties;
+    private final MeterRegistry meterRegistry;
     private final ObservationRegistry observationRegistry;
     private final TopicMessageRepository topicMessageRepository;
     private final Scheduler scheduler =
@@ -47,20 +52,18 @@ public class PollingTopicListener implements TopicListener {
 
     @Override
     public Flux<TopicMessage> listen(TopicMessageFilter filter) {
-        PollingContext context = new PollingContext(filter);
-        Duration interval = listenerProperties.getInterval();
+        var interval = new AdaptivePollingInterval(listenerProperties, meterRegistry, "poll");
+        PollingContext context = new PollingContext(filter, interval);
 
         return Flux.defer(() -> poll(context))
-                .delaySubscription(interval, scheduler)
-                .repeatWhen(Repeat.times(Long.MAX_VALUE)
-                        .fixedBackoff(interval)
-                        .jitter(Jitter.random(0.1))
-                        .withBackoffScheduler(scheduler))
+                .delaySubscription(interval.current(), scheduler)
+                .repeatWhen(r -> r.concatMap(v -> Mono.delay(context.nextInterval(), scheduler)))
                 .name(METRIC)
                 .tag(METRIC_TAG, "poll")
                 .tap(Micrometer.observation(observationRegistry))
                 .doOnNext(context::onNext)
-                .doOnSubscribe(s -> log.info("Starting to poll every {}ms: {}", interval.toMillis(), filter));
+                .doOnSubscribe(s -> log.info(
+                        "Starting to poll every {}ms: {}", interval.current().toMillis(), filter));
     }
 
     private Flux<TopicMessage> poll(PollingContext context) {
@@ -72,6 +75,7 @@ public class PollingTopicListener implements TopicListener {
         int pageSize = Math.min(limit, listenerProperties.getMaxPageSize());
         long startTime = last != null ? last.getConsensusTimestamp() + 1 : filter.getStartTime();
         var newFilter = filter.toBuilder().limit(pageSize).startTime(startTime).build();
+        context.onPollStart(pageSize);
 
         return Flux.fromStream(topicMessageRepository.findByFilter(newFilter));
     }
@@ -80,12 +84,29 @@ public class PollingTopicListener implements TopicListener {
     private class PollingContext {
 
         private final TopicMessageFilter filter;
+        private final AdaptivePollingInterval interval;
         private final AtomicLong count = new AtomicLong(0L);
         private final AtomicReference<TopicMessage> last = new AtomicReference<>();
+        private final AtomicInteger pageSize = new AtomicInteger(0);
+        private final AtomicLong pollCount = new AtomicLong(0L);
 
         void onNext(TopicMessage topicMessage) {
             last.set(topicMessage);
             count.incrementAndGet();
+            pollCount.incrementAndGet();
+        }
+
+        void onPollStart(int size) {
+            pageSize.set(size);
+            pollCount.set(0L);
+        }
+
+        Duration nextInterval() {
+            TopicMessage topicMessage = last.get();
+            long lastConsensusTimestamp = topicMessage != null ? topicMessage.getConsensusTimestamp() : 0L;
+            Duration next = interval.next(pollCount.get(), pageSize.get(), lastConsensusTimestamp);
+            double jitter = 1.0 + ThreadLocalRandom.current().nextDouble(-JITTER, JITTER);
+            return Duration.ofNanos((long) (next.toNanos() * jitter));
         }
 
         private TopicMessage getLast() {
@@ -52,8 +52,9 @@ public class RedisTopicListener extends SharedTopicListener {
             ListenerProperties listenerProperties,
             ObservationRegistry observationRegistry,
             ReactiveRedisConnectionFactory connectionFactory,
-            RedisSerializer<TopicMessage> redisSerializer) {
-        super(listenerProperties);
+            RedisSerializer<TopicMessage> redisSerializer,
+            SubscriberBufferMonitor subscriberBufferMonitor) {
+        super(listenerProperties, subscriberBufferMonitor);
         this.channelSerializer = SerializationPair.fromSerializer(RedisSerializer.string());
         this.messageSerializer = SerializationPair.fromSerializer(redisSerializer);
         this.topicMessages = new ConcurrentHashMap<>();
@@ -21,6 +21,7 @@ import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
 import com.hedera.mirror.grpc.repository.TopicMessageRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.ObservationRegistry;
 import jakarta.inject.Named;
 import java.time.Duration;
@@ -30,9 +31,9 @@ import lombok.Data;
 import org.reactivestreams.Subscription;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
-import reactor.retry.Repeat;
 import reactor.util.retry.Retry;
 
 @Named
@@ -43,17 +44,20 @@ public class SharedPollingTopicListener extends SharedTopicListener {
 
     public SharedPollingTopicListener(
             ListenerProperties listenerProperties,
+            MeterRegistry meterRegistry,
             ObservationRegistry observationRegistry,
+            SubscriberBufferMonitor subscriberBufferMonitor,
             TopicMessageRepository topicMessageRepository) {
-        super(listenerProperties);
+        super(listenerProperties, subscriberBufferMonitor);
         this.topicMessageRepository = topicMessageRepository;
 
         Scheduler scheduler = Schedulers.newSingle("shared-poll", true);
         Duration interval = listenerProperties.getInterval();
-        PollingContext context = new PollingContext();
+        PollingContext context = new PollingContext(
+                new AdaptivePollingInterval(listenerProperties, meterRegistry, "shared poll"));
 
         topicMessages = Flux.defer(() -> poll(context).subscribeOn(scheduler))
-                .repeatWhen(Repeat.times(Long.MAX_VALUE).fixedBackoff(interval).withBackoffScheduler(scheduler))
+                .repeatWhen(r -> r.concatMap(v -> Mono.delay(context.nextInterval(), scheduler)))
                 .name(METRIC)
                 .tag(METRIC_TAG, "shared poll")
                 .tap(Micrometer.observation(observationRegistry))
@@ -85,7 +89,9 @@ public class SharedPollingTopicListener extends SharedTopicListener {
     @Data
     private class PollingContext {
 
+        private final AdaptivePollingInterval interval;
         private final AtomicLong count = new AtomicLong(0L);
+        private final AtomicLong pollCount = new AtomicLong(0L);
         private final Stopwatch stopwatch = Stopwatch.createUnstarted();
         private final AtomicLong lastConsensusTimestamp = new AtomicLong();
 
@@ -101,7 +107,14 @@ public class SharedPollingTopicListener extends SharedTopicListener {
             var elapsed = stopwatch.elapsed(TimeUnit.MILLISECONDS);
             var rate = elapsed > 0 ? (int) (1000.0 * count.get() / elapsed) : 0;
             log.info("Finished querying with {} messages in {} ({}/s)", count, stopwatch, rate);
-            count.set(0L);
+            pollCount.set(count.getAndSet(0L));
+        }
+
+        Duration nextInterval() {
+            int pageSize = listenerProperties.getMaxPageSize();
+            Duration next = interval.next(pollCount.get(), pageSize, lastConsensusTimestamp.get());
+            log.debug("Next poll in {}ms", next.toMillis());
+            return next;
         }
 
         void onPollStart(Subscription subscription) {
@@ -114,7 +127,7 @@ public class SharedPollingTopicListener extends SharedTopicListener {
             lastConsensusTimestamp.set(DomainUtils.now());
             log.info(
                     "Starting to poll every {}ms",
-                    listenerProperties.getInterval().toMillis());
+                    interval.current().toMillis());
         }
     }
 }
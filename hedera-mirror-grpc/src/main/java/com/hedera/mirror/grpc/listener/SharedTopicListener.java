@@ -18,10 +18,12 @@ package com.hedera.mirror.grpc.listener;
 
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.listener.ListenerProperties.OverflowPolicy;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.Exceptions;
+import reactor.core.publisher.BufferOverflowStrategy;
 import reactor.core.publisher.DirectProcessor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
@@ -32,6 +34,7 @@ public abstract class SharedTopicListener implements TopicListener {
 
     protected final Logger log = LoggerFactory.getLogger(getClass());
     protected final ListenerProperties listenerProperties;
+    protected final SubscriberBufferMonitor subscriberBufferMonitor;
 
     @Override
     @SuppressWarnings("deprecation")
@@ -39,12 +42,30 @@ public abstract class SharedTopicListener implements TopicListener {
         DirectProcessor<TopicMessage> overflowProcessor = DirectProcessor.create();
         FluxSink<TopicMessage> overflowSink = overflowProcessor.sink();
 
+        var buffer = subscriberBufferMonitor.register(filter);
+        boolean disconnect = listenerProperties.getOverflowPolicy() == OverflowPolicy.DISCONNECT;
+        var overflowStrategy = disconnect ? BufferOverflowStrategy.ERROR : BufferOverflowStrategy.DROP_LATEST;
+
         // moving publishOn from after onBackpressureBuffer to after Flux.merge reduces CPU usage by up to 40%
+        // with the catch-up policy, dropped messages are later detected as a gap and retrieved from the database while
+        // the drop policy skips the gap
         Flux<TopicMessage> topicMessageFlux = getSharedListener(filter)
                 .doOnSubscribe(s -> log.info("Subscribing: {}", filter))
+                .doOnNext(buffer::onEnqueue)
                 .onBackpressureBuffer(
-                        listenerProperties.getMaxBufferSize(), t -> overflowSink.error(Exceptions.failWithOverflow()))
-                .doFinally(s -> overflowSink.complete());
+                        listenerProperties.getMaxBufferSize(),
+                        t -> {
+                            subscriberBufferMonitor.onOverflow(buffer, t);
+                            if (disconnect) {
+                                overflowSink.error(Exceptions.failWithOverflow());
+                            }
+                        },
+                        overflowStrategy)
+                .doOnNext(buffer::onDequeue)
+                .doFinally(s -> {
+                    overflowSink.complete();
+                    subscriberBufferMonitor.unregister(buffer);
+                });
         return Flux.merge(listenerProperties.getPrefetch(), topicMessageFlux, overflowProcessor)
                 .publishOn(Schedulers.boundedElastic(), false, listenerProperties.getPrefetch());
     }
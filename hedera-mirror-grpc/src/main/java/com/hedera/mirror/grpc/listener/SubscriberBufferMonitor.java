@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.listener;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.CustomLog;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Tracks the messages buffered for each subscriber of a shared topic listener so that slow subscribers are visible
+ * before they overflow. Metrics are aggregated across subscribers, except for the optional slowest subscribers gauge
+ * that is bounded to a configurable number of subscriber IDs. A subscriber to multiple topics has a buffer per topic.
+ */
+@CustomLog
+@Named
+@RequiredArgsConstructor
+public class SubscriberBufferMonitor {
+
+    static final String METRIC_BUFFER = "hedera.mirror.grpc.listener.buffer";
+    static final String METRIC_BYTES = "hedera.mirror.grpc.listener.buffer.bytes";
+    static final String METRIC_DRAIN = "hedera.mirror.grpc.listener.buffer.drain";
+    static final String METRIC_OVERFLOW = "hedera.mirror.grpc.listener.overflow";
+    static final String METRIC_SLOWEST = "hedera.mirror.grpc.listener.slowest";
+
+    private final ListenerProperties listenerProperties;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong bytesQueued = new AtomicLong(0L);
+    private final Set<SubscriberBuffer> buffers = ConcurrentHashMap.newKeySet();
+
+    private DistributionSummary occupancyMetric;
+    private Timer drainMetric;
+    private Disposable slowestRefresher;
+
+    @PostConstruct
+    void init() {
+        occupancyMetric = DistributionSummary.builder(METRIC_BUFFER)
+                .description("The number of messages buffered for a subscriber when a new message is buffered")
+                .baseUnit("messages")
+                .register(meterRegistry);
+        drainMetric = Timer.builder(METRIC_DRAIN)
+                .description("How long a subscriber takes to drain its buffer once it becomes non-empty")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_BYTES, bytesQueued, AtomicLong::get)
+                .description("The size of the messages buffered across all subscribers")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        int slowSubscribers = listenerProperties.getSlowSubscribers();
+        if (slowSubscribers > 0) {
+            var slowest = MultiGauge.builder(METRIC_SLOWEST)
+                    .description("The number of messages buffered for the subscribers with the largest buffers")
+                    .baseUnit("messages")
+                    .register(meterRegistry);
+            slowestRefresher = Flux.interval(listenerProperties.getSlowSubscribersInterval(), Schedulers.parallel())
+                    .subscribe(i -> slowest.register(
+                            getSlowest(slowSubscribers).stream()
+                                    .map(b -> MultiGauge.Row.of(
+                                            Tags.of("subscriber", b.getSubscriberId(), "topic", b.getTopicId().toString()),
+                                            b.size()))
+                                    .toList(),
+                            true));
+        }
+    }
+
+    @PreDestroy
+    void destroy() {
+        if (slowestRefresher != null) {
+            slowestRefresher.dispose();
+        }
+    }
+
+    SubscriberBuffer register(TopicMessageFilter filter) {
+        var buffer = new SubscriberBuffer(filter.getSubscriberId(), filter.getTopicId());
+        buffers.add(buffer);
+        return buffer;
+    }
+
+    void unregister(SubscriberBuffer buffer) {
+        buffers.remove(buffer);
+        bytesQueued.addAndGet(-buffer.bytes.getAndSet(0L));
+    }
+
+    void onOverflow(SubscriberBuffer buffer, TopicMessage topicMessage) {
+        var policy = listenerProperties.getOverflowPolicy();
+        buffer.onDequeue(topicMessage);
+        Counter.builder(METRIC_OVERFLOW)
+                .description("The number of messages that did not fit in a subscriber's buffer")
+                .tag("policy", policy.name())
+                .register(meterRegistry)
+                .increment();
+
+        if (buffer.overflows.getAndIncrement() == 0) {
+            log.warn(
+                    "[{}] Subscriber buffer overflowed with {} messages, applying {} policy",
+                    buffer.getSubscriberId(),
+                    buffer.size(),
+                    policy);
+        }
+    }
+
+    List<SubscriberBuffer> getSlowest(int count) {
+        return buffers.stream()
+                .sorted(Comparator.comparingInt(SubscriberBuffer::size).reversed())
+                .limit(count)
+                .filter(b -> b.size() > 0)
+                .toList();
+    }
+
+    @RequiredArgsConstructor
+    class SubscriberBuffer {
+
+        @Getter
+        private final String subscriberId;
+
+        @Getter
+        private final EntityId topicId;
+
+        private final AtomicLong bytes = new AtomicLong(0L);
+        private final AtomicLong nonEmptySince = new AtomicLong(0L);
+        private final AtomicLong overflows = new AtomicLong(0L);
+        private final AtomicInteger size = new AtomicInteger(0);
+
+        void onEnqueue(TopicMessage topicMessage) {
+            int length = length(topicMessage);
+            bytes.addAndGet(length);
+            bytesQueued.addAndGet(length);
+
+            int current = size.incrementAndGet();
+            if (current == 1) {
+                nonEmptySince.set(System.nanoTime());
+            }
+            occupancyMetric.record(current);
+        }
+
+        void onDequeue(TopicMessage topicMessage) {
+            int length = length(topicMessage);
+            bytes.addAndGet(-length);
+            bytesQueued.addAndGet(-length);
+
+            if (size.decrementAndGet() <= 0) {
+                long start = nonEmptySince.getAndSet(0L);
+                if (start > 0) {
+                    drainMetric.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+
+        int size() {
+            return size.get();
+        }
+
+        private int length(TopicMessage topicMessage) {
+            var message = topicMessage.getMessage();
+            return message != null ? message.length : 0;
+        }
+    }
+}
@@ -16,8 +16,10 @@
 
 package com.hedera.mirror.grpc.repository;
 
+import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import java.util.Collection;
 import java.util.stream.Stream;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,4 +27,11 @@ public interface TopicMessageRepositoryCustom {
 
     @Transactional(readOnly = true)
     Stream<TopicMessage> findByFilter(TopicMessageFilter filter);
+
+    /**
+     * Finds the messages of multiple topics in a single query, ordered by consensus timestamp. The topic ID of the filter
+     * is ignored in favor of the provided topic IDs.
+     */
+    @Transactional(readOnly = true)
+    Stream<TopicMessage> findByFilter(Collection<EntityId> topicIds, TopicMessageFilter filter);
 }
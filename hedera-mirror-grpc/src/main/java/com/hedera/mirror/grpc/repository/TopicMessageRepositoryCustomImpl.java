@@ -16,6 +16,7 @@
 
 package com.hedera.mirror.grpc.repository;
 
+import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
 import jakarta.inject.Named;
@@ -25,6 +26,8 @@ import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import java.util.Collection;
+import java.util.List;
 import java.util.stream.Stream;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
@@ -45,12 +48,20 @@ public class TopicMessageRepositoryCustomImpl implements TopicMessageRepositoryC
 
     @Override
     public Stream<TopicMessage> findByFilter(TopicMessageFilter filter) {
+        return findByFilter(List.of(filter.getTopicId()), filter);
+    }
+
+    @Override
+    public Stream<TopicMessage> findByFilter(Collection<EntityId> topicIds, TopicMessageFilter filter) {
         CriteriaBuilder cb = entityManager.getCriteriaBuilder();
         CriteriaQuery<TopicMessage> query = cb.createQuery(TopicMessage.class);
         Root<TopicMessage> root = query.from(TopicMessage.class);
+        Predicate topicPredicate = topicIds.size() == 1
+                ? cb.equal(root.get(TOPIC_ID), topicIds.iterator().next())
+                : root.get(TOPIC_ID).in(topicIds);
 
         Predicate predicate = cb.and(
-                cb.equal(root.get(TOPIC_ID), filter.getTopicId()),
+                topicPredicate,
                 cb.greaterThanOrEqualTo(root.get(CONSENSUS_TIMESTAMP), filter.getStartTime()));
 
         if (filter.getEndTime() != null) {
@@ -17,12 +17,16 @@
 package com.hedera.mirror.grpc.retriever;
 
 import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.domain.TopicsMessageFilter;
 import com.hedera.mirror.grpc.repository.TopicMessageRepository;
 import io.micrometer.observation.ObservationRegistry;
 import jakarta.inject.Named;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -59,11 +63,25 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
 
     @Override
     public Flux<TopicMessage> retrieve(TopicMessageFilter filter, boolean throttled) {
+        return retrieve(filter, List.of(filter.getTopicId()), throttled);
+    }
+
+    @Override
+    public Flux<TopicMessage> retrieve(TopicsMessageFilter filter) {
+        var topicIds = filter.getTopicIds();
+        var topicFilter = filter.toFilter(topicIds.iterator().next()).toBuilder()
+                .limit(filter.getLimit())
+                .build();
+        return retrieve(topicFilter, topicIds, true);
+    }
+
+    private Flux<TopicMessage> retrieve(
+            TopicMessageFilter filter, Collection<EntityId> topicIds, boolean throttled) {
         if (!retrieverProperties.isEnabled()) {
             return Flux.empty();
         }
 
-        PollingContext context = new PollingContext(filter, throttled);
+        PollingContext context = new PollingContext(filter, topicIds, throttled);
         return Flux.defer(() -> poll(context))
                 .repeatWhen(Repeat.create(r -> !context.isComplete(), context.getNumRepeats())
                         .fixedBackoff(context.getFrequency())
@@ -91,13 +109,14 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
         var newFilter = filter.toBuilder().limit(pageSize).startTime(startTime).build();
 
         log.debug("Executing query: {}", newFilter);
-        return Flux.fromStream(topicMessageRepository.findByFilter(newFilter));
+        return Flux.fromStream(topicMessageRepository.findByFilter(context.getTopicIds(), newFilter));
     }
 
     @Data
     private class PollingContext {
 
         private final TopicMessageFilter filter;
+        private final Collection<EntityId> topicIds;
         private final boolean throttled;
         private final Duration frequency;
         private final AtomicReference<TopicMessage> last = new AtomicReference<>();
@@ -107,8 +126,9 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
         private final Stopwatch stopwatch = Stopwatch.createStarted();
         private final AtomicLong total = new AtomicLong(0L);
 
-        private PollingContext(TopicMessageFilter filter, boolean throttled) {
+        private PollingContext(TopicMessageFilter filter, Collection<EntityId> topicIds, boolean throttled) {
             this.filter = filter;
+            this.topicIds = topicIds;
             this.throttled = throttled;
 
             if (throttled) {
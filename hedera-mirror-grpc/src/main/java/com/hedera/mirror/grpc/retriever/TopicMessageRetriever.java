@@ -18,6 +18,7 @@ package com.hedera.mirror.grpc.retriever;
 
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.domain.TopicsMessageFilter;
 import reactor.core.publisher.Flux;
 
 /**
@@ -29,4 +30,10 @@ public interface TopicMessageRetriever {
     String METRIC = "hedera_mirror_grpc_retriever";
 
     Flux<TopicMessage> retrieve(TopicMessageFilter filter, boolean throttled);
+
+    /**
+     * Retrieves the historical messages of multiple topics, merged in consensus timestamp order, with a single query per
+     * poll.
+     */
+    Flux<TopicMessage> retrieve(TopicsMessageFilter filter);
 }
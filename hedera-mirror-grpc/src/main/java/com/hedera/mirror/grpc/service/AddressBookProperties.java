@@ -36,6 +36,13 @@ public class AddressBookProperties {
     @Min(0)
     private long cacheSize = 50L;
 
+    @DurationMin(minutes = 1L)
+    @NotNull
+    private Duration nodesCacheExpiry = Duration.ofHours(24);
+
+    @Min(0)
+    private long nodesCacheSize = 4L;
+
     @DurationMin(minutes = 1L)
     @NotNull
     private Duration nodeStakeCacheExpiry = Duration.ofHours(24);
@@ -16,6 +16,9 @@
 
 package com.hedera.mirror.grpc.service;
 
+import static com.hedera.mirror.grpc.config.CacheConfiguration.CACHE_NAME;
+import static com.hedera.mirror.grpc.config.CacheConfiguration.NODES_CACHE;
+
 import com.hedera.mirror.common.domain.addressbook.AddressBookEntry;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.grpc.domain.AddressBookFilter;
@@ -24,17 +27,20 @@ import com.hedera.mirror.grpc.repository.AddressBookEntryRepository;
 import com.hedera.mirror.grpc.repository.AddressBookRepository;
 import com.hedera.mirror.grpc.repository.NodeStakeRepository;
 import jakarta.inject.Named;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Map;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.validation.annotation.Validated;
 import reactor.core.publisher.Flux;
@@ -58,6 +64,9 @@ public class NetworkServiceImpl implements NetworkService {
     private final AddressBookEntryRepository addressBookEntryRepository;
     private final NodeStakeRepository nodeStakeRepository;
 
+    @Qualifier(NODES_CACHE)
+    private final CacheManager nodesCacheManager;
+
     @Qualifier("readOnly")
     private final TransactionOperations transactionOperations;
 
@@ -72,8 +81,8 @@ public class NetworkServiceImpl implements NetworkService {
                 .findLatestTimestamp(fileId.getId())
                 .orElseThrow(() -> new EntityNotFoundException(fileId));
         long nodeStakeTimestamp = nodeStakeRepository.findLatestTimestamp().orElse(NODE_STAKE_EMPTY_TABLE_TIMESTAMP);
-        var nodeStakeMap = nodeStakeRepository.findAllStakeByConsensusTimestamp(nodeStakeTimestamp);
-        var context = new AddressBookContext(addressBookTimestamp, nodeStakeMap);
+        var key = new NodesKey(fileId, addressBookTimestamp, nodeStakeTimestamp);
+        var context = new AddressBookContext(getNodes(key));
 
         return Flux.defer(() -> page(context))
                 .repeatWhen(Repeat.onlyIf(c -> !context.isComplete())
@@ -86,54 +95,80 @@ public class NetworkServiceImpl implements NetworkService {
                 .doOnComplete(() -> log.info("Retrieved {} nodes from the address book", context.getCount()));
     }
 
-    private Flux<AddressBookEntry> page(AddressBookContext context) {
+    /*
+     * The fully built list of nodes only changes when either a new address book or a new set of node stakes is
+     * persisted, so it's cached by their latest timestamps. Concurrent requests for the same key wait on a single load.
+     */
+    private List<AddressBookEntry> getNodes(NodesKey key) {
+        try {
+            return nodesCacheManager.getCache(CACHE_NAME).get(key, () -> load(key));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private List<AddressBookEntry> load(NodesKey key) {
         return transactionOperations.execute(t -> {
-            var addressBookTimestamp = context.getAddressBookTimestamp();
-            var nodeStakeMap = context.getNodeStakeMap();
-            var nextNodeId = context.getNextNodeId();
+            var addressBookTimestamp = key.getAddressBookTimestamp();
+            var nodeStakeMap = nodeStakeRepository.findAllStakeByConsensusTimestamp(key.getNodeStakeTimestamp());
             var pageSize = addressBookProperties.getPageSize();
-            var nodes = addressBookEntryRepository.findByConsensusTimestampAndNodeId(
-                    addressBookTimestamp, nextNodeId, pageSize);
             var endpoints = new AtomicInteger(0);
-
-            nodes.forEach(node -> {
-                // Override node stake
-                node.setStake(nodeStakeMap.getOrDefault(node.getNodeId(), 0L));
-                // This hack ensures that the nested serviceEndpoints is loaded eagerly and voids lazy init exceptions
-                endpoints.addAndGet(node.getServiceEndpoints().size());
-            });
-
-            if (nodes.size() < pageSize) {
-                context.completed();
-            }
+            var nodes = new ArrayList<AddressBookEntry>();
+            long nextNodeId = 0L;
+            List<AddressBookEntry> page;
+
+            do {
+                page = addressBookEntryRepository.findByConsensusTimestampAndNodeId(
+                        addressBookTimestamp, nextNodeId, pageSize);
+
+                for (var node : page) {
+                    // Copy to avoid mutating entries shared with the address book entry cache and override node stake
+                    var copy = node.toBuilder()
+                            .serviceEndpoints(Set.copyOf(node.getServiceEndpoints()))
+                            .stake(nodeStakeMap.getOrDefault(node.getNodeId(), 0L))
+                            .build();
+                    endpoints.addAndGet(copy.getServiceEndpoints().size());
+                    nodes.add(copy);
+                    nextNodeId = node.getNodeId() + 1;
+                }
+            } while (page.size() >= pageSize);
 
             log.info(
-                    "Retrieved {} address book entries and {} endpoints for timestamp {} and node ID {}",
+                    "Loaded {} address book entries and {} endpoints for {}",
                     nodes.size(),
                     endpoints,
-                    addressBookTimestamp,
-                    nextNodeId);
-            return Flux.fromIterable(nodes);
+                    key);
+            return Collections.unmodifiableList(nodes);
         });
     }
 
+    private Flux<AddressBookEntry> page(AddressBookContext context) {
+        var nodes = context.getNodes();
+        int pageSize = addressBookProperties.getPageSize();
+        int from = context.getNext().get();
+        int to = Math.min(from + pageSize, nodes.size());
+        context.getNext().set(to);
+
+        if (to >= nodes.size()) {
+            context.completed();
+        }
+
+        return Flux.fromIterable(nodes.subList(from, to));
+    }
+
     @Value
     private static class AddressBookContext {
 
         private final AtomicBoolean complete = new AtomicBoolean(false);
         private final AtomicLong count = new AtomicLong(0L);
-        private final AtomicReference<AddressBookEntry> last = new AtomicReference<>();
-        private final long addressBookTimestamp;
-        private final Map<Long, Long> nodeStakeMap;
+        private final AtomicInteger next = new AtomicInteger(0);
+        private final List<AddressBookEntry> nodes;
 
         void onNext(AddressBookEntry entry) {
             count.incrementAndGet();
-            last.set(entry);
-        }
-
-        long getNextNodeId() {
-            AddressBookEntry entry = last.get();
-            return entry != null ? entry.getNodeId() + 1 : 0L;
         }
 
         boolean isComplete() {
@@ -144,4 +179,11 @@ public class NetworkServiceImpl implements NetworkService {
             complete.set(true);
         }
     }
+
+    @Value
+    private static class NodesKey {
+        private final EntityId fileId;
+        private final long addressBookTimestamp;
+        private final long nodeStakeTimestamp;
+    }
 }
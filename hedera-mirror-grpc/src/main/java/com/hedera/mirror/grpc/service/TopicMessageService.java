@@ -18,10 +18,13 @@ package com.hedera.mirror.grpc.service;
 
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.domain.TopicsMessageFilter;
 import jakarta.validation.Valid;
 import reactor.core.publisher.Flux;
 
 public interface TopicMessageService {
 
     Flux<TopicMessage> subscribeTopic(@Valid TopicMessageFilter filter);
+
+    Flux<TopicMessage> subscribeTopics(@Valid TopicsMessageFilter filter);
 }
@@ -24,7 +24,10 @@ import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.grpc.GrpcProperties;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.domain.TopicsMessageFilter;
 import com.hedera.mirror.grpc.exception.EntityNotFoundException;
+import com.hedera.mirror.grpc.listener.ListenerProperties;
+import com.hedera.mirror.grpc.listener.ListenerProperties.OverflowPolicy;
 import com.hedera.mirror.grpc.listener.TopicListener;
 import com.hedera.mirror.grpc.repository.EntityRepository;
 import com.hedera.mirror.grpc.retriever.TopicMessageRetriever;
@@ -33,9 +36,13 @@ import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import jakarta.inject.Named;
 import java.time.Instant;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 import lombok.CustomLog;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
@@ -52,6 +59,7 @@ import reactor.retry.Repeat;
 public class TopicMessageServiceImpl implements TopicMessageService {
 
     private final GrpcProperties grpcProperties;
+    private final ListenerProperties listenerProperties;
     private final TopicListener topicListener;
     private final EntityRepository entityRepository;
     private final TopicMessageRetriever topicMessageRetriever;
@@ -91,6 +99,61 @@ public class TopicMessageServiceImpl implements TopicMessageService {
                         .doFinally(topicContext::finished));
     }
 
+    @Override
+    public Flux<TopicMessage> subscribeTopics(TopicsMessageFilter filter) {
+        log.info("Subscribing to topics: {}", filter);
+        int maxTopics = grpcProperties.getMaxTopicsPerSubscription();
+        if (filter.getTopicIds().size() > maxTopics) {
+            throw new IllegalArgumentException("Cannot subscribe to more than " + maxTopics + " topics");
+        }
+
+        Map<EntityId, TopicContext> topicContexts = filter.getTopicIds().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        Function.identity(), topicId -> new TopicContext(filter.toFilter(topicId))));
+
+        // Historical messages are retrieved once for all topics, then each topic switches to its own listener
+        Flux<TopicMessage> flux = topicMessageRetriever
+                .retrieve(filter)
+                .concatWith(Flux.defer(() -> Flux.merge(topicContexts.values().stream()
+                        .map(this::incomingMessages)
+                        .toList())))
+                .filter(t -> t.compareTo(topicContexts.get(t.getTopicId()).getLast()) > 0); // Ignore duplicates
+
+        if (filter.getEndTime() != null) {
+            flux = flux.takeWhile(t -> t.getConsensusTimestamp() < filter.getEndTime());
+        }
+
+        if (filter.hasLimit()) {
+            flux = flux.take(filter.getLimit());
+        }
+
+        return topicsExist(filter)
+                .thenMany(flux.doOnNext(t -> topicContexts.get(t.getTopicId()).onNext(t))
+                        .doOnSubscribe(s -> subscriberCount.incrementAndGet())
+                        .doFinally(s -> subscriberCount.decrementAndGet())
+                        .doFinally(s -> topicContexts.values().forEach(c -> c.finished(s))));
+    }
+
+    private Mono<?> topicsExist(TopicsMessageFilter filter) {
+        return Mono.defer(() -> {
+            var ids = filter.getTopicIds().stream().map(EntityId::getId).toList();
+            var entities = StreamSupport.stream(entityRepository.findAllById(ids).spliterator(), false)
+                    .collect(Collectors.toMap(Entity::getId, Function.identity()));
+
+            for (var topicId : filter.getTopicIds()) {
+                var entity = entities.get(topicId.getId());
+
+                if (entity == null && grpcProperties.isCheckTopicExists()) {
+                    return Mono.error(new EntityNotFoundException(topicId));
+                } else if (entity != null && entity.getType() != EntityType.TOPIC) {
+                    return Mono.error(new IllegalArgumentException("Not a valid topic"));
+                }
+            }
+
+            return Mono.empty();
+        });
+    }
+
     private Mono<?> topicExists(TopicMessageFilter filter) {
         var topicId = filter.getTopicId();
         return Mono.justOrEmpty(entityRepository.findById(topicId.getId()))
@@ -136,7 +199,7 @@ public class TopicMessageServiceImpl implements TopicMessageService {
     /**
      * A flow can have missing messages if the importer is down for a long time when the client subscribes. When the
      * incoming flow catches up and receives the next message for the topic, it will fill in any missing messages from
-     * when it was down.
+     * when it was down. With the drop overflow policy, the gap is skipped instead.
      */
     private Flux<TopicMessage> missingMessages(TopicContext topicContext, TopicMessage current) {
         if (topicContext.isNext(current)) {
@@ -158,6 +221,18 @@ public class TopicMessageServiceImpl implements TopicMessageService {
             return Flux.empty();
         }
 
+        if (listenerProperties.getOverflowPolicy() == OverflowPolicy.DROP) {
+            log.warn(
+                    "[{}] Skipping {} missing messages for topic {} between sequence {} and {}",
+                    topicContext.getFilter().getSubscriberId(),
+                    numMissingMessages,
+                    topicContext.getTopicId(),
+                    last.getSequenceNumber(),
+                    current.getSequenceNumber());
+            topicContext.skipTo(current);
+            return Flux.just(current);
+        }
+
         TopicMessageFilter newFilter = topicContext.getFilter().toBuilder()
                 .endTime(current.getConsensusTimestamp())
                 .limit(numMissingMessages)
@@ -180,6 +255,7 @@ public class TopicMessageServiceImpl implements TopicMessageService {
         private final AtomicLong count;
         private final TopicMessageFilter filter;
         private final AtomicReference<TopicMessage> last;
+        private final AtomicLong skipTo;
         private final long startTime;
         private final Stopwatch stopwatch;
         private final EntityId topicId;
@@ -188,6 +264,7 @@ public class TopicMessageServiceImpl implements TopicMessageService {
             this.count = new AtomicLong(0L);
             this.filter = filter;
             this.last = new AtomicReference<>();
+            this.skipTo = new AtomicLong(0L);
             this.startTime = DomainUtils.now();
             this.stopwatch = Stopwatch.createStarted();
             this.topicId = filter.getTopicId();
@@ -216,6 +293,10 @@ public class TopicMessageServiceImpl implements TopicMessageService {
                     || topicMessage.getSequenceNumber() == getLast().getSequenceNumber() + 1;
         }
 
+        void skipTo(TopicMessage topicMessage) {
+            skipTo.set(topicMessage.getSequenceNumber());
+        }
+
         private int rate() {
             var elapsed = stopwatch.elapsed(TimeUnit.MILLISECONDS);
             return elapsed > 0 ? (int) (1000.0 * count.get() / elapsed) : 0;
@@ -233,7 +314,7 @@ public class TopicMessageServiceImpl implements TopicMessageService {
         }
 
         void onNext(TopicMessage topicMessage) {
-            if (!isNext(topicMessage)) {
+            if (!isNext(topicMessage) && topicMessage.getSequenceNumber() != skipTo.get()) {
                 throw new IllegalStateException(
                         String.format("Encountered out of order messages, last: %s, current: %s", last, topicMessage));
             }
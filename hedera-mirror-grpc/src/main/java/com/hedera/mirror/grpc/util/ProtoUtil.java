@@ -23,6 +23,7 @@ import com.hedera.mirror.common.exception.InvalidEntityException;
 import com.hedera.mirror.grpc.exception.EntityNotFoundException;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.TopicID;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import jakarta.validation.ConstraintViolationException;
@@ -58,6 +59,14 @@ public final class ProtoUtil {
                 .build();
     }
 
+    public static TopicID toTopicID(EntityId entityId) {
+        return TopicID.newBuilder()
+                .setShardNum(entityId.getShard())
+                .setRealmNum(entityId.getRealm())
+                .setTopicNum(entityId.getNum())
+                .build();
+    }
+
     public static ByteString toByteString(byte[] bytes) {
         if (bytes == null) {
             return ByteString.EMPTY;
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.config;
+
+import static com.hedera.mirror.grpc.config.WritabilityInterceptor.METRIC_UNWRITABLE;
+import static com.hedera.mirror.grpc.config.WritabilityInterceptor.METRIC_WAIT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class WritabilityInterceptorTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void unwritable() {
+        // given
+        var meterRegistry = new SimpleMeterRegistry();
+        var interceptor = new WritabilityInterceptor(meterRegistry);
+        ServerCall<String, String> call = mock(ServerCall.class);
+        ServerCall.Listener<String> delegate = mock(ServerCall.Listener.class);
+        ServerCallHandler<String, String> handler = mock(ServerCallHandler.class);
+        var sentCall = new ServerCall<?, ?>[1];
+        when(handler.startCall(any(), any())).thenAnswer(i -> {
+            sentCall[0] = i.getArgument(0);
+            return delegate;
+        });
+        when(call.isReady()).thenReturn(true, false, false);
+
+        // when
+        var listener = interceptor.interceptCall(call, new Metadata(), handler);
+        var writabilityCall = (ServerCall<String, String>) sentCall[0];
+        writabilityCall.sendMessage("writable");
+        writabilityCall.sendMessage("unwritable1");
+        writabilityCall.sendMessage("unwritable2");
+        listener.onReady();
+
+        // then
+        verify(call).sendMessage("unwritable2");
+        verify(delegate).onReady();
+        assertThat(meterRegistry.get(METRIC_UNWRITABLE).counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get(METRIC_WAIT).timer().count()).isOne();
+    }
+}
@@ -22,6 +22,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.hedera.mirror.api.proto.ConsensusServiceGrpc;
 import com.hedera.mirror.api.proto.ConsensusTopicQuery;
 import com.hedera.mirror.api.proto.ConsensusTopicResponse;
+import com.hedera.mirror.api.proto.ConsensusTopicsQuery;
+import com.hedera.mirror.api.proto.ConsensusTopicsResponse;
 import com.hedera.mirror.api.proto.ReactorConsensusServiceGrpc;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
@@ -191,6 +193,41 @@ class ConsensusControllerTest extends GrpcIntegrationTest {
                         grpcResponse(topicMessage1), grpcResponse(topicMessage2), grpcResponse(topicMessage3));
     }
 
+    @Test
+    void subscribeTopicsBlocking() {
+        domainBuilder.entity(e -> e.num(101L).id(101L)).block();
+        var topicMessage1 = domainBuilder.topicMessage().block();
+        var topicMessage2 = domainBuilder
+                .topicMessage(t -> t.topicId(EntityId.of(101L)).sequenceNumber(1L))
+                .block();
+        var topicMessage3 = domainBuilder.topicMessage().block();
+
+        var query = ConsensusTopicsQuery.newBuilder()
+                .setLimit(3L)
+                .setConsensusStartTime(Timestamp.newBuilder().setSeconds(0).build())
+                .addTopicIDs(TopicID.newBuilder().setTopicNum(100).build())
+                .addTopicIDs(TopicID.newBuilder().setTopicNum(101).build())
+                .build();
+
+        assertThat(blockingService.subscribeTopics(query))
+                .toIterable()
+                .hasSize(3)
+                .containsSequence(
+                        grpcResponse(100L, topicMessage1),
+                        grpcResponse(101L, topicMessage2),
+                        grpcResponse(100L, topicMessage3));
+    }
+
+    @Test
+    void subscribeTopicsMissingTopicIDs() {
+        var query = ConsensusTopicsQuery.newBuilder().build();
+        StepVerifier.withVirtualTime(() -> grpcConsensusService.subscribeTopics(Mono.just(query)))
+                .thenAwait(WAIT)
+                .expectErrorSatisfies(
+                        t -> assertException(t, Status.Code.INVALID_ARGUMENT, "topicIds: must not be empty"))
+                .verify(WAIT);
+    }
+
     @Test
     void subscribeTopicQueryLongOverflowEndTime() {
         var topicMessage1 = domainBuilder.topicMessage().block();
@@ -321,6 +358,13 @@ class ConsensusControllerTest extends GrpcIntegrationTest {
         assertThat(statusRuntimeException.getStatus().getCode()).isEqualTo(status);
     }
 
+    private ConsensusTopicsResponse grpcResponse(long topicNum, TopicMessage t) {
+        return ConsensusTopicsResponse.newBuilder()
+                .setTopicID(TopicID.newBuilder().setTopicNum(topicNum).build())
+                .setResponse(grpcResponse(t))
+                .build();
+    }
+
     @SneakyThrows
     private ConsensusTopicResponse grpcResponse(TopicMessage t) {
         return ConsensusTopicResponse.newBuilder()
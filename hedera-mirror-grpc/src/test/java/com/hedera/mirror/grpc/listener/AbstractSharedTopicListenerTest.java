@@ -17,12 +17,16 @@
 package com.hedera.mirror.grpc.listener;
 
 import static com.hedera.mirror.common.util.DomainUtils.NANOS_PER_SECOND;
+import static com.hedera.mirror.grpc.listener.SubscriberBufferMonitor.METRIC_OVERFLOW;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.listener.ListenerProperties.OverflowPolicy;
 import java.time.Duration;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import reactor.core.Exceptions;
@@ -31,6 +35,11 @@ import reactor.test.StepVerifier;
 
 public abstract class AbstractSharedTopicListenerTest extends AbstractTopicListenerTest {
 
+    @AfterEach
+    void resetOverflowPolicy() {
+        listenerProperties.setOverflowPolicy(OverflowPolicy.DISCONNECT);
+    }
+
     @Test
     @DisplayName("slow subscriber receives overflow exception and normal subscriber is not affected")
     void slowSubscriberOverflowException() {
@@ -86,4 +95,44 @@ public abstract class AbstractSharedTopicListenerTest extends AbstractTopicListe
 
         stepVerifierFast.verify(Duration.ofMillis(1000L));
     }
+
+    @Test
+    @DisplayName("slow subscriber drops messages with catch up policy and does not receive overflow exception")
+    void slowSubscriberCatchUp() {
+        int maxBufferSize = 16;
+        Duration interval = Duration.ofMillis(10L);
+        int prefetch = 4;
+        int numMessages = maxBufferSize + prefetch * 2 + 3;
+        listenerProperties.setInterval(interval);
+        listenerProperties.setMaxBufferSize(maxBufferSize);
+        listenerProperties.setOverflowPolicy(OverflowPolicy.CATCH_UP);
+        listenerProperties.setPrefetch(prefetch);
+
+        TopicMessageFilter filter =
+                TopicMessageFilter.builder().startTime(0).topicId(topicId).build();
+        Flux<TopicMessage> firstBatch = domainBuilder.topicMessages(maxBufferSize, future);
+        Flux<TopicMessage> secondBatch =
+                domainBuilder.topicMessages(numMessages - maxBufferSize, future + NANOS_PER_SECOND);
+
+        topicListener
+                .listen(filter)
+                .map(TopicMessage::getSequenceNumber)
+                .as(p -> StepVerifier.create(p, 1)) // initial request amount of 1
+                .thenRequest(1) // trigger subscription
+                .thenAwait(Duration.ofMillis(10L))
+                .then(() -> publish(firstBatch))
+                .thenAwait(interval.multipliedBy(2))
+                .then(() -> publish(secondBatch))
+                .expectNext(1L, 2L)
+                .thenAwait(Duration.ofMillis(500L)) // stall to overrun backpressure buffer
+                .thenRequest(Long.MAX_VALUE)
+                .thenConsumeWhile(n -> n < maxBufferSize)
+                .expectNext((long) maxBufferSize)
+                .thenCancel()
+                .verify(Duration.ofMillis(1000L));
+
+        assertThat(meterRegistry.find(METRIC_OVERFLOW).counter())
+                .isNotNull()
+                .satisfies(c -> assertThat(c.count()).isPositive());
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.listener;
+
+import static com.hedera.mirror.grpc.listener.AdaptivePollingInterval.METRIC_INTERVAL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.util.DomainUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptivePollingIntervalTest {
+
+    private static final int PAGE_SIZE = 100;
+
+    private AdaptivePollingInterval adaptivePollingInterval;
+    private ListenerProperties listenerProperties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setup() {
+        listenerProperties = new ListenerProperties();
+        listenerProperties.setInterval(Duration.ofMillis(500L));
+        meterRegistry = new SimpleMeterRegistry();
+        adaptivePollingInterval = new AdaptivePollingInterval(listenerProperties, meterRegistry, "test");
+    }
+
+    @Test
+    void backoffWhenEmpty() {
+        assertThat(adaptivePollingInterval.next(0, PAGE_SIZE, 0L)).isEqualTo(Duration.ofSeconds(1L));
+        assertThat(adaptivePollingInterval.next(0, PAGE_SIZE, 0L)).isEqualTo(Duration.ofSeconds(2L));
+        assertThat(adaptivePollingInterval.next(0, PAGE_SIZE, 0L)).isEqualTo(Duration.ofSeconds(2L));
+        assertThat(meterRegistry.find(METRIC_INTERVAL).timer())
+                .isNotNull()
+                .returns(3L, t -> t.count());
+    }
+
+    @Test
+    void fullPage() {
+        adaptivePollingInterval.next(0, PAGE_SIZE, 0L);
+        assertThat(adaptivePollingInterval.next(PAGE_SIZE, PAGE_SIZE, DomainUtils.now()))
+                .isEqualTo(Duration.ofMillis(20L));
+    }
+
+    @Test
+    void lagging() {
+        long lastConsensusTimestamp = DomainUtils.now() - Duration.ofSeconds(30L).toNanos();
+        assertThat(adaptivePollingInterval.next(1, PAGE_SIZE, lastConsensusTimestamp))
+                .isEqualTo(Duration.ofMillis(20L));
+    }
+
+    @Test
+    void steadyTraffic() {
+        // Messages are normally a few seconds behind due to ingest latency, which isn't a backlog
+        for (int i = 0; i < 3; i++) {
+            long lastConsensusTimestamp = DomainUtils.now() - Duration.ofSeconds(5L).toNanos();
+            assertThat(adaptivePollingInterval.next(1, PAGE_SIZE, lastConsensusTimestamp))
+                    .isEqualTo(listenerProperties.getInterval());
+        }
+    }
+
+    @Test
+    void recoverToBase() {
+        adaptivePollingInterval.next(PAGE_SIZE, PAGE_SIZE, DomainUtils.now());
+        assertThat(adaptivePollingInterval.next(1, PAGE_SIZE, DomainUtils.now()))
+                .isEqualTo(Duration.ofMillis(40L));
+
+        adaptivePollingInterval.next(0, PAGE_SIZE, 0L);
+        assertThat(adaptivePollingInterval.next(1, PAGE_SIZE, DomainUtils.now()))
+                .isEqualTo(listenerProperties.getInterval());
+    }
+
+    @Test
+    void disabled() {
+        listenerProperties.getAdaptive().setEnabled(false);
+        assertThat(adaptivePollingInterval.next(0, PAGE_SIZE, 0L)).isEqualTo(listenerProperties.getInterval());
+        assertThat(adaptivePollingInterval.next(PAGE_SIZE, PAGE_SIZE, DomainUtils.now()))
+                .isEqualTo(listenerProperties.getInterval());
+    }
+
+    @Test
+    void baseIntervalBelowMinimum() {
+        listenerProperties.setInterval(Duration.ofMillis(10L));
+        assertThat(adaptivePollingInterval.next(PAGE_SIZE, PAGE_SIZE, DomainUtils.now()))
+                .isEqualTo(Duration.ofMillis(10L));
+    }
+}
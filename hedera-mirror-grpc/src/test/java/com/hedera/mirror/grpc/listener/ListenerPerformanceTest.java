@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.grpc.GrpcIntegrationTest;
+import com.hedera.mirror.grpc.domain.ReactiveDomainBuilder;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.listener.ListenerProperties.ListenerType;
+import com.hedera.mirror.grpc.service.TopicMessageService;
+import com.hedera.mirror.grpc.test.performance.PerformanceProperties;
+import com.hedera.mirror.grpc.test.performance.PerformanceProperties.ListenerScenarioProperties;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.EnabledIf;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+
+/**
+ * Drives a configurable number of concurrent subscribers through the full subscription path while publishing topic
+ * messages at a fixed rate via the configured listener type. Reports delivery latency percentiles, the CPU time spent
+ * per thousand subscribers and the heap used per subscriber.
+ */
+@CustomLog
+@EnabledIf(expression = "${hedera.mirror.grpc.test.performance.enabled}", loadContext = true)
+@RequiredArgsConstructor
+@Tag("performance")
+class ListenerPerformanceTest extends GrpcIntegrationTest {
+
+    private static final Duration TICK = Duration.ofMillis(100L);
+    private static final long TOPIC_OFFSET = 100_000L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ListenerProperties listenerProperties;
+    private final NotifyingTopicListener notifyingTopicListener;
+    private final PerformanceProperties performanceProperties;
+    private final ReactiveDomainBuilder reactiveDomainBuilder;
+    private final ReactiveRedisOperations<String, TopicMessage> redisOperations;
+    private final TopicMessageService topicMessageService;
+
+    @AfterEach
+    void after() {
+        listenerProperties.setEnabled(false);
+        listenerProperties.setType(ListenerType.SHARED_POLL);
+    }
+
+    @Test
+    void scenarios() {
+        var scenarios = performanceProperties.getScenarios();
+
+        for (int i = 0; i < scenarios.size(); i++) {
+            var scenario = scenarios.get(i);
+            if (!scenario.isEnabled()) {
+                log.info("Scenario {} is disabled", scenario.getDescription());
+                continue;
+            }
+
+            log.info("Executing scenario: {}", scenario);
+            run(scenario, TOPIC_OFFSET * (i + 1));
+        }
+    }
+
+    private void run(ListenerScenarioProperties scenario, long topicOffset) {
+        listenerProperties.setEnabled(true);
+        listenerProperties.setType(scenario.getListener());
+
+        var topicIds = new ArrayList<EntityId>();
+        var sequenceNumbers = new ArrayList<AtomicLong>();
+        for (long i = 0; i < scenario.getTopics(); i++) {
+            long topicNum = topicOffset + i;
+            reactiveDomainBuilder.entity(e -> e.id(topicNum).num(topicNum)).block();
+            topicIds.add(EntityId.of(topicNum));
+            sequenceNumbers.add(new AtomicLong(0L));
+        }
+
+        var latency = Timer.builder("latency")
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .register(new SimpleMeterRegistry());
+        var received = new AtomicLong(0L);
+        var subscriptions = Disposables.composite();
+        long heapBefore = usedHeap();
+
+        for (int i = 0; i < scenario.getSubscribers(); i++) {
+            var filter = TopicMessageFilter.builder()
+                    .topicId(topicIds.get(i % topicIds.size()))
+                    .build();
+            Disposable subscription = topicMessageService
+                    .subscribeTopic(filter)
+                    .subscribe(
+                            t -> {
+                                long nanos = DomainUtils.now() - t.getConsensusTimestamp();
+                                latency.record(nanos, TimeUnit.NANOSECONDS);
+                                received.incrementAndGet();
+                            },
+                            e -> log.warn("Subscription error: {}", e.getMessage()));
+            subscriptions.add(subscription);
+        }
+
+        Uninterruptibles.sleepUninterruptibly(1L, TimeUnit.SECONDS); // Allow the subscriptions to be established
+        long heapPerSubscriber = Math.max(usedHeap() - heapBefore, 0L) / scenario.getSubscribers();
+
+        // Only sample the CPU while publishing so subscribing and waiting for the last deliveries don't skew the rate
+        long cpuBefore = cpuTime();
+        var stopwatch = Stopwatch.createStarted();
+        long published = publish(scenario, topicIds, sequenceNumbers);
+        long cpuMillis = TimeUnit.NANOSECONDS.toMillis(cpuTime() - cpuBefore);
+        double seconds = stopwatch.elapsed(TimeUnit.MILLISECONDS) / 1000.0;
+
+        Uninterruptibles.sleepUninterruptibly(scenario.getLatency().toMillis(), TimeUnit.MILLISECONDS);
+        subscriptions.dispose();
+
+        double cpuPer1kSubscribers = cpuMillis / seconds / (scenario.getSubscribers() / 1000.0);
+        long expected = published * scenario.getSubscribers() / scenario.getTopics();
+        var percentiles = latency.takeSnapshot().percentileValues();
+
+        log.info(
+                "Scenario {} delivered {} of {} messages with latency {}, {} ms CPU/s per 1k subscribers "
+                        + "and {} bytes heap per subscriber",
+                scenario.getDescription(),
+                received,
+                expected,
+                format(percentiles),
+                (long) cpuPer1kSubscribers,
+                heapPerSubscriber);
+
+        var p99 = Duration.ofNanos((long) percentiles[percentiles.length - 1].value(TimeUnit.NANOSECONDS));
+        assertThat(received.get()).as("Scenario %s delivered messages", scenario.getDescription()).isPositive();
+        assertThat(p99)
+                .as("Scenario %s had a p99 latency of %s", scenario.getDescription(), p99)
+                .isLessThanOrEqualTo(scenario.getLatency());
+    }
+
+    private long publish(ListenerScenarioProperties scenario, List<EntityId> topicIds, List<AtomicLong> sequences) {
+        long perTick = Math.max(1L, scenario.getTps() * TICK.toMillis() / 1000L);
+        long published = 0L;
+        var stopwatch = Stopwatch.createStarted();
+
+        while (stopwatch.elapsed().compareTo(scenario.getDuration()) < 0) {
+            long tickStart = System.currentTimeMillis();
+
+            for (long i = 0; i < perTick; i++, published++) {
+                int index = (int) (published % topicIds.size());
+                var topicId = topicIds.get(index);
+                long sequenceNumber = sequences.get(index).incrementAndGet();
+                var topicMessage = reactiveDomainBuilder
+                        .topicMessage(t -> t.consensusTimestamp(DomainUtils.now())
+                                .sequenceNumber(sequenceNumber)
+                                .topicId(topicId))
+                        .block();
+                notify(scenario.getListener(), topicMessage);
+            }
+
+            long sleep = TICK.toMillis() - (System.currentTimeMillis() - tickStart);
+            if (sleep > 0) {
+                Uninterruptibles.sleepUninterruptibly(sleep, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        return published;
+    }
+
+    @SneakyThrows
+    private void notify(ListenerType listenerType, TopicMessage topicMessage) {
+        switch (listenerType) {
+            case NOTIFY -> {
+                var json = notifyingTopicListener.objectMapper.writeValueAsString(topicMessage);
+                jdbcTemplate.queryForMap("select pg_notify('topic_message', ?)", json);
+            }
+            case REDIS -> redisOperations
+                    .convertAndSend("topic." + topicMessage.getTopicId().getId(), topicMessage)
+                    .block();
+            default -> {
+                // Polling listeners read the inserted rows directly
+            }
+        }
+    }
+
+    private String format(ValueAtPercentile[] percentiles) {
+        var result = new ArrayList<String>();
+        for (var percentile : percentiles) {
+            long millis = (long) percentile.value(TimeUnit.MILLISECONDS);
+            result.add(String.format("p%d=%dms", (int) (percentile.percentile() * 100), millis));
+        }
+        return String.join(", ", result);
+    }
+
+    private long cpuTime() {
+        var os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean operatingSystem) {
+            return operatingSystem.getProcessCpuTime();
+        }
+        return 0L;
+    }
+
+    @SuppressWarnings("java:S1215") // Explicit garbage collection is needed for a stable heap measurement
+    private long usedHeap() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.listener;
+
+import static com.hedera.mirror.grpc.listener.SubscriberBufferMonitor.METRIC_BYTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.grpc.domain.TopicsMessageFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SubscriberBufferMonitorTest {
+
+    private static final EntityId TOPIC1 = EntityId.of(100L);
+    private static final EntityId TOPIC2 = EntityId.of(101L);
+
+    private SimpleMeterRegistry meterRegistry;
+    private SubscriberBufferMonitor subscriberBufferMonitor;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        subscriberBufferMonitor = new SubscriberBufferMonitor(new ListenerProperties(), meterRegistry);
+        subscriberBufferMonitor.init();
+    }
+
+    @AfterEach
+    void teardown() {
+        subscriberBufferMonitor.destroy();
+    }
+
+    @Test
+    void multipleTopics() {
+        // given a subscriber to two topics
+        var filter = TopicsMessageFilter.builder()
+                .topicIds(Set.of(TOPIC1, TOPIC2))
+                .build();
+        var buffer1 = subscriberBufferMonitor.register(filter.toFilter(TOPIC1));
+        var buffer2 = subscriberBufferMonitor.register(filter.toFilter(TOPIC2));
+
+        // when
+        buffer1.onEnqueue(topicMessage(3));
+        buffer2.onEnqueue(topicMessage(5));
+        buffer2.onEnqueue(topicMessage(5));
+
+        // then
+        assertThat(subscriberBufferMonitor.getSlowest(10))
+                .containsExactly(buffer2, buffer1)
+                .allMatch(b -> b.getSubscriberId().equals(filter.getSubscriberId()));
+        assertThat(bytesQueued()).isEqualTo(13.0);
+
+        // when
+        subscriberBufferMonitor.unregister(buffer1);
+
+        // then the other topic's buffer is still tracked
+        assertThat(subscriberBufferMonitor.getSlowest(10)).containsExactly(buffer2);
+        assertThat(bytesQueued()).isEqualTo(10.0);
+
+        // when
+        subscriberBufferMonitor.unregister(buffer2);
+
+        // then
+        assertThat(subscriberBufferMonitor.getSlowest(10)).isEmpty();
+        assertThat(bytesQueued()).isZero();
+    }
+
+    private double bytesQueued() {
+        return meterRegistry.get(METRIC_BYTES).gauge().value();
+    }
+
+    private TopicMessage topicMessage(int length) {
+        return TopicMessage.builder().message(new byte[length]).build();
+    }
+}
@@ -181,6 +181,28 @@ class NetworkServiceTest extends GrpcIntegrationTest {
         assertThat(getNodes(filter)).containsExactly(addressBookEntry1, addressBookEntry2, addressBookEntry3);
     }
 
+    @Test
+    void cacheRefreshedOnNewAddressBook() {
+        AddressBook addressBook = addressBook();
+        AddressBookEntry addressBookEntry1 = addressBookEntry();
+        AddressBookFilter filter =
+                AddressBookFilter.builder().fileId(addressBook.getFileId()).build();
+
+        assertThat(getNodes(filter)).containsExactly(addressBookEntry1);
+
+        long newTimestamp = CONSENSUS_TIMESTAMP + 1;
+        domainBuilder
+                .addressBook()
+                .customize(a -> a.fileId(addressBook.getFileId()).startConsensusTimestamp(newTimestamp))
+                .persist();
+        var addressBookEntry2 = domainBuilder
+                .addressBookEntry()
+                .customize(a -> a.consensusTimestamp(newTimestamp))
+                .persist();
+
+        assertThat(getNodes(filter)).containsExactly(addressBookEntry2);
+    }
+
     @Test
     void overrideStakeToZeroWhenEmptyNodeStakeTable() {
         var addressBook = addressBook();
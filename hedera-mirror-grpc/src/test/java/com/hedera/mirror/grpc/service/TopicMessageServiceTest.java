@@ -28,8 +28,10 @@ import com.hedera.mirror.grpc.GrpcIntegrationTest;
 import com.hedera.mirror.grpc.GrpcProperties;
 import com.hedera.mirror.grpc.domain.ReactiveDomainBuilder;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.domain.TopicsMessageFilter;
 import com.hedera.mirror.grpc.exception.EntityNotFoundException;
 import com.hedera.mirror.grpc.listener.ListenerProperties;
+import com.hedera.mirror.grpc.listener.ListenerProperties.OverflowPolicy;
 import com.hedera.mirror.grpc.listener.TopicListener;
 import com.hedera.mirror.grpc.repository.EntityRepository;
 import com.hedera.mirror.grpc.retriever.RetrieverProperties;
@@ -39,6 +41,7 @@ import jakarta.annotation.Resource;
 import jakarta.validation.ConstraintViolationException;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -445,6 +448,65 @@ class TopicMessageServiceTest extends GrpcIntegrationTest {
                 .verify(Duration.ofMillis(500));
     }
 
+    @Test
+    void subscribeTopics() {
+        domainBuilder.entity(e -> e.num(1L).id(1L)).block();
+        domainBuilder.entity(e -> e.num(2L).id(2L)).block();
+        domainBuilder
+                .topicMessage(t -> t.topicId(EntityId.of(1L)).sequenceNumber(1))
+                .block();
+        domainBuilder
+                .topicMessage(t -> t.topicId(EntityId.of(2L)).sequenceNumber(1))
+                .block();
+
+        Flux<TopicMessage> generator = Flux.concat(
+                domainBuilder.topicMessage(
+                        t -> t.topicId(EntityId.of(1L)).sequenceNumber(2).consensusTimestamp(future + 1)),
+                domainBuilder.topicMessage(
+                        t -> t.topicId(EntityId.of(3L)).sequenceNumber(1).consensusTimestamp(future + 2)),
+                domainBuilder.topicMessage(
+                        t -> t.topicId(EntityId.of(2L)).sequenceNumber(2).consensusTimestamp(future + 3)));
+
+        TopicsMessageFilter filter = TopicsMessageFilter.builder()
+                .limit(4)
+                .startTime(0)
+                .topicIds(Set.of(EntityId.of(1L), EntityId.of(2L)))
+                .build();
+
+        StepVerifier.withVirtualTime(() -> topicMessageService
+                        .subscribeTopics(filter)
+                        .map(t -> t.getTopicId().getNum() + "-" + t.getSequenceNumber()))
+                .thenAwait(WAIT)
+                .expectNext("1-1", "2-1")
+                .then(generator::blockLast)
+                .expectNext("1-2", "2-2")
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    @Test
+    void subscribeTopicsNotFound() {
+        TopicsMessageFilter filter = TopicsMessageFilter.builder()
+                .topicIds(Set.of(topicId, EntityId.of(999L)))
+                .build();
+
+        StepVerifier.withVirtualTime(() -> topicMessageService.subscribeTopics(filter))
+                .thenAwait(WAIT)
+                .expectError(EntityNotFoundException.class)
+                .verify(WAIT);
+    }
+
+    @Test
+    void subscribeTopicsInvalidFilter() {
+        TopicsMessageFilter filter =
+                TopicsMessageFilter.builder().topicIds(Set.of()).limit(-1).build();
+
+        assertThatThrownBy(() -> topicMessageService.subscribeTopics(filter))
+                .isInstanceOf(ConstraintViolationException.class)
+                .hasMessageContaining("limit: must be greater than or equal to 0")
+                .hasMessageContaining("topicIds: must not be empty");
+    }
+
     @Test
     void duplicateMessages() {
         TopicListener topicListener = Mockito.mock(TopicListener.class);
@@ -452,6 +514,7 @@ class TopicMessageServiceTest extends GrpcIntegrationTest {
         TopicMessageRetriever topicMessageRetriever = Mockito.mock(TopicMessageRetriever.class);
         topicMessageService = new TopicMessageServiceImpl(
                 new GrpcProperties(),
+                new ListenerProperties(),
                 topicListener,
                 entityRepository,
                 topicMessageRetriever,
@@ -484,6 +547,7 @@ class TopicMessageServiceTest extends GrpcIntegrationTest {
         TopicMessageRetriever topicMessageRetriever = Mockito.mock(TopicMessageRetriever.class);
         topicMessageService = new TopicMessageServiceImpl(
                 new GrpcProperties(),
+                new ListenerProperties(),
                 topicListener,
                 entityRepository,
                 topicMessageRetriever,
@@ -513,6 +577,40 @@ class TopicMessageServiceTest extends GrpcIntegrationTest {
                 .verify(WAIT);
     }
 
+    @Test
+    void missingMessagesSkippedWithDropPolicy() {
+        TopicListener topicListener = Mockito.mock(TopicListener.class);
+        EntityRepository entityRepository = Mockito.mock(EntityRepository.class);
+        TopicMessageRetriever topicMessageRetriever = Mockito.mock(TopicMessageRetriever.class);
+        var dropProperties = new ListenerProperties();
+        dropProperties.setOverflowPolicy(OverflowPolicy.DROP);
+        topicMessageService = new TopicMessageServiceImpl(
+                new GrpcProperties(),
+                dropProperties,
+                topicListener,
+                entityRepository,
+                topicMessageRetriever,
+                new SimpleMeterRegistry());
+
+        TopicMessageFilter filter =
+                TopicMessageFilter.builder().startTime(0).topicId(topicId).build();
+
+        Mockito.when(entityRepository.findById(filter.getTopicId().getId())).thenReturn(optionalEntity());
+        Mockito.when(topicMessageRetriever.retrieve(filter, true)).thenReturn(Flux.empty());
+        Mockito.when(topicListener.listen(filter))
+                .thenReturn(Flux.just(topicMessage(1), topicMessage(4), topicMessage(5)));
+
+        StepVerifier.withVirtualTime(
+                        () -> topicMessageService.subscribeTopic(filter).map(TopicMessage::getSequenceNumber))
+                .thenAwait(WAIT)
+                .expectNext(1L, 4L, 5L)
+                .thenCancel()
+                .verify(WAIT);
+
+        Mockito.verify(topicMessageRetriever, Mockito.never())
+                .retrieve(ArgumentMatchers.isA(TopicMessageFilter.class), ArgumentMatchers.eq(false));
+    }
+
     @Test
     void missingMessagesFromListenerAllRetrieved() {
         TopicMessageFilter filter =
@@ -565,6 +663,7 @@ class TopicMessageServiceTest extends GrpcIntegrationTest {
         TopicMessageRetriever topicMessageRetriever = Mockito.mock(TopicMessageRetriever.class);
         topicMessageService = new TopicMessageServiceImpl(
                 new GrpcProperties(),
+                new ListenerProperties(),
                 topicListener,
                 entityRepository,
                 topicMessageRetriever,
@@ -616,6 +715,7 @@ class TopicMessageServiceTest extends GrpcIntegrationTest {
         TopicMessageRetriever topicMessageRetriever = Mockito.mock(TopicMessageRetriever.class);
         topicMessageService = new TopicMessageServiceImpl(
                 new GrpcProperties(),
+                new ListenerProperties(),
                 topicListener,
                 entityRepository,
                 topicMessageRetriever,
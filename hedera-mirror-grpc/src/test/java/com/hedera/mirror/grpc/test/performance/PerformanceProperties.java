@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.test.performance;
+
+import com.hedera.mirror.grpc.listener.ListenerProperties.ListenerType;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.List;
+import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("hedera.mirror.grpc.test.performance")
+@Data
+public class PerformanceProperties {
+
+    private boolean enabled = false;
+
+    @NotNull
+    private List<ListenerScenarioProperties> scenarios = List.of();
+
+    @Data
+    public static class ListenerScenarioProperties {
+
+        private String description;
+
+        @DurationMin(seconds = 1L)
+        @NotNull
+        private Duration duration = Duration.ofSeconds(10L);
+
+        private boolean enabled = true;
+
+        @DurationMin(millis = 1L)
+        @NotNull
+        private Duration latency = Duration.ofSeconds(2L);
+
+        @NotNull
+        private ListenerType listener = ListenerType.SHARED_POLL;
+
+        @Min(1)
+        private int subscribers = 1000;
+
+        @Min(1)
+        private int topics = 10;
+
+        @Min(1)
+        private int tps = 100;
+
+        public String getDescription() {
+            if (description != null) {
+                return description;
+            }
+            return String.format(
+                    "%d subscribers to %d topics at %d TPS with %s", subscribers, topics, tps, listener);
+        }
+    }
+}
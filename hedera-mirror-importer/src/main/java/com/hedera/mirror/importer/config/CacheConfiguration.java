@@ -34,7 +34,6 @@ public class CacheConfiguration {
 
     public static final String CACHE_ADDRESS_BOOK = "addressBook";
     public static final String CACHE_ALIAS = "alias";
-    public static final String CACHE_TIME_PARTITION_OVERLAP = "timePartitionOverlap";
     public static final String CACHE_TIME_PARTITION = "timePartition";
     public static final String CACHE_NAME = "default";
 
@@ -57,11 +56,6 @@ public class CacheConfiguration {
         return cacheManager(cacheProperties.getTimePartition());
     }
 
-    @Bean(CACHE_TIME_PARTITION_OVERLAP)
-    CacheManager cacheManagerTimePartitionOverlap() {
-        return cacheManager(cacheProperties.getTimePartitionOverlap());
-    }
-
     private CacheManager cacheManager(String specification) {
         if (!cacheProperties.isEnabled()) {
             return new NoOpCacheManager();
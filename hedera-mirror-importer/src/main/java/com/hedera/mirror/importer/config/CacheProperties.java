@@ -36,7 +36,4 @@ public class CacheProperties {
 
     @NotBlank
     private String timePartition = "maximumSize=50,expireAfterWrite=1d,recordStats";
-
-    @NotBlank
-    private String timePartitionOverlap = "maximumSize=50,expireAfterWrite=1d,recordStats";
 }
@@ -16,12 +16,18 @@
 
 package com.hedera.mirror.importer.config;
 
+import com.hedera.mirror.importer.ImporterProperties;
 import com.hedera.mirror.importer.downloader.CommonDownloaderProperties;
 import com.hedera.mirror.importer.downloader.StreamSourceProperties;
 import com.hedera.mirror.importer.downloader.provider.LocalStreamFileProperties;
 import com.hedera.mirror.importer.downloader.provider.LocalStreamFileProvider;
 import com.hedera.mirror.importer.downloader.provider.S3StreamFileProvider;
 import com.hedera.mirror.importer.downloader.provider.StreamFileProvider;
+import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
+import com.hedera.mirror.importer.parser.record.entity.archive.ArchiveProperties;
+import com.hedera.mirror.importer.parser.record.entity.archive.ArchiveStore;
+import com.hedera.mirror.importer.parser.record.entity.archive.LocalArchiveStore;
+import com.hedera.mirror.importer.parser.record.entity.archive.S3ArchiveStore;
 import java.net.URI;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -63,7 +69,9 @@ class CloudStorageConfiguration {
             var provider =
                     switch (source.getType()) {
                         case LOCAL -> new LocalStreamFileProvider(commonDownloaderProperties, localProperties);
-                        case GCP, S3 -> new S3StreamFileProvider(commonDownloaderProperties, s3Client(source));
+                        case GCP, S3 -> new S3StreamFileProvider(
+                                commonDownloaderProperties,
+                                s3Client(source, commonDownloaderProperties.isAnonymousCredentials()));
                     };
 
             providers.add(provider);
@@ -72,10 +80,20 @@ class CloudStorageConfiguration {
         return providers;
     }
 
-    private AwsCredentialsProvider awsCredentialsProvider(StreamSourceProperties sourceProperties) {
+    @Bean
+    @ConditionOnEntityRecordParser
+    ArchiveStore archiveStore(ArchiveProperties archiveProperties, ImporterProperties importerProperties) {
+        var store = archiveProperties.getStore();
+        return switch (store.getType()) {
+            case LOCAL -> new LocalArchiveStore(importerProperties.getDataPath().resolve("archive"));
+            case GCP, S3 -> new S3ArchiveStore(archiveProperties.getBucketName(), s3Client(store, false));
+        };
+    }
+
+    private AwsCredentialsProvider awsCredentialsProvider(StreamSourceProperties sourceProperties, boolean anonymous) {
         var type = sourceProperties.getType();
 
-        if (commonDownloaderProperties.isAnonymousCredentials()) {
+        if (anonymous) {
             log.info("Setting up {} client using anonymous credentials", type);
             return AnonymousCredentialsProvider.create();
         } else if (sourceProperties.isStaticCredentials()) {
@@ -89,7 +107,7 @@ class CloudStorageConfiguration {
         return DefaultCredentialsProvider.create();
     }
 
-    private S3AsyncClient s3Client(StreamSourceProperties sourceProperties) {
+    private S3AsyncClient s3Client(StreamSourceProperties sourceProperties, boolean anonymous) {
         var httpClient = NettyNioAsyncHttpClient.builder()
                 .connectionTimeout(sourceProperties.getConnectionTimeout())
                 .maxConcurrency(sourceProperties.getMaxConcurrency())
@@ -101,7 +119,7 @@ class CloudStorageConfiguration {
         }
 
         return S3AsyncClient.builder()
-                .credentialsProvider(awsCredentialsProvider(sourceProperties))
+                .credentialsProvider(awsCredentialsProvider(sourceProperties, anonymous))
                 .endpointOverride(sourceProperties.getUri())
                 .forcePathStyle(true)
                 .httpClient(httpClient)
@@ -37,6 +37,8 @@ public class PartitionMaintenance {
     @Owner
     private final JdbcTemplate jdbcTemplate;
 
+    private final TimePartitionService timePartitionService;
+
     @EventListener(ApplicationReadyEvent.class)
     @Leader
     @Retryable
@@ -45,6 +47,7 @@ public class PartitionMaintenance {
         log.info("Running partition maintenance");
         Stopwatch stopwatch = Stopwatch.createStarted();
         jdbcTemplate.execute(RUN_MAINTENANCE_QUERY);
+        timePartitionService.refresh();
         log.info("Partition maintenance completed successfully in {}", stopwatch);
     }
 }
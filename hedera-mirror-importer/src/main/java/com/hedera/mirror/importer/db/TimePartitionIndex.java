@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.db;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * An immutable index of the time partitions of a table. Time partitions of a table never overlap, so sorting them by
+ * their lower bound is enough to answer point and range lookups with a binary search.
+ */
+final class TimePartitionIndex {
+
+    static final TimePartitionIndex EMPTY = new TimePartitionIndex(Collections.emptyList());
+
+    private final long[] lowerBounds;
+    private final List<TimePartition> partitions;
+    private final long[] upperBounds;
+
+    TimePartitionIndex(List<TimePartition> partitions) {
+        var sorted = new ArrayList<>(partitions);
+        Collections.sort(sorted);
+
+        int size = sorted.size();
+        this.lowerBounds = new long[size];
+        this.partitions = Collections.unmodifiableList(sorted);
+        this.upperBounds = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            var timestampRange = sorted.get(i).getTimestampRange();
+            lowerBounds[i] = timestampRange.lowerEndpoint();
+            upperBounds[i] = timestampRange.upperEndpoint();
+        }
+    }
+
+    /**
+     * @param timestamp The timestamp
+     * @return The time partition containing the timestamp, or null if there is none
+     */
+    @Nullable
+    TimePartition get(long timestamp) {
+        int index = floor(timestamp);
+        return index >= 0 && timestamp < upperBounds[index] ? partitions.get(index) : null;
+    }
+
+    /**
+     * @param fromTimestamp The from timestamp, inclusive
+     * @param toTimestamp The to timestamp, inclusive
+     * @return The time partitions overlapping the range [fromTimestamp, toTimestamp]
+     */
+    List<TimePartition> getOverlapping(long fromTimestamp, long toTimestamp) {
+        if (toTimestamp < fromTimestamp) {
+            return Collections.emptyList();
+        }
+
+        int from = floor(fromTimestamp);
+        if (from < 0 || fromTimestamp >= upperBounds[from]) {
+            from++;
+        }
+
+        int to = floor(toTimestamp) + 1;
+        return from < to ? partitions.subList(from, to) : Collections.emptyList();
+    }
+
+    List<TimePartition> getPartitions() {
+        return partitions;
+    }
+
+    // Gets the index of the last partition with a lower bound less than or equal to the timestamp, or -1 if none
+    private int floor(long timestamp) {
+        int low = 0;
+        int high = lowerBounds.length - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (lowerBounds[mid] <= timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return high;
+    }
+}
@@ -17,8 +17,20 @@
 package com.hedera.mirror.importer.db;
 
 import java.util.List;
+import javax.annotation.Nullable;
 
 public interface TimePartitionService {
+
+    /**
+     * Detach and drop the time partitions of a table that end on or before the given timestamp. Only tables range
+     * partitioned on a single column are considered, and the cached time partitions of the table are evicted.
+     *
+     * @param tableName The table name
+     * @param toTimestamp The to timestamp, inclusive, that dropped partitions must end on or before
+     * @return The dropped time partitions
+     */
+    List<TimePartition> dropTimePartitions(String tableName, long toTimestamp);
+
     /**
      * Get the time partitions overlapping the range [fromTimestamp, toTimestamp]
      *
@@ -29,6 +41,16 @@ public interface TimePartitionService {
      */
     List<TimePartition> getOverlappingTimePartitions(String tableName, long fromTimestamp, long toTimestamp);
 
+    /**
+     * Get the time partition containing the timestamp
+     *
+     * @param tableName The table name
+     * @param timestamp The timestamp
+     * @return The time partition, or null if no time partition of the table contains the timestamp
+     */
+    @Nullable
+    TimePartition getTimePartition(String tableName, long timestamp);
+
     /**
      * Get the time partitions for a given table. The returned time partitions are sorted by the timestamp range
      * in ascending order.
@@ -37,4 +59,9 @@ public interface TimePartitionService {
      * @return The time partitions. If the table is not time partitioned or doesn't have time partitions, returns an empty list
      */
     List<TimePartition> getTimePartitions(String tableName);
+
+    /**
+     * Discard the time partitions loaded for all tables so that partitions created or dropped since are picked up
+     */
+    void refresh();
 }
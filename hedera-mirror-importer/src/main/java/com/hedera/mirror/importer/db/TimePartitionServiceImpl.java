@@ -18,13 +18,13 @@ package com.hedera.mirror.importer.db;
 
 import static com.hedera.mirror.importer.config.CacheConfiguration.CACHE_NAME;
 import static com.hedera.mirror.importer.config.CacheConfiguration.CACHE_TIME_PARTITION;
-import static com.hedera.mirror.importer.config.CacheConfiguration.CACHE_TIME_PARTITION_OVERLAP;
 
 import com.google.common.collect.Range;
 import jakarta.inject.Named;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
 import lombok.CustomLog;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.Cache;
@@ -36,82 +36,79 @@ import org.springframework.jdbc.core.RowMapper;
 @Named
 public class TimePartitionServiceImpl implements TimePartitionService {
 
+    private static final String GET_PARTITION_KEY_SQL = "select pg_get_partkeydef(to_regclass(?))";
     private static final String GET_TIME_PARTITIONS_SQL = "select * from mirror_node_time_partitions where parent = ?";
+    private static final Pattern SINGLE_COLUMN_RANGE = Pattern.compile("^RANGE \\(\"?\\w+\"?\\)$");
     private static final RowMapper<TimePartition> ROW_MAPPER = (rs, rowNum) -> TimePartition.builder()
             .name(rs.getString("name"))
             .parent(rs.getString("parent"))
             .timestampRange(Range.closedOpen(rs.getLong("from_timestamp"), rs.getLong("to_timestamp")))
             .build();
 
-    private final Cache cacheTimePartitionOverlap;
+    // Caches an immutable TimePartitionIndex per table name
     private final Cache cacheTimePartition;
     private final JdbcTemplate jdbcTemplate;
 
     TimePartitionServiceImpl(
-            @Qualifier(CACHE_TIME_PARTITION_OVERLAP) CacheManager cacheManagerOverlapTimePartition,
-            @Qualifier(CACHE_TIME_PARTITION) CacheManager cacheManagerTimePartition,
-            JdbcTemplate jdbcTemplate) {
-        this.cacheTimePartitionOverlap = cacheManagerOverlapTimePartition.getCache(CACHE_NAME);
+            @Qualifier(CACHE_TIME_PARTITION) CacheManager cacheManagerTimePartition, JdbcTemplate jdbcTemplate) {
         this.cacheTimePartition = cacheManagerTimePartition.getCache(CACHE_NAME);
         this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
-    public List<TimePartition> getOverlappingTimePartitions(String tableName, long fromTimestamp, long toTimestamp) {
-        String cacheKey = tableName + "-" + fromTimestamp + "-" + toTimestamp;
-        return cacheTimePartitionOverlap.get(
-                cacheKey, () -> queryForOverlappingTimePartitions(tableName, fromTimestamp, toTimestamp));
-    }
-
-    @Override
-    public List<TimePartition> getTimePartitions(String tableName) {
-        return cacheTimePartition.get(tableName, () -> queryForTimePartitions(tableName));
-    }
-
-    private List<TimePartition> queryForOverlappingTimePartitions(
-            String tableName, long fromTimestamp, long toTimestamp) {
-        if (toTimestamp < fromTimestamp) {
+    public List<TimePartition> dropTimePartitions(String tableName, long toTimestamp) {
+        var partitionKey = jdbcTemplate.queryForObject(GET_PARTITION_KEY_SQL, String.class, tableName);
+        if (partitionKey == null || !SINGLE_COLUMN_RANGE.matcher(partitionKey).matches()) {
             return Collections.emptyList();
         }
 
-        var partitions = getTimePartitions(tableName);
-        if (partitions.isEmpty()) {
-            return Collections.emptyList();
+        var partitions = queryForTimePartitions(tableName).stream()
+                .filter(p -> p.getEnd() <= toTimestamp)
+                .toList();
+        for (var partition : partitions) {
+            var name = quote(partition.getName());
+            jdbcTemplate.execute("alter table %s detach partition %s".formatted(quote(tableName), name));
+            jdbcTemplate.execute("drop table " + name);
+            log.info("Dropped partition {} with range {}", partition.getName(), partition.getTimestampRange());
         }
 
-        int index = Collections.binarySearch(partitions, null, (current, key) -> {
-            if (current.getTimestampRange().contains(fromTimestamp)) {
-                return 0;
-            }
+        if (!partitions.isEmpty()) {
+            cacheTimePartition.evict(tableName);
+        }
 
-            return current.getTimestampRange().lowerEndpoint() < fromTimestamp ? -1 : 1;
-        });
+        return partitions;
+    }
 
-        var overlappingPartitions = new ArrayList<TimePartition>();
-        if (index >= 0) {
-            overlappingPartitions.add(partitions.get(index));
-            index++;
-        } else {
-            int insertIndex = -1 - index;
-            if (insertIndex == partitions.size()) {
-                // all partitions are before fromTimestamp
-                return Collections.emptyList();
-            }
+    @Override
+    public List<TimePartition> getOverlappingTimePartitions(String tableName, long fromTimestamp, long toTimestamp) {
+        return getIndex(tableName).getOverlapping(fromTimestamp, toTimestamp);
+    }
 
-            // otherwise fromTimestamp is before the first partition
-            index = 0;
-        }
+    @Nullable
+    @Override
+    public TimePartition getTimePartition(String tableName, long timestamp) {
+        return getIndex(tableName).get(timestamp);
+    }
 
-        for (; index < partitions.size(); index++) {
-            var partition = partitions.get(index);
-            if (toTimestamp >= partition.getTimestampRange().lowerEndpoint()) {
-                overlappingPartitions.add(partition);
-            } else {
-                break;
-            }
-        }
+    @Override
+    public List<TimePartition> getTimePartitions(String tableName) {
+        return getIndex(tableName).getPartitions();
+    }
+
+    @Override
+    public void refresh() {
+        cacheTimePartition.clear();
+    }
+
+    private TimePartitionIndex getIndex(String tableName) {
+        return cacheTimePartition.get(tableName, () -> {
+            var partitions = queryForTimePartitions(tableName);
+            return partitions.isEmpty() ? TimePartitionIndex.EMPTY : new TimePartitionIndex(partitions);
+        });
+    }
 
-        return Collections.unmodifiableList(overlappingPartitions);
+    private static String quote(String identifier) {
+        return '"' + identifier.replace("\"", "\"\"") + '"';
     }
 
     private List<TimePartition> queryForTimePartitions(String tableName) {
@@ -42,6 +42,7 @@ import com.hedera.mirror.importer.exception.SignatureVerificationException;
 import com.hedera.mirror.importer.reader.StreamFileReader;
 import com.hedera.mirror.importer.reader.signature.SignatureFileReader;
 import com.hedera.mirror.importer.util.ShutdownHelper;
+import com.hedera.mirror.importer.util.StageMetric;
 import com.hedera.mirror.importer.util.Utility;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -106,7 +107,9 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
     private final MeterRegistry meterRegistry;
     private final Map<Long, Counter> nodeSignatureStatusMetricMap = new ConcurrentHashMap<>();
     private final Timer cloudStorageLatencyMetric;
+    private final StageMetric decompressMetric;
     private final Timer downloadLatencyMetric;
+    private final StageMetric readMetric;
     private final Timer streamCloseMetric;
     private final Timer.Builder streamVerificationMetric;
 
@@ -155,6 +158,9 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         streamVerificationMetric = Timer.builder("hedera.mirror.download.stream.verification")
                 .description("The duration in seconds it took to verify consensus and hash chain of a stream file")
                 .tag("type", streamType.toString());
+
+        decompressMetric = new StageMetric(meterRegistry, "decompress", "type", streamType.toString());
+        readMetric = new StageMetric(meterRegistry, "read", "type", streamType.toString());
     }
 
     public abstract void download();
@@ -342,7 +348,8 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
                 var node = signature.getNode();
                 var streamFileData = Objects.requireNonNull(
                         streamFileProvider.get(node, dataFilename).block());
-                T streamFile = streamFileReader.read(streamFileData);
+                decompressMetric.record(streamFileData::getDecompressedBytes);
+                T streamFile = readMetric.record(() -> streamFileReader.read(streamFileData));
                 streamFile.setNodeId(nodeId);
 
                 verify(streamFile, signature);
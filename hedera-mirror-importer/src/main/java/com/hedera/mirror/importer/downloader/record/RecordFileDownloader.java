@@ -16,8 +16,6 @@
 
 package com.hedera.mirror.importer.downloader.record;
 
-import com.google.common.collect.ArrayListMultimap;
-import com.google.common.collect.Multimaps;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.common.domain.transaction.SidecarFile;
@@ -37,14 +35,12 @@ import com.hedera.mirror.importer.parser.record.sidecar.SidecarProperties;
 import com.hedera.mirror.importer.reader.record.ProtoRecordFileReader;
 import com.hedera.mirror.importer.reader.record.RecordFileReader;
 import com.hedera.mirror.importer.reader.record.sidecar.SidecarFileReader;
+import com.hedera.mirror.importer.reader.record.sidecar.SidecarRecordList;
 import com.hedera.mirror.importer.reader.signature.SignatureFileReader;
 import com.hedera.mirror.importer.util.Utility;
-import com.hedera.services.stream.proto.SidecarType;
-import com.hedera.services.stream.proto.TransactionSidecarRecord;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
 import java.util.Arrays;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.springframework.scheduling.annotation.Scheduled;
 import reactor.core.publisher.Flux;
@@ -121,18 +117,15 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
                 .filter(sidecar ->
                         acceptedTypes.isEmpty() || sidecar.getTypes().stream().anyMatch(acceptedTypes::contains))
                 .flatMap(sidecar -> getSidecar(node, recordFilename, sidecar))
-                .flatMapIterable(SidecarFile::getRecords)
-                .filter(t -> acceptedTypes.isEmpty() || acceptedTypes.contains(getSidecarType(t)))
-                .collect(Multimaps.toMultimap(
-                        TransactionSidecarRecord::getConsensusTimestamp,
-                        Function.identity(),
-                        ArrayListMultimap::create))
+                .map(SidecarFile::getRecords)
+                .collectList()
+                .map(SidecarRecordList::groupByConsensusTimestamp)
                 .block();
 
         recordFile.getItems().forEach(recordItem -> {
-            var timestamp = recordItem.getTransactionRecord().getConsensusTimestamp();
-            if (records.containsKey(timestamp)) {
-                recordItem.setSidecarRecords(records.get(timestamp));
+            var sidecarRecords = records.get(recordItem.getTransactionRecord().getConsensusTimestamp());
+            if (sidecarRecords != null) {
+                recordItem.setSidecarRecords(sidecarRecords);
             }
         });
     }
@@ -159,19 +152,4 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
             return sidecar;
         });
     }
-
-    private int getSidecarType(TransactionSidecarRecord transactionSidecarRecord) {
-        return switch (transactionSidecarRecord.getSidecarRecordsCase()) {
-            case ACTIONS -> SidecarType.CONTRACT_ACTION_VALUE;
-            case BYTECODE -> SidecarType.CONTRACT_BYTECODE_VALUE;
-            case STATE_CHANGES -> SidecarType.CONTRACT_STATE_CHANGE_VALUE;
-            default -> {
-                Utility.handleRecoverableError(
-                        "Unknown sidecar transaction record type at {}: {}",
-                        transactionSidecarRecord.getConsensusTimestamp(),
-                        transactionSidecarRecord.getSidecarRecordsCase());
-                yield SidecarType.SIDECAR_TYPE_UNKNOWN_VALUE;
-            }
-        };
-    }
 }
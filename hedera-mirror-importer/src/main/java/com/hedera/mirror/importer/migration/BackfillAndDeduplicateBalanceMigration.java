@@ -206,14 +206,13 @@ public class BackfillAndDeduplicateBalanceMigration extends AsyncJavaMigration<L
             return Optional.empty();
         }
 
-        var partitions =
-                timePartitionService.getOverlappingTimePartitions(ACCOUNT_BALANCE_TABLE_NAME, timestamp, timestamp);
-        if (partitions.isEmpty()) {
+        var partition = timePartitionService.getTimePartition(ACCOUNT_BALANCE_TABLE_NAME, timestamp);
+        if (partition == null) {
             throw new InvalidDatasetException(
                     String.format("No account_balance table partition found for timestamp %d", timestamp));
         }
 
-        var partitionRange = partitions.get(0).getTimestampRange();
+        var partitionRange = partition.getTimestampRange();
         var params = new MapSqlParameterSource()
                 .addValue("lowerBound", partitionRange.lowerEndpoint())
                 .addValue("upperBound", Math.min(partitionRange.upperEndpoint(), lastConsensusTimestamp));
@@ -0,0 +1,262 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.migration;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.Range;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.hedera.mirror.common.util.DomainUtils;
+import jakarta.annotation.Nonnull;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * An asynchronous migration that splits its work into closed-open chunks of a long value, such as a consensus
+ * timestamp or an id, and migrates the chunks concurrently. The chunks and the last value migrated in each chunk are
+ * saved to the async_migration_progress table so that an interrupted migration resumes where it stopped. The
+ * migration backs off while the importer is ingesting and its ingest lag exceeds the configured maximum. The importer
+ * is considered to be ingesting until its latest consensus end hasn't advanced for the configured stall timeout.
+ */
+abstract class ChunkedAsyncJavaMigration extends AsyncJavaMigration<Long> {
+
+    private static final String DELETE_PROGRESS_SQL =
+            "delete from async_migration_progress where migration = :migration";
+
+    private static final String INSERT_PROGRESS_SQL =
+            """
+            insert into async_migration_progress (chunk_end, chunk_start, migration)
+            values (:chunkEnd, :chunkStart, :migration)
+            """;
+
+    private static final String SELECT_LATEST_CONSENSUS_END_SQL = "select max(consensus_end) from record_file";
+
+    private static final String SELECT_PROGRESS_SQL =
+            """
+            select checkpoint, chunk_end, chunk_start, complete from async_migration_progress
+            where migration = :migration
+            order by chunk_start
+            """;
+
+    private static final Duration THROTTLE_INTERVAL = Duration.ofSeconds(1L);
+
+    private static final String UPDATE_PROGRESS_SQL =
+            """
+            update async_migration_progress set checkpoint = :checkpoint, complete = :complete
+            where migration = :migration and chunk_start = :chunkStart
+            """;
+
+    // The importer's progress as observed by all of the workers, guarded by this
+    private long consensusEnd;
+    private long consensusEndAdvancedAt;
+    private boolean polled;
+    private long polledAt;
+
+    protected ChunkedAsyncJavaMigration(
+            Map<String, MigrationProperties> migrationPropertiesMap,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            String schema) {
+        super(migrationPropertiesMap, namedParameterJdbcTemplate, schema);
+    }
+
+    /**
+     * Gets the closed-open ranges to migrate. It's only called when the migration isn't already in progress, otherwise
+     * the chunks saved by the interrupted run are resumed.
+     *
+     * @return the chunks to migrate
+     */
+    protected abstract List<Range<Long>> getChunks();
+
+    /**
+     * Migrates the next part of a chunk in a transaction.
+     *
+     * @param chunk the chunk to migrate
+     * @param last  the last value migrated in the chunk, or null if the chunk hasn't been started
+     * @return the last value migrated, or empty if the chunk is complete
+     */
+    @Nonnull
+    protected abstract Optional<Long> migrateChunk(Range<Long> chunk, Long last);
+
+    @Override
+    protected final Long getInitial() {
+        return null;
+    }
+
+    @Nonnull
+    @Override
+    protected final Optional<Long> migratePartial(Long last) {
+        return Optional.empty();
+    }
+
+    @Override
+    protected void migrateAsync() {
+        var stopwatch = Stopwatch.createStarted();
+        var chunks = getProgress();
+
+        if (chunks.isEmpty()) {
+            chunks = createProgress();
+        }
+
+        var remaining = chunks.stream().filter(c -> !c.complete()).toList();
+        int parallelism = Math.max(1, migrationProperties.getParallelism());
+        log.info(
+                "Starting asynchronous migration of {} out of {} chunks with parallelism {}",
+                remaining.size(),
+                chunks.size(),
+                parallelism);
+
+        var stopped = new AtomicBoolean(false);
+        try (var executor = Executors.newFixedThreadPool(
+                parallelism, Thread.ofVirtual().name(getClass().getSimpleName() + "-", 0).factory())) {
+            remaining.stream()
+                    .map(c -> CompletableFuture.runAsync(() -> migrate(c, stopped), executor))
+                    .toList()
+                    .forEach(CompletableFuture::join);
+        } catch (CompletionException e) {
+            log.error("Error executing asynchronous migration in {}", stopwatch);
+            throw e.getCause() instanceof RuntimeException re ? re : e;
+        }
+
+        namedParameterJdbcTemplate.update(DELETE_PROGRESS_SQL, getProgressParamSource());
+        log.info("Successfully completed asynchronous migration of {} chunks in {}", remaining.size(), stopwatch);
+    }
+
+    private List<Chunk> createProgress() {
+        var chunks = getChunks().stream()
+                .map(r -> new Chunk(null, r.upperEndpoint(), r.lowerEndpoint(), false))
+                .toList();
+        var paramSources = chunks.stream()
+                .map(c -> getProgressParamSource()
+                        .addValue("chunkEnd", c.end())
+                        .addValue("chunkStart", c.start()))
+                .toArray(SqlParameterSource[]::new);
+        namedParameterJdbcTemplate.batchUpdate(INSERT_PROGRESS_SQL, paramSources);
+        return chunks;
+    }
+
+    private List<Chunk> getProgress() {
+        return namedParameterJdbcTemplate.query(
+                SELECT_PROGRESS_SQL,
+                getProgressParamSource(),
+                (rs, rowNum) -> new Chunk(
+                        rs.getObject("checkpoint", Long.class),
+                        rs.getLong("chunk_end"),
+                        rs.getLong("chunk_start"),
+                        rs.getBoolean("complete")));
+    }
+
+    private MapSqlParameterSource getProgressParamSource() {
+        return new MapSqlParameterSource("migration", getClass().getName());
+    }
+
+    private void migrate(Chunk chunk, AtomicBoolean stopped) {
+        var range = Range.closedOpen(chunk.start(), chunk.end());
+        var checkpoint = chunk.checkpoint();
+
+        try {
+            while (!stopped.get()) {
+                throttle();
+
+                final var last = checkpoint;
+                var next = Objects.requireNonNullElse(
+                        getTransactionOperations().execute(t -> {
+                            var result = migrateChunk(range, last);
+                            var paramSource = getProgressParamSource()
+                                    .addValue("checkpoint", result.orElse(last))
+                                    .addValue("chunkStart", chunk.start())
+                                    .addValue("complete", result.isEmpty());
+                            namedParameterJdbcTemplate.update(UPDATE_PROGRESS_SQL, paramSource);
+                            return result;
+                        }),
+                        Optional.<Long>empty());
+
+                if (next.isEmpty()) {
+                    log.debug("Completed chunk {}", range);
+                    return;
+                }
+
+                checkpoint = next.get();
+            }
+        } catch (RuntimeException e) {
+            stopped.set(true);
+            log.error("Error migrating chunk {} after checkpoint {}", range, checkpoint);
+            throw e;
+        }
+    }
+
+    /**
+     * Waits while the importer is both behind and making progress so the migration doesn't compete with ingest when
+     * it's catching up. A stalled or stopped importer doesn't block the migration.
+     */
+    private void throttle() {
+        var maxIngestLag = migrationProperties.getMaxIngestLag();
+        if (maxIngestLag.isZero()) {
+            return;
+        }
+
+        while (isImporterCatchingUp(maxIngestLag)) {
+            Uninterruptibles.sleepUninterruptibly(THROTTLE_INTERVAL);
+        }
+    }
+
+    /*
+     * The latest consensus end is polled at most once per throttle interval no matter how many workers ask, and the
+     * importer only counts as ingesting while the consensus end has advanced within the stall timeout. Judging progress
+     * over time rather than between two polls keeps the result the same for every worker.
+     */
+    private synchronized boolean isImporterCatchingUp(Duration maxIngestLag) {
+        long now = System.nanoTime();
+
+        if (!polled || now - polledAt >= THROTTLE_INTERVAL.toNanos()) {
+            var latest = namedParameterJdbcTemplate
+                    .getJdbcTemplate()
+                    .queryForObject(SELECT_LATEST_CONSENSUS_END_SQL, Long.class);
+            polled = true;
+            polledAt = now;
+
+            if (latest != null && latest > consensusEnd) {
+                consensusEnd = latest;
+                consensusEndAdvancedAt = now;
+            }
+        }
+
+        long stallTimeout = migrationProperties.getIngestStallTimeout().toNanos();
+        if (consensusEnd == 0L || now - consensusEndAdvancedAt > stallTimeout) {
+            return false;
+        }
+
+        long lag = DomainUtils.convertToNanosMax(Instant.now()) - consensusEnd;
+        if (lag <= maxIngestLag.toNanos()) {
+            return false;
+        }
+
+        log.debug("Throttling migration while importer ingest lags by {}", Duration.ofNanos(lag));
+        return true;
+    }
+
+    private record Chunk(Long checkpoint, long end, long start, boolean complete) {}
+}
@@ -17,6 +17,7 @@
 package com.hedera.mirror.importer.migration;
 
 import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 import java.util.Map;
 import lombok.Data;
 import org.apache.commons.collections4.map.CaseInsensitiveMap;
@@ -28,6 +29,14 @@ public class MigrationProperties {
 
     private boolean enabled = true;
 
+    @NotNull
+    private Duration ingestStallTimeout = Duration.ofSeconds(20L);
+
+    @NotNull
+    private Duration maxIngestLag = Duration.ofMinutes(1L);
+
+    private int parallelism = 4;
+
     @NotNull
     private Map<String, String> params = new CaseInsensitiveMap<>();
 }
@@ -17,6 +17,7 @@
 package com.hedera.mirror.importer.migration;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Range;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.importer.ImporterProperties;
@@ -25,6 +26,7 @@ import com.hedera.mirror.importer.exception.ImporterException;
 import com.hedera.mirror.importer.parser.record.RecordStreamFileListener;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
 import com.hederahashgraph.api.proto.java.Key;
+import jakarta.annotation.Nonnull;
 import jakarta.inject.Named;
 import java.io.IOException;
 import java.time.Duration;
@@ -44,7 +46,7 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.transaction.support.TransactionOperations;
 
 @Named
-public class SyntheticCryptoTransferApprovalMigration extends AsyncJavaMigration<Long>
+public class SyntheticCryptoTransferApprovalMigration extends ChunkedAsyncJavaMigration
         implements RecordStreamFileListener {
 
     static final Version HAPI_VERSION_0_38_0 = new Version(0, 38, 0);
@@ -56,7 +58,7 @@ public class SyntheticCryptoTransferApprovalMigration extends AsyncJavaMigration
 
     // Contracts after the grandfathered id may have exhibited the problem
     private static final long GRANDFATHERED_ID = 2119900L;
-    // 1 day in nanoseconds which will yield 69 async iterations
+    // 1 day in nanoseconds which will yield 69 async chunks
     private static final long TIMESTAMP_INCREMENT = Duration.ofDays(1).toNanos();
     private static final String TRANSFER_SQL =
             """
@@ -190,8 +192,21 @@ public class SyntheticCryptoTransferApprovalMigration extends AsyncJavaMigration
     }
 
     @Override
-    protected Long getInitial() {
-        return LOWER_BOUND_TIMESTAMP;
+    protected List<Range<Long>> getChunks() {
+        if (!ImporterProperties.HederaNetwork.MAINNET.equalsIgnoreCase(importerProperties.getNetwork())) {
+            log.info("Skipping migration since it only applies to mainnet");
+            return List.of();
+        }
+
+        // Chunks are closed-open while each iteration migrates the timestamp range (lowerBound, upperBound]
+        var chunks = new ArrayList<Range<Long>>();
+        long lowerBound = LOWER_BOUND_TIMESTAMP;
+        while (lowerBound < UPPER_BOUND_TIMESTAMP) {
+            long upperBound = Math.min(lowerBound + TIMESTAMP_INCREMENT, UPPER_BOUND_TIMESTAMP);
+            chunks.add(Range.closedOpen(lowerBound + 1, upperBound + 1));
+            lowerBound = upperBound;
+        }
+        return chunks;
     }
 
     @Override
@@ -200,16 +215,13 @@ public class SyntheticCryptoTransferApprovalMigration extends AsyncJavaMigration
         return MigrationVersion.fromVersion("1.81.0");
     }
 
+    @Nonnull
     @Override
-    protected Optional<Long> migratePartial(Long lowerBound) {
-        if (!ImporterProperties.HederaNetwork.MAINNET.equalsIgnoreCase(importerProperties.getNetwork())) {
-            log.info("Skipping migration since it only applies to mainnet");
-            return Optional.empty();
-        }
-
+    protected Optional<Long> migrateChunk(Range<Long> chunk, Long last) {
         long count = 0;
         var migrationErrors = new ArrayList<String>();
-        long upperBound = Math.min(lowerBound + TIMESTAMP_INCREMENT, UPPER_BOUND_TIMESTAMP);
+        long lowerBound = chunk.lowerEndpoint() - 1;
+        long upperBound = chunk.upperEndpoint() - 1;
         var params = new MapSqlParameterSource()
                 .addValue("lower_bound", lowerBound)
                 .addValue("upper_bound", upperBound)
@@ -245,7 +257,7 @@ public class SyntheticCryptoTransferApprovalMigration extends AsyncJavaMigration
 
         log.info("Updated {} synthetic transfer approvals in timestamp range ({}, {}]", count, lowerBound, upperBound);
         migrationErrors.forEach(log::error);
-        return upperBound == UPPER_BOUND_TIMESTAMP ? Optional.empty() : Optional.of(upperBound);
+        return Optional.empty();
     }
 
     @Override
@@ -34,6 +34,12 @@ public class BalanceParserProperties extends AbstractParserProperties {
     @Min(1)
     private int batchSize = 200_000;
 
+    /**
+     * The number of balance lines or accounts in a chunk parsed in parallel when reading a balance file
+     */
+    @Min(1)
+    private int chunkSize = 10_000;
+
     @Min(1)
     private int fileBufferSize = 200_000;
 
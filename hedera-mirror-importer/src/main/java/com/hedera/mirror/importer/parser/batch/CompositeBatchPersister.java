@@ -16,11 +16,14 @@
 
 package com.hedera.mirror.importer.parser.batch;
 
+import com.google.common.base.CaseFormat;
 import com.hedera.mirror.common.domain.Upsertable;
 import com.hedera.mirror.common.domain.transaction.TransactionHash;
 import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.parser.record.IngestTracer;
 import com.hedera.mirror.importer.repository.upsert.UpsertQueryGenerator;
 import com.hedera.mirror.importer.repository.upsert.UpsertQueryGeneratorFactory;
+import com.hedera.mirror.importer.util.StageMetric;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
 import jakarta.persistence.Entity;
@@ -37,18 +40,22 @@ import org.springframework.core.annotation.AnnotationUtils;
 public class CompositeBatchPersister implements BatchPersister {
 
     private final Map<Class<?>, BatchPersister> batchPersisters = new ConcurrentHashMap<>();
+    private final Map<Class<?>, StageMetric> persistMetrics = new ConcurrentHashMap<>();
     private final DataSource dataSource;
+    private final IngestTracer ingestTracer;
     private final MeterRegistry meterRegistry;
     private final CommonParserProperties properties;
     private final UpsertQueryGeneratorFactory upsertQueryGeneratorFactory;
 
     public CompositeBatchPersister(
             DataSource dataSource,
+            IngestTracer ingestTracer,
             MeterRegistry meterRegistry,
             CommonParserProperties properties,
             UpsertQueryGeneratorFactory upsertQueryGeneratorFactory,
             Optional<TransactionHashBatchInserter> transactionHashV1BatchPersister) {
         this.dataSource = dataSource;
+        this.ingestTracer = ingestTracer;
         this.meterRegistry = meterRegistry;
         this.properties = properties;
         this.upsertQueryGeneratorFactory = upsertQueryGeneratorFactory;
@@ -69,7 +76,10 @@ public class CompositeBatchPersister implements BatchPersister {
         }
 
         BatchPersister batchPersister = batchPersisters.computeIfAbsent(item.getClass(), this::create);
+        var persistMetric = persistMetrics.computeIfAbsent(item.getClass(), this::createMetric);
+        var sample = StageMetric.start();
         batchPersister.persist(items);
+        ingestTracer.stop(persistMetric, sample);
     }
 
     private BatchPersister create(Class<?> domainClass) {
@@ -90,6 +100,11 @@ public class CompositeBatchPersister implements BatchPersister {
         }
     }
 
+    private StageMetric createMetric(Class<?> domainClass) {
+        var table = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, domainClass.getSimpleName());
+        return ingestTracer.stageMetric("persist", "table", table);
+    }
+
     // Finds which parent class has the Entity annotation to get an accurate table name
     private Class<?> getEntityClass(Class<?> domainClass) {
         if (domainClass == null || domainClass == Object.class) {
@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@ConfigurationProperties("hedera.mirror.importer.parser.record.ingest")
+@Validated
+public class IngestProperties {
+
+    /**
+     * Whether to time the entity listeners merging each entity into the parser context. It's sampled for every entity
+     * on the hottest path of the parser, so it's off unless the merge stage needs to be investigated.
+     */
+    private boolean mergeStage = false;
+
+    /**
+     * The number of slowest record files per window to log a trace of the time spent in each ingest stage for. Zero
+     * disables the trace.
+     */
+    @Min(0)
+    private int slowFiles = 0;
+
+    /**
+     * How often to forget the slowest record files seen so far
+     */
+    @DurationMin(seconds = 1)
+    @NotNull
+    private Duration slowFileWindow = Duration.ofHours(1);
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record;
+
+import com.hedera.mirror.importer.util.StageMetric;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Named;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.CustomLog;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Accumulates the time and allocated bytes of each ingest stage while a record file is parsed, from the transaction
+ * handlers to the commit of the database transaction. The totals are recorded once per parse so the stage metrics show
+ * where the time of a file was spent, and a trace of the stages is logged for the slowest files if enabled.
+ * <p>
+ * Stages can nest, e.g., the handler stage of a transaction includes the merges of the entities it produces. Such
+ * stages are created with {@link #nestedStageMetric(String, String...)} and listed apart in the trace so their time
+ * isn't mistaken for time spent in addition to the other stages. Only the stages run by the parsing thread are
+ * accumulated. Stages run by other threads, like the persisting of a
+ * balance file, are recorded to their metric immediately.
+ */
+@CustomLog
+@Named
+public class IngestTracer implements TransactionSynchronization {
+
+    private final StageMetric commitMetric;
+    private final IngestProperties ingestProperties;
+    private final MeterRegistry meterRegistry;
+    private final PriorityQueue<Long> slowest = new PriorityQueue<>();
+    private final Map<StageMetric, long[]> stages = new LinkedHashMap<>();
+
+    private StageMetric.Sample commitSample;
+    private int files;
+    private String name;
+    private volatile Thread owner;
+    private StageMetric.Sample parseSample;
+    private long windowStart = System.nanoTime();
+
+    public IngestTracer(IngestProperties ingestProperties, MeterRegistry meterRegistry) {
+        this.commitMetric = new StageMetric(meterRegistry, "commit");
+        this.ingestProperties = ingestProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public StageMetric stageMetric(String stage, String... tags) {
+        return new StageMetric(meterRegistry, stage, tags);
+    }
+
+    public StageMetric nestedStageMetric(String stage, String... tags) {
+        return new StageMetric(meterRegistry, true, stage, tags);
+    }
+
+    /**
+     * Starts tracing the parse of one or more record files by the current thread, discarding any unfinished trace.
+     */
+    public void begin() {
+        stages.clear();
+        commitSample = null;
+        owner = Thread.currentThread();
+        parseSample = StageMetric.start();
+    }
+
+    /**
+     * Ends the stage started by the sample. The stage is added to the trace if the current thread is the one parsing,
+     * otherwise it's recorded to the stage metric immediately.
+     *
+     * @param stageMetric The metric of the stage
+     * @param sample      The sample taken at the start of the stage
+     */
+    public void stop(StageMetric stageMetric, StageMetric.Sample sample) {
+        long nanos = sample.elapsed();
+        long bytes = sample.allocated();
+
+        if (Thread.currentThread() == owner) {
+            var totals = stages.computeIfAbsent(stageMetric, k -> new long[2]);
+            totals[0] += nanos;
+            totals[1] += bytes;
+        } else {
+            stageMetric.record(nanos, bytes);
+        }
+    }
+
+    /**
+     * Ends the trace once the current database transaction, if any, completes so that the commit is included.
+     *
+     * @param name  The name of the last parsed record file
+     * @param files The number of parsed record files
+     */
+    public void end(String name, int files) {
+        if (Thread.currentThread() != owner) {
+            return;
+        }
+
+        this.files = files;
+        this.name = name;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(this);
+        } else {
+            finish(true);
+        }
+    }
+
+    @Override
+    public void beforeCommit(boolean readOnly) {
+        commitSample = StageMetric.start();
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+        if (commitSample != null) {
+            stop(commitMetric, commitSample);
+        }
+
+        finish(status == STATUS_COMMITTED);
+    }
+
+    private void finish(boolean success) {
+        if (Thread.currentThread() != owner) {
+            return;
+        }
+
+        owner = null;
+        stages.forEach((stageMetric, totals) -> stageMetric.record(totals[0], totals[1]));
+
+        if (success) {
+            trace(parseSample.elapsed());
+        }
+
+        stages.clear();
+    }
+
+    private void trace(long elapsed) {
+        int max = ingestProperties.getSlowFiles();
+        if (max <= 0) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (now - windowStart >= ingestProperties.getSlowFileWindow().toNanos()) {
+            slowest.clear();
+            windowStart = now;
+        }
+
+        if (slowest.size() >= max) {
+            if (elapsed <= slowest.peek()) {
+                return;
+            }
+
+            slowest.poll();
+        }
+
+        slowest.add(elapsed);
+        log.info(
+                "Slow ingest of {} record files ending with {} in {}ms: {}, nested stages: {}",
+                files,
+                name,
+                TimeUnit.NANOSECONDS.toMillis(elapsed),
+                format(false),
+                format(true));
+    }
+
+    private String format(boolean nested) {
+        return stages.entrySet().stream()
+                .filter(e -> e.getKey().isNested() == nested)
+                .sorted((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]))
+                .map(e -> "%s=%dms/%dKiB"
+                        .formatted(
+                                e.getKey().getName(),
+                                TimeUnit.NANOSECONDS.toMillis(e.getValue()[0]),
+                                e.getValue()[1] / 1024))
+                .collect(Collectors.joining(", "));
+    }
+}
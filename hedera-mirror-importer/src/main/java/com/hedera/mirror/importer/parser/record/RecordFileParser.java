@@ -48,6 +48,7 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
 
 @Named
 public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
@@ -55,6 +56,7 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
     private final ApplicationEventPublisher applicationEventPublisher;
     private final RecordItemListener recordItemListener;
     private final DateRangeCalculator dateRangeCalculator;
+    private final IngestTracer ingestTracer;
     private final ParserContext parserContext;
 
     // Metrics
@@ -72,11 +74,13 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
             RecordItemListener recordItemListener,
             RecordStreamFileListener recordStreamFileListener,
             DateRangeCalculator dateRangeCalculator,
+            IngestTracer ingestTracer,
             ParserContext parserContext) {
         super(meterRegistry, parserProperties, recordStreamFileListener, streamFileRepository);
         this.applicationEventPublisher = applicationEventPublisher;
         this.recordItemListener = recordItemListener;
         this.dateRangeCalculator = dateRangeCalculator;
+        this.ingestTracer = ingestTracer;
         this.parserContext = parserContext;
 
         // build transaction latency metrics
@@ -124,7 +128,9 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
     @Transactional(timeoutString = "#{@recordParserProperties.getTransactionTimeout().toSeconds()}")
     public synchronized void parse(RecordFile recordFile) {
         try {
+            ingestTracer.begin();
             super.parse(recordFile);
+            ingestTracer.end(recordFile.getName(), 1);
         } finally {
             parserContext.clear();
         }
@@ -144,7 +150,12 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
     @Transactional(timeoutString = "#{@recordParserProperties.getTransactionTimeout().toSeconds()}")
     public synchronized void parse(List<RecordFile> recordFiles) {
         try {
+            ingestTracer.begin();
             super.parse(recordFiles);
+
+            if (!CollectionUtils.isEmpty(recordFiles)) {
+                ingestTracer.end(recordFiles.getLast().getName(), recordFiles.size());
+            }
         } finally {
             parserContext.clear();
         }
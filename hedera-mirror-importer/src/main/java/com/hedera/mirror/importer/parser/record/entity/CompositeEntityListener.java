@@ -49,29 +49,48 @@ import com.hedera.mirror.common.domain.transaction.StakingRewardTransfer;
 import com.hedera.mirror.common.domain.transaction.Transaction;
 import com.hedera.mirror.common.domain.transaction.TransactionSignature;
 import com.hedera.mirror.importer.exception.ImporterException;
+import com.hedera.mirror.importer.parser.record.IngestProperties;
+import com.hedera.mirror.importer.parser.record.IngestTracer;
+import com.hedera.mirror.importer.util.StageMetric;
 import jakarta.inject.Named;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.BiConsumer;
 import lombok.CustomLog;
-import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
 
 @CustomLog
 @Named
 @Primary
-@RequiredArgsConstructor
 public class CompositeEntityListener implements EntityListener {
 
     private final List<EntityListener> entityListeners;
+    private final IngestProperties ingestProperties;
+    private final IngestTracer ingestTracer;
+    private final StageMetric mergeMetric;
+
+    public CompositeEntityListener(
+            List<EntityListener> entityListeners, IngestProperties ingestProperties, IngestTracer ingestTracer) {
+        this.entityListeners = entityListeners;
+        this.ingestProperties = ingestProperties;
+        this.ingestTracer = ingestTracer;
+        // Entities are mostly produced by the transaction handlers, so the merge stage is mostly within the handler
+        this.mergeMetric = ingestTracer.nestedStageMetric("merge");
+    }
 
     private <T> void onEach(BiConsumer<EntityListener, T> consumer, T t) {
+        var sample = ingestProperties.isMergeStage() ? StageMetric.start() : null;
+
         for (int i = 0; i < entityListeners.size(); ++i) {
             var entityListener = entityListeners.get(i);
             if (entityListener.isEnabled()) {
                 consumer.accept(entityListener, t);
             }
         }
+
+        if (sample != null) {
+            ingestTracer.stop(mergeMetric, sample);
+        }
     }
 
     @Override
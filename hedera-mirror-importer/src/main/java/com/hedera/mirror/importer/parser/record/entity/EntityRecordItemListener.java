@@ -51,9 +51,11 @@ import com.hedera.mirror.importer.parser.contractlog.TransferContractLog;
 import com.hedera.mirror.importer.parser.contractlog.TransferIndexedContractLog;
 import com.hedera.mirror.importer.parser.contractresult.SyntheticContractResultService;
 import com.hedera.mirror.importer.parser.contractresult.TransferContractResult;
+import com.hedera.mirror.importer.parser.record.IngestTracer;
 import com.hedera.mirror.importer.parser.record.RecordItemListener;
 import com.hedera.mirror.importer.parser.record.transactionhandler.TransactionHandler;
 import com.hedera.mirror.importer.parser.record.transactionhandler.TransactionHandlerFactory;
+import com.hedera.mirror.importer.util.StageMetric;
 import com.hedera.mirror.importer.util.Utility;
 import com.hederahashgraph.api.proto.java.AccountAmount;
 import com.hederahashgraph.api.proto.java.NftTransfer;
@@ -66,6 +68,7 @@ import com.hederahashgraph.api.proto.java.TransactionRecord;
 import jakarta.inject.Named;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -88,6 +91,8 @@ public class EntityRecordItemListener implements RecordItemListener {
     private final TransactionHandlerFactory transactionHandlerFactory;
     private final SyntheticContractLogService syntheticContractLogService;
     private final SyntheticContractResultService syntheticContractResultService;
+    private final IngestTracer ingestTracer;
+    private final Map<TransactionType, StageMetric> handlerMetrics = new EnumMap<>(TransactionType.class);
 
     @Override
     public void onItem(RecordItem recordItem) throws ImporterException {
@@ -127,7 +132,11 @@ public class EntityRecordItemListener implements RecordItemListener {
         }
 
         Transaction transaction = buildTransaction(entityId, recordItem);
+        var handlerMetric = handlerMetrics.computeIfAbsent(
+                transactionType, t -> ingestTracer.stageMetric("handler", "transactionType", t.name()));
+        var sample = StageMetric.start();
         transactionHandler.updateTransaction(transaction, recordItem);
+        ingestTracer.stop(handlerMetric, sample);
 
         // Insert transfers even on failure
         insertTransferList(recordItem);
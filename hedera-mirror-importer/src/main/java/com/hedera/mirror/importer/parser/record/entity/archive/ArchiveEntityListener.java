@@ -0,0 +1,363 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.archive;
+
+import com.hedera.mirror.common.domain.contract.ContractLog;
+import com.hedera.mirror.common.domain.contract.ContractStateChange;
+import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.common.domain.transaction.Transaction;
+import com.hedera.mirror.importer.exception.ImporterException;
+import com.hedera.mirror.importer.parser.record.RecordStreamFileListener;
+import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
+import com.hedera.mirror.importer.parser.record.entity.EntityListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.inject.Named;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.CustomLog;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Archives the rows of the large, append only tables to columnar files in a local directory or a cloud storage bucket
+ * so that old partitions can later be dropped from the database while keeping the history available. The rows of a
+ * table are buffered in an open segment until it reaches the maximum rows or interval, at which point it's sealed,
+ * written to the store asynchronously and added to the archive index. Rows are only added to the open segment after
+ * the database transaction commits so that the archive never contains rows that were rolled back. Since the open
+ * segments are kept in memory, a crash loses them and leaves a gap in the archive that's logged on the next write.
+ * Writes are retried with backoff, and a sealed segment that still can't be written is counted and likewise left as a
+ * gap. Either kind of gap can be found with {@link ArchiveIndex#findGaps(String)}. Only a few sealed segments are
+ * queued for writing, after which the importer writes them itself so that a slow store slows down ingestion rather
+ * than buffering an unbounded number of segments in memory.
+ * <p>
+ * The archive assumes the rows are never changed once they're written. Rows inserted outside a record file, like the
+ * missing transactions added by the errata migration, end without a record file and are archived to a separate
+ * correction file covering just their timestamps that {@link ArchiveIndex#find(String, long, long)} returns along with
+ * the regular files. Rows updated in place afterwards, like the errata marking of those same rows or the is_approval
+ * fix of the synthetic crypto transfer approval migration, keep the values they were inserted with in the archive, so
+ * such migrations should complete before the affected partitions are dropped.
+ */
+@ConditionOnEntityRecordParser
+@CustomLog
+@Named
+@Order(4)
+public class ArchiveEntityListener
+        implements Closeable, EntityListener, RecordStreamFileListener, TransactionSynchronization {
+
+    private final ArchiveIndex archiveIndex;
+    private final ArchiveProperties archiveProperties;
+    private final ArchiveStore archiveStore;
+    private final ExecutorService executorService;
+    private final Map<String, TableArchiver<?>> tableArchivers;
+    private final TableArchiver<ContractLog> contractLogArchiver;
+    private final TableArchiver<ContractStateChange> contractStateChangeArchiver;
+    private final TableArchiver<CryptoTransfer> cryptoTransferArchiver;
+    private final TableArchiver<Transaction> transactionArchiver;
+
+    private boolean correction;
+    private RecordFile pending;
+    private boolean registered;
+
+    public ArchiveEntityListener(
+            ArchiveIndex archiveIndex,
+            ArchiveProperties archiveProperties,
+            ArchiveStore archiveStore,
+            MeterRegistry meterRegistry) {
+        this.archiveIndex = archiveIndex;
+        this.archiveProperties = archiveProperties;
+        this.archiveStore = archiveStore;
+        this.executorService = new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(archiveProperties.getMaxQueued()),
+                Thread.ofPlatform().name("archive-writer").factory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.tableArchivers = new LinkedHashMap<>();
+        this.contractLogArchiver = add(ArchiveSchema.CONTRACT_LOG, meterRegistry);
+        this.contractStateChangeArchiver = add(ArchiveSchema.CONTRACT_STATE_CHANGE, meterRegistry);
+        this.cryptoTransferArchiver = add(ArchiveSchema.CRYPTO_TRANSFER, meterRegistry);
+        this.transactionArchiver = add(ArchiveSchema.TRANSACTION, meterRegistry);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return archiveProperties.isEnabled();
+    }
+
+    @Override
+    public void onContractLog(ContractLog contractLog) {
+        stage(contractLogArchiver, contractLog, contractLog.getConsensusTimestamp());
+    }
+
+    @Override
+    public void onContractStateChange(ContractStateChange contractStateChange) {
+        stage(contractStateChangeArchiver, contractStateChange, contractStateChange.getConsensusTimestamp());
+    }
+
+    @Override
+    public void onCryptoTransfer(CryptoTransfer cryptoTransfer) throws ImporterException {
+        stage(cryptoTransferArchiver, cryptoTransfer, cryptoTransfer.getConsensusTimestamp());
+    }
+
+    @Override
+    public void onTransaction(Transaction transaction) throws ImporterException {
+        stage(transactionArchiver, transaction, transaction.getConsensusTimestamp());
+    }
+
+    @Override
+    public synchronized void onEnd(RecordFile recordFile) throws ImporterException {
+        // The composite record stream file listener doesn't check if the listener is enabled
+        if (!isEnabled()) {
+            return;
+        }
+
+        // A migration like the errata migration ends the rows it inserted into the past without a record file
+        correction = recordFile == null;
+        pending = recordFile;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            register();
+        } else {
+            afterCompletion(STATUS_COMMITTED);
+        }
+    }
+
+    @Override
+    public synchronized void afterCompletion(int status) {
+        try {
+            if (status == STATUS_COMMITTED && pending != null) {
+                long consensusEnd = pending.getConsensusEnd();
+                long consensusStart = pending.getConsensusStart();
+                tableArchivers.values().forEach(a -> a.commit(consensusStart, consensusEnd));
+            } else if (status == STATUS_COMMITTED && correction) {
+                tableArchivers.values().forEach(TableArchiver::correct);
+            } else {
+                tableArchivers.values().forEach(TableArchiver::discard);
+            }
+        } finally {
+            correction = false;
+            pending = null;
+            registered = false;
+        }
+    }
+
+    /**
+     * Seals the open segments so that the rows committed so far are archived before shutting down.
+     */
+    @Override
+    public synchronized void close() {
+        tableArchivers.values().forEach(TableArchiver::seal);
+        executorService.close();
+    }
+
+    private <T> TableArchiver<T> add(ArchiveSchema<T> schema, MeterRegistry meterRegistry) {
+        var tableArchiver = new TableArchiver<>(schema, meterRegistry);
+        tableArchivers.put(schema.table(), tableArchiver);
+        return tableArchiver;
+    }
+
+    private void register() {
+        if (!registered && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(this);
+            registered = true;
+        }
+    }
+
+    private synchronized <T> void stage(TableArchiver<T> tableArchiver, T item, long consensusTimestamp) {
+        if (tableArchiver.enabled) {
+            tableArchiver.stage(item, consensusTimestamp);
+            register();
+        }
+    }
+
+    private class TableArchiver<T> {
+
+        private final boolean enabled;
+        private final ArchiveSchema<T> schema;
+        private final List<T> staged = new ArrayList<>();
+        private final Counter failureMetric;
+        private final Timer writeMetric;
+
+        private Long consensusEnd;
+        private long segmentStart;
+        private long stagedEnd = Long.MIN_VALUE;
+        private long stagedStart = Long.MAX_VALUE;
+        private ColumnarWriter<T> writer;
+
+        private TableArchiver(ArchiveSchema<T> schema, MeterRegistry meterRegistry) {
+            this.enabled = archiveProperties.getTables().contains(schema.table());
+            this.schema = schema;
+            this.failureMetric = Counter.builder("hedera.mirror.importer.archive.failures")
+                    .description("The number of archive files that couldn't be written after retrying")
+                    .tag("table", schema.table())
+                    .register(meterRegistry);
+            this.writeMetric = Timer.builder("hedera.mirror.importer.archive.write")
+                    .description("The time it took to encode and write an archive file to the store")
+                    .tag("table", schema.table())
+                    .register(meterRegistry);
+        }
+
+        private void stage(T item, long consensusTimestamp) {
+            staged.add(item);
+            stagedEnd = Math.max(stagedEnd, consensusTimestamp);
+            stagedStart = Math.min(stagedStart, consensusTimestamp);
+        }
+
+        private void commit(long batchStart, long batchEnd) {
+            if (!enabled) {
+                return;
+            }
+
+            if (writer == null) {
+                segmentStart = Math.min(batchStart, stagedStart);
+
+                if (consensusEnd != null) {
+                    segmentStart = consensusEnd + 1;
+                } else {
+                    // Rows in the open segment of the previous run that weren't sealed before it stopped are missing
+                    archiveIndex.getConsensusEnd(schema.table()).ifPresent(end -> log.info(
+                            "Resuming {} archive at {} after {}, any rows in between are only in the database",
+                            schema.table(),
+                            segmentStart,
+                            end));
+                }
+
+                writer = new ColumnarWriter<>(schema);
+            }
+
+            staged.forEach(writer::add);
+            discard();
+            consensusEnd = batchEnd;
+
+            long interval = batchEnd - segmentStart;
+            if (writer.getCount() >= archiveProperties.getMaxRows()
+                    || interval >= archiveProperties.getMaxInterval().toNanos()) {
+                seal();
+            }
+        }
+
+        /*
+         * Writes the staged rows to a correction file of their own since their timestamps fall into segments that may
+         * already be archived, leaving the open segment as is.
+         */
+        private void correct() {
+            if (enabled && !staged.isEmpty()) {
+                var correctionWriter = new ColumnarWriter<>(schema);
+                staged.forEach(correctionWriter::add);
+                log.info(
+                        "Archiving {} {} rows inserted outside a record file between {} and {} as a correction",
+                        correctionWriter.getCount(),
+                        schema.table(),
+                        stagedStart,
+                        stagedEnd);
+                submit(correctionWriter, stagedStart, stagedEnd, true);
+            }
+
+            discard();
+        }
+
+        private void discard() {
+            staged.clear();
+            stagedEnd = Long.MIN_VALUE;
+            stagedStart = Long.MAX_VALUE;
+        }
+
+        private void seal() {
+            if (writer == null) {
+                return;
+            }
+
+            var columnarWriter = writer;
+            writer = null;
+            submit(columnarWriter, segmentStart, consensusEnd, false);
+        }
+
+        private void submit(ColumnarWriter<T> columnarWriter, long start, long end, boolean isCorrection) {
+            var archiveFile = ArchiveFile.builder()
+                    .consensusEnd(end)
+                    .consensusStart(start)
+                    .correction(isCorrection)
+                    .count(columnarWriter.getCount())
+                    .name(getName(start, end, isCorrection))
+                    .tableName(schema.table());
+            executorService.execute(() -> write(columnarWriter, archiveFile));
+        }
+
+        private void write(ColumnarWriter<T> columnarWriter, ArchiveFile.ArchiveFileBuilder archiveFile) {
+            try {
+                var bytes = columnarWriter.toBytes();
+                var file = archiveFile.size(bytes.length).build();
+                newRetryTemplate().execute(context -> {
+                    if (context.getRetryCount() > 0) {
+                        log.warn("Retrying archive of {} after {} failed attempts", file, context.getRetryCount());
+                    }
+
+                    writeMetric.record(() -> {
+                        archiveStore.write(file.name(), bytes);
+                        archiveIndex.add(file);
+                    });
+                    return null;
+                });
+                log.info("Archived {}", file);
+            } catch (Exception e) {
+                failureMetric.increment();
+                log.error(
+                        "Error archiving {}, leaving its rows only in the database as a gap in the archive index",
+                        archiveFile.build(),
+                        e);
+            }
+        }
+
+        private RetryTemplate newRetryTemplate() {
+            var retry = archiveProperties.getRetry();
+            return RetryTemplate.builder()
+                    .maxAttempts(retry.getMaxAttempts())
+                    .exponentialBackoff(
+                            retry.getMinBackoff().toMillis(),
+                            retry.getMultiplier(),
+                            retry.getMaxBackoff().toMillis())
+                    .retryOn(Exception.class)
+                    .build();
+        }
+
+        private String getName(long start, long end, boolean isCorrection) {
+            var directory = isCorrection ? schema.table() + "/correction" : schema.table();
+            var name = "%s/%d_%d.gz".formatted(directory, start, end);
+            var prefix = archiveProperties.getPrefix();
+            if (StringUtils.isBlank(prefix)) {
+                return name;
+            }
+
+            return prefix.endsWith("/") ? prefix + name : prefix + "/" + name;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.archive;
+
+import lombok.Builder;
+
+/**
+ * An archived columnar file holding the rows of a table with a consensus timestamp in [consensusStart, consensusEnd]. A
+ * correction file holds rows inserted into that range after its regular files were archived.
+ */
+@Builder
+public record ArchiveFile(
+        long consensusEnd,
+        long consensusStart,
+        boolean correction,
+        long count,
+        String name,
+        long size,
+        String tableName) {}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.archive;
+
+import com.google.common.collect.Range;
+import jakarta.inject.Named;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * Maps a consensus timestamp range of an archived table to the files holding its rows.
+ */
+@Named
+@RequiredArgsConstructor
+public class ArchiveIndex {
+
+    private static final String FIND_SQL =
+            """
+            select * from archive_file
+            where table_name = ? and consensus_start <= ? and consensus_end >= ?
+            order by consensus_start
+            """;
+    private static final String FIND_GAPS_SQL =
+            """
+            select consensus_end + 1 as gap_start, next_start - 1 as gap_end
+            from (
+              select consensus_end, lead(consensus_start) over (order by consensus_start) as next_start
+              from archive_file
+              where table_name = ? and not correction
+            ) as file
+            where next_start > consensus_end + 1
+            order by consensus_end
+            """;
+    private static final String GET_CONSENSUS_END_SQL =
+            "select max(consensus_end) from archive_file where table_name = ? and not correction";
+    private static final String INSERT_SQL =
+            """
+            insert into archive_file (consensus_end, consensus_start, correction, count, name, size, table_name)
+            values (?, ?, ?, ?, ?, ?, ?)
+            on conflict (table_name, consensus_start, correction) do update
+            set consensus_end = excluded.consensus_end, count = excluded.count, name = excluded.name,
+              size = excluded.size
+            """;
+    private static final RowMapper<ArchiveFile> ROW_MAPPER = (rs, rowNum) -> ArchiveFile.builder()
+            .consensusEnd(rs.getLong("consensus_end"))
+            .consensusStart(rs.getLong("consensus_start"))
+            .correction(rs.getBoolean("correction"))
+            .count(rs.getLong("count"))
+            .name(rs.getString("name"))
+            .size(rs.getLong("size"))
+            .tableName(rs.getString("table_name"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void add(ArchiveFile archiveFile) {
+        jdbcTemplate.update(
+                INSERT_SQL,
+                archiveFile.consensusEnd(),
+                archiveFile.consensusStart(),
+                archiveFile.correction(),
+                archiveFile.count(),
+                archiveFile.name(),
+                archiveFile.size(),
+                archiveFile.tableName());
+    }
+
+    /**
+     * Finds the archive files of the table overlapping the inclusive consensus timestamp range, including the
+     * correction files whose rows must be merged with those of the regular files
+     *
+     * @param tableName The name of the archived table
+     * @param from      The inclusive start of the range
+     * @param to        The inclusive end of the range
+     * @return The overlapping archive files ordered by consensus start
+     */
+    public List<ArchiveFile> find(String tableName, long from, long to) {
+        return jdbcTemplate.query(FIND_SQL, ROW_MAPPER, tableName, to, from);
+    }
+
+    /**
+     * Finds the consensus timestamp ranges between the first and the last archive file of the table that no archive
+     * file covers. A gap is left by an archive file that couldn't be written or by the open segment lost when the
+     * importer stopped, so the rows in it are only in the database and must not be dropped from there. Correction files
+     * don't fill gaps since they only hold the rows inserted after the regular files were archived.
+     *
+     * @param tableName The name of the archived table
+     * @return The closed ranges missing from the archive ordered by consensus timestamp
+     */
+    public List<Range<Long>> findGaps(String tableName) {
+        return jdbcTemplate.query(
+                FIND_GAPS_SQL,
+                (rs, rowNum) -> Range.closed(rs.getLong("gap_start"), rs.getLong("gap_end")),
+                tableName);
+    }
+
+    public Optional<Long> getConsensusEnd(String tableName) {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(GET_CONSENSUS_END_SQL, Long.class, tableName));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.archive;
+
+import com.hedera.mirror.importer.downloader.CommonDownloaderProperties.SourceType;
+import com.hedera.mirror.importer.downloader.StreamSourceProperties;
+import com.hedera.mirror.importer.parser.AbstractParserProperties.RetryProperties;
+import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@ConditionOnEntityRecordParser
+@ConfigurationProperties("hedera.mirror.importer.parser.record.entity.archive")
+@Validated
+public class ArchiveProperties {
+
+    /**
+     * The bucket to write the archive files to when the store is a cloud storage
+     */
+    private String bucketName;
+
+    private boolean enabled = false;
+
+    @DurationMin(seconds = 1)
+    @NotNull
+    private Duration maxInterval = Duration.ofMinutes(10);
+
+    /**
+     * The maximum number of sealed archive files waiting to be written, after which the importer writes them itself
+     */
+    @Min(1)
+    private int maxQueued = 2;
+
+    @Min(1)
+    private int maxRows = 1_000_000;
+
+    @NotNull
+    private String prefix = "";
+
+    /**
+     * How to retry writing an archive file. Once the attempts are exhausted, the file's rows are missing from the
+     * archive, which shows as a gap between the consensus ranges in the archive index.
+     */
+    @NotNull
+    @Valid
+    private RetryProperties retry = defaultRetry();
+
+    @NotNull
+    @Valid
+    private StreamSourceProperties store = defaultStore();
+
+    @NotEmpty
+    private Set<String> tables =
+            ArchiveSchema.ALL.stream().map(ArchiveSchema::table).collect(Collectors.toSet());
+
+    @AssertTrue(message = "Tables must be contract_log, contract_state_change, crypto_transfer or transaction")
+    public boolean isValidTables() {
+        return tables.stream().allMatch(t -> ArchiveSchema.ALL.stream().anyMatch(s -> s.table().equals(t)));
+    }
+
+    private static RetryProperties defaultRetry() {
+        var retry = new RetryProperties();
+        retry.setMaxAttempts(10);
+        return retry;
+    }
+
+    private static StreamSourceProperties defaultStore() {
+        var store = new StreamSourceProperties();
+        store.setType(SourceType.LOCAL);
+        return store;
+    }
+}
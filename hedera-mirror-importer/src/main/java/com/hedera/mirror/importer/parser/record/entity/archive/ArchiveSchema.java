@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.archive;
+
+import static com.hedera.mirror.importer.parser.record.entity.archive.ArchiveSchema.ColumnType.BOOLEAN;
+import static com.hedera.mirror.importer.parser.record.entity.archive.ArchiveSchema.ColumnType.BYTES;
+import static com.hedera.mirror.importer.parser.record.entity.archive.ArchiveSchema.ColumnType.INT;
+import static com.hedera.mirror.importer.parser.record.entity.archive.ArchiveSchema.ColumnType.LONG;
+import static com.hedera.mirror.importer.parser.record.entity.archive.ArchiveSchema.ColumnType.STRING;
+
+import com.hedera.mirror.common.converter.ObjectToStringSerializer;
+import com.hedera.mirror.common.domain.contract.ContractLog;
+import com.hedera.mirror.common.domain.contract.ContractStateChange;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
+import com.hedera.mirror.common.domain.transaction.Transaction;
+import java.util.List;
+import java.util.function.Function;
+import lombok.SneakyThrows;
+
+/**
+ * The columns of an archived table and how to get their values from the domain object. The column names and values
+ * match the database table, e.g., entity ids are stored as their encoded long and json columns as json text.
+ *
+ * @param table   The name of the table
+ * @param columns The columns of the table
+ * @param <T>     The domain type of the table
+ */
+public record ArchiveSchema<T>(String table, List<Column<T>> columns) {
+
+    public static final ArchiveSchema<ContractLog> CONTRACT_LOG = new ArchiveSchema<>(
+            "contract_log",
+            List.of(
+                    new Column<>("bloom", BYTES, ContractLog::getBloom),
+                    new Column<>("consensus_timestamp", LONG, ContractLog::getConsensusTimestamp),
+                    new Column<>("contract_id", LONG, c -> toLong(c.getContractId())),
+                    new Column<>("data", BYTES, ContractLog::getData),
+                    new Column<>("index", INT, ContractLog::getIndex),
+                    new Column<>("payer_account_id", LONG, c -> toLong(c.getPayerAccountId())),
+                    new Column<>("root_contract_id", LONG, c -> toLong(c.getRootContractId())),
+                    new Column<>("topic0", BYTES, ContractLog::getTopic0),
+                    new Column<>("topic1", BYTES, ContractLog::getTopic1),
+                    new Column<>("topic2", BYTES, ContractLog::getTopic2),
+                    new Column<>("topic3", BYTES, ContractLog::getTopic3),
+                    new Column<>("transaction_hash", BYTES, ContractLog::getTransactionHash),
+                    new Column<>("transaction_index", INT, ContractLog::getTransactionIndex)));
+
+    public static final ArchiveSchema<ContractStateChange> CONTRACT_STATE_CHANGE = new ArchiveSchema<>(
+            "contract_state_change",
+            List.of(
+                    new Column<>("consensus_timestamp", LONG, ContractStateChange::getConsensusTimestamp),
+                    new Column<>("contract_id", LONG, ContractStateChange::getContractId),
+                    new Column<>("migration", BOOLEAN, ContractStateChange::isMigration),
+                    new Column<>("payer_account_id", LONG, c -> toLong(c.getPayerAccountId())),
+                    new Column<>("slot", BYTES, ContractStateChange::getSlot),
+                    new Column<>("value_read", BYTES, ContractStateChange::getValueRead),
+                    new Column<>("value_written", BYTES, ContractStateChange::getValueWritten)));
+
+    public static final ArchiveSchema<CryptoTransfer> CRYPTO_TRANSFER = new ArchiveSchema<>(
+            "crypto_transfer",
+            List.of(
+                    new Column<>("amount", LONG, CryptoTransfer::getAmount),
+                    new Column<>("consensus_timestamp", LONG, CryptoTransfer::getConsensusTimestamp),
+                    new Column<>("entity_id", LONG, CryptoTransfer::getEntityId),
+                    new Column<>("errata", STRING, c -> c.getErrata() != null ? c.getErrata().name() : null),
+                    new Column<>("is_approval", BOOLEAN, CryptoTransfer::getIsApproval),
+                    new Column<>("payer_account_id", LONG, c -> toLong(c.getPayerAccountId()))));
+
+    public static final ArchiveSchema<Transaction> TRANSACTION = new ArchiveSchema<>(
+            "transaction",
+            List.of(
+                    new Column<>("charged_tx_fee", LONG, Transaction::getChargedTxFee),
+                    new Column<>("consensus_timestamp", LONG, Transaction::getConsensusTimestamp),
+                    new Column<>("entity_id", LONG, t -> toLong(t.getEntityId())),
+                    new Column<>("errata", STRING, t -> t.getErrata() != null ? t.getErrata().name() : null),
+                    new Column<>("index", INT, Transaction::getIndex),
+                    new Column<>("initial_balance", LONG, Transaction::getInitialBalance),
+                    new Column<>("itemized_transfer", STRING, t -> toJson(t.getItemizedTransfer())),
+                    new Column<>("max_fee", LONG, Transaction::getMaxFee),
+                    new Column<>("memo", BYTES, Transaction::getMemo),
+                    new Column<>("nft_transfer", STRING, t -> toJson(t.getNftTransfer())),
+                    new Column<>("node_account_id", LONG, t -> toLong(t.getNodeAccountId())),
+                    new Column<>("nonce", INT, Transaction::getNonce),
+                    new Column<>("parent_consensus_timestamp", LONG, Transaction::getParentConsensusTimestamp),
+                    new Column<>("payer_account_id", LONG, t -> toLong(t.getPayerAccountId())),
+                    new Column<>("result", INT, Transaction::getResult),
+                    new Column<>("scheduled", BOOLEAN, Transaction::isScheduled),
+                    new Column<>("transaction_bytes", BYTES, Transaction::getTransactionBytes),
+                    new Column<>("transaction_hash", BYTES, Transaction::getTransactionHash),
+                    new Column<>("transaction_record_bytes", BYTES, Transaction::getTransactionRecordBytes),
+                    new Column<>("type", INT, Transaction::getType),
+                    new Column<>("valid_duration_seconds", LONG, Transaction::getValidDurationSeconds),
+                    new Column<>("valid_start_ns", LONG, Transaction::getValidStartNs)));
+
+    public static final List<ArchiveSchema<?>> ALL =
+            List.of(CONTRACT_LOG, CONTRACT_STATE_CHANGE, CRYPTO_TRANSFER, TRANSACTION);
+
+    private static Long toLong(EntityId entityId) {
+        return entityId != null ? entityId.getId() : null;
+    }
+
+    @SneakyThrows
+    private static String toJson(Object value) {
+        return value != null ? ObjectToStringSerializer.OBJECT_MAPPER.writeValueAsString(value) : null;
+    }
+
+    public enum ColumnType {
+        BOOLEAN,
+        BYTES,
+        INT,
+        LONG,
+        STRING
+    }
+
+    public record Column<T>(String name, ColumnType type, Function<T, Object> getter) {}
+}
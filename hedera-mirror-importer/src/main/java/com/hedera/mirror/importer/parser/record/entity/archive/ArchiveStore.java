@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.archive;
+
+/**
+ * Stores archive files in a local directory or a cloud storage bucket.
+ */
+public interface ArchiveStore {
+
+    /**
+     * Writes the archive file, replacing any existing file with the same name. The file must be fully written or not
+     * at all when the method returns, so a reader never sees a partial file.
+     *
+     * @param name  The relative name of the file
+     * @param bytes The content of the file
+     */
+    void write(String name, byte[] bytes);
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.archive;
+
+import com.google.protobuf.CodedInputStream;
+import com.hedera.mirror.importer.exception.InvalidStreamFileException;
+import com.hedera.mirror.importer.parser.record.entity.archive.ArchiveSchema.ColumnType;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Reads a columnar file written by {@link ColumnarWriter}.
+ */
+@UtilityClass
+public class ColumnarReader {
+
+    public static ColumnarTable read(InputStream inputStream) {
+        try (var gzip = new GZIPInputStream(inputStream)) {
+            var input = CodedInputStream.newInstance(gzip);
+            input.setSizeLimit(Integer.MAX_VALUE);
+            int magic = input.readFixed32();
+            int version = input.readUInt32();
+
+            if (magic != ColumnarWriter.MAGIC || version != ColumnarWriter.VERSION) {
+                throw new InvalidStreamFileException(
+                        String.format("Unsupported archive file with magic %x and version %d", magic, version));
+            }
+
+            var table = input.readString();
+            int count = input.readUInt32();
+            int columnCount = input.readUInt32();
+            var columns = LinkedHashMap.<String, List<Object>>newLinkedHashMap(columnCount);
+
+            for (int i = 0; i < columnCount; i++) {
+                var name = input.readString();
+                var type = ColumnType.values()[input.readEnum()];
+                var nulls = BitSet.valueOf(input.readByteArray());
+                int size = input.readUInt32();
+                int limit = input.pushLimit(size);
+                var values = new ArrayList<>(count);
+                long previous = 0L;
+
+                for (int row = 0; row < count; row++) {
+                    if (nulls.get(row)) {
+                        values.add(null);
+                        continue;
+                    }
+
+                    switch (type) {
+                        case BOOLEAN -> values.add(input.readBool());
+                        case BYTES -> values.add(input.readByteArray());
+                        case INT -> values.add(input.readSInt32());
+                        case LONG -> {
+                            previous += input.readSInt64();
+                            values.add(previous);
+                        }
+                        case STRING -> values.add(new String(input.readByteArray(), StandardCharsets.UTF_8));
+                    }
+                }
+
+                input.popLimit(limit);
+                columns.put(name, Collections.unmodifiableList(values));
+            }
+
+            return new ColumnarTable(table, count, Collections.unmodifiableMap(columns));
+        } catch (IOException e) {
+            throw new InvalidStreamFileException("Error reading archive file", e);
+        }
+    }
+
+    /**
+     * The rows of an archived table stored by column name, in the order they were written.
+     */
+    public record ColumnarTable(String table, int count, Map<String, List<Object>> columns) {}
+}
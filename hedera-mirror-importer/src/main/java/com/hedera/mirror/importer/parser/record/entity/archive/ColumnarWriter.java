@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.archive;
+
+import com.google.protobuf.CodedOutputStream;
+import com.hedera.mirror.importer.exception.ParserException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import lombok.Getter;
+
+/**
+ * Buffers rows of a table column by column and writes them as a gzip compressed columnar file. Each column is stored
+ * as a null bitmap followed by its non-null values, with longs delta encoded as zigzag varints since most of the
+ * archived columns are timestamps or entity ids that are close to the previous row.
+ *
+ * @param <T> The domain type of the table
+ */
+public class ColumnarWriter<T> {
+
+    static final int MAGIC = 0x4d41524e; // MARN
+    static final int VERSION = 1;
+
+    private final List<ColumnBuffer<T>> buffers;
+
+    @Getter
+    private final ArchiveSchema<T> schema;
+
+    @Getter
+    private int count;
+
+    public ColumnarWriter(ArchiveSchema<T> schema) {
+        this.schema = schema;
+        this.buffers = new ArrayList<>(schema.columns().size());
+        schema.columns().forEach(c -> buffers.add(new ColumnBuffer<>(c)));
+    }
+
+    public void add(T item) {
+        try {
+            for (var buffer : buffers) {
+                buffer.add(count, item);
+            }
+            count++;
+        } catch (IOException e) {
+            throw new ParserException("Error archiving " + schema.table(), e);
+        }
+    }
+
+    public byte[] toBytes() {
+        var bytes = new ByteArrayOutputStream();
+        write(bytes);
+        return bytes.toByteArray();
+    }
+
+    public void write(OutputStream outputStream) {
+        try (var gzip = new GZIPOutputStream(outputStream)) {
+            var output = CodedOutputStream.newInstance(gzip);
+            output.writeFixed32NoTag(MAGIC);
+            output.writeUInt32NoTag(VERSION);
+            output.writeStringNoTag(schema.table());
+            output.writeUInt32NoTag(count);
+            output.writeUInt32NoTag(buffers.size());
+
+            for (var buffer : buffers) {
+                buffer.output.flush();
+                output.writeStringNoTag(buffer.column.name());
+                output.writeEnumNoTag(buffer.column.type().ordinal());
+                output.writeByteArrayNoTag(buffer.nulls.toByteArray());
+                output.writeUInt32NoTag(buffer.values.size());
+                output.flush();
+                buffer.values.writeTo(gzip);
+            }
+
+            output.flush();
+        } catch (IOException e) {
+            throw new ParserException("Error writing archive of " + schema.table(), e);
+        }
+    }
+
+    private static class ColumnBuffer<T> {
+
+        private final ArchiveSchema.Column<T> column;
+        private final BitSet nulls = new BitSet();
+        private final CodedOutputStream output;
+        private final ByteArrayOutputStream values = new ByteArrayOutputStream();
+        private long previous;
+
+        private ColumnBuffer(ArchiveSchema.Column<T> column) {
+            this.column = column;
+            this.output = CodedOutputStream.newInstance(values);
+        }
+
+        private void add(int row, T item) throws IOException {
+            var value = column.getter().apply(item);
+            if (value == null) {
+                nulls.set(row);
+                return;
+            }
+
+            switch (column.type()) {
+                case BOOLEAN -> output.writeBoolNoTag((Boolean) value);
+                case BYTES -> output.writeByteArrayNoTag((byte[]) value);
+                case INT -> output.writeSInt32NoTag((Integer) value);
+                case LONG -> {
+                    long current = (Long) value;
+                    output.writeSInt64NoTag(current - previous);
+                    previous = current;
+                }
+                case STRING -> output.writeByteArrayNoTag(((String) value).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.archive;
+
+import lombok.RequiredArgsConstructor;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+@RequiredArgsConstructor
+public class S3ArchiveStore implements ArchiveStore {
+
+    private final String bucketName;
+    private final S3AsyncClient s3Client;
+
+    @Override
+    public void write(String name, byte[] bytes) {
+        var request = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(name)
+                .contentLength((long) bytes.length)
+                .build();
+        s3Client.putObject(request, AsyncRequestBody.fromBytes(bytes)).join();
+    }
+}
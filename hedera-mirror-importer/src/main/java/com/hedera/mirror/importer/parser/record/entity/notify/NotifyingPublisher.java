@@ -19,6 +19,8 @@ package com.hedera.mirror.importer.parser.record.entity.notify;
 import static com.hedera.mirror.common.converter.ObjectToStringSerializer.OBJECT_MAPPER;
 
 import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.entity.EntityNotification;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.importer.parser.record.entity.BatchPublisher;
@@ -29,6 +31,7 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
 import java.util.Collection;
+import java.util.function.Function;
 import lombok.CustomLog;
 import org.springframework.core.annotation.Order;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -40,12 +43,14 @@ import org.springframework.jdbc.core.PreparedStatementCallback;
 @Order(1)
 public class NotifyingPublisher implements BatchPublisher {
 
+    private static final String ENTITY_SQL = "select pg_notify('" + EntityNotification.CHANNEL + "', ?)";
     private static final String SQL = "select pg_notify('topic_message', ?)";
 
     private final NotifyProperties notifyProperties;
     private final JdbcTemplate jdbcTemplate;
     private final ParserContext parserContext;
     private final Timer timer;
+    private final Timer entityTimer;
 
     NotifyingPublisher(
             NotifyProperties notifyProperties,
@@ -56,6 +61,10 @@ public class NotifyingPublisher implements BatchPublisher {
         this.jdbcTemplate = jdbcTemplate;
         this.parserContext = parserContext;
         this.timer = PUBLISH_TIMER.tag("type", "notify").register(meterRegistry);
+        this.entityTimer = Timer.builder("hedera.mirror.importer.publish.entity.duration")
+                .description("The amount of time it took to notify entity alias, EVM address and deletion changes")
+                .tag("type", "notify")
+                .register(meterRegistry);
     }
 
     @Override
@@ -64,20 +73,41 @@ public class NotifyingPublisher implements BatchPublisher {
             return;
         }
 
+        notifyTopicMessages();
+
+        if (notifyProperties.isEntities()) {
+            notifyEntities();
+        }
+    }
+
+    private void notifyTopicMessages() {
         var topicMessages = parserContext.get(TopicMessage.class);
         if (topicMessages.isEmpty()) {
             return;
         }
 
         var stopwatch = Stopwatch.createStarted();
-        timer.record(() -> jdbcTemplate.execute(SQL, callback(topicMessages)));
+        timer.record(() -> jdbcTemplate.execute(SQL, callback(topicMessages, this::toJson)));
         log.info("Finished notifying {} messages in {}", topicMessages.size(), stopwatch);
     }
 
-    private PreparedStatementCallback<int[]> callback(Collection<TopicMessage> topicMessages) {
+    private void notifyEntities() {
+        var entities = parserContext.get(Entity.class).stream()
+                .filter(EntityNotification::isRelevant)
+                .toList();
+        if (entities.isEmpty()) {
+            return;
+        }
+
+        var stopwatch = Stopwatch.createStarted();
+        entityTimer.record(() -> jdbcTemplate.execute(ENTITY_SQL, callback(entities, this::toJson)));
+        log.info("Finished notifying {} entities in {}", entities.size(), stopwatch);
+    }
+
+    private <T> PreparedStatementCallback<int[]> callback(Collection<T> items, Function<T, String> serializer) {
         return preparedStatement -> {
-            for (TopicMessage topicMessage : topicMessages) {
-                String json = toJson(topicMessage);
+            for (T item : items) {
+                String json = serializer.apply(item);
                 if (json != null) {
                     preparedStatement.setString(1, json);
                     preparedStatement.addBatch();
@@ -87,6 +117,15 @@ public class NotifyingPublisher implements BatchPublisher {
         };
     }
 
+    private String toJson(Entity entity) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(EntityNotification.of(entity));
+        } catch (Exception e) {
+            Utility.handleRecoverableError("Error serializing entity notification to json", entity.getId(), e);
+            return null;
+        }
+    }
+
     private String toJson(TopicMessage topicMessage) {
         try {
             String json = OBJECT_MAPPER.writeValueAsString(topicMessage);
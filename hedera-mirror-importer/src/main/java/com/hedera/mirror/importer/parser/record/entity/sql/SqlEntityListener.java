@@ -64,6 +64,8 @@ import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordPa
 import com.hedera.mirror.importer.parser.record.entity.EntityListener;
 import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
 import com.hedera.mirror.importer.parser.record.entity.ParserContext;
+import com.hedera.mirror.importer.parser.record.entity.staking.StakeLedger;
+import com.hedera.mirror.importer.parser.record.historicalbalance.BalanceLedger;
 import com.hedera.mirror.importer.repository.NftRepository;
 import com.hedera.mirror.importer.util.Utility;
 import jakarta.inject.Named;
@@ -85,12 +87,14 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
 
     private static final List<Class<?>> NFT_FLUSH = List.of(Token.class, TokenAccount.class, Nft.class);
 
+    private final BalanceLedger balanceLedger;
     private final BatchPersister batchPersister;
     private final ParserContext context;
     private final EntityIdService entityIdService;
     private final EntityProperties entityProperties;
     private final NftRepository nftRepository;
     private final SqlProperties sqlProperties;
+    private final StakeLedger stakeLedger;
 
     @Override
     public boolean isEnabled() {
@@ -100,6 +104,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     @Override
     public void onEnd(RecordFile recordFile) {
         flush();
+        stakeLedger.onRecordFile(recordFile);
     }
 
     @Override
@@ -168,6 +173,9 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
             entity.setBalance(cryptoTransfer.getAmount());
             entity.setBalanceTimestamp(cryptoTransfer.getConsensusTimestamp());
             onEntity(entity);
+        } else {
+            // The stake ledger still needs the balance change since the stake start state is derived from the transfers
+            stakeLedger.onEntity(cryptoTransfer.getEntityId(), cryptoTransfer.getConsensusTimestamp(), null);
         }
 
         context.add(cryptoTransfer);
@@ -193,6 +201,12 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
 
         context.merge(id, entity, this::mergeEntity);
         entityIdService.notify(entity);
+
+        if (entity.getBalanceTimestamp() != null) {
+            balanceLedger.onAccount(id, entity.getBalanceTimestamp());
+        }
+
+        stakeLedger.onEntity(id, entity.getBalanceTimestamp(), entity.getTimestampLower());
     }
 
     @Override
@@ -294,6 +308,11 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     @Override
     public void onTokenAccount(TokenAccount tokenAccount) throws ImporterException {
         context.merge(tokenAccount.getId(), tokenAccount, this::mergeTokenAccount);
+
+        if (tokenAccount.getBalanceTimestamp() != null) {
+            balanceLedger.onTokenAccount(
+                    tokenAccount.getAccountId(), tokenAccount.getTokenId(), tokenAccount.getBalanceTimestamp());
+        }
     }
 
     @Override
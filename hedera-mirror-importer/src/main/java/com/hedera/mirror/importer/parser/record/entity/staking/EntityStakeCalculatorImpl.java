@@ -33,6 +33,7 @@ public class EntityStakeCalculatorImpl implements EntityStakeCalculator {
     private final EntityProperties entityProperties;
     private final EntityStakeRepository entityStakeRepository;
     private final AtomicBoolean running = new AtomicBoolean(false);
+    private final StakeLedger stakeLedger;
     private final TransactionOperations transactionOperations;
 
     @Override
@@ -56,17 +57,22 @@ public class EntityStakeCalculatorImpl implements EntityStakeCalculator {
                 var stopwatch = Stopwatch.createStarted();
                 var lastEndStakePeriod =
                         entityStakeRepository.getEndStakePeriod().orElse(0L);
-                transactionOperations.executeWithoutResult(s -> {
+                long epoch = stakeLedger.getEpoch();
+                var stateStart = transactionOperations.execute(s -> {
                     entityStakeRepository.lockFromConcurrentUpdates();
-                    entityStakeRepository.createEntityStateStart();
-                    log.info("Created entity_state_start in {}", stopwatch);
+                    var result = createEntityStateStart(stopwatch);
                     entityStakeRepository.updateEntityStake();
+                    return result;
                 });
 
                 var endStakePeriod = entityStakeRepository.getEndStakePeriod();
                 if (endStakePeriod
                         .filter(stakePeriod -> stakePeriod > lastEndStakePeriod)
                         .isPresent()) {
+                    if (stateStart != null) {
+                        stakeLedger.prune(stateStart.endPeriodTimestamp(), epoch, stateStart.full());
+                    }
+
                     log.info(
                             "Completed pending reward calculation of end stake period {} in {}",
                             endStakePeriod.get(),
@@ -87,4 +93,35 @@ public class EntityStakeCalculatorImpl implements EntityStakeCalculator {
             running.set(false);
         }
     }
+
+    /**
+     * Creates the entity stake start state. If the stake ledger is complete, only the state of the entities changed
+     * since the last staking period is recalculated and the rest is carried forward, otherwise it's fully rebuilt.
+     *
+     * @param stopwatch The stopwatch of the calculation
+     * @return the end period timestamp and whether the state was fully rebuilt, or null if the ledger is disabled or
+     * there's no staking period to calculate
+     */
+    private StateStart createEntityStateStart(Stopwatch stopwatch) {
+        if (!stakeLedger.isEnabled()) {
+            entityStakeRepository.createEntityStateStart();
+            log.info("Created entity_state_start in {}", stopwatch);
+            return null;
+        }
+
+        var endPeriodTimestamp = entityStakeRepository.getEndPeriodTimestamp();
+        var changes = stakeLedger.getChanges();
+        if (endPeriodTimestamp.isPresent()
+                && changes != null
+                && entityStakeRepository.updateEntityStateStart(changes)) {
+            log.info("Updated entity_state_start of {} changed entities in {}", changes.length, stopwatch);
+            return new StateStart(endPeriodTimestamp.get(), false);
+        }
+
+        entityStakeRepository.createEntityStateStart();
+        log.info("Created entity_state_start in {}", stopwatch);
+        return endPeriodTimestamp.map(timestamp -> new StateStart(timestamp, true)).orElse(null);
+    }
+
+    private record StateStart(long endPeriodTimestamp, boolean full) {}
 }
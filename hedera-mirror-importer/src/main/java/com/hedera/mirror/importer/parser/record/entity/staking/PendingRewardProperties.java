@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.staking;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@ConfigurationProperties("hedera.mirror.importer.parser.record.pending-reward")
+@Validated
+public class PendingRewardProperties {
+
+    /**
+     * Whether to track the entities with stake or balance changes during ingest so that the entity stake start state is
+     * only recalculated for the changed entities instead of rebuilt for every entity
+     */
+    private boolean incremental = false;
+
+    /**
+     * The max number of changed entities to track before falling back to a full rebuild of the entity stake start state
+     */
+    @Min(1)
+    private int maxSize = 1_000_000;
+}
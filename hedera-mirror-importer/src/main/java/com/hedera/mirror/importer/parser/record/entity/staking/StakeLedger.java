@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.staking;
+
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.util.TimestampTable;
+import jakarta.inject.Named;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * An in-memory ledger of the entities whose staking fields or balance changed since the end of the last staking period
+ * the entity stake start state was calculated for. Only the entity ids and the latest change timestamp are tracked.
+ * <p>
+ * The ledger only becomes complete after the entity stake start state has been fully rebuilt from the database with
+ * every record file since the end of that staking period observed, since changes parsed before the importer started or
+ * by another importer are unknown to it. A gap in the record file index or growing beyond the configured max size
+ * clears the ledger and marks it incomplete until the next full rebuild.
+ */
+@CustomLog
+@Named
+@RequiredArgsConstructor
+public class StakeLedger {
+
+    private static final long UNTRACKED = Long.MAX_VALUE;
+
+    private final PendingRewardProperties properties;
+
+    private final TimestampTable entities = new TimestampTable();
+
+    private boolean complete;
+    private long epoch;
+    private long lastIndex = -1;
+    private boolean reset;
+    private long trackedSince = UNTRACKED;
+
+    public boolean isEnabled() {
+        return properties.isIncremental();
+    }
+
+    public void onEntity(long id, Long balanceTimestamp, Long timestampLower) {
+        if (!isEnabled() || (balanceTimestamp == null && timestampLower == null)) {
+            return;
+        }
+
+        long timestamp = Math.max(
+                balanceTimestamp != null ? balanceTimestamp : 0L, timestampLower != null ? timestampLower : 0L);
+        add(id, timestamp);
+    }
+
+    /**
+     * Marks the end of a record file. All changes of a record file are tracked once the ledger has seen the end of the
+     * previous record file and has not been reset since.
+     *
+     * @param recordFile The record file just parsed
+     */
+    public synchronized void onRecordFile(RecordFile recordFile) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        long index = recordFile.getIndex() != null ? recordFile.getIndex() : -1L;
+        if (lastIndex < 0 || index != lastIndex + 1) {
+            clear();
+        } else if (!reset && trackedSince == UNTRACKED) {
+            trackedSince = recordFile.getConsensusStart();
+        }
+
+        lastIndex = index;
+        reset = false;
+    }
+
+    /**
+     * Gets the ids of the entities changed since the end of the last calculated staking period, or null if the ledger
+     * is incomplete. Entities whose latest change happened after the end of the staking period being calculated are
+     * included as well since an earlier change may be in the period. This at most results in a redundant recalculation.
+     *
+     * @return the changed entity ids
+     */
+    synchronized long[] getChanges() {
+        if (!complete || !isEnabled()) {
+            return null;
+        }
+
+        return entities.keys(0);
+    }
+
+    synchronized long getEpoch() {
+        return epoch;
+    }
+
+    synchronized int size() {
+        return entities.size();
+    }
+
+    /**
+     * Removes the entities whose latest change is covered by the entity stake start state at the end period timestamp.
+     * After a full rebuild, the ledger becomes complete if it has tracked every change since the end period timestamp.
+     * After an incremental update, it stays complete if it has not been reset since the update started.
+     *
+     * @param endPeriodTimestamp The consensus timestamp of the NodeStakeUpdate transaction ending the staking period
+     * @param startEpoch         The epoch of the ledger when the calculation started
+     * @param full               Whether the entity stake start state was fully rebuilt
+     */
+    synchronized void prune(long endPeriodTimestamp, long startEpoch, boolean full) {
+        entities.prune(endPeriodTimestamp);
+        boolean tracked = startEpoch == epoch && (!full || trackedSince <= endPeriodTimestamp);
+        complete = isEnabled() && tracked && (full || complete);
+    }
+
+    private synchronized void add(long id, long timestamp) {
+        entities.put(id, 0L, timestamp);
+
+        int maxSize = properties.getMaxSize();
+        if (entities.size() > maxSize) {
+            clear();
+            log.warn("Stake ledger exceeded max size {}, falling back to full entity stake start state", maxSize);
+        }
+    }
+
+    private void clear() {
+        entities.clear();
+        complete = false;
+        epoch++;
+        reset = true;
+        trackedSince = UNTRACKED;
+    }
+}
@@ -16,10 +16,8 @@
 
 package com.hedera.mirror.importer.parser.record.entity.topic;
 
-import com.hedera.mirror.common.domain.StreamType;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.common.domain.topic.TopicMessageLookup;
-import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.db.TimePartitionService;
 import com.hedera.mirror.importer.exception.ImporterException;
 import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
@@ -27,7 +25,6 @@ import com.hedera.mirror.importer.parser.record.entity.EntityListener;
 import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
 import com.hedera.mirror.importer.parser.record.entity.ParserContext;
 import jakarta.inject.Named;
-import java.time.Instant;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.annotation.Order;
 
@@ -37,8 +34,6 @@ import org.springframework.core.annotation.Order;
 @RequiredArgsConstructor
 public class TopicMessageLookupEntityListener implements EntityListener {
 
-    private static final long FILE_CLOSE_INTERVAL_SECS =
-            StreamType.RECORD.getFileCloseInterval().toSeconds();
     private static final String TOPIC_MESSAGE_TABLE_NAME = "topic_message";
 
     private final EntityProperties entityProperties;
@@ -58,21 +53,11 @@ public class TopicMessageLookupEntityListener implements EntityListener {
 
     @Override
     public void onTopicMessage(TopicMessage topicMessage) throws ImporterException {
-        // round down the seconds part of the consensus timestamp to achieve better cache hit rate
-        long seconds =
-                Instant.ofEpochSecond(0, topicMessage.getConsensusTimestamp()).getEpochSecond();
-        long fromSeconds = seconds - (seconds % FILE_CLOSE_INTERVAL_SECS);
-        long fromTimestamp = DomainUtils.convertToNanosMax(fromSeconds, 0L);
-        long toTimestamp = DomainUtils.convertToNanosMax(fromSeconds + FILE_CLOSE_INTERVAL_SECS, 0L);
-        var partitions =
-                timePartitionService.getOverlappingTimePartitions(TOPIC_MESSAGE_TABLE_NAME, fromTimestamp, toTimestamp);
-
-        for (var partition : partitions) {
-            if (partition.getTimestampRange().contains(topicMessage.getConsensusTimestamp())) {
-                var topicMessageLookup = TopicMessageLookup.from(partition.getName(), topicMessage);
-                parserContext.merge(topicMessageLookup.getId(), topicMessageLookup, this::mergeTopicMessageLookup);
-                break;
-            }
+        var partition =
+                timePartitionService.getTimePartition(TOPIC_MESSAGE_TABLE_NAME, topicMessage.getConsensusTimestamp());
+        if (partition != null) {
+            var topicMessageLookup = TopicMessageLookup.from(partition.getName(), topicMessage);
+            parserContext.merge(topicMessageLookup.getId(), topicMessageLookup, this::mergeTopicMessageLookup);
         }
     }
 
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.historicalbalance;
+
+import com.hedera.mirror.importer.util.TimestampTable;
+import jakarta.inject.Named;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * An in-memory ledger of the accounts and token accounts whose balance changed since the last historical balance
+ * snapshot. Only the keys and the latest balance timestamp are tracked, in open addressing primitive long tables, since
+ * the parser persists balance changes as deltas and the current balance is only known to the database.
+ * <p>
+ * The ledger only becomes complete after a snapshot sourced from the database has been written, since changes parsed
+ * before the importer started are unknown to it. If it grows beyond the configured max size, it's cleared and marked
+ * incomplete until the next snapshot from the database.
+ */
+@CustomLog
+@Named
+@RequiredArgsConstructor
+public class BalanceLedger {
+
+    private final HistoricalBalanceProperties properties;
+
+    private final TimestampTable accounts = new TimestampTable();
+    private final TimestampTable tokenAccounts = new TimestampTable();
+
+    private boolean complete;
+    private long epoch;
+
+    public boolean isEnabled() {
+        return properties.isEnabled() && properties.getLedger().isEnabled();
+    }
+
+    public void onAccount(long accountId, long balanceTimestamp) {
+        if (isEnabled()) {
+            add(accounts, accountId, 0L, balanceTimestamp);
+        }
+    }
+
+    public void onTokenAccount(long accountId, long tokenId, long balanceTimestamp) {
+        if (isEnabled() && properties.isTokenBalances()) {
+            add(tokenAccounts, accountId, tokenId, balanceTimestamp);
+        }
+    }
+
+    /**
+     * Gets the keys of the balances changed since the last snapshot, or null if the ledger is incomplete. Keys whose
+     * latest change happened after the snapshot timestamp are included as well since an earlier change may be
+     * covered by the snapshot. This at most results in a redundant balance row.
+     *
+     * @return the changed keys
+     */
+    synchronized Changes getChanges() {
+        if (!complete || !isEnabled()) {
+            return null;
+        }
+
+        return new Changes(accounts.keys(0), tokenAccounts.keys(0), tokenAccounts.keys(1), epoch);
+    }
+
+    synchronized long getEpoch() {
+        return epoch;
+    }
+
+    synchronized int size() {
+        return accounts.size() + tokenAccounts.size();
+    }
+
+    /**
+     * Removes the keys whose latest change is covered by the snapshot at the timestamp. The ledger becomes complete if
+     * it has not overflowed since the snapshot started.
+     *
+     * @param timestamp  The consensus timestamp of the snapshot
+     * @param startEpoch The epoch of the ledger when the snapshot started
+     */
+    synchronized void prune(long timestamp, long startEpoch) {
+        accounts.prune(timestamp);
+        tokenAccounts.prune(timestamp);
+        complete = isEnabled() && startEpoch == epoch;
+    }
+
+    private synchronized void add(TimestampTable table, long key0, long key1, long balanceTimestamp) {
+        table.put(key0, key1, balanceTimestamp);
+
+        int maxSize = properties.getLedger().getMaxSize();
+        if (accounts.size() + tokenAccounts.size() > maxSize) {
+            accounts.clear();
+            tokenAccounts.clear();
+            complete = false;
+            epoch++;
+            log.warn("Balance ledger exceeded max size {}, falling back to database snapshot", maxSize);
+        }
+    }
+
+    record Changes(long[] accountIds, long[] tokenAccountIds, long[] tokenIds, long epoch) {}
+}
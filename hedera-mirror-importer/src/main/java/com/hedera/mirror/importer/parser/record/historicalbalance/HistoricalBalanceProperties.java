@@ -18,6 +18,8 @@ package com.hedera.mirror.importer.parser.record.historicalbalance;
 
 import com.hedera.mirror.importer.downloader.balance.BalanceDownloaderProperties;
 import jakarta.annotation.PostConstruct;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
@@ -45,6 +47,10 @@ public class HistoricalBalanceProperties {
     @NotNull
     private Duration initialDelay = Duration.ofMinutes(2);
 
+    @NotNull
+    @Valid
+    private LedgerProperties ledger = new LedgerProperties();
+
     /**
      * The minimum frequency between balance snapshots. The max value is 7 days, acts as the maximum interval between
      * two consecutive balance snapshots, so queries which use, e.g., 30 days timestamp range as an optimization will
@@ -63,6 +69,22 @@ public class HistoricalBalanceProperties {
     @NotNull
     private Duration transactionTimeout = Duration.ofMinutes(5);
 
+    @Data
+    public static class LedgerProperties {
+
+        /**
+         * Whether to track the balances changed since the last snapshot in memory so deduplicated snapshots only read
+         * the changed rows instead of scanning the entity and token_account tables
+         */
+        private boolean enabled = false;
+
+        /**
+         * The max number of changed accounts and token accounts to track before falling back to a database snapshot
+         */
+        @Min(1)
+        private int maxSize = 2_000_000;
+    }
+
     @PostConstruct
     void init() {
         if (balanceDownloaderProperties.isEnabled() && isEnabled()) {
@@ -18,14 +18,15 @@ package com.hedera.mirror.importer.parser.record.historicalbalance;
 
 import static com.hedera.mirror.common.domain.balance.AccountBalanceFile.INVALID_NODE_ID;
 import static com.hedera.mirror.importer.parser.AbstractStreamFileParser.STREAM_PARSE_DURATION_METRIC_NAME;
+import static org.apache.commons.lang3.ArrayUtils.toObject;
 
 import com.google.common.base.Stopwatch;
 import com.hedera.mirror.common.domain.StreamType;
 import com.hedera.mirror.common.domain.balance.AccountBalanceFile;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.importer.db.TimePartitionService;
-import com.hedera.mirror.importer.domain.StreamFilename;
 import com.hedera.mirror.importer.domain.StreamFilename.FileType;
+import com.hedera.mirror.importer.domain.StreamFilename;
 import com.hedera.mirror.importer.exception.InvalidDatasetException;
 import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.parser.record.RecordFileParsedEvent;
@@ -42,6 +43,7 @@ import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.CustomLog;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
@@ -57,9 +59,27 @@ import org.springframework.transaction.support.TransactionTemplate;
 public class HistoricalBalanceService {
 
     private static final String ACCOUNT_BALANCE_TABLE_NAME = "account_balance";
+    private static final String INSERT_ACCOUNT_BALANCE_SQL =
+            """
+            insert into account_balance (account_id, balance, consensus_timestamp)
+            select id, balance, ?
+            from entity
+            where id = 2 or (id = any(?) and balance is not null)
+            order by id
+            """;
+    private static final String INSERT_TOKEN_BALANCE_SQL =
+            """
+            insert into token_balance (account_id, balance, consensus_timestamp, token_id)
+            select ta.account_id, ta.balance, ?, ta.token_id
+            from unnest(?::bigint[], ?::bigint[]) as changed (account_id, token_id)
+            join token_account ta on ta.account_id = changed.account_id and ta.token_id = changed.token_id
+            order by ta.account_id, ta.token_id
+            """;
 
     private final AccountBalanceFileRepository accountBalanceFileRepository;
     private final AccountBalanceRepository accountBalanceRepository;
+    private final BalanceLedger balanceLedger;
+    private final JdbcTemplate jdbcTemplate;
     private final HistoricalBalanceProperties properties;
     private final RecordFileRepository recordFileRepository;
     private final AtomicBoolean running = new AtomicBoolean(false);
@@ -75,6 +95,8 @@ public class HistoricalBalanceService {
     public HistoricalBalanceService(
             AccountBalanceFileRepository accountBalanceFileRepository,
             AccountBalanceRepository accountBalanceRepository,
+            BalanceLedger balanceLedger,
+            JdbcTemplate jdbcTemplate,
             MeterRegistry meterRegistry,
             PlatformTransactionManager platformTransactionManager,
             HistoricalBalanceProperties properties,
@@ -83,6 +105,8 @@ public class HistoricalBalanceService {
             TokenBalanceRepository tokenBalanceRepository) {
         this.accountBalanceFileRepository = accountBalanceFileRepository;
         this.accountBalanceRepository = accountBalanceRepository;
+        this.balanceLedger = balanceLedger;
+        this.jdbcTemplate = jdbcTemplate;
         this.properties = properties;
         this.recordFileRepository = recordFileRepository;
         this.timePartitionService = timePartitionService;
@@ -123,7 +147,8 @@ public class HistoricalBalanceService {
             }
 
             log.info("Generating historical balances after processing record file with consensusEnd {}", consensusEnd);
-            transactionTemplate.executeWithoutResult(t -> {
+            long epoch = balanceLedger.getEpoch();
+            var snapshotTimestamp = transactionTemplate.execute(t -> {
                 long loadStart = System.currentTimeMillis();
                 long timestamp = recordFileRepository
                         .findLatest()
@@ -133,9 +158,14 @@ public class HistoricalBalanceService {
 
                 var maxConsensusTimestamp = getMaxConsensusTimestamp(timestamp);
                 boolean full = maxConsensusTimestamp.isEmpty();
+                var changes = full ? null : balanceLedger.getChanges();
                 int accountBalancesCount;
                 int tokenBalancesCount;
-                if (full) {
+                if (changes != null) {
+                    // get a snapshot of only the balances changed since the last snapshot
+                    accountBalancesCount = insertAccountBalances(changes, timestamp);
+                    tokenBalancesCount = properties.isTokenBalances() ? insertTokenBalances(changes, timestamp) : 0;
+                } else if (full) {
                     // get a full snapshot
                     accountBalancesCount = accountBalanceRepository.balanceSnapshot(timestamp);
                     tokenBalancesCount =
@@ -165,13 +195,18 @@ public class HistoricalBalanceService {
 
                 log.info(
                         "Generated {} historical account balance file {} with {} account balances and {} token balances in {}",
-                        full ? "full" : "deduped",
+                        getSnapshotType(full, changes),
                         filename,
                         accountBalancesCount,
                         tokenBalancesCount,
                         stopwatch);
+                return timestamp;
             });
 
+            if (snapshotTimestamp != null) {
+                balanceLedger.prune(snapshotTimestamp, epoch);
+            }
+
             timer = generateDurationMetricSuccess;
         } catch (Exception e) {
             log.error("Failed to generate historical balances in {}", stopwatch, e);
@@ -186,18 +221,41 @@ public class HistoricalBalanceService {
     }
 
     private Optional<Long> getMaxConsensusTimestamp(long timestamp) {
-        var partitions =
-                timePartitionService.getOverlappingTimePartitions(ACCOUNT_BALANCE_TABLE_NAME, timestamp, timestamp);
-        if (partitions.isEmpty()) {
+        var partition = timePartitionService.getTimePartition(ACCOUNT_BALANCE_TABLE_NAME, timestamp);
+        if (partition == null) {
             throw new InvalidDatasetException(
                     String.format("No account_balance partition found for timestamp %s", timestamp));
         }
 
-        var partitionRange = partitions.get(0).getTimestampRange();
+        var partitionRange = partition.getTimestampRange();
         return accountBalanceRepository.getMaxConsensusTimestampInRange(
                 partitionRange.lowerEndpoint(), partitionRange.upperEndpoint());
     }
 
+    private int insertAccountBalances(BalanceLedger.Changes changes, long timestamp) {
+        return jdbcTemplate.update(INSERT_ACCOUNT_BALANCE_SQL, ps -> {
+            ps.setLong(1, timestamp);
+            ps.setArray(2, ps.getConnection().createArrayOf("BIGINT", toObject(changes.accountIds())));
+        });
+    }
+
+    private int insertTokenBalances(BalanceLedger.Changes changes, long timestamp) {
+        return jdbcTemplate.update(INSERT_TOKEN_BALANCE_SQL, ps -> {
+            var connection = ps.getConnection();
+            ps.setLong(1, timestamp);
+            ps.setArray(2, connection.createArrayOf("BIGINT", toObject(changes.tokenAccountIds())));
+            ps.setArray(3, connection.createArrayOf("BIGINT", toObject(changes.tokenIds())));
+        });
+    }
+
+    private static String getSnapshotType(boolean full, BalanceLedger.Changes changes) {
+        if (full) {
+            return "full";
+        }
+
+        return changes != null ? "incremental" : "deduped";
+    }
+
     private boolean shouldGenerate(long consensusEnd) {
         return properties.isEnabled()
                 && accountBalanceFileRepository
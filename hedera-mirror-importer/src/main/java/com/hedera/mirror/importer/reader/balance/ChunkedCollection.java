@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.reader.balance;
+
+import com.google.common.collect.Iterators;
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A read only collection that maps the items of its source every time it's traversed instead of holding the results,
+ * so that a balance file with millions of accounts doesn't have to be materialized in memory before it's persisted.
+ * {@link #forEach(Consumer)} maps the items in parallel ordered chunks with a bounded number in flight and hands each
+ * result to the consumer as soon as its chunk is done, while the iterator maps them one at a time. Items the mapper
+ * maps to null are skipped.
+ */
+class ChunkedCollection<T, R> extends AbstractCollection<R> {
+
+    private final int chunkSize;
+    private final Executor executor;
+    private final Function<T, R> mapper;
+    private final int maxInFlight;
+    private final Supplier<Iterator<T>> source;
+
+    ChunkedCollection(
+            Supplier<Iterator<T>> source, Function<T, R> mapper, int chunkSize, int maxInFlight, Executor executor) {
+        this.chunkSize = chunkSize;
+        this.executor = executor;
+        this.mapper = mapper;
+        this.maxInFlight = maxInFlight;
+        this.source = source;
+    }
+
+    @Override
+    public void forEach(Consumer<? super R> action) {
+        var processor = new OrderedChunkProcessor<T, R>(mapper, action::accept, chunkSize, maxInFlight, executor);
+
+        try {
+            source.get().forEachRemaining(processor::add);
+            processor.finish();
+        } catch (RuntimeException e) {
+            processor.cancel();
+            throw e;
+        }
+    }
+
+    @Override
+    public Iterator<R> iterator() {
+        return Iterators.filter(Iterators.transform(source.get(), mapper::apply), Objects::nonNull);
+    }
+
+    // Counts the items by mapping them, since they're not held
+    @Override
+    public int size() {
+        return Iterators.size(iterator());
+    }
+}
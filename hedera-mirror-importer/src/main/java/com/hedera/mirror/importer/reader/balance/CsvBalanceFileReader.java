@@ -29,13 +29,9 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.security.DigestInputStream;
-import java.security.MessageDigest;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.codec.digest.DigestUtils;
@@ -80,38 +76,24 @@ public abstract class CsvBalanceFileReader implements BalanceFileReader {
 
     @Override
     public AccountBalanceFile read(StreamFileData streamFileData) {
-        MessageDigest messageDigest = DigestUtils.getSha384Digest();
-        int bufferSize = balanceParserProperties.getFileBufferSize();
-
-        try (InputStream inputStream = new DigestInputStream(streamFileData.getInputStream(), messageDigest);
-                BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, CHARSET), bufferSize)) {
+        try (BufferedReader reader = newReader(streamFileData)) {
             long consensusTimestamp = parseConsensusTimestamp(reader);
-            AtomicLong count = new AtomicLong(0L);
-            List<AccountBalance> items = new ArrayList<>();
+
+            // The lines are parsed each time the items are traversed so the balances are never all held in memory
+            var items = new ChunkedCollection<String, AccountBalance>(
+                    () -> lines(streamFileData),
+                    line -> parse(line, consensusTimestamp),
+                    balanceParserProperties.getChunkSize(),
+                    ForkJoinPool.getCommonPoolParallelism() * 2,
+                    ForkJoinPool.commonPool());
 
             AccountBalanceFile accountBalanceFile = new AccountBalanceFile();
             accountBalanceFile.setBytes(streamFileData.getBytes());
             accountBalanceFile.setConsensusTimestamp(consensusTimestamp);
+            accountBalanceFile.setFileHash(DigestUtils.sha384Hex(streamFileData.getDecompressedBytes()));
+            accountBalanceFile.setItems(items);
             accountBalanceFile.setLoadStart(streamFileData.getStreamFilename().getTimestamp());
             accountBalanceFile.setName(streamFileData.getFilename());
-
-            reader.lines()
-                    .map(line -> {
-                        try {
-                            AccountBalance accountBalance = parser.parse(line, consensusTimestamp);
-                            count.incrementAndGet();
-                            return accountBalance;
-                        } catch (InvalidDatasetException ex) {
-                            log.error("Error reading line", ex);
-                            return null;
-                        }
-                    })
-                    .filter(Objects::nonNull)
-                    .forEachOrdered(items::add);
-
-            accountBalanceFile.setCount(count.get());
-            accountBalanceFile.setFileHash(DomainUtils.bytesToHex(messageDigest.digest()));
-            accountBalanceFile.setItems(items);
             return accountBalanceFile;
         } catch (IOException ex) {
             throw new InvalidDatasetException("Error reading account balance file", ex);
@@ -120,6 +102,28 @@ public abstract class CsvBalanceFileReader implements BalanceFileReader {
 
     protected abstract long parseConsensusTimestamp(BufferedReader reader);
 
+    private BufferedReader newReader(StreamFileData streamFileData) {
+        int bufferSize = balanceParserProperties.getFileBufferSize();
+        return new BufferedReader(new InputStreamReader(streamFileData.getInputStream(), CHARSET), bufferSize);
+    }
+
+    // The reader is backed by the in-memory file bytes, so it's left for garbage collection once traversed
+    @SuppressWarnings("java:S2095")
+    private Iterator<String> lines(StreamFileData streamFileData) {
+        var reader = newReader(streamFileData);
+        parseConsensusTimestamp(reader);
+        return reader.lines().iterator();
+    }
+
+    private AccountBalance parse(String line, long consensusTimestamp) {
+        try {
+            return parser.parse(line, consensusTimestamp);
+        } catch (InvalidDatasetException ex) {
+            log.error("Error reading line", ex);
+            return null;
+        }
+    }
+
     protected long convertTimestamp(String timestamp) {
         Instant instant = Instant.parse(timestamp);
         return DomainUtils.convertToNanosMax(instant);
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.reader.balance;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Groups items into fixed size chunks, maps the chunks in parallel on the executor and hands the results to the sink
+ * in the original order. At most maxInFlight chunks are pending at any time, so the caller blocks instead of buffering
+ * the whole input when the mapper falls behind. If a chunk or the sink fails, the pending chunks are cancelled.
+ */
+class OrderedChunkProcessor<T, R> {
+
+    private final int chunkSize;
+    private final Executor executor;
+    private final Deque<CompletableFuture<List<R>>> inFlight = new ArrayDeque<>();
+    private final Function<T, R> mapper;
+    private final int maxInFlight;
+    private final Consumer<R> sink;
+
+    private List<T> chunk;
+
+    OrderedChunkProcessor(
+            Function<T, R> mapper, Consumer<R> sink, int chunkSize, int maxInFlight, Executor executor) {
+        this.chunkSize = chunkSize;
+        this.executor = executor;
+        this.mapper = mapper;
+        this.maxInFlight = maxInFlight;
+        this.sink = sink;
+        this.chunk = new ArrayList<>(chunkSize);
+    }
+
+    void add(T item) {
+        chunk.add(item);
+
+        if (chunk.size() >= chunkSize) {
+            submit();
+        }
+    }
+
+    /**
+     * Maps the remaining items and waits for all pending chunks to reach the sink.
+     */
+    void finish() {
+        if (!chunk.isEmpty()) {
+            submit();
+        }
+
+        while (!inFlight.isEmpty()) {
+            drain();
+        }
+    }
+
+    /**
+     * Cancels the pending chunks so that they don't keep mapping items nobody will consume.
+     */
+    void cancel() {
+        inFlight.forEach(future -> future.cancel(false));
+        inFlight.clear();
+        chunk.clear();
+    }
+
+    private void submit() {
+        var items = chunk;
+        chunk = new ArrayList<>(chunkSize);
+        inFlight.add(CompletableFuture.supplyAsync(() -> map(items), executor));
+
+        while (inFlight.size() > maxInFlight) {
+            drain();
+        }
+    }
+
+    private List<R> map(List<T> items) {
+        var results = new ArrayList<R>(items.size());
+        for (var item : items) {
+            var result = mapper.apply(item);
+            if (result != null) {
+                results.add(result);
+            }
+        }
+        return results;
+    }
+
+    private void drain() {
+        try {
+            inFlight.removeFirst().join().forEach(sink);
+        } catch (RuntimeException e) {
+            cancel();
+            if (e instanceof CompletionException && e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+    }
+}
@@ -16,6 +16,11 @@
 
 package com.hedera.mirror.importer.reader.balance;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
 import com.hedera.mirror.common.domain.balance.AccountBalance;
 import com.hedera.mirror.common.domain.balance.AccountBalanceFile;
 import com.hedera.mirror.common.domain.balance.TokenBalance;
@@ -24,20 +29,29 @@ import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.domain.StreamFileData;
 import com.hedera.mirror.importer.exception.InvalidStreamFileException;
 import com.hedera.mirror.importer.exception.StreamFileReaderException;
+import com.hedera.mirror.importer.parser.balance.BalanceParserProperties;
 import com.hedera.services.stream.proto.AllAccountBalances;
 import com.hedera.services.stream.proto.SingleAccountBalances;
+import com.hederahashgraph.api.proto.java.Timestamp;
 import jakarta.inject.Named;
 import java.io.IOException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
 import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
 import org.apache.commons.codec.digest.DigestUtils;
 
 @CustomLog
 @Named
+@RequiredArgsConstructor
 public class ProtoBalanceFileReader implements BalanceFileReader {
 
     private static final String FILE_EXTENSION = "pb";
 
+    private final BalanceParserProperties balanceParserProperties;
+
     @Override
     public boolean supports(StreamFileData streamFileData) {
         return FILE_EXTENSION.equals(
@@ -48,16 +62,19 @@ public class ProtoBalanceFileReader implements BalanceFileReader {
     public AccountBalanceFile read(StreamFileData streamFileData) {
         try {
             var bytes = streamFileData.getDecompressedBytes();
-            var allAccountBalances = AllAccountBalances.parseFrom(bytes);
-
-            if (!allAccountBalances.hasConsensusTimestamp()) {
+            var timestamp = readTimestamp(bytes);
+            if (timestamp == null) {
                 throw new InvalidStreamFileException("Missing required consensusTimestamp field");
             }
 
-            long consensusTimestamp = DomainUtils.timestampInNanosMax(allAccountBalances.getConsensusTimestamp());
-            var items = allAccountBalances.getAllAccountsList().stream()
-                    .map(ab -> toAccountBalance(consensusTimestamp, ab))
-                    .toList();
+            // The accounts are parsed each time the items are traversed so the balances are never all held in memory
+            long consensusTimestamp = DomainUtils.timestampInNanosMax(timestamp);
+            var items = new ChunkedCollection<ByteString, AccountBalance>(
+                    () -> new AccountIterator(bytes),
+                    account -> toAccountBalance(consensusTimestamp, account),
+                    balanceParserProperties.getChunkSize(),
+                    ForkJoinPool.getCommonPoolParallelism() * 2,
+                    ForkJoinPool.commonPool());
 
             AccountBalanceFile accountBalanceFile = new AccountBalanceFile();
             accountBalanceFile.setBytes(streamFileData.getBytes());
@@ -72,6 +89,30 @@ public class ProtoBalanceFileReader implements BalanceFileReader {
         }
     }
 
+    // Skips over the account messages without parsing them to find the timestamp wherever it is in the file
+    private Timestamp readTimestamp(byte[] bytes) throws IOException {
+        var input = CodedInputStream.newInstance(bytes);
+        Timestamp timestamp = null;
+
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            if (WireFormat.getTagFieldNumber(tag) == AllAccountBalances.CONSENSUSTIMESTAMP_FIELD_NUMBER) {
+                timestamp = input.readMessage(Timestamp.parser(), ExtensionRegistryLite.getEmptyRegistry());
+            } else {
+                input.skipField(tag);
+            }
+        }
+
+        return timestamp;
+    }
+
+    private AccountBalance toAccountBalance(long consensusTimestamp, ByteString account) {
+        try {
+            return toAccountBalance(consensusTimestamp, SingleAccountBalances.parseFrom(account));
+        } catch (InvalidProtocolBufferException e) {
+            throw new StreamFileReaderException(e);
+        }
+    }
+
     private AccountBalance toAccountBalance(long consensusTimestamp, SingleAccountBalances balances) {
         EntityId accountId = EntityId.of(balances.getAccountID());
         List<TokenBalance> tokenBalances = balances.getTokenUnitBalancesList().stream()
@@ -84,4 +125,48 @@ public class ProtoBalanceFileReader implements BalanceFileReader {
         return new AccountBalance(
                 balances.getHbarBalance(), tokenBalances, new AccountBalance.Id(consensusTimestamp, accountId));
     }
+
+    /**
+     * Iterates over aliased slices of the account messages in the file without materializing the AllAccountBalances.
+     */
+    private static class AccountIterator implements Iterator<ByteString> {
+
+        private final CodedInputStream input;
+        private ByteString next;
+
+        private AccountIterator(byte[] bytes) {
+            this.input = CodedInputStream.newInstance(bytes);
+            this.input.enableAliasing(true);
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (next == null) {
+                    int tag = input.readTag();
+                    if (tag == 0) {
+                        return false;
+                    } else if (WireFormat.getTagFieldNumber(tag) == AllAccountBalances.ALLACCOUNTS_FIELD_NUMBER) {
+                        next = input.readBytes();
+                    } else {
+                        input.skipField(tag);
+                    }
+                }
+                return true;
+            } catch (IOException e) {
+                throw new StreamFileReaderException(e);
+            }
+        }
+
+        @Override
+        public ByteString next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            var account = next;
+            next = null;
+            return account;
+        }
+    }
 }
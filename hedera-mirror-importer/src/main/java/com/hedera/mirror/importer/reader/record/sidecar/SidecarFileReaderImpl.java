@@ -16,27 +16,91 @@
 
 package com.hedera.mirror.importer.reader.record.sidecar;
 
+import static com.hedera.services.stream.proto.TransactionSidecarRecord.ACTIONS_FIELD_NUMBER;
+import static com.hedera.services.stream.proto.TransactionSidecarRecord.BYTECODE_FIELD_NUMBER;
+import static com.hedera.services.stream.proto.TransactionSidecarRecord.CONSENSUS_TIMESTAMP_FIELD_NUMBER;
+import static com.hedera.services.stream.proto.TransactionSidecarRecord.STATE_CHANGES_FIELD_NUMBER;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
 import com.hedera.mirror.common.domain.transaction.SidecarFile;
 import com.hedera.mirror.importer.domain.StreamFileData;
 import com.hedera.mirror.importer.exception.InvalidStreamFileException;
+import com.hedera.mirror.importer.parser.record.sidecar.SidecarProperties;
+import com.hedera.mirror.importer.util.Utility;
+import com.hedera.services.stream.proto.SidecarType;
+import com.hederahashgraph.api.proto.java.Timestamp;
 import jakarta.inject.Named;
+import java.io.IOException;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
 
+/**
+ * Reads a sidecar file by walking the protobuf wire format instead of parsing the whole {@code SidecarFile} message.
+ * Only the consensus timestamp and the type of each sidecar record are decoded. Records of types not enabled in
+ * {@link SidecarProperties} are skipped without being retained, and the rest are kept serialized in a
+ * {@link SidecarRecordList} until they are consumed.
+ */
 @Named
+@RequiredArgsConstructor
 public class SidecarFileReaderImpl implements SidecarFileReader {
 
+    private static final int SIDECAR_RECORDS_FIELD_NUMBER =
+            com.hedera.services.stream.proto.SidecarFile.SIDECAR_RECORDS_FIELD_NUMBER;
+
+    private final SidecarProperties sidecarProperties;
+
     @Override
     public void read(SidecarFile sidecarFile, StreamFileData streamFileData) {
         try (var digestInputStream = new DigestInputStream(
                 streamFileData.getInputStream(),
                 MessageDigest.getInstance(sidecarFile.getHashAlgorithm().getName()))) {
-            var protoSidecarFile = com.hedera.services.stream.proto.SidecarFile.parseFrom(digestInputStream);
+            var acceptedTypes = sidecarProperties.getTypes().stream()
+                    .map(SidecarType::getNumber)
+                    .collect(Collectors.toSet());
+            var input = CodedInputStream.newInstance(digestInputStream);
+            var records = SidecarRecordList.builder();
+            int count = 0;
+
+            for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+                if (WireFormat.getTagFieldNumber(tag) != SIDECAR_RECORDS_FIELD_NUMBER) {
+                    skipField(input, tag);
+                    continue;
+                }
+
+                if (WireFormat.getTagWireType(tag) != WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                    throw new InvalidProtocolBufferException("Invalid wire type of sidecar record");
+                }
+
+                count++;
+                var data = input.readBytes();
+                var recordInput = data.newCodedInput();
+                var consensusTimestamp = Timestamp.getDefaultInstance();
+                int type = SidecarType.SIDECAR_TYPE_UNKNOWN_VALUE;
+                for (int recordTag = recordInput.readTag(); recordTag != 0; recordTag = recordInput.readTag()) {
+                    int fieldNumber = WireFormat.getTagFieldNumber(recordTag);
+                    if (fieldNumber == CONSENSUS_TIMESTAMP_FIELD_NUMBER) {
+                        consensusTimestamp = Timestamp.parseFrom(recordInput.readBytes());
+                    } else {
+                        type = getSidecarType(fieldNumber, type);
+                        skipField(recordInput, recordTag);
+                    }
+                }
+
+                if (isAccepted(acceptedTypes, consensusTimestamp, type)) {
+                    records.add(consensusTimestamp, data);
+                }
+            }
+
             var bytes = streamFileData.getBytes();
             sidecarFile.setActualHash(digestInputStream.getMessageDigest().digest());
             sidecarFile.setBytes(bytes);
-            sidecarFile.setCount(protoSidecarFile.getSidecarRecordsCount());
-            sidecarFile.setRecords(protoSidecarFile.getSidecarRecordsList());
+            sidecarFile.setCount(count);
+            sidecarFile.setRecords(records.build());
             sidecarFile.setSize(bytes.length);
         } catch (InvalidStreamFileException e) {
             throw e;
@@ -44,4 +108,32 @@ public class SidecarFileReaderImpl implements SidecarFileReader {
             throw new InvalidStreamFileException("Error reading sidecar file " + sidecarFile.getName(), e);
         }
     }
+
+    private static int getSidecarType(int fieldNumber, int defaultType) {
+        return switch (fieldNumber) {
+            case ACTIONS_FIELD_NUMBER -> SidecarType.CONTRACT_ACTION_VALUE;
+            case BYTECODE_FIELD_NUMBER -> SidecarType.CONTRACT_BYTECODE_VALUE;
+            case STATE_CHANGES_FIELD_NUMBER -> SidecarType.CONTRACT_STATE_CHANGE_VALUE;
+            default -> defaultType;
+        };
+    }
+
+    private static boolean isAccepted(Set<Integer> acceptedTypes, Timestamp consensusTimestamp, int type) {
+        if (acceptedTypes.isEmpty()) {
+            return true;
+        }
+
+        if (type == SidecarType.SIDECAR_TYPE_UNKNOWN_VALUE) {
+            Utility.handleRecoverableError("Unknown sidecar transaction record type at {}", consensusTimestamp);
+            return false;
+        }
+
+        return acceptedTypes.contains(type);
+    }
+
+    private static void skipField(CodedInputStream input, int tag) throws IOException {
+        if (!input.skipField(tag)) {
+            throw new InvalidProtocolBufferException("Unexpected end group tag in sidecar file");
+        }
+    }
 }
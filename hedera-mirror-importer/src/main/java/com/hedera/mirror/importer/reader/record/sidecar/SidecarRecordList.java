@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.reader.record.sidecar;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.mirror.importer.exception.InvalidStreamFileException;
+import com.hedera.services.stream.proto.TransactionSidecarRecord;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A list of sidecar records kept in their serialized form and only decoded when accessed. Each record is decoded at
+ * most once, so consumers iterating the list multiple times don't pay the decoding cost again.
+ */
+public final class SidecarRecordList extends AbstractList<TransactionSidecarRecord> {
+
+    private final List<Timestamp> consensusTimestamps;
+    private final List<ByteString> data;
+    private final TransactionSidecarRecord[] records;
+
+    private SidecarRecordList(Builder builder) {
+        this.consensusTimestamps = builder.consensusTimestamps;
+        this.data = builder.data;
+        this.records = builder.records.toArray(new TransactionSidecarRecord[0]);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Groups the sidecar records of all lists by consensus timestamp. The records of a {@link SidecarRecordList} are
+     * grouped without being decoded.
+     *
+     * @param recordLists The lists of sidecar records
+     * @return the sidecar records by consensus timestamp
+     */
+    public static Map<Timestamp, List<TransactionSidecarRecord>> groupByConsensusTimestamp(
+            Collection<List<TransactionSidecarRecord>> recordLists) {
+        var builders = new HashMap<Timestamp, Builder>();
+        for (var recordList : recordLists) {
+            if (recordList instanceof SidecarRecordList sidecarRecordList) {
+                for (int i = 0; i < sidecarRecordList.size(); i++) {
+                    var consensusTimestamp = sidecarRecordList.consensusTimestamps.get(i);
+                    builders.computeIfAbsent(consensusTimestamp, k -> builder())
+                            .add(consensusTimestamp, sidecarRecordList.data.get(i), sidecarRecordList.records[i]);
+                }
+            } else {
+                for (var sidecarRecord : recordList) {
+                    var consensusTimestamp = sidecarRecord.getConsensusTimestamp();
+                    builders.computeIfAbsent(consensusTimestamp, k -> builder())
+                            .add(consensusTimestamp, null, sidecarRecord);
+                }
+            }
+        }
+
+        var grouped = new HashMap<Timestamp, List<TransactionSidecarRecord>>(builders.size());
+        builders.forEach((consensusTimestamp, builder) -> grouped.put(consensusTimestamp, builder.build()));
+        return grouped;
+    }
+
+    @Override
+    public TransactionSidecarRecord get(int index) {
+        var sidecarRecord = records[index];
+        if (sidecarRecord == null) {
+            try {
+                sidecarRecord = TransactionSidecarRecord.parseFrom(data.get(index));
+                records[index] = sidecarRecord;
+            } catch (InvalidProtocolBufferException e) {
+                throw new InvalidStreamFileException(
+                        "Error decoding sidecar record at " + consensusTimestamps.get(index), e);
+            }
+        }
+
+        return sidecarRecord;
+    }
+
+    @Override
+    public int size() {
+        return records.length;
+    }
+
+    public static class Builder {
+
+        private final List<Timestamp> consensusTimestamps = new ArrayList<>();
+        private final List<ByteString> data = new ArrayList<>();
+        private final List<TransactionSidecarRecord> records = new ArrayList<>();
+
+        private Builder() {}
+
+        public Builder add(Timestamp consensusTimestamp, ByteString bytes) {
+            return add(consensusTimestamp, bytes, null);
+        }
+
+        public SidecarRecordList build() {
+            return new SidecarRecordList(this);
+        }
+
+        private Builder add(Timestamp consensusTimestamp, ByteString bytes, TransactionSidecarRecord sidecarRecord) {
+            consensusTimestamps.add(consensusTimestamp);
+            data.add(bytes);
+            records.add(sidecarRecord);
+            return this;
+        }
+    }
+}
@@ -27,33 +27,41 @@ import static com.hedera.mirror.importer.reconciliation.ReconciliationProperties
 import static com.hedera.mirror.importer.reconciliation.ReconciliationProperties.RemediationStrategy.FAIL;
 
 import com.google.common.base.Stopwatch;
-import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.Uninterruptibles;
 import com.hedera.mirror.common.domain.balance.AccountBalanceFile;
 import com.hedera.mirror.common.domain.job.ReconciliationJob;
 import com.hedera.mirror.common.domain.job.ReconciliationStatus;
-import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.repository.AccountBalanceFileRepository;
 import com.hedera.mirror.importer.repository.ReconciliationJobRepository;
-import com.hedera.mirror.importer.repository.RecordFileRepository;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Function;
-import lombok.Builder;
+import java.util.function.Predicate;
 import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @CustomLog
 @Named
@@ -64,43 +72,58 @@ class BalanceReconciliationService {
 
     // Due to the number of rows returned, it's considerably more performant to not use JPA
     private static final String BALANCE_QUERY =
-            "select account_id, balance from account_balance " + "where consensus_timestamp = ?";
+            """
+            select account_id, 0, balance from account_balance
+            where consensus_timestamp = ? and account_id >= ? and account_id < ?
+            order by account_id""";
 
     private static final String CRYPTO_TRANSFER_QUERY =
             """
-            select entity_id, sum(amount) balance from crypto_transfer
+            select entity_id, 0, sum(amount) balance from crypto_transfer
             where consensus_timestamp > ? and consensus_timestamp <= ? and (errata is null or errata <> 'DELETE')
-            group by entity_id""";
+              and entity_id >= ? and entity_id < ?
+            group by entity_id
+            order by entity_id""";
+
+    private static final int FETCH_SIZE = 10_000;
+    private static final int MAX_MISMATCHES = 1000;
 
     private static final String TOKEN_BALANCE_QUERY =
-            "select account_id, token_id, balance from token_balance " + "where consensus_timestamp = ?";
+            """
+            select account_id, token_id, balance from token_balance
+            where consensus_timestamp = ? and account_id >= ? and account_id < ?
+            order by account_id, token_id""";
 
     private static final String TOKEN_TRANSFER_QUERY =
             """
             select account_id, token_id, sum(amount) as balance
             from token_transfer where consensus_timestamp > ? and consensus_timestamp <= ?
-            group by token_id, account_id""";
+              and account_id >= ? and account_id < ?
+            group by account_id, token_id
+            order by account_id, token_id""";
 
     final AtomicReference<ReconciliationStatus> status;
 
     private final AccountBalanceFileRepository accountBalanceFileRepository;
     private final JdbcOperations jdbcOperations;
-    private final RecordFileRepository recordFileRepository;
     private final ReconciliationProperties reconciliationProperties;
     private final ReconciliationJobRepository reconciliationJobRepository;
+    private final TransactionOperations transactionOperations;
 
     BalanceReconciliationService(
             AccountBalanceFileRepository accountBalanceFileRepository,
             JdbcOperations jdbcOperations,
             MeterRegistry meterRegistry,
-            RecordFileRepository recordFileRepository,
             ReconciliationProperties reconciliationProperties,
-            ReconciliationJobRepository reconciliationJobRepository) {
+            ReconciliationJobRepository reconciliationJobRepository,
+            PlatformTransactionManager platformTransactionManager) {
         this.accountBalanceFileRepository = accountBalanceFileRepository;
         this.jdbcOperations = jdbcOperations;
-        this.recordFileRepository = recordFileRepository;
         this.reconciliationProperties = reconciliationProperties;
         this.reconciliationJobRepository = reconciliationJobRepository;
+        var transactionTemplate = new TransactionTemplate(platformTransactionManager);
+        transactionTemplate.setReadOnly(true);
+        this.transactionOperations = transactionTemplate;
         this.status = meterRegistry.gauge(
                 METRIC, new AtomicReference<>(UNKNOWN), s -> s.get().ordinal());
     }
@@ -115,29 +138,29 @@ class BalanceReconciliationService {
         var stopwatch = Stopwatch.createStarted();
         var reconciliationJob = getLatestJob();
 
-        try {
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
             log.info(
                     "Reconciling balance files between {} and {} with {} remediation strategy",
                     Instant.ofEpochSecond(0, reconciliationJob.getConsensusTimestamp()),
                     reconciliationProperties.getEndDate(),
                     reconciliationProperties.getRemediationStrategy());
-            var previous = getNextBalanceSnapshot(reconciliationJob, Optional.empty());
+            var previousFile = getNextBalanceFile(reconciliationJob, Optional.empty());
 
-            if (previous.isEmpty()) {
+            if (previousFile.isEmpty()) {
                 log.info("No balance files to process");
                 reconciliationJob.setStatus(UNKNOWN);
                 return;
             }
 
-            var current = getNextBalanceSnapshot(reconciliationJob, previous);
+            var previous = getBalanceSnapshot(previousFile.get());
+            var currentFile = getNextBalanceFile(reconciliationJob, previousFile);
 
-            while (current.isPresent()) {
-                reconcile(previous.get(), current.get());
+            while (currentFile.isPresent()) {
+                previous = reconcile(executor, reconciliationJob, previous, currentFile.get());
                 reconciliationJob.increment();
 
                 if (!reconciliationJob.hasErrors()) {
-                    var consensusTimestamp =
-                            current.get().getAccountBalanceFile().getConsensusTimestamp();
+                    var consensusTimestamp = currentFile.get().getConsensusTimestamp();
                     reconciliationJob.setConsensusTimestamp(consensusTimestamp);
 
                     // Periodically update progress
@@ -146,16 +169,7 @@ class BalanceReconciliationService {
                     }
                 }
 
-                if (reconciliationProperties.getRemediationStrategy() == ACCUMULATE) {
-                    previous = Optional.of(current.get().toBuilder()
-                            .balances(previous.get().getBalances())
-                            .tokenBalances(previous.get().getTokenBalances())
-                            .build());
-                } else {
-                    previous = current;
-                }
-
-                current = getNextBalanceSnapshot(reconciliationJob, previous);
+                currentFile = getNextBalanceFile(reconciliationJob, currentFile);
             }
 
             if (reconciliationJob.hasErrors()) {
@@ -200,169 +214,212 @@ class BalanceReconciliationService {
         return reconciliationJobRepository.save(reconciliationJob);
     }
 
-    private void reconcile(BalanceSnapshot previous, BalanceSnapshot current) {
-        reconcileCryptoTransfers(previous, current);
-        reconcileTokenTransfers(previous, current);
+    /**
+     * Reconciles the transfers between the previous snapshot and the current balance file, and returns the snapshot
+     * the next balance file should be reconciled against.
+     */
+    private BalanceSnapshot reconcile(
+            ExecutorService executor,
+            ReconciliationJob reconciliationJob,
+            BalanceSnapshot previous,
+            AccountBalanceFile currentFile) {
+        long startTime = System.currentTimeMillis();
+        long fromTimestamp = getTimestamp(previous.getAccountBalanceFile());
+        long toTimestamp = getTimestamp(currentFile);
+        long balanceTimestamp = currentFile.getConsensusTimestamp();
+
+        var crypto = mergeJoin(
+                executor,
+                previous.getBalances(),
+                CRYPTO_TRANSFER_QUERY,
+                BALANCE_QUERY,
+                fromTimestamp,
+                toTimestamp,
+                balanceTimestamp);
+
+        if (crypto.getTotal() != FIFTY_BILLION_HBARS) {
+            throw new ReconciliationException(FAILURE_FIFTY_BILLION, currentFile.getName(), crypto.getTotal());
+        }
+
+        report(FAILURE_CRYPTO_TRANSFERS, reconciliationJob, crypto.getMismatches(), fromTimestamp, toTimestamp);
+
+        var tokens = reconciliationProperties.isToken()
+                ? mergeJoin(
+                        executor,
+                        previous.getTokenBalances(),
+                        TOKEN_TRANSFER_QUERY,
+                        TOKEN_BALANCE_QUERY,
+                        fromTimestamp,
+                        toTimestamp,
+                        balanceTimestamp)
+                : null;
+
+        if (tokens != null) {
+            report(FAILURE_TOKEN_TRANSFERS, reconciliationJob, tokens.getMismatches(), fromTimestamp, toTimestamp);
+        }
 
-        long elapsed = System.currentTimeMillis() - current.getStartTime();
-        String name = current.getAccountBalanceFile().getName();
         log.info(
                 "Reconciled balance file {} with {} balances and {} token balances in {} ms",
-                name,
-                current.getBalances().size(),
-                current.getTokenBalances().size(),
-                elapsed);
+                currentFile.getName(),
+                crypto.getCount(),
+                tokens != null ? tokens.getCount() : 0L,
+                System.currentTimeMillis() - startTime);
 
         if (Duration.ZERO.compareTo(reconciliationProperties.getDelay()) < 0) {
             Uninterruptibles.sleepUninterruptibly(reconciliationProperties.getDelay());
         }
-    }
-
-    private void reconcileCryptoTransfers(BalanceSnapshot previous, BalanceSnapshot current) {
-        var transfersBalance = previous.getBalances();
-
-        jdbcOperations.query(
-                CRYPTO_TRANSFER_QUERY,
-                rs -> {
-                    long accountId = rs.getLong(1);
-                    long balance = rs.getLong(2);
-                    transfersBalance.merge(accountId, balance, Math::addExact);
-                },
-                previous.getTimestamp(),
-                current.getTimestamp());
 
-        reconcileTransfers(FAILURE_CRYPTO_TRANSFERS, BalanceSnapshot::getBalances, previous, current);
+        var tokenBalances = tokens != null ? tokens.getNext() : previous.getTokenBalances();
+        return new BalanceSnapshot(currentFile, crypto.getNext(), tokenBalances);
     }
 
-    private void reconcileTokenTransfers(BalanceSnapshot previous, BalanceSnapshot current) {
-        if (!reconciliationProperties.isToken()) {
-            return;
+    /**
+     * Splits the account id space into ranges with a similar number of previous balances and merge joins the previous
+     * balances, the sorted sum of the transfers and the sorted current balances of each range on its own thread.
+     */
+    private MergeResult mergeJoin(
+            ExecutorService executor,
+            SortedBalances previous,
+            String transferQuery,
+            String balanceQuery,
+            long fromTimestamp,
+            long toTimestamp,
+            long balanceTimestamp) {
+        boolean token = previous.isToken();
+        var mismatches = new Mismatches(token);
+        var futures = new ArrayList<CompletableFuture<RangeResult>>();
+        var boundaries = getBoundaries(previous);
+
+        for (int i = 0; i < boundaries.length - 1; i++) {
+            long lower = boundaries[i];
+            long upper = boundaries[i + 1];
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> transactionOperations.execute(t -> {
+                        var transfers = new SortedBalances(token);
+                        query(transferQuery, rowHandler(transfers), fromTimestamp, toTimestamp, lower, upper);
+
+                        var merger = new Merger(previous, lower, upper, transfers, mismatches);
+                        query(balanceQuery, merger, balanceTimestamp, lower, upper);
+                        merger.finish();
+                        return merger.getResult();
+                    }),
+                    executor));
         }
 
-        var tokenBalances = previous.getTokenBalances();
-
-        jdbcOperations.query(
-                TOKEN_TRANSFER_QUERY,
-                rs -> {
-                    long accountId = rs.getLong(1);
-                    long tokenId = rs.getLong(2);
-                    long balance = rs.getLong(3);
-                    var tokenAccountId = new TokenAccountId(accountId, tokenId);
-                    tokenBalances.merge(tokenAccountId, balance, Math::addExact);
-                },
-                previous.getTimestamp(),
-                current.getTimestamp());
-
-        reconcileTransfers(FAILURE_TOKEN_TRANSFERS, BalanceSnapshot::getTokenBalances, previous, current);
+        try {
+            var results = futures.stream().map(CompletableFuture::join).toList();
+            var next = SortedBalances.concat(
+                    token, results.stream().map(RangeResult::next).toList());
+            long count = results.stream().mapToLong(RangeResult::count).sum();
+            long total = results.stream().mapToLong(RangeResult::total).sum();
+            return new MergeResult(count, mismatches, next, total);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
     }
 
-    private <K> void reconcileTransfers(
-            ReconciliationStatus failureStatus,
-            Function<BalanceSnapshot, Map<K, Long>> mapper,
-            BalanceSnapshot previous,
-            BalanceSnapshot current) {
-        var transfersBalance = mapper.apply(previous);
-        var currentBalances = mapper.apply(current);
-
-        if (!equals(transfersBalance, currentBalances)) {
-            long fromTimestamp = previous.getTimestamp();
-            long toTimestamp = current.getTimestamp();
-            var difference = Maps.difference(transfersBalance, currentBalances);
+    private long[] getBoundaries(SortedBalances previous) {
+        int ranges = reconciliationProperties.getParallelism();
+        int size = previous.size();
+        var boundaries = new ArrayList<Long>(ranges + 1);
+        boundaries.add(Long.MIN_VALUE);
 
-            if (reconciliationProperties.getRemediationStrategy() == FAIL) {
-                throw new ReconciliationException(failureStatus, fromTimestamp, toTimestamp, difference);
+        for (int i = 1; i < ranges && size > 0; i++) {
+            long boundary = previous.getAccountId(i * size / ranges);
+            if (boundary > boundaries.getLast()) {
+                boundaries.add(boundary);
             }
-
-            var error = String.format(failureStatus.getMessage(), fromTimestamp, toTimestamp, difference);
-            log.warn(error);
-
-            var reconciliationJob = previous.getReconciliationJob();
-            reconciliationJob.setError(StringUtils.joinWith("\n", reconciliationJob.getError(), error));
-            reconciliationJob.setStatus(failureStatus);
         }
+
+        boundaries.add(Long.MAX_VALUE);
+        return boundaries.stream().mapToLong(Long::longValue).toArray();
     }
 
-    private <T> boolean equals(Map<T, Long> previous, Map<T, Long> current) {
-        for (var previousEntry : previous.entrySet()) {
-            long currentValue = current.getOrDefault(previousEntry.getKey(), 0L);
-            if (previousEntry.getValue() != currentValue) {
-                return false;
-            }
+    private void report(
+            ReconciliationStatus failureStatus,
+            ReconciliationJob reconciliationJob,
+            Mismatches mismatches,
+            long fromTimestamp,
+            long toTimestamp) {
+        if (mismatches.isEmpty()) {
+            return;
         }
-        for (var currentEntry : current.entrySet()) {
-            long previousValue = previous.getOrDefault(currentEntry.getKey(), 0L);
-            if (currentEntry.getValue() != previousValue) {
-                return false;
-            }
+
+        if (reconciliationProperties.getRemediationStrategy() == FAIL) {
+            throw new ReconciliationException(failureStatus, fromTimestamp, toTimestamp, mismatches);
         }
-        return true;
-    }
 
-    private Optional<BalanceSnapshot> getNextBalanceSnapshot(
-            ReconciliationJob reconciliationJob, Optional<BalanceSnapshot> previous) {
+        var error = String.format(failureStatus.getMessage(), fromTimestamp, toTimestamp, mismatches);
+        log.warn(error);
 
-        long startTime = System.currentTimeMillis();
+        reconciliationJob.setError(StringUtils.joinWith("\n", reconciliationJob.getError(), error));
+        reconciliationJob.setStatus(failureStatus);
+    }
+
+    private Optional<AccountBalanceFile> getNextBalanceFile(
+            ReconciliationJob reconciliationJob, Optional<AccountBalanceFile> previous) {
         long toTimestamp = DomainUtils.convertToNanosMax(reconciliationProperties.getEndDate());
-        long fromTimestamp = previous.map(BalanceSnapshot::getAccountBalanceFile)
-                .map(AccountBalanceFile::getConsensusTimestamp)
+        long fromTimestamp = previous.map(AccountBalanceFile::getConsensusTimestamp)
                 .map(t -> t + 1L)
                 .orElseGet(reconciliationJob::getConsensusTimestamp);
-
-        return accountBalanceFileRepository
-                .findNextInRange(fromTimestamp, toTimestamp)
-                .map(accountBalanceFile -> {
-                    var timestamp = accountBalanceFile.getConsensusTimestamp();
-                    var balances = getAccountBalances(accountBalanceFile);
-                    var recordFile = recordFileRepository.findNextBetween(timestamp - 1L, Long.MAX_VALUE);
-                    var tokenBalances = getTokenBalances(accountBalanceFile);
-                    return new BalanceSnapshot(
-                            accountBalanceFile, balances, recordFile, reconciliationJob, startTime, tokenBalances);
-                });
+        return accountBalanceFileRepository.findNextInRange(fromTimestamp, toTimestamp);
     }
 
-    private Map<Long, Long> getAccountBalances(AccountBalanceFile accountBalanceFile) {
-        Map<Long, Long> balances = new HashMap<>();
-        AtomicLong total = new AtomicLong(0L);
+    private BalanceSnapshot getBalanceSnapshot(AccountBalanceFile accountBalanceFile) {
         long consensusTimestamp = accountBalanceFile.getConsensusTimestamp();
+        var balances = new SortedBalances(false);
+        var total = new AtomicLong(0L);
 
-        jdbcOperations.query(
+        transactionOperations.executeWithoutResult(t -> query(
                 BALANCE_QUERY,
                 rs -> {
-                    long accountId = rs.getLong(1);
-                    long balance = rs.getLong(2);
-                    balances.put(accountId, balance);
+                    long balance = rs.getLong(3);
+                    balances.add(rs.getLong(1), 0L, balance);
                     total.addAndGet(balance);
                 },
-                consensusTimestamp);
+                consensusTimestamp,
+                Long.MIN_VALUE,
+                Long.MAX_VALUE));
 
         if (total.get() != FIFTY_BILLION_HBARS) {
             String name = accountBalanceFile.getName();
             throw new ReconciliationException(FAILURE_FIFTY_BILLION, name, total.get());
         }
 
-        return balances;
-    }
-
-    private Map<TokenAccountId, Long> getTokenBalances(AccountBalanceFile accountBalanceFile) {
-        if (!reconciliationProperties.isToken()) {
-            return Collections.emptyMap();
+        var tokenBalances = new SortedBalances(true);
+        if (reconciliationProperties.isToken()) {
+            transactionOperations.executeWithoutResult(t -> query(
+                    TOKEN_BALANCE_QUERY,
+                    rowHandler(tokenBalances),
+                    consensusTimestamp,
+                    Long.MIN_VALUE,
+                    Long.MAX_VALUE));
         }
 
-        Map<TokenAccountId, Long> balances = new HashMap<>();
-        long consensusTimestamp = accountBalanceFile.getConsensusTimestamp();
+        return new BalanceSnapshot(accountBalanceFile, balances, tokenBalances);
+    }
+
+    private long getTimestamp(AccountBalanceFile accountBalanceFile) {
+        return accountBalanceFile.getConsensusTimestamp() + accountBalanceFile.getTimeOffset();
+    }
 
+    // Stream the rows with a cursor instead of buffering the whole result set
+    private void query(String sql, RowCallbackHandler rowCallbackHandler, Object... args) {
         jdbcOperations.query(
-                TOKEN_BALANCE_QUERY,
-                rs -> {
-                    long accountId = rs.getLong(1);
-                    long tokenId = rs.getLong(2);
-                    long balance = rs.getLong(3);
-                    var tokenAccountId = new TokenAccountId(accountId, tokenId);
-                    balances.put(tokenAccountId, balance);
+                connection -> {
+                    var preparedStatement = connection.prepareStatement(sql);
+                    preparedStatement.setFetchSize(FETCH_SIZE);
+                    new ArgumentPreparedStatementSetter(args).setValues(preparedStatement);
+                    return preparedStatement;
                 },
-                consensusTimestamp);
+                rowCallbackHandler);
+    }
 
-        return balances;
+    private static RowCallbackHandler rowHandler(SortedBalances balances) {
+        return rs -> balances.add(rs.getLong(1), rs.getLong(2), rs.getLong(3));
     }
 
     @Value
@@ -371,19 +428,209 @@ class BalanceReconciliationService {
         private final long tokenId;
     }
 
-    @Builder(toBuilder = true)
     @Value
     private static class BalanceSnapshot {
-
         private final AccountBalanceFile accountBalanceFile;
-        private final Map<Long, Long> balances;
-        private final Optional<RecordFile> recordFile;
-        private final ReconciliationJob reconciliationJob;
-        private final long startTime;
-        private final Map<TokenAccountId, Long> tokenBalances;
-
-        private long getTimestamp() {
-            return accountBalanceFile.getConsensusTimestamp() + accountBalanceFile.getTimeOffset();
+        private final SortedBalances balances;
+        private final SortedBalances tokenBalances;
+    }
+
+    @Value
+    private static class MergeResult {
+        private final long count;
+        private final Mismatches mismatches;
+        private final SortedBalances next;
+        private final long total;
+    }
+
+    private record RangeResult(long count, SortedBalances next, long total) {}
+
+    /**
+     * Merges the sorted previous balances of an account id range and the sorted sum of the transfers in the range with
+     * the sorted current balances as they're streamed from the database. The balance a key is expected to have is its
+     * previous balance plus its transfers, with missing keys treated as a zero balance.
+     */
+    private class Merger implements RowCallbackHandler {
+
+        private final boolean accumulate = reconciliationProperties.getRemediationStrategy() == ACCUMULATE;
+        private final Mismatches mismatches;
+        private final SortedBalances next;
+        private final SortedBalances previous;
+        private final int previousEnd;
+        private final SortedBalances transfers;
+
+        private long count;
+        private int previousIndex;
+        private long total;
+        private int transferIndex;
+
+        private Merger(
+                SortedBalances previous, long lower, long upper, SortedBalances transfers, Mismatches mismatches) {
+            this.mismatches = mismatches;
+            this.next = new SortedBalances(previous.isToken());
+            this.previous = previous;
+            this.previousEnd = previous.lowerBound(upper);
+            this.previousIndex = previous.lowerBound(lower);
+            this.transfers = transfers;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long accountId = rs.getLong(1);
+            long tokenId = rs.getLong(2);
+            long balance = rs.getLong(3);
+            advance(accountId, tokenId);
+
+            long expected = 0L;
+            boolean hasExpected = false;
+            if (previousIndex < previousEnd && compare(previous, previousIndex, accountId, tokenId) == 0) {
+                expected = previous.getBalance(previousIndex++);
+                hasExpected = true;
+            }
+            if (transferIndex < transfers.size() && compare(transfers, transferIndex, accountId, tokenId) == 0) {
+                expected = Math.addExact(expected, transfers.getBalance(transferIndex++));
+                hasExpected = true;
+            }
+
+            count++;
+            total += balance;
+            if (expected != balance) {
+                mismatches.add(accountId, tokenId, hasExpected ? expected : null, balance);
+            }
+            next.add(accountId, tokenId, accumulate ? expected : balance);
+        }
+
+        void finish() {
+            advance(Long.MAX_VALUE, Long.MAX_VALUE);
+        }
+
+        RangeResult getResult() {
+            return new RangeResult(count, next, total);
+        }
+
+        // Merges the previous balances and transfers with keys less than the key, which are absent from the current
+        private void advance(long accountId, long tokenId) {
+            while (true) {
+                boolean hasPrevious = previousIndex < previousEnd
+                        && compare(previous, previousIndex, accountId, tokenId) < 0;
+                boolean hasTransfer = transferIndex < transfers.size()
+                        && compare(transfers, transferIndex, accountId, tokenId) < 0;
+
+                if (!hasPrevious && !hasTransfer) {
+                    return;
+                }
+
+                int order = order(hasPrevious, hasTransfer);
+                var source = order <= 0 ? previous : transfers;
+                int sourceIndex = order <= 0 ? previousIndex : transferIndex;
+                long keyAccountId = source.getAccountId(sourceIndex);
+                long keyTokenId = source.getTokenId(sourceIndex);
+                long expected = 0L;
+
+                if (order <= 0) {
+                    expected = previous.getBalance(previousIndex++);
+                }
+                if (order >= 0) {
+                    expected = Math.addExact(expected, transfers.getBalance(transferIndex++));
+                }
+
+                if (expected != 0L) {
+                    mismatches.add(keyAccountId, keyTokenId, expected, null);
+                }
+                if (accumulate) {
+                    next.add(keyAccountId, keyTokenId, expected);
+                }
+            }
+        }
+
+        // Negative when only the previous balance has the smallest key, positive for the transfer and zero for both
+        private int order(boolean hasPrevious, boolean hasTransfer) {
+            if (!hasPrevious) {
+                return 1;
+            } else if (!hasTransfer) {
+                return -1;
+            }
+            return compare(previous, previousIndex, transfers, transferIndex);
+        }
+    }
+
+    private static int compare(SortedBalances balances, int index, long accountId, long tokenId) {
+        int result = Long.compare(balances.getAccountId(index), accountId);
+        return result != 0 ? result : Long.compare(balances.getTokenId(index), tokenId);
+    }
+
+    private static int compare(SortedBalances left, int leftIndex, SortedBalances right, int rightIndex) {
+        return compare(left, leftIndex, right.getAccountId(rightIndex), right.getTokenId(rightIndex));
+    }
+
+    /**
+     * Collects the balance mismatches found by the merge join workers. Each mismatch is logged as it's found and at
+     * most a fixed number are kept for the error message, which uses the same sections as a Guava map difference of the
+     * expected and the current balances. A missing balance is treated as zero, so a key only on one side is a mismatch
+     * only if its balance is not zero.
+     */
+    @RequiredArgsConstructor
+    private static class Mismatches {
+
+        private final AtomicLong count = new AtomicLong();
+        private final List<Mismatch> samples = new ArrayList<>();
+        private final boolean token;
+
+        void add(long accountId, long tokenId, Long expected, Long actual) {
+            var mismatch = new Mismatch(accountId, tokenId, token, expected, actual);
+            log.warn("Balance mismatch {}", mismatch);
+
+            if (count.incrementAndGet() > MAX_MISMATCHES) {
+                return;
+            }
+
+            synchronized (samples) {
+                samples.add(mismatch);
+            }
+        }
+
+        boolean isEmpty() {
+            return count.get() == 0;
+        }
+
+        @Override
+        public String toString() {
+            synchronized (samples) {
+                samples.sort(Comparator.comparingLong(Mismatch::accountId).thenComparingLong(Mismatch::tokenId));
+                var result = new StringBuilder("not equal");
+                append(result, "only on left", m -> m.actual() == null);
+                append(result, "only on right", m -> m.expected() == null);
+                append(result, "value differences", m -> m.expected() != null && m.actual() != null);
+
+                long remaining = count.get() - samples.size();
+                if (remaining > 0) {
+                    result.append(": ... ").append(remaining).append(" more");
+                }
+                return result.toString();
+            }
+        }
+
+        private void append(StringBuilder result, String section, Predicate<Mismatch> filter) {
+            var entries = samples.stream().filter(filter).toList();
+            if (!entries.isEmpty()) {
+                result.append(": ").append(section).append("={").append(StringUtils.join(entries, ", "));
+                result.append('}');
+            }
+        }
+    }
+
+    // Either balance is null if the key is absent from that side
+    private record Mismatch(long accountId, long tokenId, boolean token, Long expected, Long actual) {
+
+        @Override
+        public String toString() {
+            var key = token ? new TokenAccountId(accountId, tokenId) : accountId;
+            if (expected == null) {
+                return key + "=" + actual;
+            } else if (actual == null) {
+                return key + "=" + expected;
+            }
+            return key + "=(" + expected + ", " + actual + ")";
         }
     }
 }
@@ -17,6 +17,7 @@
 package com.hedera.mirror.importer.reconciliation;
 
 import com.hedera.mirror.importer.util.Utility;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.time.Duration;
@@ -42,6 +43,9 @@ class ReconciliationProperties {
     @NotNull
     private Instant endDate = Utility.MAX_INSTANT_LONG;
 
+    @Min(1)
+    private int parallelism = 4;
+
     private RemediationStrategy remediationStrategy = RemediationStrategy.FAIL;
 
     @NotNull
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.reconciliation;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Balances sorted by account id and, for token balances, token id, stored in primitive arrays. Rows are appended in
+ * sorted order as they are streamed from the database.
+ */
+class SortedBalances {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] accountIds;
+    private long[] balances;
+    private int size;
+    private final boolean token;
+    private long[] tokenIds;
+
+    SortedBalances(boolean token) {
+        this(token, INITIAL_CAPACITY);
+    }
+
+    private SortedBalances(boolean token, int capacity) {
+        this.accountIds = new long[capacity];
+        this.balances = new long[capacity];
+        this.token = token;
+        this.tokenIds = token ? new long[capacity] : null;
+    }
+
+    static SortedBalances concat(boolean token, Collection<SortedBalances> parts) {
+        int total = parts.stream().mapToInt(SortedBalances::size).sum();
+        var result = new SortedBalances(token, Math.max(total, 1));
+
+        for (var part : parts) {
+            System.arraycopy(part.accountIds, 0, result.accountIds, result.size, part.size);
+            System.arraycopy(part.balances, 0, result.balances, result.size, part.size);
+            if (token) {
+                System.arraycopy(part.tokenIds, 0, result.tokenIds, result.size, part.size);
+            }
+            result.size += part.size;
+        }
+
+        return result;
+    }
+
+    void add(long accountId, long tokenId, long balance) {
+        if (size == accountIds.length) {
+            int capacity = size * 2;
+            accountIds = Arrays.copyOf(accountIds, capacity);
+            balances = Arrays.copyOf(balances, capacity);
+            if (token) {
+                tokenIds = Arrays.copyOf(tokenIds, capacity);
+            }
+        }
+
+        accountIds[size] = accountId;
+        balances[size] = balance;
+        if (token) {
+            tokenIds[size] = tokenId;
+        }
+        size++;
+    }
+
+    long getAccountId(int index) {
+        return accountIds[index];
+    }
+
+    long getBalance(int index) {
+        return balances[index];
+    }
+
+    long getTokenId(int index) {
+        return token ? tokenIds[index] : 0L;
+    }
+
+    boolean isToken() {
+        return token;
+    }
+
+    /**
+     * @param accountId the account id to search for
+     * @return the index of the first row with an account id greater than or equal to the account id
+     */
+    int lowerBound(long accountId) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (accountIds[mid] < accountId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    int size() {
+        return size;
+    }
+}
@@ -16,7 +16,27 @@
 
 package com.hedera.mirror.importer.repository;
 
+import java.util.Optional;
+
 interface EntityStakeRepositoryCustom {
 
     void createEntityStateStart();
+
+    /**
+     * Gets the consensus timestamp of the NodeStakeUpdate transaction which ends the next staking period to calculate
+     * the entity stake for.
+     *
+     * @return the end period timestamp
+     */
+    Optional<Long> getEndPeriodTimestamp();
+
+    /**
+     * Recalculates the entity stake start state of only the given entities, carrying the rest of the existing state
+     * forward. The caller must guarantee that the existing state is of the previous staking period and that the given
+     * entities include every entity whose staking fields or balance changed in the staking period.
+     *
+     * @param ids The ids of the changed entities
+     * @return true if updated, false if the existing state is missing and a full rebuild is required
+     */
+    boolean updateEntityStateStart(long[] ids);
 }
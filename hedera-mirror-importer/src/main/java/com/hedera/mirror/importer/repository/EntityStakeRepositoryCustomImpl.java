@@ -37,7 +37,7 @@ class EntityStakeRepositoryCustomImpl implements EntityStakeRepositoryCustom {
             drop index if exists entity_state_start__staked_account_id;
             truncate entity_state_start;
             """;
-    private static final String CREATE_ENTITY_STATE_START_SQL =
+    private static final String ENTITY_STATE_START_SQL_TEMPLATE =
             """
             with entity_state as (
               select
@@ -46,12 +46,12 @@ class EntityStakeRepositoryCustomImpl implements EntityStakeRepositoryCustom {
                 staked_node_id,
                 stake_period_start
               from entity
-              where id = 800 or (
+              where (id = 800 or (
                 deleted is not true and
                 type in ('ACCOUNT', 'CONTRACT') and
                 timestamp_range @> :endPeriodTimestamp and
                 (staked_account_id <> 0 or (decline_reward is false and staked_node_id <> -1))
-              )
+              )) %1$s
               union all
               select *
               from (
@@ -67,13 +67,14 @@ class EntityStakeRepositoryCustomImpl implements EntityStakeRepositoryCustom {
                   type in ('ACCOUNT', 'CONTRACT') and
                   timestamp_range @> :endPeriodTimestamp and
                   (staked_account_id <> 0 or (decline_reward is false and staked_node_id <> -1))
-                )
+                ) %1$s
                 order by id, timestamp_range desc
               ) as latest_history
             ), balance_snapshot as (
               select distinct on (account_id) account_id, balance
               from account_balance
               where consensus_timestamp > :lowerBalanceTimestamp and consensus_timestamp <= :balanceSnapshotTimestamp
+                %2$s
               order by account_id, consensus_timestamp desc
             )
             insert into entity_state_start (balance, id, staked_account_id, staked_node_id, stake_period_start)
@@ -89,15 +90,20 @@ class EntityStakeRepositoryCustomImpl implements EntityStakeRepositoryCustom {
               select entity_id, sum(amount) as change
               from crypto_transfer
               where consensus_timestamp <= :endPeriodTimestamp and consensus_timestamp > :balanceSnapshotTimestamp
+                %3$s
               group by entity_id
             ) as balance_change on entity_id = id;
             """;
+    private static final String CREATE_ENTITY_STATE_START_SQL = ENTITY_STATE_START_SQL_TEMPLATE.formatted("", "", "");
     private static final String CREATE_TABLE_INDEX_DDL =
             """
             create index if not exists entity_state_start__id on entity_state_start (id);
             create index if not exists entity_state_start__staked_account_id
               on entity_state_start (staked_account_id) where staked_account_id <> 0;
             """;
+    private static final String DELETE_ENTITY_STATE_START_SQL = "delete from entity_state_start where id = any(:ids)";
+    private static final String ENTITY_STATE_START_EXISTS_SQL =
+            "select exists(select 1 from entity_state_start where id = 800)";
     private static final String GET_END_PERIOD_TIMESTAMP_SQL =
             """
             select consensus_timestamp
@@ -121,6 +127,8 @@ class EntityStakeRepositoryCustomImpl implements EntityStakeRepositoryCustom {
             order by epoch_day
             limit 1
             """;
+    private static final String UPDATE_ENTITY_STATE_START_SQL = ENTITY_STATE_START_SQL_TEMPLATE.formatted(
+            "and id = any(:ids)", "and account_id = any(:ids)", "and entity_id = any(:ids)");
     private static final long ONE_MONTH_IN_NS = Duration.ofDays(31).toNanos();
 
     private final AccountBalanceRepository accountBalanceRepository;
@@ -132,9 +140,49 @@ class EntityStakeRepositoryCustomImpl implements EntityStakeRepositoryCustom {
     public void createEntityStateStart() {
         jdbcTemplate.execute(CLEANUP_TABLE_SQL);
 
+        var params = getEntityStateStartParams();
+        if (params.isEmpty()) {
+            return;
+        }
+
+        var namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        namedParameterJdbcTemplate.update(CREATE_ENTITY_STATE_START_SQL, params.get());
+        jdbcTemplate.execute(CREATE_TABLE_INDEX_DDL);
+    }
+
+    @Override
+    public Optional<Long> getEndPeriodTimestamp() {
+        try {
+            return Optional.ofNullable(jdbcTemplate.queryForObject(GET_END_PERIOD_TIMESTAMP_SQL, Long.class));
+        } catch (EmptyResultDataAccessException ex) {
+            return Optional.empty();
+        }
+    }
+
+    @Modifying
+    @Override
+    @Transactional
+    public boolean updateEntityStateStart(long[] ids) {
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(ENTITY_STATE_START_EXISTS_SQL, Boolean.class))) {
+            return false;
+        }
+
+        var params = getEntityStateStartParams();
+        if (params.isEmpty()) {
+            return false;
+        }
+
+        var namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        var idsParams = params.get().addValue("ids", ids);
+        namedParameterJdbcTemplate.update(DELETE_ENTITY_STATE_START_SQL, idsParams);
+        namedParameterJdbcTemplate.update(UPDATE_ENTITY_STATE_START_SQL, idsParams);
+        return true;
+    }
+
+    private Optional<MapSqlParameterSource> getEntityStateStartParams() {
         var endPeriodTimestamp = getEndPeriodTimestamp();
         if (endPeriodTimestamp.isEmpty()) {
-            return;
+            return Optional.empty();
         }
 
         // Add 1 for upper because the upper in getMaxConsensusTimestampInRange is exclusive
@@ -143,24 +191,13 @@ class EntityStakeRepositoryCustomImpl implements EntityStakeRepositoryCustom {
         var balanceSnapshotTimestamp =
                 accountBalanceRepository.getMaxConsensusTimestampInRange(lowerTimestamp, upperTimestamp);
         if (balanceSnapshotTimestamp.isEmpty()) {
-            return;
+            return Optional.empty();
         }
 
         long lowerBalanceTimestamp = balanceSnapshotTimestamp.get() - ONE_MONTH_IN_NS;
-        var params = new MapSqlParameterSource()
+        return Optional.of(new MapSqlParameterSource()
                 .addValue("balanceSnapshotTimestamp", balanceSnapshotTimestamp.get())
                 .addValue("endPeriodTimestamp", endPeriodTimestamp.get())
-                .addValue("lowerBalanceTimestamp", lowerBalanceTimestamp);
-        var namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
-        namedParameterJdbcTemplate.update(CREATE_ENTITY_STATE_START_SQL, params);
-        jdbcTemplate.execute(CREATE_TABLE_INDEX_DDL);
-    }
-
-    private Optional<Long> getEndPeriodTimestamp() {
-        try {
-            return Optional.ofNullable(jdbcTemplate.queryForObject(GET_END_PERIOD_TIMESTAMP_SQL, Long.class));
-        } catch (EmptyResultDataAccessException ex) {
-            return Optional.empty();
-        }
+                .addValue("lowerBalanceTimestamp", lowerBalanceTimestamp));
     }
 }
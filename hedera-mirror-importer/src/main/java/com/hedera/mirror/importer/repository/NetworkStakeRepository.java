@@ -30,4 +30,10 @@ public interface NetworkStakeRepository extends CrudRepository<NetworkStake, Lon
             value = "delete from network_stake where consensus_timestamp <= ?1 "
                     + "and epoch_day < (select max(epoch_day) from network_stake) - 366")
     int prune(long consensusTimestamp);
+
+    // Prune retains the last year of staking data regardless of the consensus timestamp
+    @Override
+    default boolean canDropPartitions() {
+        return false;
+    }
 }
@@ -37,4 +37,10 @@ public interface NodeStakeRepository extends CrudRepository<NodeStake, NodeStake
             value = "delete from node_stake where consensus_timestamp <= ?1 "
                     + "and epoch_day < (select max(epoch_day) from node_stake) - 366")
     int prune(long consensusTimestamp);
+
+    // Prune retains the last year of staking data regardless of the consensus timestamp
+    @Override
+    default boolean canDropPartitions() {
+        return false;
+    }
 }
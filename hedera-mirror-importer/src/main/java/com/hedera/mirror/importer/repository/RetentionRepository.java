@@ -25,4 +25,12 @@ public interface RetentionRepository {
 
     @Transactional
     int prune(long consensusTimestamp);
+
+    /**
+     * Whether prune removes every row whose partition column is on or before the consensus timestamp, so that time
+     * partitions lying entirely within the retention period can be dropped instead of deleted row by row.
+     */
+    default boolean canDropPartitions() {
+        return true;
+    }
 }
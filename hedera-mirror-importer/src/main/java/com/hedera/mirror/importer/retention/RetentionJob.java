@@ -18,6 +18,7 @@ package com.hedera.mirror.importer.retention;
 
 import com.google.common.base.Stopwatch;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.db.TimePartitionService;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
 import com.hedera.mirror.importer.repository.RetentionRepository;
 import com.hedera.mirror.importer.util.Utility;
@@ -45,6 +46,7 @@ public class RetentionJob {
     private final RecordFileRepository recordFileRepository;
     private final RetentionProperties retentionProperties;
     private final Collection<RetentionRepository> retentionRepositories;
+    private final TimePartitionService timePartitionService;
     private final TransactionOperations transactionOperations;
 
     @Scheduled(fixedDelayString = "#{@retentionProperties.getFrequency().toMillis()}", initialDelay = 120_000)
@@ -67,6 +69,8 @@ public class RetentionJob {
                 "Using retention period {} to prune entries on or before {}", retentionPeriod, toInstant(maxTimestamp));
 
         try {
+            dropPartitions(maxTimestamp);
+
             while (iterator.hasNext()) {
                 prune(iterator);
             }
@@ -77,6 +81,31 @@ public class RetentionJob {
         }
     }
 
+    /**
+     * Drops the time partitions that lie entirely within the retention period so the row deletes that follow only
+     * have to touch the boundary partition of each partitioned table and the tables that are not partitioned.
+     */
+    private void dropPartitions(long maxTimestamp) {
+        if (!retentionProperties.isDropPartitions()) {
+            return;
+        }
+
+        var stopwatch = Stopwatch.createStarted();
+        int count = 0;
+
+        for (var repository : retentionRepositories) {
+            String table = getTableName(repository);
+
+            if (retentionProperties.shouldPrune(table) && repository.canDropPartitions()) {
+                var partitions = transactionOperations.execute(
+                        t -> timePartitionService.dropTimePartitions(table, maxTimestamp));
+                count += partitions != null ? partitions.size() : 0;
+            }
+        }
+
+        log.info("Dropped {} partitions ending on or before {} in {}", count, toInstant(maxTimestamp), stopwatch);
+    }
+
     private void prune(RecordFileIterator iterator) {
         var counters = iterator.getCounters();
         long countBefore = counters.values().stream().reduce(0L, Long::sum);
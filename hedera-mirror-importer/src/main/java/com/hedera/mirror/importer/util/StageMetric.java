@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.util;
+
+import com.sun.management.ThreadMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.Getter;
+
+/**
+ * Records the time spent in a stage of ingesting a stream file and the bytes allocated by the thread while in it. The
+ * allocated bytes are only counted if the JVM supports measuring thread allocations.
+ */
+public final class StageMetric {
+
+    public static final String ALLOCATION_METRIC = "hedera.mirror.importer.ingest.allocation";
+    public static final String DURATION_METRIC = "hedera.mirror.importer.ingest.duration";
+
+    private static final ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+
+    private final Counter allocationMetric;
+    private final Timer durationMetric;
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final boolean nested;
+
+    /**
+     * @param meterRegistry The meter registry to register the metrics with
+     * @param stage         The name of the stage
+     * @param tags          Additional tag key and value pairs identifying the stage
+     */
+    public StageMetric(MeterRegistry meterRegistry, String stage, String... tags) {
+        this(meterRegistry, false, stage, tags);
+    }
+
+    /**
+     * @param meterRegistry The meter registry to register the metrics with
+     * @param nested        Whether the stage runs within other stages, so its time is also part of theirs
+     * @param stage         The name of the stage
+     * @param tags          Additional tag key and value pairs identifying the stage
+     */
+    public StageMetric(MeterRegistry meterRegistry, boolean nested, String stage, String... tags) {
+        this.allocationMetric = Counter.builder(ALLOCATION_METRIC)
+                .baseUnit("bytes")
+                .description("The bytes allocated by the importer while in the ingest stage")
+                .tag("stage", stage)
+                .tags(tags)
+                .register(meterRegistry);
+        this.durationMetric = Timer.builder(DURATION_METRIC)
+                .description("The time the importer spent in the ingest stage")
+                .tag("stage", stage)
+                .tags(tags)
+                .register(meterRegistry);
+        this.name = tags.length > 1 ? stage + ":" + tags[tags.length - 1] : stage;
+        this.nested = nested;
+    }
+
+    /**
+     * @return the bytes allocated by the current thread so far or zero if the JVM doesn't support measuring it
+     */
+    public static long allocatedBytes() {
+        return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() : 0L;
+    }
+
+    public static Sample start() {
+        return new Sample(System.nanoTime(), allocatedBytes());
+    }
+
+    public void record(long nanos, long allocatedBytes) {
+        durationMetric.record(nanos, TimeUnit.NANOSECONDS);
+        if (allocatedBytes > 0) {
+            allocationMetric.increment(allocatedBytes);
+        }
+    }
+
+    public <T> T record(Supplier<T> supplier) {
+        var sample = start();
+        try {
+            return supplier.get();
+        } finally {
+            record(sample.elapsed(), sample.allocated());
+        }
+    }
+
+    private static ThreadMXBean getThreadMXBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threadMXBean
+                && threadMXBean.isThreadAllocatedMemorySupported()
+                && threadMXBean.isThreadAllocatedMemoryEnabled()) {
+            return threadMXBean;
+        }
+
+        return null;
+    }
+
+    /**
+     * The time and allocated bytes of the current thread at the start of a stage
+     */
+    public record Sample(long nanos, long bytes) {
+
+        public long elapsed() {
+            return System.nanoTime() - nanos;
+        }
+
+        public long allocated() {
+            return allocatedBytes() - bytes;
+        }
+    }
+}
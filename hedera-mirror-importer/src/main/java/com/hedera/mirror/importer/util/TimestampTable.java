@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.util;
+
+/**
+ * A linear probing hash table from a pair of long keys to the max timestamp. Key0 zero is reserved as empty.
+ */
+public final class TimestampTable {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] keys0 = new long[INITIAL_CAPACITY];
+    private long[] keys1 = new long[INITIAL_CAPACITY];
+    private long[] timestamps = new long[INITIAL_CAPACITY];
+
+    private int size;
+
+    public void clear() {
+        keys0 = new long[INITIAL_CAPACITY];
+        keys1 = new long[INITIAL_CAPACITY];
+        timestamps = new long[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    public long get(long key0, long key1) {
+        int mask = keys0.length - 1;
+        for (int i = index(key0, key1, mask); keys0[i] != 0; i = (i + 1) & mask) {
+            if (keys0[i] == key0 && keys1[i] == key1) {
+                return timestamps[i];
+            }
+        }
+        return 0L;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long[] keys(int column) {
+        var source = column == 0 ? keys0 : keys1;
+        var result = new long[size];
+        int count = 0;
+        for (int i = 0; i < keys0.length; i++) {
+            if (keys0[i] != 0) {
+                result[count++] = source[i];
+            }
+        }
+        return result;
+    }
+
+    public void prune(long timestamp) {
+        var oldKeys0 = keys0;
+        var oldKeys1 = keys1;
+        var oldTimestamps = timestamps;
+        keys0 = new long[oldKeys0.length];
+        keys1 = new long[oldKeys0.length];
+        timestamps = new long[oldKeys0.length];
+        size = 0;
+
+        for (int i = 0; i < oldKeys0.length; i++) {
+            if (oldKeys0[i] != 0 && oldTimestamps[i] > timestamp) {
+                put(oldKeys0[i], oldKeys1[i], oldTimestamps[i]);
+            }
+        }
+    }
+
+    public void put(long key0, long key1, long timestamp) {
+        if (key0 == 0) {
+            return;
+        }
+
+        int mask = keys0.length - 1;
+        int i = index(key0, key1, mask);
+        while (keys0[i] != 0) {
+            if (keys0[i] == key0 && keys1[i] == key1) {
+                timestamps[i] = Math.max(timestamps[i], timestamp);
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+
+        keys0[i] = key0;
+        keys1[i] = key1;
+        timestamps[i] = timestamp;
+
+        // Keep the load factor at or below 0.5
+        if (++size * 2 > keys0.length) {
+            resize();
+        }
+    }
+
+    private void resize() {
+        var oldKeys0 = keys0;
+        var oldKeys1 = keys1;
+        var oldTimestamps = timestamps;
+        int capacity = oldKeys0.length * 2;
+        keys0 = new long[capacity];
+        keys1 = new long[capacity];
+        timestamps = new long[capacity];
+        size = 0;
+
+        for (int i = 0; i < oldKeys0.length; i++) {
+            if (oldKeys0[i] != 0) {
+                put(oldKeys0[i], oldKeys1[i], oldTimestamps[i]);
+            }
+        }
+    }
+
+    private static int index(long key0, long key1, int mask) {
+        long hash = (key0 * 0x9E3779B97F4A7C15L) ^ (key1 * 0xC2B2AE3D27D4EB4FL);
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
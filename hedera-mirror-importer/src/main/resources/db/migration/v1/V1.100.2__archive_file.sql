@@ -0,0 +1,12 @@
+create table if not exists archive_file
+(
+    consensus_end   bigint  not null,
+    consensus_start bigint  not null,
+    correction      boolean not null default false,
+    count           bigint  not null,
+    name            text    not null,
+    size            bigint  not null,
+    table_name      text    not null,
+    primary key (table_name, consensus_start, correction)
+);
+comment on table archive_file is 'The columnar files archived to the cold storage and the consensus timestamp range of each';
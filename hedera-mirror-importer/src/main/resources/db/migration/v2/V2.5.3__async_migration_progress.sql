@@ -0,0 +1,10 @@
+create table if not exists async_migration_progress
+(
+    checkpoint  bigint  null,
+    chunk_end   bigint  not null,
+    chunk_start bigint  not null,
+    complete    boolean not null default false,
+    migration   text    not null,
+    primary key (migration, chunk_start)
+);
+comment on table async_migration_progress is 'The chunks of in progress asynchronous java migrations and the last value migrated in each';
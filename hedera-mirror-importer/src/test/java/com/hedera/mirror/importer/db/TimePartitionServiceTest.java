@@ -32,6 +32,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.jdbc.core.JdbcTemplate;
 
@@ -97,11 +98,93 @@ class TimePartitionServiceTest extends ImporterIntegrationTest {
                 .containsExactlyElementsOf(expected);
     }
 
+    @ParameterizedTest
+    @CsvSource(
+            textBlock =
+                    """
+            event, 999999999,
+            event, 1000000000, 0
+            event, 1999999999, 0
+            event, 2000000000, 1
+            event, 3999999999, 2
+            event, 4000000000,
+            location, 1000000000,
+            non_existent_table, 1000000000,
+            not_partitioned, 1000000000,
+            """)
+    void getTimePartition(String tableName, long timestamp, Integer expected) {
+        var expectedPartition = expected != null ? EVENT_TIME_PARTITIONS.get(expected) : null;
+        assertThat(timePartitionService.getTimePartition(tableName, timestamp)).isEqualTo(expectedPartition);
+    }
+
     @Test
     void getTimePartitions() {
         assertThat(timePartitionService.getTimePartitions("event")).containsExactlyElementsOf(EVENT_TIME_PARTITIONS);
     }
 
+    @Test
+    void dropTimePartitions() {
+        jdbcTemplate.execute(
+                """
+                create table metric (name text not null, timestamp bigint not null) partition by range (timestamp);
+                create table metric_00 partition of metric for values from ('1000000000') to ('2000000000');
+                create table metric_01 partition of metric for values from ('2000000000') to ('3000000000');
+                create table metric_02 partition of metric for values from ('3000000000') to ('4000000000');
+                insert into metric values ('a', 1000000000), ('b', 2000000000), ('c', 3000000000);
+                """);
+
+        try {
+            var partitions = timePartitionService.getTimePartitions("metric");
+            assertThat(partitions).hasSize(3);
+
+            // The second partition ends after the timestamp so only the first is dropped
+            assertThat(timePartitionService.dropTimePartitions("metric", 2000000000L))
+                    .containsExactly(partitions.get(0));
+            assertThat(timePartitionService.getTimePartitions("metric"))
+                    .containsExactlyElementsOf(partitions.subList(1, 3));
+            assertThat(jdbcTemplate.queryForList("select name from metric", String.class))
+                    .containsExactlyInAnyOrder("b", "c");
+
+            assertThat(timePartitionService.dropTimePartitions("metric", 3999999999L))
+                    .containsExactly(partitions.get(1));
+            assertThat(timePartitionService.getTimePartitions("metric")).containsExactly(partitions.get(2));
+        } finally {
+            jdbcTemplate.execute("drop table metric cascade");
+        }
+    }
+
+    @Test
+    void dropTimePartitionsNone() {
+        assertThat(timePartitionService.dropTimePartitions("event", 1999999999L)).isEmpty();
+        assertThat(timePartitionService.dropTimePartitions("location", Long.MAX_VALUE)).isEmpty();
+        assertThat(timePartitionService.dropTimePartitions("non_existent_table", Long.MAX_VALUE)).isEmpty();
+        assertThat(timePartitionService.dropTimePartitions("not_partitioned", Long.MAX_VALUE)).isEmpty();
+        assertThat(timePartitionService.getTimePartitions("event")).containsExactlyElementsOf(EVENT_TIME_PARTITIONS);
+    }
+
+    @Test
+    void refresh() {
+        // given
+        assertThat(timePartitionService.getTimePartitions("event")).containsExactlyElementsOf(EVENT_TIME_PARTITIONS);
+        jdbcTemplate.execute(
+                "create table event_03 partition of event for values from ('4000000000') to ('5000000000')");
+
+        try {
+            // when
+            timePartitionService.refresh();
+
+            // then
+            assertThat(timePartitionService.getTimePartitions("event"))
+                    .hasSize(4)
+                    .startsWith(EVENT_TIME_PARTITIONS.toArray(new TimePartition[0]));
+            assertThat(timePartitionService.getTimePartition("event", 4000000000L))
+                    .returns("event_03", TimePartition::getName);
+        } finally {
+            jdbcTemplate.execute("drop table event_03");
+            timePartitionService.refresh();
+        }
+    }
+
     @Test
     void getTimePartitionsEmpty() {
         // Table location is partitioned but not partitioned on timestamp
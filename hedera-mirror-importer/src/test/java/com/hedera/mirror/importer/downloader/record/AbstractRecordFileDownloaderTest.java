@@ -89,7 +89,7 @@ abstract class AbstractRecordFileDownloaderTest extends AbstractLinkedStreamDown
                 meterRegistry,
                 dateRangeProcessor,
                 nodeSignatureVerifier,
-                new SidecarFileReaderImpl(),
+                new SidecarFileReaderImpl(sidecarProperties),
                 sidecarProperties,
                 signatureFileReader,
                 streamFileNotifier,
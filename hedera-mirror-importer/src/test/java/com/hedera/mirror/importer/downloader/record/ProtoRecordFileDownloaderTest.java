@@ -103,6 +103,11 @@ class ProtoRecordFileDownloaderTest extends AbstractRecordFileDownloaderTest {
     void sidecarTypesFilterSome() {
         sidecarProperties.setPersistBytes(true);
         sidecarProperties.setTypes(Set.of(SidecarType.CONTRACT_BYTECODE));
+        // Sidecar records of other types are skipped when reading the sidecar file
+        recordFileMap.get(RECORD_FILE_WITH_SIDECAR).getSidecars().forEach(sidecar -> sidecar.setRecords(
+                sidecar.getRecords().stream()
+                        .filter(TransactionSidecarRecord::hasBytecode)
+                        .toList()));
         fileCopier.copy();
         expectLastStreamFile(Instant.EPOCH);
         downloader.download();
@@ -0,0 +1,252 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.Range;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.importer.EnabledIfV1;
+import com.hedera.mirror.importer.ImporterIntegrationTest;
+import com.hedera.mirror.importer.db.DBProperties;
+import jakarta.annotation.Nonnull;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+@EnabledIfV1
+@RequiredArgsConstructor
+@Tag("migration")
+class ChunkedAsyncJavaMigrationTest extends ImporterIntegrationTest {
+
+    private static final List<Range<Long>> CHUNKS =
+            List.of(Range.closedOpen(0L, 10L), Range.closedOpen(10L, 20L), Range.closedOpen(20L, 30L));
+    private static final long STEP = 4L;
+
+    private final DBProperties dbProperties;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final String script = TestChunkedMigration.class.getName();
+
+    @AfterEach
+    @BeforeEach
+    void cleanup() {
+        namedParameterJdbcTemplate.update(
+                "delete from async_migration_progress where migration = :script", Map.of("script", script));
+    }
+
+    @Test
+    void migrate() {
+        // given
+        var migration = new TestChunkedMigration(-1L);
+
+        // when
+        migration.migrateAsync();
+
+        // then
+        assertThat(migration.migrated).containsExactlyInAnyOrderElementsOf(values(0, 30));
+        assertThat(getProgress()).isEmpty();
+    }
+
+    @Test
+    void migrateEmpty() {
+        // given
+        var migration = new TestChunkedMigration(-1L, List.of());
+
+        // when
+        migration.migrateAsync();
+
+        // then
+        assertThat(migration.migrated).isEmpty();
+        assertThat(getProgress()).isEmpty();
+    }
+
+    @Test
+    void resume() {
+        // given
+        addProgress(0L, 10L, 9L, true);
+        addProgress(10L, 20L, 13L, false);
+        addProgress(20L, 30L, null, false);
+        var migration = new TestChunkedMigration(-1L, List.of(Range.closedOpen(100L, 200L)));
+
+        // when
+        migration.migrateAsync();
+
+        // then
+        assertThat(migration.migrated).containsExactlyInAnyOrderElementsOf(values(14, 30));
+        assertThat(getProgress()).isEmpty();
+    }
+
+    @Test
+    void error() {
+        // given
+        var migration = new TestChunkedMigration(15L);
+
+        // when
+        assertThatThrownBy(migration::migrateAsync).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(migration.migrated).doesNotContain(15L).contains(12L);
+        assertThat(getProgress()).hasSize(3).contains("10-20:13:false");
+
+        // when
+        var resumed = new TestChunkedMigration(-1L);
+        resumed.migrateAsync();
+
+        // then
+        assertThat(resumed.migrated).contains(14L, 15L, 19L).doesNotContain(10L, 13L);
+        assertThat(getProgress()).isEmpty();
+    }
+
+    @Test
+    void throttle() throws InterruptedException {
+        // given the importer is ingesting an hour behind
+        var properties = new MigrationProperties();
+        properties.setIngestStallTimeout(Duration.ofSeconds(2L));
+        properties.setMaxIngestLag(Duration.ofSeconds(1L));
+        var migration = new TestChunkedMigration(-1L, CHUNKS, properties);
+        long consensusEnd = DomainUtils.convertToNanosMax(Instant.now().minus(Duration.ofHours(1L)));
+        persistRecordFile(consensusEnd);
+        var ingestStopped = new AtomicLong();
+        var importer = Thread.ofVirtual().start(() -> {
+            for (long i = 1; i <= 30; i++) {
+                Uninterruptibles.sleepUninterruptibly(Duration.ofMillis(100L));
+                persistRecordFile(consensusEnd + i);
+            }
+            ingestStopped.set(System.nanoTime());
+        });
+
+        // when
+        migration.migrateAsync();
+        importer.join();
+
+        // then none of the workers start until the importer stalls
+        assertThat(migration.migrated).containsExactlyInAnyOrderElementsOf(values(0, 30));
+        assertThat(migration.startedAt.get()).isGreaterThan(ingestStopped.get());
+    }
+
+    private void persistRecordFile(long consensusEnd) {
+        domainBuilder
+                .recordFile()
+                .customize(r -> r.consensusEnd(consensusEnd).consensusStart(consensusEnd))
+                .persist();
+    }
+
+    private void addProgress(long start, long end, Long checkpoint, boolean complete) {
+        var paramSource = new MapSqlParameterSource()
+                .addValue("checkpoint", checkpoint)
+                .addValue("complete", complete)
+                .addValue("end", end)
+                .addValue("script", script)
+                .addValue("start", start);
+        namedParameterJdbcTemplate.update(
+                """
+                insert into async_migration_progress (checkpoint, chunk_end, chunk_start, complete, migration)
+                values (:checkpoint, :end, :start, :complete, :script)
+                """,
+                paramSource);
+    }
+
+    private List<String> getProgress() {
+        return namedParameterJdbcTemplate.query(
+                "select * from async_migration_progress where migration = :script",
+                Map.of("script", script),
+                (rs, rowNum) -> String.format(
+                        "%d-%d:%s:%s",
+                        rs.getLong("chunk_start"),
+                        rs.getLong("chunk_end"),
+                        rs.getObject("checkpoint", Long.class),
+                        rs.getBoolean("complete")));
+    }
+
+    private static List<Long> values(long start, long end) {
+        return LongStream.range(start, end).boxed().toList();
+    }
+
+    private class TestChunkedMigration extends ChunkedAsyncJavaMigration {
+
+        private final List<Range<Long>> chunks;
+        private final long failAt;
+        private final Collection<Long> migrated = new ConcurrentLinkedQueue<>();
+        private final AtomicLong startedAt = new AtomicLong();
+
+        TestChunkedMigration(long failAt) {
+            this(failAt, CHUNKS);
+        }
+
+        TestChunkedMigration(long failAt, List<Range<Long>> chunks) {
+            this(failAt, chunks, new MigrationProperties());
+        }
+
+        TestChunkedMigration(long failAt, List<Range<Long>> chunks, MigrationProperties properties) {
+            super(
+                    Map.of("testChunkedMigration", properties),
+                    ChunkedAsyncJavaMigrationTest.this.namedParameterJdbcTemplate,
+                    dbProperties.getSchema());
+            this.chunks = chunks;
+            this.failAt = failAt;
+        }
+
+        @Override
+        public String getDescription() {
+            return "Chunked async java migration for testing";
+        }
+
+        @Override
+        protected List<Range<Long>> getChunks() {
+            return chunks;
+        }
+
+        @Override
+        protected TransactionOperations getTransactionOperations() {
+            return transactionOperations;
+        }
+
+        @Nonnull
+        @Override
+        protected Optional<Long> migrateChunk(Range<Long> chunk, Long last) {
+            startedAt.compareAndSet(0L, System.nanoTime());
+            long start = last == null ? chunk.lowerEndpoint() : last + 1;
+            long end = Math.min(start + STEP, chunk.upperEndpoint());
+
+            for (long value = start; value < end; value++) {
+                if (value == failAt) {
+                    throw new IllegalStateException("Failed at " + value);
+                }
+                migrated.add(value);
+            }
+
+            return end == chunk.upperEndpoint() ? Optional.empty() : Optional.of(end - 1);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record;
+
+import static com.hedera.mirror.importer.util.StageMetric.DURATION_METRIC;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.importer.util.StageMetric;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(OutputCaptureExtension.class)
+class IngestTracerTest {
+
+    private IngestProperties ingestProperties;
+    private IngestTracer ingestTracer;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setup() {
+        ingestProperties = new IngestProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        ingestTracer = new IngestTracer(ingestProperties, meterRegistry);
+    }
+
+    @AfterEach
+    void teardown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void end(CapturedOutput output) {
+        // given
+        var stageMetric = ingestTracer.stageMetric("handler", "transactionType", "CRYPTOTRANSFER");
+
+        // when
+        ingestTracer.begin();
+        ingestTracer.stop(stageMetric, StageMetric.start());
+        ingestTracer.stop(stageMetric, StageMetric.start());
+
+        // then
+        assertThat(count("handler")).isZero();
+
+        // when
+        ingestTracer.end("2024-01-01T00_00_00Z.rcd.gz", 1);
+
+        // then
+        assertThat(count("handler")).isOne();
+        assertThat(count("commit")).isZero();
+        assertThat(output).doesNotContain("Slow ingest");
+    }
+
+    @Test
+    void endWithTransaction() {
+        // given
+        var stageMetric = ingestTracer.stageMetric("merge");
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        ingestTracer.begin();
+        ingestTracer.stop(stageMetric, StageMetric.start());
+        ingestTracer.end("2024-01-01T00_00_00Z.rcd.gz", 1);
+
+        // then
+        assertThat(count("merge")).isZero();
+
+        // when
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(s -> s.beforeCommit(false));
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // then
+        assertThat(synchronizations).containsExactly(ingestTracer);
+        assertThat(count("merge")).isOne();
+        assertThat(count("commit")).isOne();
+    }
+
+    @Test
+    void otherThread() {
+        // given
+        var stageMetric = ingestTracer.stageMetric("persist", "table", "account_balance");
+        ingestTracer.begin();
+
+        // when
+        CompletableFuture.runAsync(() -> ingestTracer.stop(stageMetric, StageMetric.start())).join();
+
+        // then
+        assertThat(count("persist")).isOne();
+    }
+
+    @Test
+    void slowFiles(CapturedOutput output) {
+        // given
+        ingestProperties.setSlowFiles(1);
+        var stageMetric = ingestTracer.stageMetric("handler", "transactionType", "CONTRACTCALL");
+        var nestedStageMetric = ingestTracer.nestedStageMetric("merge");
+
+        // when
+        ingestTracer.begin();
+        var sample = StageMetric.start();
+        ingestTracer.stop(nestedStageMetric, StageMetric.start());
+        ingestTracer.stop(stageMetric, sample);
+        ingestTracer.end("2024-01-01T00_00_00Z.rcd.gz", 1);
+
+        // then
+        assertThat(output)
+                .contains("Slow ingest of 1 record files ending with 2024-01-01T00_00_00Z.rcd.gz")
+                .containsPattern("in \\d+ms: handler:CONTRACTCALL=\\d+ms/\\d+KiB, nested stages: merge=");
+        assertThat(count("merge")).isOne();
+    }
+
+    private long count(String stage) {
+        var timer = meterRegistry.find(DURATION_METRIC).tag("stage", stage).timer();
+        return timer != null ? timer.count() : 0L;
+    }
+}
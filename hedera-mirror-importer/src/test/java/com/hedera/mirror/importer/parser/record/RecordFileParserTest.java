@@ -118,14 +118,16 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
     protected RecordFileParser getParser() {
         RecordParserProperties parserProperties = new RecordParserProperties();
         when(dateRangeCalculator.getFilter(parserProperties.getStreamType())).thenReturn(DateRangeFilter.all());
+        var meterRegistry = new SimpleMeterRegistry();
         return new RecordFileParser(
                 applicationEventPublisher,
-                new SimpleMeterRegistry(),
+                meterRegistry,
                 parserProperties,
                 recordFileRepository,
                 recordItemListener,
                 recordStreamFileListener,
                 dateRangeCalculator,
+                new IngestTracer(new IngestProperties(), meterRegistry),
                 new ParserContext());
     }
 
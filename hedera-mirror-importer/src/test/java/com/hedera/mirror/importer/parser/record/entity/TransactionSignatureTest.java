@@ -38,6 +38,8 @@ import com.hedera.mirror.importer.domain.EntityIdService;
 import com.hedera.mirror.importer.parser.CommonParserProperties;
 import com.hedera.mirror.importer.parser.contractlog.SyntheticContractLogService;
 import com.hedera.mirror.importer.parser.contractresult.SyntheticContractResultService;
+import com.hedera.mirror.importer.parser.record.IngestProperties;
+import com.hedera.mirror.importer.parser.record.IngestTracer;
 import com.hedera.mirror.importer.parser.record.transactionhandler.TransactionHandler;
 import com.hedera.mirror.importer.parser.record.transactionhandler.TransactionHandlerFactory;
 import com.hedera.mirror.importer.repository.FileDataRepository;
@@ -50,6 +52,7 @@ import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionReceipt;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.EnumSet;
@@ -125,7 +128,8 @@ class TransactionSignatureTest {
                 entityProperties,
                 transactionHandlerFactory,
                 syntheticContractLogService,
-                syntheticContractResultService);
+                syntheticContractResultService,
+                new IngestTracer(new IngestProperties(), new SimpleMeterRegistry()));
         defaultSignatureMap = getDefaultSignatureMap();
         defaultTransactionSignatures = defaultSignatureMap.getSigPairList().stream()
                 .map(pair -> {
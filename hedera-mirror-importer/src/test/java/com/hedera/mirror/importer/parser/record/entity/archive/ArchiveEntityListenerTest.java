@@ -0,0 +1,366 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.awaitility.Awaitility.await;
+
+import com.google.common.collect.Range;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.ImporterIntegrationTest;
+import com.hedera.mirror.importer.exception.ParserException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@RequiredArgsConstructor
+class ArchiveEntityListenerTest extends ImporterIntegrationTest {
+
+    private final ArchiveIndex archiveIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    @TempDir
+    private Path archivePath;
+
+    private ArchiveEntityListener archiveEntityListener;
+    private ArchiveProperties archiveProperties;
+    private SimpleMeterRegistry archiveMeterRegistry;
+
+    @BeforeEach
+    void setup() {
+        archiveProperties = new ArchiveProperties();
+        archiveProperties.setEnabled(true);
+        archiveProperties.setPrefix("mainnet");
+        archiveProperties.setTables(Set.of("crypto_transfer", "transaction"));
+        archiveProperties.getRetry().setMaxAttempts(2);
+        archiveProperties.getRetry().setMinBackoff(Duration.ofMillis(100L));
+        archiveEntityListener = createListener();
+    }
+
+    @AfterEach
+    void teardown() {
+        archiveEntityListener.close();
+    }
+
+    @Test
+    void disabled() {
+        // given
+        archiveProperties.setEnabled(false);
+        var recordFile = domainBuilder.recordFile().get();
+
+        // when
+        archiveEntityListener.onEnd(recordFile);
+        archiveEntityListener.close();
+
+        // then
+        assertThat(archiveEntityListener.isEnabled()).isFalse();
+        assertThat(archiveIndex.getConsensusEnd("transaction")).isEmpty();
+    }
+
+    @Test
+    void archive() throws IOException {
+        // given
+        var recordFile1 = domainBuilder.recordFile().get();
+        var transaction1 = domainBuilder
+                .transaction()
+                .customize(t -> t.consensusTimestamp(recordFile1.getConsensusStart()))
+                .get();
+        var cryptoTransfer = domainBuilder
+                .cryptoTransfer()
+                .customize(c -> c.consensusTimestamp(recordFile1.getConsensusStart()))
+                .get();
+        var contractLog = domainBuilder.contractLog().get();
+        var recordFile2 = domainBuilder.recordFile().get();
+        var transaction2 = domainBuilder
+                .transaction()
+                .customize(t -> t.consensusTimestamp(recordFile2.getConsensusStart()))
+                .get();
+
+        // when
+        transactionTemplate.executeWithoutResult(s -> {
+            archiveEntityListener.onTransaction(transaction1);
+            archiveEntityListener.onCryptoTransfer(cryptoTransfer);
+            archiveEntityListener.onContractLog(contractLog);
+            archiveEntityListener.onEnd(recordFile1);
+        });
+        transactionTemplate.executeWithoutResult(s -> {
+            archiveEntityListener.onTransaction(transaction2);
+            archiveEntityListener.onEnd(recordFile2);
+        });
+        archiveEntityListener.close();
+
+        // then
+        var consensusStart = recordFile1.getConsensusStart();
+        var consensusEnd = recordFile2.getConsensusEnd();
+        assertThat(archiveIndex.find("contract_log", consensusStart, consensusEnd)).isEmpty();
+        assertThat(archiveIndex.find("crypto_transfer", consensusStart, consensusEnd))
+                .containsExactly(archiveFile("crypto_transfer", consensusStart, consensusEnd, 1));
+        assertThat(archiveIndex.find("transaction", consensusStart, consensusEnd))
+                .containsExactly(archiveFile("transaction", consensusStart, consensusEnd, 2));
+        assertThat(read("transaction", consensusStart, consensusEnd).columns().get("consensus_timestamp"))
+                .containsExactly(transaction1.getConsensusTimestamp(), transaction2.getConsensusTimestamp());
+    }
+
+    @Test
+    void correction() throws IOException {
+        // given
+        var recordFile = domainBuilder.recordFile().get();
+        var transaction = domainBuilder
+                .transaction()
+                .customize(t -> t.consensusTimestamp(recordFile.getConsensusStart() + 1))
+                .get();
+        archiveEntityListener.onEnd(recordFile);
+
+        // when
+        transactionTemplate.executeWithoutResult(s -> {
+            archiveEntityListener.onTransaction(transaction);
+            archiveEntityListener.onEnd(null);
+        });
+        archiveEntityListener.close();
+
+        // then
+        long timestamp = transaction.getConsensusTimestamp();
+        var name = "mainnet/transaction/correction/%d_%d.gz".formatted(timestamp, timestamp);
+        var correction = ArchiveFile.builder()
+                .consensusEnd(timestamp)
+                .consensusStart(timestamp)
+                .correction(true)
+                .count(1L)
+                .name(name)
+                .size(archivePath.resolve(name).toFile().length())
+                .tableName("transaction")
+                .build();
+        assertThat(archiveIndex.find("transaction", 0, Long.MAX_VALUE))
+                .containsExactly(
+                        archiveFile("transaction", recordFile.getConsensusStart(), recordFile.getConsensusEnd(), 0),
+                        correction);
+        assertThat(archiveIndex.findGaps("transaction")).isEmpty();
+        assertThat(archiveIndex.getConsensusEnd("transaction")).get().isEqualTo(recordFile.getConsensusEnd());
+        try (var inputStream = Files.newInputStream(archivePath.resolve(name))) {
+            assertThat(ColumnarReader.read(inputStream).columns().get("consensus_timestamp"))
+                    .containsExactly(timestamp);
+        }
+    }
+
+    @Test
+    void maxRows() {
+        // given
+        archiveProperties.setMaxRows(1);
+        var recordFile1 = domainBuilder.recordFile().get();
+        var recordFile2 = domainBuilder.recordFile().get();
+        var recordFile3 = domainBuilder.recordFile().get();
+
+        // when
+        archiveEntityListener.onTransaction(domainBuilder.transaction().get());
+        archiveEntityListener.onEnd(recordFile1);
+        archiveEntityListener.onEnd(recordFile2);
+        archiveEntityListener.onTransaction(domainBuilder.transaction().get());
+        archiveEntityListener.onEnd(recordFile3);
+        archiveEntityListener.close();
+
+        // then
+        assertThat(archiveIndex.find("transaction", 0, Long.MAX_VALUE))
+                .extracting(ArchiveFile::consensusEnd, ArchiveFile::count)
+                .containsExactly(
+                        tuple(recordFile1.getConsensusEnd(), 1L),
+                        tuple(recordFile3.getConsensusEnd(), 1L));
+    }
+
+    @Test
+    void maxInterval() {
+        // given
+        archiveProperties.setMaxInterval(Duration.ofSeconds(1));
+        var recordFile1 = domainBuilder.recordFile().get();
+        var recordFile2 = domainBuilder
+                .recordFile()
+                .customize(r -> r.consensusStart(recordFile1.getConsensusEnd() + 1)
+                        .consensusEnd(recordFile1.getConsensusStart() + Duration.ofSeconds(2).toNanos()))
+                .get();
+
+        // when
+        archiveEntityListener.onEnd(recordFile1);
+        archiveEntityListener.onEnd(recordFile2);
+
+        // then
+        waitForIndex("transaction", 1);
+        assertThat(archiveIndex.find("transaction", 0, Long.MAX_VALUE))
+                .containsExactly(archiveFile(
+                        "transaction", recordFile1.getConsensusStart(), recordFile2.getConsensusEnd(), 0));
+    }
+
+    @Test
+    void resume() {
+        // given
+        var recordFile1 = domainBuilder.recordFile().get();
+        var recordFile2 = domainBuilder.recordFile().get();
+        var recordFile3 = domainBuilder.recordFile().get();
+        archiveEntityListener.onEnd(recordFile1);
+        archiveEntityListener.close();
+
+        // when
+        archiveEntityListener = createListener();
+        archiveEntityListener.onEnd(recordFile2);
+        archiveEntityListener.onEnd(recordFile3);
+        archiveEntityListener.close();
+
+        // then
+        var tableName = "crypto_transfer";
+        assertThat(archiveIndex.find(tableName, 0, Long.MAX_VALUE))
+                .containsExactly(
+                        archiveFile(tableName, recordFile1.getConsensusStart(), recordFile1.getConsensusEnd(), 0),
+                        archiveFile(tableName, recordFile2.getConsensusStart(), recordFile3.getConsensusEnd(), 0));
+    }
+
+    @Test
+    void rollback() {
+        // given
+        var recordFile = domainBuilder.recordFile().get();
+        var transaction = domainBuilder.transaction().get();
+
+        // when
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(s -> {
+                    archiveEntityListener.onTransaction(transaction);
+                    archiveEntityListener.onEnd(recordFile);
+                    throw new IllegalStateException("rollback");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+        archiveEntityListener.onEnd(recordFile);
+        archiveEntityListener.close();
+
+        // then
+        assertThat(archiveIndex.find("transaction", 0, Long.MAX_VALUE))
+                .containsExactly(archiveFile(
+                        "transaction", recordFile.getConsensusStart(), recordFile.getConsensusEnd(), 0));
+    }
+
+    @Test
+    void retry() {
+        // given
+        var attempts = new AtomicInteger();
+        archiveEntityListener.close();
+        archiveEntityListener =
+                createListener(name -> name.contains("/transaction/") && attempts.getAndIncrement() == 0);
+        var recordFile = domainBuilder.recordFile().get();
+
+        // when
+        archiveEntityListener.onEnd(recordFile);
+        archiveEntityListener.close();
+
+        // then
+        assertThat(attempts).hasValue(2);
+        assertThat(archiveIndex.findGaps("crypto_transfer")).isEmpty();
+        assertThat(archiveIndex.find("transaction", 0, Long.MAX_VALUE))
+                .containsExactly(archiveFile(
+                        "transaction", recordFile.getConsensusStart(), recordFile.getConsensusEnd(), 0));
+        assertThat(archiveIndex.findGaps("transaction")).isEmpty();
+        assertThat(failures()).isZero();
+    }
+
+    @Test
+    void writeFailure() {
+        // given
+        archiveProperties.setMaxRows(1);
+        var recordFile1 = domainBuilder.recordFile().get();
+        var recordFile2 = domainBuilder.recordFile().get();
+        var recordFile3 = domainBuilder.recordFile().get();
+        var failed = "mainnet/transaction/%d_%d.gz"
+                .formatted(recordFile1.getConsensusEnd() + 1, recordFile2.getConsensusEnd());
+        archiveEntityListener.close();
+        archiveEntityListener = createListener(failed::equals);
+
+        // when
+        for (var recordFile : new RecordFile[] {recordFile1, recordFile2, recordFile3}) {
+            archiveEntityListener.onTransaction(domainBuilder
+                    .transaction()
+                    .customize(t -> t.consensusTimestamp(recordFile.getConsensusStart()))
+                    .get());
+            archiveEntityListener.onEnd(recordFile);
+        }
+        archiveEntityListener.close();
+
+        // then
+        assertThat(archiveIndex.find("transaction", 0, Long.MAX_VALUE))
+                .extracting(ArchiveFile::consensusEnd)
+                .containsExactly(recordFile1.getConsensusEnd(), recordFile3.getConsensusEnd());
+        assertThat(archiveIndex.findGaps("transaction"))
+                .containsExactly(Range.closed(recordFile1.getConsensusEnd() + 1, recordFile2.getConsensusEnd()));
+        assertThat(failures()).isEqualTo(1.0);
+    }
+
+    private ArchiveFile archiveFile(String tableName, long consensusStart, long consensusEnd, long count) {
+        var name = "mainnet/%s/%d_%d.gz".formatted(tableName, consensusStart, consensusEnd);
+        return ArchiveFile.builder()
+                .consensusEnd(consensusEnd)
+                .consensusStart(consensusStart)
+                .count(count)
+                .name(name)
+                .size(archivePath.resolve(name).toFile().length())
+                .tableName(tableName)
+                .build();
+    }
+
+    private ArchiveEntityListener createListener() {
+        return createListener(name -> false);
+    }
+
+    private ArchiveEntityListener createListener(Predicate<String> failure) {
+        var localArchiveStore = new LocalArchiveStore(archivePath);
+        ArchiveStore archiveStore = (name, bytes) -> {
+            if (failure.test(name)) {
+                throw new ParserException("Failed to write " + name);
+            }
+            localArchiveStore.write(name, bytes);
+        };
+        archiveMeterRegistry = new SimpleMeterRegistry();
+        return new ArchiveEntityListener(archiveIndex, archiveProperties, archiveStore, archiveMeterRegistry);
+    }
+
+    private double failures() {
+        return archiveMeterRegistry
+                .get("hedera.mirror.importer.archive.failures")
+                .tag("table", "transaction")
+                .counter()
+                .count();
+    }
+
+    private ColumnarReader.ColumnarTable read(String tableName, long consensusStart, long consensusEnd)
+            throws IOException {
+        var name = "mainnet/%s/%d_%d.gz".formatted(tableName, consensusStart, consensusEnd);
+        try (var inputStream = Files.newInputStream(archivePath.resolve(name))) {
+            return ColumnarReader.read(inputStream);
+        }
+    }
+
+    private void waitForIndex(String tableName, int count) {
+        await()
+                .atMost(Duration.ofSeconds(5))
+                .until(() -> archiveIndex.find(tableName, 0, Long.MAX_VALUE).size() == count);
+    }
+}
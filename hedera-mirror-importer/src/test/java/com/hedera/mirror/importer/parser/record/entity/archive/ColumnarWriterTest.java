@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
+import com.hedera.mirror.common.domain.transaction.ErrataType;
+import com.hedera.mirror.common.domain.transaction.ItemizedTransfer;
+import com.hedera.mirror.common.domain.transaction.Transaction;
+import com.hedera.mirror.importer.exception.InvalidStreamFileException;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ColumnarWriterTest {
+
+    @Test
+    void empty() {
+        var writer = new ColumnarWriter<>(ArchiveSchema.CRYPTO_TRANSFER);
+        var table = read(writer.toBytes());
+        assertThat(table.table()).isEqualTo("crypto_transfer");
+        assertThat(table.count()).isZero();
+        assertThat(table.columns())
+                .containsOnlyKeys(
+                        "amount", "consensus_timestamp", "entity_id", "errata", "is_approval", "payer_account_id")
+                .allSatisfy((name, values) -> assertThat(values).isEmpty());
+    }
+
+    @Test
+    void cryptoTransfer() {
+        var cryptoTransfer1 = CryptoTransfer.builder()
+                .amount(-100L)
+                .consensusTimestamp(1_700_000_000_000_000_000L)
+                .entityId(1001L)
+                .errata(ErrataType.INSERT)
+                .isApproval(true)
+                .payerAccountId(EntityId.of(1001L))
+                .build();
+        var cryptoTransfer2 = CryptoTransfer.builder()
+                .amount(100L)
+                .consensusTimestamp(1_700_000_000_000_000_000L)
+                .entityId(98L)
+                .payerAccountId(EntityId.of(1001L))
+                .build();
+        var cryptoTransfer3 = CryptoTransfer.builder()
+                .amount(Long.MIN_VALUE)
+                .consensusTimestamp(1_700_000_000_000_000_001L)
+                .entityId(Long.MAX_VALUE)
+                .isApproval(false)
+                .build();
+        var cryptoTransfers = List.of(cryptoTransfer1, cryptoTransfer2, cryptoTransfer3);
+        var writer = new ColumnarWriter<>(ArchiveSchema.CRYPTO_TRANSFER);
+
+        // when
+        cryptoTransfers.forEach(writer::add);
+        var table = read(writer.toBytes());
+
+        // then
+        assertThat(writer.getCount()).isEqualTo(3);
+        assertThat(table.count()).isEqualTo(3);
+        assertThat(table.columns().get("amount")).containsExactly(-100L, 100L, Long.MIN_VALUE);
+        assertThat(table.columns().get("entity_id")).containsExactly(1001L, 98L, Long.MAX_VALUE);
+        assertThat(table.columns().get("errata")).containsExactly("INSERT", null, null);
+        assertThat(table.columns().get("is_approval")).containsExactly(true, null, false);
+        assertThat(table.columns().get("payer_account_id")).containsExactly(1001L, 1001L, null);
+        assertColumns(ArchiveSchema.CRYPTO_TRANSFER, cryptoTransfers, table);
+    }
+
+    @Test
+    void transaction() {
+        var transaction = Transaction.builder()
+                .chargedTxFee(10L)
+                .consensusTimestamp(1_700_000_000_000_000_000L)
+                .entityId(EntityId.of(1002L))
+                .index(0)
+                .itemizedTransfer(List.of(ItemizedTransfer.builder()
+                        .amount(-5L)
+                        .entityId(EntityId.of(1003L))
+                        .isApproval(false)
+                        .build()))
+                .memo(new byte[] {1, 2, 3})
+                .nonce(-1)
+                .payerAccountId(EntityId.of(1001L))
+                .result(22)
+                .scheduled(true)
+                .transactionBytes(new byte[0])
+                .type(14)
+                .build();
+        var writer = new ColumnarWriter<>(ArchiveSchema.TRANSACTION);
+
+        // when
+        writer.add(transaction);
+        var table = read(writer.toBytes());
+
+        // then
+        assertThat(table.count()).isOne();
+        assertThat(table.columns().get("memo")).containsExactly(new byte[] {1, 2, 3});
+        assertThat(table.columns().get("nft_transfer")).containsExactly((Object) null);
+        assertThat(table.columns().get("itemized_transfer").getFirst())
+                .asString()
+                .contains("\"amount\":-5", "\"entity_id\":1003");
+        assertColumns(ArchiveSchema.TRANSACTION, List.of(transaction), table);
+    }
+
+    @Test
+    void invalid() {
+        assertThatThrownBy(() -> read(new byte[] {1, 2, 3})).isInstanceOf(InvalidStreamFileException.class);
+    }
+
+    private <T> void assertColumns(ArchiveSchema<T> schema, List<T> items, ColumnarReader.ColumnarTable table) {
+        assertThat(table.columns()).hasSameSizeAs(schema.columns());
+        for (var column : schema.columns()) {
+            var expected = new ArrayList<>();
+            items.forEach(item -> expected.add(column.getter().apply(item)));
+            assertThat(table.columns().get(column.name())).as(column.name()).containsExactlyElementsOf(expected);
+        }
+    }
+
+    private ColumnarReader.ColumnarTable read(byte[] bytes) {
+        return ColumnarReader.read(new ByteArrayInputStream(bytes));
+    }
+}
@@ -18,8 +18,10 @@ package com.hedera.mirror.importer.parser.record.entity.notify;
 
 import static com.hedera.mirror.common.converter.ObjectToStringSerializer.OBJECT_MAPPER;
 import static com.hedera.mirror.common.util.CommonUtils.nextBytes;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.entity.EntityNotification;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.importer.parser.record.entity.BatchPublisherTest;
 import com.hedera.mirror.importer.parser.record.entity.ParserContext;
@@ -27,6 +29,7 @@ import java.sql.SQLException;
 import java.time.Duration;
 import java.util.ArrayList;
 import javax.sql.DataSource;
+import org.apache.commons.codec.binary.Hex;
 import org.junit.jupiter.api.Test;
 import org.postgresql.jdbc.PgConnection;
 import reactor.core.publisher.Flux;
@@ -65,6 +68,46 @@ class NotifyingPublisherTest extends BatchPublisherTest {
                 .verify(Duration.ofMillis(500));
     }
 
+    @Test
+    void onEntity() throws Exception {
+        // given
+        var entity = domainBuilder.entity().get();
+        var deleted = domainBuilder
+                .entity()
+                .customize(e -> e.alias(null).deleted(true).evmAddress(null))
+                .get();
+        var unchanged = domainBuilder
+                .entity()
+                .customize(e -> e.alias(null).deleted(false).evmAddress(null))
+                .get();
+
+        try (var connection = dataSource.getConnection()) {
+            var pgConnection = connection.unwrap(PgConnection.class);
+            pgConnection.execSQLUpdate("listen " + EntityNotification.CHANNEL);
+
+            // when
+            parserContext.add(entity);
+            parserContext.add(deleted);
+            parserContext.add(unchanged);
+            batchPublisher.onEnd(null);
+
+            // then
+            var notifications = new ArrayList<EntityNotification>();
+            for (var pgNotification : pgConnection.getNotifications(1000)) {
+                notifications.add(OBJECT_MAPPER.readValue(pgNotification.getParameter(), EntityNotification.class));
+            }
+
+            assertThat(notifications)
+                    .containsExactlyInAnyOrder(
+                            new EntityNotification(
+                                    entity.getId(),
+                                    Hex.encodeHexString(entity.getAlias()),
+                                    Hex.encodeHexString(entity.getEvmAddress()),
+                                    false),
+                            new EntityNotification(deleted.getId(), null, null, true));
+        }
+    }
+
     @Override
     protected Flux<TopicMessage> subscribe(EntityId topicId) {
         try {
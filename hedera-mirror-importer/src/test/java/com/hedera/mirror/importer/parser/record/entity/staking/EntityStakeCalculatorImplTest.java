@@ -16,8 +16,10 @@
 
 package com.hedera.mirror.importer.parser.record.entity.staking;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
@@ -26,6 +28,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
 import com.hedera.mirror.importer.repository.EntityStakeRepository;
 import java.util.Optional;
@@ -51,12 +54,16 @@ class EntityStakeCalculatorImplTest {
     private EntityStakeRepository entityStakeRepository;
 
     private EntityStakeCalculatorImpl entityStakeCalculator;
+    private PendingRewardProperties pendingRewardProperties;
+    private StakeLedger stakeLedger;
 
     @BeforeEach
     void setup() {
         entityProperties = new EntityProperties();
+        pendingRewardProperties = new PendingRewardProperties();
+        stakeLedger = new StakeLedger(pendingRewardProperties);
         entityStakeCalculator = new EntityStakeCalculatorImpl(
-                entityProperties, entityStakeRepository, TransactionOperations.withoutTransaction());
+                entityProperties, entityStakeRepository, stakeLedger, TransactionOperations.withoutTransaction());
         when(entityStakeRepository.updated()).thenReturn(false, true);
         when(entityStakeRepository.getEndStakePeriod())
                 .thenReturn(Optional.of(100L))
@@ -103,6 +110,69 @@ class EntityStakeCalculatorImplTest {
         inorder.verifyNoMoreInteractions();
     }
 
+    @Test
+    void calculateIncremental() {
+        // given
+        pendingRewardProperties.setIncremental(true);
+        stakeLedger.onRecordFile(RecordFile.builder().consensusStart(10L).index(1L).build());
+        stakeLedger.onRecordFile(RecordFile.builder().consensusStart(20L).index(2L).build());
+        stakeLedger.onEntity(1000L, 30L, null);
+        when(entityStakeRepository.getEndPeriodTimestamp()).thenReturn(Optional.of(25L));
+
+        // when the ledger is incomplete
+        entityStakeCalculator.calculate();
+
+        // then
+        verify(entityStakeRepository).createEntityStateStart();
+        verify(entityStakeRepository, never()).updateEntityStateStart(any());
+        assertThat(stakeLedger.getChanges()).containsExactly(1000L);
+
+        // when the ledger is complete
+        reset(entityStakeRepository);
+        when(entityStakeRepository.updated()).thenReturn(false, true);
+        when(entityStakeRepository.getEndStakePeriod())
+                .thenReturn(Optional.of(101L))
+                .thenReturn(Optional.of(102L));
+        when(entityStakeRepository.getEndPeriodTimestamp()).thenReturn(Optional.of(35L));
+        when(entityStakeRepository.updateEntityStateStart(any())).thenReturn(true);
+        var inorder = inOrder(entityStakeRepository);
+        entityStakeCalculator.calculate();
+
+        // then
+        inorder.verify(entityStakeRepository).updated();
+        inorder.verify(entityStakeRepository).getEndStakePeriod();
+        inorder.verify(entityStakeRepository).lockFromConcurrentUpdates();
+        inorder.verify(entityStakeRepository).getEndPeriodTimestamp();
+        inorder.verify(entityStakeRepository).updateEntityStateStart(new long[] {1000L});
+        inorder.verify(entityStakeRepository).updateEntityStake();
+        inorder.verify(entityStakeRepository).getEndStakePeriod();
+        inorder.verify(entityStakeRepository).updated();
+        inorder.verifyNoMoreInteractions();
+        assertThat(stakeLedger.getChanges()).isEmpty();
+    }
+
+    @Test
+    void calculateIncrementalWhenStateStartMissing() {
+        // given
+        pendingRewardProperties.setIncremental(true);
+        stakeLedger.onRecordFile(RecordFile.builder().consensusStart(10L).index(1L).build());
+        stakeLedger.onRecordFile(RecordFile.builder().consensusStart(20L).index(2L).build());
+        stakeLedger.prune(25L, stakeLedger.getEpoch(), true);
+        stakeLedger.onEntity(1000L, null, 30L);
+        when(entityStakeRepository.getEndPeriodTimestamp()).thenReturn(Optional.of(35L));
+        when(entityStakeRepository.updateEntityStateStart(any())).thenReturn(false);
+
+        // when
+        entityStakeCalculator.calculate();
+
+        // then
+        var inorder = inOrder(entityStakeRepository);
+        inorder.verify(entityStakeRepository).updateEntityStateStart(new long[] {1000L});
+        inorder.verify(entityStakeRepository).createEntityStateStart();
+        inorder.verify(entityStakeRepository).updateEntityStake();
+        assertThat(stakeLedger.getChanges()).isEmpty();
+    }
+
     @Test
     void calculateWhenPendingRewardDisabled() {
         entityProperties.getPersist().setPendingReward(false);
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.staking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StakeLedgerTest {
+
+    private PendingRewardProperties properties;
+    private StakeLedger stakeLedger;
+
+    @BeforeEach
+    void setup() {
+        properties = new PendingRewardProperties();
+        properties.setIncremental(true);
+        stakeLedger = new StakeLedger(properties);
+    }
+
+    @Test
+    void disabled() {
+        properties.setIncremental(false);
+        onRecordFile(1L, 10L);
+        onRecordFile(2L, 20L);
+        stakeLedger.onEntity(1000L, 21L, null);
+        stakeLedger.prune(30L, stakeLedger.getEpoch(), true);
+        assertThat(stakeLedger.size()).isZero();
+        assertThat(stakeLedger.getChanges()).isNull();
+    }
+
+    @Test
+    void incompleteUntilFullRebuild() {
+        onRecordFile(1L, 10L);
+        onRecordFile(2L, 20L);
+        stakeLedger.onEntity(1000L, 21L, null);
+        stakeLedger.onEntity(1001L, null, 31L);
+        stakeLedger.onEntity(1002L, null, null);
+        assertThat(stakeLedger.getChanges()).isNull();
+
+        // an incremental update doesn't make the ledger complete
+        stakeLedger.prune(25L, stakeLedger.getEpoch(), false);
+        assertThat(stakeLedger.getChanges()).isNull();
+
+        stakeLedger.prune(30L, stakeLedger.getEpoch(), true);
+        assertThat(stakeLedger.getChanges()).containsExactly(1001L);
+    }
+
+    @Test
+    void incompleteWhenNotTrackedSinceEndPeriod() {
+        // the first record file is only partially tracked
+        onRecordFile(1L, 10L);
+        stakeLedger.prune(15L, stakeLedger.getEpoch(), true);
+        assertThat(stakeLedger.getChanges()).isNull();
+
+        onRecordFile(2L, 20L);
+        stakeLedger.prune(15L, stakeLedger.getEpoch(), true);
+        assertThat(stakeLedger.getChanges()).isNull();
+
+        stakeLedger.prune(20L, stakeLedger.getEpoch(), true);
+        assertThat(stakeLedger.getChanges()).isEmpty();
+    }
+
+    @Test
+    void prune() {
+        onRecordFile(1L, 10L);
+        onRecordFile(2L, 20L);
+        stakeLedger.prune(20L, stakeLedger.getEpoch(), true);
+        stakeLedger.onEntity(1000L, 21L, 22L);
+        stakeLedger.onEntity(1001L, 23L, null);
+        stakeLedger.onEntity(1000L, 24L, null);
+        assertThat(stakeLedger.getChanges()).containsExactlyInAnyOrder(1000L, 1001L);
+
+        // the latest change of each entity decides if it's covered by the end period timestamp
+        stakeLedger.prune(23L, stakeLedger.getEpoch(), false);
+        assertThat(stakeLedger.getChanges()).containsExactly(1000L);
+    }
+
+    @Test
+    void recordFileGap() {
+        onRecordFile(1L, 10L);
+        onRecordFile(2L, 20L);
+        stakeLedger.prune(20L, stakeLedger.getEpoch(), true);
+        stakeLedger.onEntity(1000L, 21L, null);
+        long epoch = stakeLedger.getEpoch();
+
+        onRecordFile(4L, 40L);
+        assertThat(stakeLedger.getChanges()).isNull();
+        assertThat(stakeLedger.getEpoch()).isEqualTo(epoch + 1);
+        assertThat(stakeLedger.size()).isZero();
+
+        // the first record file after the gap is only partially tracked
+        stakeLedger.prune(45L, epoch + 1, true);
+        assertThat(stakeLedger.getChanges()).isNull();
+
+        onRecordFile(5L, 50L);
+        stakeLedger.prune(55L, epoch + 1, true);
+        assertThat(stakeLedger.getChanges()).isEmpty();
+    }
+
+    @Test
+    void overflow() {
+        properties.setMaxSize(2);
+        onRecordFile(1L, 10L);
+        onRecordFile(2L, 20L);
+        stakeLedger.prune(20L, stakeLedger.getEpoch(), true);
+        long epoch = stakeLedger.getEpoch();
+
+        stakeLedger.onEntity(1000L, 21L, null);
+        stakeLedger.onEntity(1001L, 21L, null);
+        stakeLedger.onEntity(1002L, 21L, null);
+
+        assertThat(stakeLedger.size()).isZero();
+        assertThat(stakeLedger.getChanges()).isNull();
+        assertThat(stakeLedger.getEpoch()).isEqualTo(epoch + 1);
+
+        // a calculation started before the overflow doesn't make the ledger complete
+        onRecordFile(3L, 30L);
+        stakeLedger.prune(35L, epoch, true);
+        assertThat(stakeLedger.getChanges()).isNull();
+
+        // the record file which overflowed is only partially tracked
+        stakeLedger.prune(35L, epoch + 1, true);
+        assertThat(stakeLedger.getChanges()).isNull();
+
+        onRecordFile(4L, 40L);
+        stakeLedger.prune(45L, epoch + 1, true);
+        assertThat(stakeLedger.getChanges()).isEmpty();
+    }
+
+    private void onRecordFile(long index, long consensusStart) {
+        stakeLedger.onRecordFile(
+                RecordFile.builder().consensusStart(consensusStart).index(index).build());
+    }
+}
@@ -17,7 +17,6 @@
 package com.hedera.mirror.importer.parser.record.entity.topic;
 
 import static com.hedera.mirror.importer.config.CacheConfiguration.CACHE_TIME_PARTITION;
-import static com.hedera.mirror.importer.config.CacheConfiguration.CACHE_TIME_PARTITION_OVERLAP;
 
 import com.hedera.mirror.common.domain.StreamType;
 import com.hedera.mirror.importer.ImporterIntegrationTest;
@@ -74,10 +73,6 @@ public abstract class AbstractTopicMessageLookupIntegrationTest extends Importer
     @Qualifier(CACHE_TIME_PARTITION)
     private CacheManager cacheManager1;
 
-    @Autowired
-    @Qualifier(CACHE_TIME_PARTITION_OVERLAP)
-    private CacheManager cacheManager2;
-
     @BeforeEach
     void setup() {
         entityProperties.getPersist().setTopics(true);
@@ -110,7 +105,6 @@ public abstract class AbstractTopicMessageLookupIntegrationTest extends Importer
             jdbcTemplate.execute(REVERT_DDL);
             // clear cache so for v1 TimePartitionService won't return stale partition info
             cacheManager1.getCacheNames().forEach(n -> cacheManager1.getCache(n).clear());
-            cacheManager2.getCacheNames().forEach(n -> cacheManager2.getCache(n).clear());
         } catch (Exception e) {
             // Ignore
         }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.historicalbalance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.hedera.mirror.importer.downloader.balance.BalanceDownloaderProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BalanceLedgerTest {
+
+    private HistoricalBalanceProperties properties;
+    private BalanceLedger balanceLedger;
+
+    @BeforeEach
+    void setup() {
+        properties = new HistoricalBalanceProperties(mock(BalanceDownloaderProperties.class));
+        properties.getLedger().setEnabled(true);
+        balanceLedger = new BalanceLedger(properties);
+    }
+
+    @Test
+    void disabled() {
+        properties.getLedger().setEnabled(false);
+        balanceLedger.onAccount(1000L, 1L);
+        balanceLedger.onTokenAccount(1000L, 2000L, 1L);
+        balanceLedger.prune(0L, balanceLedger.getEpoch());
+        assertThat(balanceLedger.size()).isZero();
+        assertThat(balanceLedger.getChanges()).isNull();
+    }
+
+    @Test
+    void incompleteUntilPruned() {
+        balanceLedger.onAccount(1000L, 1L);
+        assertThat(balanceLedger.getChanges()).isNull();
+
+        balanceLedger.prune(0L, balanceLedger.getEpoch());
+        var changes = balanceLedger.getChanges();
+        assertThat(changes).isNotNull();
+        assertThat(changes.accountIds()).containsExactly(1000L);
+    }
+
+    @Test
+    void prune() {
+        balanceLedger.prune(0L, balanceLedger.getEpoch());
+        balanceLedger.onAccount(1000L, 1L);
+        balanceLedger.onAccount(1001L, 3L);
+        balanceLedger.onAccount(1000L, 2L);
+        balanceLedger.onTokenAccount(1000L, 2000L, 1L);
+        balanceLedger.onTokenAccount(1000L, 2001L, 4L);
+
+        // the latest change of each key decides if it's covered by the snapshot
+        var changes = balanceLedger.getChanges();
+        assertThat(changes.accountIds()).containsExactlyInAnyOrder(1000L, 1001L);
+        assertThat(changes.tokenAccountIds()).containsExactly(1000L, 1000L);
+        assertThat(changes.tokenIds()).containsExactlyInAnyOrder(2000L, 2001L);
+
+        balanceLedger.prune(2L, changes.epoch());
+        changes = balanceLedger.getChanges();
+        assertThat(changes.accountIds()).containsExactly(1001L);
+        assertThat(changes.tokenAccountIds()).containsExactly(1000L);
+        assertThat(changes.tokenIds()).containsExactly(2001L);
+    }
+
+    @Test
+    void tokenBalancesDisabled() {
+        properties.setTokenBalances(false);
+        balanceLedger.onTokenAccount(1000L, 2000L, 1L);
+        assertThat(balanceLedger.size()).isZero();
+    }
+
+    @Test
+    void overflow() {
+        properties.getLedger().setMaxSize(2);
+        balanceLedger.prune(0L, balanceLedger.getEpoch());
+        long epoch = balanceLedger.getEpoch();
+
+        balanceLedger.onAccount(1000L, 1L);
+        balanceLedger.onAccount(1001L, 1L);
+        balanceLedger.onTokenAccount(1000L, 2000L, 1L);
+
+        assertThat(balanceLedger.size()).isZero();
+        assertThat(balanceLedger.getChanges()).isNull();
+        assertThat(balanceLedger.getEpoch()).isEqualTo(epoch + 1);
+
+        // a snapshot started before the overflow doesn't make the ledger complete
+        balanceLedger.prune(1L, epoch);
+        assertThat(balanceLedger.getChanges()).isNull();
+        balanceLedger.prune(1L, epoch + 1);
+        assertThat(balanceLedger.getChanges()).isNotNull();
+    }
+}
@@ -75,6 +75,7 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
     private final AccountBalanceFileRepository accountBalanceFileRepository;
     private final AccountBalanceRepository accountBalanceRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final BalanceLedger balanceLedger;
     private final EntityRepository entityRepository;
     private final FlywayProperties flywayProperties;
     private final @Owner JdbcTemplate jdbcTemplate;
@@ -160,7 +161,9 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
 
     @AfterEach
     void resetProperties() {
+        properties.getLedger().setEnabled(false);
         properties.setTokenBalances(true);
+        balanceLedger.prune(Long.MAX_VALUE, balanceLedger.getEpoch());
     }
 
     @ParameterizedTest
@@ -230,6 +233,58 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
         verifyGeneratedBalances(balanceTimestamp, updatedEntities, updatedTokenAccounts);
     }
 
+    @Test
+    void generateWithLedger() {
+        // given
+        setup();
+        properties.getLedger().setEnabled(true);
+        domainBuilder
+                .accountBalanceFile()
+                .customize(abf -> abf.consensusTimestamp(prevPartitionBalanceTimestamp))
+                .persist();
+        domainBuilder
+                .accountBalance()
+                .customize(ab -> ab.id(new Id(prevPartitionBalanceTimestamp, treasuryAccount.toEntityId())))
+                .persist();
+
+        // when, then
+        // the ledger is incomplete until the first snapshot from the database
+        long balanceTimestamp =
+                prevPartitionBalanceTimestamp + properties.getMinFrequency().toNanos();
+        var updatedEntities = entities.stream()
+                .filter(e ->
+                        !Boolean.TRUE.equals(e.getDeleted()) || e.getBalanceTimestamp() > prevPartitionBalanceTimestamp)
+                .toList();
+        verifyGeneratedBalances(balanceTimestamp, updatedEntities, tokenAccounts);
+        await().atMost(Durations.TWO_SECONDS).until(() -> balanceLedger.getChanges() != null);
+
+        // when
+        // balance changes tracked by the ledger
+        account.setBalance(account.getBalance() + 5);
+        account.setBalanceTimestamp(balanceTimestamp + 1);
+        entityRepository.save(account);
+        balanceLedger.onAccount(account.getId(), account.getBalanceTimestamp());
+        tokenAccount.setBalance(tokenAccount.getBalance() + 5);
+        tokenAccount.setBalanceTimestamp(balanceTimestamp + 1);
+        tokenAccountRepository.save(tokenAccount);
+        balanceLedger.onTokenAccount(
+                tokenAccount.getAccountId(), tokenAccount.getTokenId(), tokenAccount.getBalanceTimestamp());
+        var newAccount = domainBuilder
+                .entity()
+                .customize(e -> e.balanceTimestamp(account.getBalanceTimestamp()))
+                .persist();
+        balanceLedger.onAccount(newAccount.getId(), newAccount.getBalanceTimestamp());
+        // a change not seen by the ledger is not part of the incremental snapshot
+        var untracked = entities.get(2);
+        untracked.setBalanceTimestamp(balanceTimestamp + 1);
+        entityRepository.save(untracked);
+
+        // then
+        balanceTimestamp += properties.getMinFrequency().plusSeconds(1).toNanos();
+        verifyGeneratedBalances(balanceTimestamp, List.of(treasuryAccount, account, newAccount), List.of(tokenAccount));
+        await().atMost(Durations.TWO_SECONDS).until(() -> balanceLedger.size() == 0);
+    }
+
     @Test
     void generateWhenAccountBalanceFileTableNotEmpty() {
         // given
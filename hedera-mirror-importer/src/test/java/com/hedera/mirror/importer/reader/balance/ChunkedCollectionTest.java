@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.reader.balance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.mirror.importer.exception.InvalidDatasetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ChunkedCollectionTest {
+
+    private static final List<Integer> SOURCE = IntStream.range(0, 100).boxed().toList();
+    private static final List<Integer> EXPECTED = IntStream.range(0, 100)
+            .filter(i -> i % 10 != 0)
+            .mapToObj(i -> i * 2)
+            .toList();
+
+    private final AtomicInteger traversals = new AtomicInteger();
+    private final ChunkedCollection<Integer, Integer> collection = new ChunkedCollection<>(
+            () -> {
+                traversals.incrementAndGet();
+                return SOURCE.iterator();
+            },
+            i -> i % 10 == 0 ? null : i * 2,
+            7,
+            4,
+            ForkJoinPool.commonPool());
+
+    @Test
+    void forEach() {
+        var results = new ArrayList<Integer>();
+        collection.forEach(results::add);
+        assertThat(results).containsExactlyElementsOf(EXPECTED);
+    }
+
+    @Test
+    void iterator() {
+        assertThat(collection).containsExactlyElementsOf(EXPECTED).hasSize(EXPECTED.size());
+    }
+
+    @Test
+    void traversedAgain() {
+        var results = new ArrayList<Integer>();
+        collection.forEach(results::add);
+        collection.forEach(results::add);
+        assertThat(results).hasSize(EXPECTED.size() * 2);
+        assertThat(traversals).hasValue(2);
+    }
+
+    @Test
+    void consumerError() {
+        var results = new ArrayList<Integer>();
+        assertThatThrownBy(() -> collection.forEach(i -> {
+                    if (i > 10) {
+                        throw new InvalidDatasetException("bad item");
+                    }
+                    results.add(i);
+                }))
+                .isInstanceOf(InvalidDatasetException.class)
+                .hasMessage("bad item");
+        assertThat(results).containsExactly(2, 4, 6, 8, 10);
+    }
+}
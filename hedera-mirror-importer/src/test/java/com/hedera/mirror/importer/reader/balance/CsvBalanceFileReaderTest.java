@@ -105,6 +105,16 @@ abstract class CsvBalanceFileReaderTest {
         verifySuccess(balanceFile, accountBalanceFile, 2);
     }
 
+    @Test
+    void readValidInChunks() throws Exception {
+        balanceParserProperties.setChunkSize(1);
+        StreamFileData streamFileData = StreamFileData.from(balanceFile);
+        AccountBalanceFile accountBalanceFile = balanceFileReader.read(streamFileData);
+        assertAccountBalanceFile(accountBalanceFile);
+        assertFileHash(balanceFile, accountBalanceFile);
+        verifySuccess(balanceFile, accountBalanceFile, 2);
+    }
+
     @Test
     void readInvalidWhenFileHasNoTimestampHeader() throws IOException {
         List<String> lines = FileUtils.readLines(balanceFile, CsvBalanceFileReader.CHARSET);
@@ -256,7 +266,7 @@ abstract class CsvBalanceFileReaderTest {
     protected void assertAccountBalanceFile(AccountBalanceFile accountBalanceFile) {
         assertThat(accountBalanceFile).isNotNull();
         assertThat(accountBalanceFile.getBytes()).isNotEmpty();
-        assertThat(accountBalanceFile.getCount()).isEqualTo(expectedCount);
+        assertThat(accountBalanceFile.getItems()).hasSize((int) expectedCount);
         assertThat(accountBalanceFile.getConsensusTimestamp()).isEqualTo(consensusTimestamp);
         assertThat(accountBalanceFile.getLoadStart()).isNotNull().isPositive();
         assertThat(accountBalanceFile.getName()).isEqualTo(balanceFile.getName());
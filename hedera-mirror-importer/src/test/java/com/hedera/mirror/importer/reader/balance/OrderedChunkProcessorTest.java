@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.reader.balance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.mirror.importer.exception.InvalidDatasetException;
+import java.util.ArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class OrderedChunkProcessorTest {
+
+    @ParameterizedTest
+    @CsvSource({"1, 1", "3, 2", "7, 16", "1000, 4"})
+    void ordered(int chunkSize, int maxInFlight) {
+        var results = new ArrayList<Integer>();
+        var processor = new OrderedChunkProcessor<Integer, Integer>(
+                i -> {
+                    LockSupport.parkNanos(ThreadLocalRandom.current().nextInt(100_000));
+                    return i % 10 == 0 ? null : i * 2;
+                },
+                results::add,
+                chunkSize,
+                maxInFlight,
+                ForkJoinPool.commonPool());
+
+        IntStream.range(0, 100).forEach(processor::add);
+        processor.finish();
+
+        var expected = IntStream.range(0, 100)
+                .filter(i -> i % 10 != 0)
+                .mapToObj(i -> i * 2)
+                .toList();
+        assertThat(results).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void empty() {
+        var results = new ArrayList<Integer>();
+        var processor = new OrderedChunkProcessor<Integer, Integer>(
+                i -> i, results::add, 10, 2, ForkJoinPool.commonPool());
+        processor.finish();
+        assertThat(results).isEmpty();
+    }
+
+    @Test
+    void error() {
+        var results = new ArrayList<Integer>();
+        var processor = new OrderedChunkProcessor<Integer, Integer>(
+                i -> {
+                    if (i == 5) {
+                        throw new InvalidDatasetException("bad item");
+                    }
+                    return i;
+                },
+                results::add,
+                2,
+                1,
+                ForkJoinPool.commonPool());
+
+        IntStream.range(0, 5).forEach(processor::add);
+        processor.add(5);
+        assertThatThrownBy(processor::finish)
+                .isInstanceOf(InvalidDatasetException.class)
+                .hasMessage("bad item");
+        assertThat(results).containsExactly(0, 1, 2, 3);
+    }
+
+    @Test
+    void errorCancelsPending() {
+        var mapped = new ArrayList<Integer>();
+        var pending = new ArrayList<Runnable>();
+        Executor executor = task -> {
+            if (pending.isEmpty() && mapped.isEmpty()) {
+                task.run();
+            } else {
+                pending.add(task);
+            }
+        };
+        var processor = new OrderedChunkProcessor<Integer, Integer>(
+                i -> {
+                    mapped.add(i);
+                    if (i == 1) {
+                        throw new InvalidDatasetException("bad item");
+                    }
+                    return i;
+                },
+                i -> {},
+                2,
+                4,
+                executor);
+
+        IntStream.range(0, 6).forEach(processor::add);
+        assertThatThrownBy(processor::finish)
+                .isInstanceOf(InvalidDatasetException.class)
+                .hasMessage("bad item");
+        pending.forEach(Runnable::run);
+        assertThat(mapped).containsExactly(0, 1);
+    }
+}
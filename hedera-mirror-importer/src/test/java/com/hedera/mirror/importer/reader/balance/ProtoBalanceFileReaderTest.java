@@ -28,12 +28,14 @@ import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.TestUtils;
 import com.hedera.mirror.importer.domain.StreamFileData;
 import com.hedera.mirror.importer.exception.InvalidStreamFileException;
+import com.hedera.mirror.importer.parser.balance.BalanceParserProperties;
 import com.hedera.services.stream.proto.AllAccountBalances;
 import com.hedera.services.stream.proto.SingleAccountBalances;
 import com.hederahashgraph.api.proto.java.Timestamp;
 import java.io.File;
 import java.nio.file.Paths;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -48,6 +50,7 @@ class ProtoBalanceFileReaderTest {
     private static final String FILEPATH = Paths.get("data", "accountBalances", "proto", TIMESTAMP + "_Balances.pb.gz")
             .toString();
 
+    private BalanceParserProperties balanceParserProperties;
     private AccountBalanceFile expected;
     private ProtoBalanceFileReader protoBalanceFileReader;
     private StreamFileData streamFileData;
@@ -58,7 +61,8 @@ class ProtoBalanceFileReaderTest {
         streamFileData = StreamFileData.from(file);
         expected = getExpectedAccountBalanceFile(streamFileData);
 
-        protoBalanceFileReader = new ProtoBalanceFileReader();
+        balanceParserProperties = new BalanceParserProperties();
+        protoBalanceFileReader = new ProtoBalanceFileReader(balanceParserProperties);
     }
 
     @Test
@@ -66,11 +70,25 @@ class ProtoBalanceFileReaderTest {
         AccountBalanceFile actual = protoBalanceFileReader.read(streamFileData);
         assertThat(actual)
                 .usingRecursiveComparison()
-                .ignoringFields("loadStart", "nodeAccountId")
+                .ignoringFields("items", "loadStart", "nodeAccountId")
                 .isEqualTo(expected);
+        assertThat(actual.getItems()).containsExactlyElementsOf(expected.getItems());
         assertThat(actual.getLoadStart()).isNotNull().isPositive();
     }
 
+    @Test
+    void readGzipInChunks() {
+        balanceParserProperties.setChunkSize(3);
+        AccountBalanceFile actual = protoBalanceFileReader.read(streamFileData);
+        var items = new ArrayList<AccountBalance>();
+        actual.getItems().forEach(items::add);
+        assertThat(actual)
+                .usingRecursiveComparison()
+                .ignoringFields("items", "loadStart", "nodeAccountId")
+                .isEqualTo(expected);
+        assertThat(items).containsExactlyElementsOf(expected.getItems());
+    }
+
     @Test
     void emptyProtobuf() {
         AllAccountBalances allAccountBalances = AllAccountBalances.newBuilder().build();
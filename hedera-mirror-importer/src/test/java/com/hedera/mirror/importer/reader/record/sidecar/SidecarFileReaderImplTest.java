@@ -26,8 +26,12 @@ import com.hedera.mirror.importer.TestRecordFiles;
 import com.hedera.mirror.importer.TestUtils;
 import com.hedera.mirror.importer.domain.StreamFileData;
 import com.hedera.mirror.importer.exception.InvalidStreamFileException;
+import com.hedera.mirror.importer.parser.record.sidecar.SidecarProperties;
+import com.hedera.services.stream.proto.SidecarType;
+import com.hedera.services.stream.proto.TransactionSidecarRecord;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.Set;
 import org.apache.commons.compress.compressors.CompressorException;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
 import org.junit.jupiter.api.BeforeEach;
@@ -45,10 +49,13 @@ class SidecarFileReaderImplTest {
 
     private SidecarFileReader sidecarFileReader;
 
+    private SidecarProperties sidecarProperties;
+
     @BeforeEach
     void beforeEach() {
         domainBuilder = new DomainBuilder();
-        sidecarFileReader = new SidecarFileReaderImpl();
+        sidecarProperties = new SidecarProperties();
+        sidecarFileReader = new SidecarFileReaderImpl(sidecarProperties);
     }
 
     @Test
@@ -75,6 +82,29 @@ class SidecarFileReaderImplTest {
                 .isEqualTo(expected);
     }
 
+    @Test
+    void readWithTypes() {
+        sidecarProperties.setTypes(Set.of(SidecarType.CONTRACT_BYTECODE));
+        var expected = TestRecordFiles.getAll()
+                .get(RECORD_FILENAME)
+                .getSidecars()
+                .iterator()
+                .next();
+        var sidecar = expected.toBuilder().records(null).build();
+        var streamFileData = StreamFileData.from(TestUtils.getResource(SIDECAR_FILE_PATH));
+
+        sidecarFileReader.read(sidecar, streamFileData);
+
+        // the count includes the skipped sidecar records
+        assertThat(sidecar.getCount()).isEqualTo(expected.getCount());
+        assertThat(sidecar.getRecords())
+                .isNotEmpty()
+                .isInstanceOf(SidecarRecordList.class)
+                .containsExactlyElementsOf(expected.getRecords().stream()
+                        .filter(TransactionSidecarRecord::hasBytecode)
+                        .toList());
+    }
+
     @Test
     void readCorruptedGzipFile() {
         var streamFileData = StreamFileData.from(SIDECAR_FILENAME, domainBuilder.bytes(256));
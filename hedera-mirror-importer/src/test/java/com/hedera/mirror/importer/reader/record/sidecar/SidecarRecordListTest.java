@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.reader.record.sidecar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.protobuf.ByteString;
+import com.hedera.mirror.importer.exception.InvalidStreamFileException;
+import com.hedera.services.stream.proto.ContractBytecode;
+import com.hedera.services.stream.proto.TransactionSidecarRecord;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SidecarRecordListTest {
+
+    private static final Timestamp TIMESTAMP1 = Timestamp.newBuilder().setSeconds(1).build();
+    private static final Timestamp TIMESTAMP2 = Timestamp.newBuilder().setSeconds(2).build();
+
+    @Test
+    void get() {
+        var sidecarRecord = sidecarRecord(TIMESTAMP1);
+        var sidecarRecords = SidecarRecordList.builder()
+                .add(TIMESTAMP1, sidecarRecord.toByteString())
+                .build();
+
+        assertThat(sidecarRecords).containsExactly(sidecarRecord);
+        // decoded only once
+        assertThat(sidecarRecords.get(0)).isSameAs(sidecarRecords.get(0));
+    }
+
+    @Test
+    void getCorrupted() {
+        var sidecarRecords = SidecarRecordList.builder()
+                .add(TIMESTAMP1, ByteString.copyFrom(new byte[] {-1, -1, -1}))
+                .build();
+        assertThat(sidecarRecords).hasSize(1);
+        assertThatThrownBy(() -> sidecarRecords.get(0)).isInstanceOf(InvalidStreamFileException.class);
+    }
+
+    @Test
+    void groupByConsensusTimestamp() {
+        var sidecarRecord1 = sidecarRecord(TIMESTAMP1);
+        var sidecarRecord2 = sidecarRecord(TIMESTAMP2);
+        var sidecarRecord3 = sidecarRecord(TIMESTAMP1);
+        var sidecarRecord4 = sidecarRecord(TIMESTAMP2);
+        var sidecarRecords = SidecarRecordList.builder()
+                .add(TIMESTAMP1, sidecarRecord1.toByteString())
+                .add(TIMESTAMP2, sidecarRecord2.toByteString())
+                .add(TIMESTAMP1, sidecarRecord3.toByteString())
+                .build();
+
+        var grouped = SidecarRecordList.groupByConsensusTimestamp(List.of(sidecarRecords, List.of(sidecarRecord4)));
+
+        assertThat(grouped).containsOnlyKeys(TIMESTAMP1, TIMESTAMP2);
+        assertThat(grouped.get(TIMESTAMP1)).containsExactly(sidecarRecord1, sidecarRecord3);
+        assertThat(grouped.get(TIMESTAMP2)).containsExactly(sidecarRecord2, sidecarRecord4);
+        assertThat(grouped.get(TIMESTAMP2).get(1)).isSameAs(sidecarRecord4);
+    }
+
+    private TransactionSidecarRecord sidecarRecord(Timestamp timestamp) {
+        return TransactionSidecarRecord.newBuilder()
+                .setConsensusTimestamp(timestamp)
+                .setBytecode(ContractBytecode.newBuilder()
+                        .setInitcode(ByteString.copyFromUtf8(timestamp.toString() + System.nanoTime())))
+                .build();
+    }
+}
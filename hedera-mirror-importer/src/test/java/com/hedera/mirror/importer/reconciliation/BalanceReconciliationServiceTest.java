@@ -45,6 +45,7 @@ import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.assertj.core.api.InstanceOfAssertFactories;
@@ -71,6 +72,7 @@ class BalanceReconciliationServiceTest extends ImporterIntegrationTest {
         reconciliationProperties.setDelay(Duration.ZERO);
         reconciliationProperties.setEnabled(true);
         reconciliationProperties.setEndDate(Utility.MAX_INSTANT_LONG);
+        reconciliationProperties.setParallelism(4);
         reconciliationProperties.setRemediationStrategy(FAIL);
         reconciliationProperties.setStartDate(Instant.EPOCH);
         reconciliationProperties.setToken(true);
@@ -380,6 +382,80 @@ class BalanceReconciliationServiceTest extends ImporterIntegrationTest {
         assertReconciliationJob(SUCCESS, balanceFile3).returns(2L, ReconciliationJob::getCount);
     }
 
+    @Test
+    void parallelRanges() {
+        // given
+        reconciliationProperties.setParallelism(3);
+        var balances = new HashMap<Long, Long>();
+        balances.put(2L, FIFTY_BILLION_HBARS - 45L);
+        for (long accountId = 3L; accountId < 12L; accountId++) {
+            balances.put(accountId, accountId - 2L);
+        }
+        balance(balances);
+
+        transfer(2, 3, 10);
+        transfer(11, 100, 9);
+        balances.merge(2L, -10L, Long::sum);
+        balances.merge(3L, 10L, Long::sum);
+        balances.put(11L, 0L);
+        balances.put(100L, 9L);
+        balance(balances);
+
+        balances.remove(6L); // Missing balances are zero
+        balances.merge(7L, 4L, Long::sum);
+        transfer(6, 7, 4);
+        var last = balance(balances);
+
+        // when
+        reconcile();
+
+        // then
+        assertReconciliationJob(SUCCESS, last).returns(2L, ReconciliationJob::getCount);
+    }
+
+    @Test
+    void parallelRangesFailure() {
+        // given
+        reconciliationProperties.setParallelism(3);
+        var balances = new HashMap<Long, Long>();
+        balances.put(2L, FIFTY_BILLION_HBARS - 45L);
+        for (long accountId = 3L; accountId < 12L; accountId++) {
+            balances.put(accountId, accountId - 2L);
+        }
+        balance(balances);
+
+        balances.merge(3L, 1L, Long::sum); // Missing 1 tinybar transfer from 11 to 3
+        balances.merge(11L, -1L, Long::sum);
+        balance(balances);
+
+        // when
+        reconcile();
+
+        // then
+        assertReconciliationJob(FAILURE_CRYPTO_TRANSFERS, null)
+                .returns(0L, ReconciliationJob::getCount)
+                .extracting(ReconciliationJob::getError)
+                .asInstanceOf(InstanceOfAssertFactories.STRING)
+                .contains("not equal: value differences={3=(1, 2), 11=(9, 8)}");
+    }
+
+    @Test
+    void missingKeysFailure() {
+        // given
+        balance(Map.of(2L, FIFTY_BILLION_HBARS - 1L, 3L, 1L));
+        balance(Map.of(2L, FIFTY_BILLION_HBARS - 1L, 4L, 1L)); // Missing 1 tinybar transfer from 3 to 4
+
+        // when
+        reconcile();
+
+        // then
+        assertReconciliationJob(FAILURE_CRYPTO_TRANSFERS, null)
+                .returns(0L, ReconciliationJob::getCount)
+                .extracting(ReconciliationJob::getError)
+                .asInstanceOf(InstanceOfAssertFactories.STRING)
+                .contains("not equal: only on left={3=1}: only on right={4=1}");
+    }
+
     @Test
     void recovers() {
         // given
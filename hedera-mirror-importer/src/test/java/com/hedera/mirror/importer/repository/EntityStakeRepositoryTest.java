@@ -946,6 +946,94 @@ class EntityStakeRepositoryTest extends AbstractRepositoryTest {
         assertThat(findHistory(EntityStake.class)).containsExactlyInAnyOrder(accountStake, stakingRewardAccountStake);
     }
 
+    @Test
+    void updateEntityStateStart() {
+        // given
+        long epochDay = 1000L;
+        long nodeStakeTimestamp = DomainUtils.convertToNanosMax(TestUtils.asStartOfEpochDay(epochDay + 1)) + 1000L;
+        domainBuilder
+                .nodeStake()
+                .customize(ns -> ns.consensusTimestamp(nodeStakeTimestamp).epochDay(epochDay))
+                .persist();
+        var stakingRewardAccount = domainBuilder
+                .entity(STAKING_REWARD_ACCOUNT, nodeStakeTimestamp - 10)
+                .persist();
+        var treasury = domainBuilder.entity(TREASURY, nodeStakeTimestamp - 20).persist();
+        var account1 = domainBuilder
+                .entity()
+                .customize(e -> e.stakedNodeId(1L).timestampRange(Range.atLeast(nodeStakeTimestamp - 1)))
+                .persist();
+        var account2 = domainBuilder
+                .entity()
+                .customize(e -> e.stakedNodeId(2L).timestampRange(Range.atLeast(nodeStakeTimestamp - 2)))
+                .persist();
+        var account3 = domainBuilder
+                .entity()
+                .customize(e -> e.stakedNodeId(3L).timestampRange(Range.atLeast(nodeStakeTimestamp - 3)))
+                .persist();
+        long balanceTimestamp = nodeStakeTimestamp - 100;
+        for (var entity : List.of(treasury, account1, account2, account3)) {
+            domainBuilder
+                    .accountBalance()
+                    .customize(ab -> ab.balance(100L).id(new AccountBalance.Id(balanceTimestamp, entity.toEntityId())))
+                    .persist();
+        }
+
+        var expectedAccount2 =
+                account2.toBuilder().balance(100L).stakedAccountId(0L).build();
+        var expectedAccount3 =
+                account3.toBuilder().balance(100L).stakedAccountId(0L).build();
+        var expectedStakingRewardAccount = stakingRewardAccount.toBuilder()
+                .balance(0L)
+                .stakedAccountId(0L)
+                .stakedNodeId(-1L)
+                .stakePeriodStart(-1L)
+                .build();
+        transactionOperations.executeWithoutResult(s -> entityStakeRepository.createEntityStateStart());
+
+        // account1 declines reward, account2 changes its balance and stakes to account1, account3 changes its balance
+        // but isn't in the changed ids so its state is carried forward
+        account1.setDeclineReward(true);
+        account2.setStakedAccountId(account1.getId());
+        entityRepository.saveAll(List.of(account1, account2));
+        persistCryptoTransfer(20L, nodeStakeTimestamp - 50, account2.getId());
+        persistCryptoTransfer(30L, nodeStakeTimestamp - 50, account3.getId());
+        expectedAccount2.setBalance(120L);
+        expectedAccount2.setStakedAccountId(account1.getId());
+
+        var ids = new long[] {account1.getId(), account2.getId()};
+
+        transactionOperations.executeWithoutResult(s -> {
+            // when
+            boolean updated = entityStakeRepository.updateEntityStateStart(ids);
+
+            // then
+            assertThat(updated).isTrue();
+            assertEntityStartStart(List.of(expectedAccount2, expectedAccount3, expectedStakingRewardAccount));
+        });
+    }
+
+    @Test
+    void updateEntityStateStartWhenEmpty() {
+        // given
+        long epochDay = 1000L;
+        long timestamp = DomainUtils.convertToNanosMax(TestUtils.asStartOfEpochDay(epochDay + 1)) + 1000L;
+        domainBuilder
+                .nodeStake()
+                .customize(ns -> ns.consensusTimestamp(timestamp).epochDay(epochDay))
+                .persist();
+        var account = domainBuilder.entity(STAKING_REWARD_ACCOUNT, timestamp - 5000L).persist();
+
+        transactionOperations.executeWithoutResult(s -> {
+            // when
+            boolean updated = entityStakeRepository.updateEntityStateStart(new long[] {account.getId()});
+
+            // then
+            assertThat(updated).isFalse();
+            assertEntityStartStart(Collections.emptyList());
+        });
+    }
+
     @Test
     void save() {
         var entityStake = domainBuilder.entityStake().get();
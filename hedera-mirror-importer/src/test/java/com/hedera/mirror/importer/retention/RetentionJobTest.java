@@ -19,6 +19,7 @@ package com.hedera.mirror.importer.retention;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.EnabledIfV1;
 import com.hedera.mirror.importer.ImporterIntegrationTest;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
 import com.hedera.mirror.importer.repository.TransactionRepository;
@@ -41,6 +42,7 @@ class RetentionJobTest extends ImporterIntegrationTest {
     @BeforeEach
     void setup() {
         retentionProperties.setBatchPeriod(Duration.ofSeconds(1L));
+        retentionProperties.setDropPartitions(false);
         retentionProperties.setExclude(Collections.emptySet());
         retentionProperties.setInclude(Collections.emptySet());
         retentionProperties.setPeriod(Duration.ofDays(-1L));
@@ -49,6 +51,7 @@ class RetentionJobTest extends ImporterIntegrationTest {
 
     @AfterEach
     void cleanup() {
+        retentionProperties.setDropPartitions(true);
         retentionProperties.setEnabled(false);
     }
 
@@ -182,6 +185,24 @@ class RetentionJobTest extends ImporterIntegrationTest {
         assertThat(transactionRepository.count()).isZero();
     }
 
+    @Test
+    @EnabledIfV1
+    void pruneWithDropPartitions() {
+        // given
+        retentionProperties.setDropPartitions(true);
+        var recordFile1 = recordFile();
+        var recordFile2 = recordFile();
+        var period = recordFile2.getConsensusEnd() - recordFile1.getConsensusEnd() - 1;
+        retentionProperties.setPeriod(Duration.ofSeconds(0, period));
+
+        // when
+        retentionJob.prune();
+
+        // then
+        assertThat(recordFileRepository.findAll()).containsExactly(recordFile2);
+        assertThat(transactionRepository.count()).isEqualTo(1);
+    }
+
     private RecordFile recordFile() {
         var recordFile = domainBuilder.recordFile().persist();
         domainBuilder
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class TimestampTableTest {
+
+    @Test
+    void putAndPrune() {
+        var table = new TimestampTable();
+        int count = 5000;
+        for (int i = 1; i <= count; i++) {
+            table.put(i, i % 7, i);
+            table.put(i, i % 7, i - 1);
+        }
+        table.put(0L, 1L, 1L);
+
+        assertThat(table.keys(0)).hasSize(count);
+        assertThat(table.get(1L, 1L)).isEqualTo(1L);
+        assertThat(table.get(4999L, 4999L % 7)).isEqualTo(4999L);
+        assertThat(table.get(4999L, 0L)).isZero();
+
+        table.prune(count - 10L);
+        assertThat(table.keys(0)).hasSize(10);
+        assertThat(table.get(count, count % 7)).isEqualTo(count);
+        assertThat(table.get(1L, 1L)).isZero();
+    }
+
+    @Test
+    void clear() {
+        var table = new TimestampTable();
+        table.put(1L, 0L, 1L);
+        assertThat(table.size()).isOne();
+
+        table.clear();
+        assertThat(table.size()).isZero();
+        assertThat(table.get(1L, 0L)).isZero();
+    }
+}
@@ -19,6 +19,7 @@ package com.hedera.mirror.restjava;
 import jakarta.annotation.PostConstruct;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -26,7 +27,9 @@ import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
 @Data
@@ -34,6 +37,9 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hedera.mirror.rest-java")
 public class RestJavaProperties {
 
+    @NotNull
+    private EntityCacheConfig entityCache = new EntityCacheConfig();
+
     @NotNull
     private ResponseConfig response = new ResponseConfig();
 
@@ -59,13 +65,69 @@ public class RestJavaProperties {
         }
     }
 
+    @Data
+    @Validated
+    public static class EntityCacheConfig {
+        private boolean enabled = true;
+
+        // Only increase when the importer sends entity notifications, since it's the bound on serving stale entries
+        @DurationMin(seconds = 1L)
+        @NotNull
+        private Duration expiry = Duration.ofSeconds(10L);
+
+        private boolean listen = true;
+
+        @Min(1)
+        private long maxSize = 100_000L;
+
+        @NotNull
+        private Duration negativeExpiry = Duration.ofSeconds(5L);
+    }
+
     @Data
     @Validated
     public static class ResponseConfig {
+        @NotNull
+        private ResponseCacheConfig cache = new ResponseCacheConfig();
+
         @NotNull
         private ResponseHeadersConfig headers = new ResponseHeadersConfig();
     }
 
+    @Data
+    @Validated
+    public static class ResponseCacheConfig {
+        private boolean enabled = true;
+
+        @DurationMin(seconds = 1L)
+        @NotNull
+        private Duration finalMaxAge = Duration.ofDays(1L);
+
+        @DurationMin(millis = 100L)
+        @NotNull
+        private Duration latestExpiry = Duration.ofSeconds(1L);
+
+        @NotNull
+        private DataSize maxBodySize = DataSize.ofKilobytes(256L);
+
+        @NotNull
+        private DataSize maxSize = DataSize.ofMegabytes(64L);
+
+        @DurationMin(seconds = 1L)
+        @NotNull
+        private Duration openMaxAge = Duration.ofSeconds(2L);
+
+        @NotNull
+        private Map<String, Finality> paths = new HashMap<>();
+
+        public enum Finality {
+            // The response can change at any time and is only cached for the open max age
+            NONE,
+            // The response is final once the upper bound of its timestamp parameter has been ingested
+            TIMESTAMP
+        }
+    }
+
     @Data
     @Validated
     public static class ResponseHeadersConfig {
@@ -25,4 +25,7 @@ import org.springframework.data.domain.Pageable;
 
 public interface LinkFactory {
     <T> Links create(List<T> items, @Nonnull Pageable pageable, @Nonnull Function<T, Map<String, String>> extractor);
+
+    <T> Links create(
+            T lastItem, int count, @Nonnull Pageable pageable, @Nonnull Function<T, Map<String, String>> extractor);
 }
@@ -45,7 +45,17 @@ class LinkFactoryImpl implements LinkFactory {
     @Override
     public <T> Links create(
             List<T> items, @Nonnull Pageable pageable, @Nonnull Function<T, Map<String, String>> extractor) {
-        if (CollectionUtils.isEmpty(items) || pageable.getPageSize() > items.size()) {
+        if (CollectionUtils.isEmpty(items)) {
+            return DEFAULT_LINKS;
+        }
+
+        return create(CollectionUtils.lastElement(items), items.size(), pageable, extractor);
+    }
+
+    @Override
+    public <T> Links create(
+            T lastItem, int count, @Nonnull Pageable pageable, @Nonnull Function<T, Map<String, String>> extractor) {
+        if (lastItem == null || count <= 0 || pageable.getPageSize() > count) {
             return DEFAULT_LINKS;
         }
 
@@ -55,7 +65,6 @@ class LinkFactoryImpl implements LinkFactory {
         }
 
         var request = servletRequestAttributes.getRequest();
-        var lastItem = CollectionUtils.lastElement(items);
         var nextLink = createNextLink(lastItem, pageable, extractor, request);
         return new Links().next(nextLink);
     }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hedera.mirror.rest.model.Links;
+import com.hedera.mirror.restjava.mapper.CollectionMapper;
+import jakarta.inject.Named;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Writes a paged list response of the form {@code {"<items>": [...], "links": {...}}} directly to the servlet output
+ * stream as rows are read from a database cursor, instead of materializing the full result set and the mapped response
+ * model in memory first. The stream is consumed inside a read-only transaction so the cursor's connection stays open
+ * until the last row is written. If a row fails to be read or written after the response has been committed, the
+ * exception propagates to the container so it aborts the connection instead of ending the truncated body as a 200.
+ */
+@Named
+public class StreamingJsonWriter {
+
+    private static final String LINKS = "links";
+
+    private final ObjectMapper objectMapper;
+    private final TransactionOperations transactionOperations;
+
+    public StreamingJsonWriter(ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.transactionOperations = transactionTemplate;
+    }
+
+    /**
+     * Streams the source rows, maps each to its response model and writes it to the response body.
+     *
+     * @param response  the servlet response to write to
+     * @param itemsName the name of the JSON array field holding the items
+     * @param source    supplies the stream of domain rows. Validation errors thrown by the supplier propagate before
+     *                  anything has been written to the response
+     * @param mapper    maps each domain row to its response model
+     * @param links     creates the pagination links from the last written item and the count of written items
+     */
+    public <S, T> void write(
+            HttpServletResponse response,
+            String itemsName,
+            Supplier<Stream<S>> source,
+            CollectionMapper<S, T> mapper,
+            BiFunction<T, Integer, Links> links) {
+        transactionOperations.executeWithoutResult(t -> {
+            try (var stream = source.get()) {
+                write(response, itemsName, stream, mapper, links);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private <S, T> void write(
+            HttpServletResponse response,
+            String itemsName,
+            Stream<S> stream,
+            CollectionMapper<S, T> mapper,
+            BiFunction<T, Integer, Links> links)
+            throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        // Not closed on failure so a partially written body isn't flushed ahead of the error response
+        var generator = objectMapper.createGenerator(response.getOutputStream());
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(itemsName);
+
+        T last = null;
+        int count = 0;
+        for (var iterator = stream.iterator(); iterator.hasNext(); ) {
+            last = mapper.map(iterator.next());
+            generator.writeObject(last);
+            count++;
+        }
+
+        generator.writeEndArray();
+        generator.writeObjectField(LINKS, links.apply(last, count));
+        generator.writeEndObject();
+        generator.close();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.hedera.mirror.restjava.RestJavaProperties;
+import com.hedera.mirror.restjava.service.EntityAddressCache;
+import com.hedera.mirror.restjava.service.EntityAddressIndex;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+class CacheConfiguration {
+
+    @Bean
+    CacheManager cacheManager(EntityAddressIndex entityAddressIndex, RestJavaProperties properties) {
+        var config = properties.getEntityCache();
+        var entityAddressCache = Caffeine.newBuilder()
+                .expireAfter(Expiry.<Object, Object>writing(
+                        (key, value) -> value instanceof Optional<?> o && o.isEmpty()
+                                ? config.getNegativeExpiry()
+                                : config.getExpiry()))
+                .evictionListener(entityAddressIndex)
+                .maximumSize(config.getMaxSize())
+                .recordStats()
+                .build();
+
+        var responseCache = Caffeine.newBuilder()
+                .expireAfter(Expiry.<Object, Object>writing(
+                        (key, value) -> value instanceof ResponseCacheFilter.CachedResponse r
+                                ? r.maxAge()
+                                : Duration.ZERO))
+                .maximumWeight(properties.getResponse().getCache().getMaxSize().toBytes())
+                .weigher((key, value) -> value instanceof ResponseCacheFilter.CachedResponse r ? r.body().length : 1)
+                .recordStats()
+                .build();
+
+        var cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(EntityAddressCache.CACHE_NAME, entityAddressCache);
+        cacheManager.registerCustomCache(ResponseCacheFilter.CACHE_NAME, responseCache);
+        return cacheManager;
+    }
+}
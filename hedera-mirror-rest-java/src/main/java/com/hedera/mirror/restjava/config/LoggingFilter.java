@@ -20,8 +20,10 @@ import static org.springframework.web.util.WebUtils.ERROR_EXCEPTION_ATTRIBUTE;
 
 import jakarta.inject.Named;
 import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import lombok.CustomLog;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.http.HttpStatus;
@@ -38,7 +40,8 @@ class LoggingFilter extends OncePerRequestFilter {
     private static final String SUCCESS = "Success";
 
     @Override
-    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) {
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
         long start = System.currentTimeMillis();
         Exception cause = null;
 
@@ -46,6 +49,10 @@ class LoggingFilter extends OncePerRequestFilter {
             filterChain.doFilter(request, response);
         } catch (Exception t) {
             cause = t;
+            // The status was already sent, so only the container aborting the connection tells the client it failed
+            if (response.isCommitted()) {
+                throw t;
+            }
         } finally {
             logRequest(request, response, start, cause);
         }
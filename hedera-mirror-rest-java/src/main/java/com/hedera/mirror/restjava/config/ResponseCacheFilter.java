@@ -0,0 +1,446 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.config;
+
+import static org.springframework.http.HttpHeaders.CACHE_CONTROL;
+import static org.springframework.http.HttpHeaders.CONTENT_LENGTH;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+
+import com.google.common.base.Suppliers;
+import com.google.common.hash.Hashing;
+import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.restjava.RestJavaProperties;
+import com.hedera.mirror.restjava.RestJavaProperties.ResponseCacheConfig;
+import com.hedera.mirror.restjava.RestJavaProperties.ResponseCacheConfig.Finality;
+import com.hedera.mirror.restjava.repository.RecordFileRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Named;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.CustomLog;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Serves the responses of the API paths that opted in to caching from an in-process cache, and tells clients and CDNs
+ * how long they may reuse them. A response whose timestamp range ends at or before the latest ingested record file can
+ * never change, so it gets a strong ETag derived from its URI, a long immutable max age, and a matching If-None-Match
+ * is answered with a 304 without touching the database. Any other response may change with the next record file, so it
+ * is only cached for a short max age and its ETag is derived from its body. The latest record file is only used to
+ * decide finality, so reusing it for a while can only make a final response look open, never the reverse.
+ */
+@CustomLog
+@Named
+class ResponseCacheFilter extends OncePerRequestFilter {
+
+    static final String CACHE_NAME = "response";
+    static final String METRIC = "hedera.mirror.restjava.response.cache";
+
+    private static final String TIMESTAMP = "timestamp";
+    private static final String WEAK_PREFIX = "W/";
+
+    private final Cache cache;
+    private final ResponseCacheConfig config;
+    private final Map<Boolean, Map<Result, Counter>> counters;
+    private final Supplier<Optional<Long>> latest;
+    private final Map<PathPattern, Finality> paths = new LinkedHashMap<>();
+
+    ResponseCacheFilter(
+            CacheManager cacheManager,
+            MeterRegistry meterRegistry,
+            RecordFileRepository recordFileRepository,
+            RestJavaProperties properties) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        this.config = properties.getResponse().getCache();
+        this.counters = Map.of(true, counters(meterRegistry, true), false, counters(meterRegistry, false));
+        this.latest = Suppliers.memoizeWithExpiration(
+                recordFileRepository::findLatestConsensusEnd, config.getLatestExpiry());
+        config.getPaths()
+                .forEach((path, finality) -> paths.put(PathPatternParser.defaultInstance.parse(path), finality));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !config.isEnabled() || !HttpMethod.GET.matches(request.getMethod()) || getFinality(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        var uri = getUri(request);
+        boolean isFinal = getFinality(request) == Finality.TIMESTAMP && isFinal(request);
+        var maxAge = isFinal ? config.getFinalMaxAge() : config.getOpenMaxAge();
+        var etag = isFinal ? getETag(uri.getBytes(StandardCharsets.UTF_8)) : null;
+
+        // A final response can only ever have this ETag, so the client's copy is still valid without looking it up
+        if (etag != null && isNotModified(request, etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(ETAG, etag);
+            response.setHeader(CACHE_CONTROL, getCacheControl(maxAge.toSeconds(), true));
+            record(true, Result.NOT_MODIFIED);
+            return;
+        }
+
+        var cached = cache.get(uri, CachedResponse.class);
+        if (cached != null) {
+            if (isNotModified(request, cached.etag())) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                cached.writeHeaders(response);
+                record(cached.isFinal(), Result.NOT_MODIFIED);
+            } else {
+                cached.write(response);
+                record(cached.isFinal(), Result.HIT);
+            }
+            return;
+        }
+
+        var cacheControl = getCacheControl(maxAge.toSeconds(), isFinal);
+        var capturingResponse = new CapturingResponse(
+                response, etag, cacheControl, (int) config.getMaxBodySize().toBytes());
+        filterChain.doFilter(request, capturingResponse);
+        capturingResponse.flushBuffer();
+
+        var body = capturingResponse.getCaptured();
+        if (response.getStatus() == HttpServletResponse.SC_OK && body != null) {
+            var cachedEtag = etag != null ? etag : getETag(body);
+            var headers = getHeaders(response);
+            cache.put(
+                    uri,
+                    new CachedResponse(
+                            response.getContentType(),
+                            headers,
+                            body,
+                            cachedEtag,
+                            isFinal,
+                            maxAge,
+                            System.currentTimeMillis()));
+        }
+
+        record(isFinal, Result.MISS);
+    }
+
+    private Finality getFinality(HttpServletRequest request) {
+        if (paths.isEmpty()) {
+            return null;
+        }
+
+        var path = PathContainer.parsePath(request.getRequestURI());
+        for (var entry : paths.entrySet()) {
+            if (entry.getKey().matches(path)) {
+                return entry.getValue();
+            }
+        }
+
+        return null;
+    }
+
+    /*
+     * A timestamp range is final when its upper bound is at or before the consensus end of the latest ingested record
+     * file, since record files are ingested in consensus order.
+     */
+    private boolean isFinal(HttpServletRequest request) {
+        var values = request.getParameterValues(TIMESTAMP);
+        if (values == null || values.length == 0) {
+            return false;
+        }
+
+        long upper = Long.MAX_VALUE;
+        for (var value : values) {
+            int separator = value.indexOf(':');
+            var operator = separator >= 0 ? value.substring(0, separator) : "eq";
+            long timestamp = parseTimestamp(value.substring(separator + 1));
+            if (timestamp < 0) {
+                return false;
+            }
+
+            switch (operator) {
+                case "eq", "lte" -> upper = Math.min(upper, timestamp);
+                case "lt" -> upper = Math.min(upper, timestamp - 1);
+                case "gt", "gte" -> {
+                    // A lower bound doesn't make the range any more or less final
+                }
+                default -> {
+                    return false;
+                }
+            }
+        }
+
+        if (upper == Long.MAX_VALUE) {
+            return false;
+        }
+
+        var latestConsensusEnd = latest.get();
+        return latestConsensusEnd.isPresent() && upper <= latestConsensusEnd.get();
+    }
+
+    // Parses seconds.nanos into nanoseconds, returning -1 if it's invalid so the controller can reject it
+    private static long parseTimestamp(String timestamp) {
+        int separator = timestamp.indexOf('.');
+        var seconds = separator >= 0 ? timestamp.substring(0, separator) : timestamp;
+        var nanos = separator >= 0 ? StringUtils.rightPad(timestamp.substring(separator + 1), 9, '0') : "0";
+        if (nanos.length() > 9 || !StringUtils.isNumeric(seconds) || !StringUtils.isNumeric(nanos)) {
+            return -1L;
+        }
+
+        try {
+            return Math.addExact(
+                    Math.multiplyExact(Long.parseLong(seconds), DomainUtils.NANOS_PER_SECOND), Long.parseLong(nanos));
+        } catch (ArithmeticException | NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private static String getUri(HttpServletRequest request) {
+        var queryString = request.getQueryString();
+        return queryString != null ? request.getRequestURI() + '?' + queryString : request.getRequestURI();
+    }
+
+    private static String getETag(byte[] bytes) {
+        return '"' + Hashing.murmur3_128().hashBytes(bytes).toString() + '"';
+    }
+
+    private static String getCacheControl(long maxAge, boolean isFinal) {
+        return "public, max-age=" + maxAge + (isFinal ? ", immutable" : "");
+    }
+
+    private boolean isNotModified(HttpServletRequest request, String etag) {
+        var headers = request.getHeaders(IF_NONE_MATCH);
+        while (headers.hasMoreElements()) {
+            for (var value : headers.nextElement().split(",")) {
+                var candidate = value.trim();
+                // If-None-Match uses the weak comparison, and a compressing proxy may have weakened our ETag
+                if (candidate.startsWith(WEAK_PREFIX)) {
+                    candidate = candidate.substring(WEAK_PREFIX.length());
+                }
+
+                if (candidate.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private Map<String, List<String>> getHeaders(HttpServletResponse response) {
+        var headers = new LinkedHashMap<String, List<String>>();
+        for (var name : response.getHeaderNames()) {
+            if (!CACHE_CONTROL.equalsIgnoreCase(name)
+                    && !CONTENT_LENGTH.equalsIgnoreCase(name)
+                    && !CONTENT_TYPE.equalsIgnoreCase(name)
+                    && !ETAG.equalsIgnoreCase(name)) {
+                headers.put(name, new ArrayList<>(response.getHeaders(name)));
+            }
+        }
+        return headers;
+    }
+
+    private static Map<Result, Counter> counters(MeterRegistry meterRegistry, boolean isFinal) {
+        var counters = new EnumMap<Result, Counter>(Result.class);
+        for (var result : Result.values()) {
+            var counter = Counter.builder(METRIC)
+                    .description("The number of API responses by their response cache result")
+                    .tag("final", String.valueOf(isFinal))
+                    .tag("result", result.getTag())
+                    .register(meterRegistry);
+            counters.put(result, counter);
+        }
+        return counters;
+    }
+
+    private void record(boolean isFinal, Result result) {
+        counters.get(isFinal).get(result).increment();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private enum Result {
+        HIT("hit"),
+        MISS("miss"),
+        NOT_MODIFIED("not_modified");
+
+        private final String tag;
+    }
+
+    record CachedResponse(
+            String contentType,
+            Map<String, List<String>> headers,
+            byte[] body,
+            String etag,
+            boolean isFinal,
+            Duration maxAge,
+            long createdAt) {
+
+        void write(HttpServletResponse response) throws IOException {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(contentType);
+            writeHeaders(response);
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+
+        void writeHeaders(HttpServletResponse response) {
+            headers.forEach((name, values) -> values.forEach(v -> response.addHeader(name, v)));
+            response.setHeader(ETAG, etag);
+            response.setHeader(CACHE_CONTROL, getCacheControl(getRemainingMaxAge(), isFinal));
+        }
+
+        // An open response is only fresh for what's left of its max age since it was captured
+        private long getRemainingMaxAge() {
+            long age = Duration.ofMillis(System.currentTimeMillis() - createdAt).toSeconds();
+            return isFinal ? maxAge.toSeconds() : Math.max(0L, maxAge.toSeconds() - age);
+        }
+    }
+
+    /**
+     * Writes the response through to the client while keeping a copy of the body as long as it stays within the
+     * maximum cacheable size. The caching headers are only added once the body is being written by a successful
+     * response, so they replace any set by the controller.
+     */
+    private static class CapturingResponse extends HttpServletResponseWrapper {
+
+        private final String cacheControl;
+        private final String etag;
+        private final int maxBodySize;
+
+        private ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        CapturingResponse(HttpServletResponse response, String etag, String cacheControl, int maxBodySize) {
+            super(response);
+            this.cacheControl = cacheControl;
+            this.etag = etag;
+            this.maxBodySize = maxBodySize;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                if (getStatus() == SC_OK) {
+                    setHeader(CACHE_CONTROL, cacheControl);
+                    if (etag != null) {
+                        setHeader(ETAG, etag);
+                    }
+                }
+                outputStream = new CapturingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            super.flushBuffer();
+        }
+
+        byte[] getCaptured() {
+            return outputStream != null && captured != null ? captured.toByteArray() : null;
+        }
+
+        private void capture(byte[] bytes, int offset, int length) {
+            if (captured == null) {
+                return;
+            }
+
+            if (captured.size() + length > maxBodySize) {
+                captured = null;
+            } else {
+                captured.write(bytes, offset, length);
+            }
+        }
+
+        private class CapturingOutputStream extends ServletOutputStream {
+
+            private final ServletOutputStream delegate;
+
+            CapturingOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[] {(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                delegate.write(bytes, offset, length);
+                capture(bytes, offset, length);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+        }
+    }
+}
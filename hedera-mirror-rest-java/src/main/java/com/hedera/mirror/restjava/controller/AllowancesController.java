@@ -24,14 +24,15 @@ import static com.hedera.mirror.restjava.jooq.domain.Tables.NFT_ALLOWANCE;
 
 import com.google.common.collect.ImmutableSortedMap;
 import com.hedera.mirror.rest.model.NftAllowance;
-import com.hedera.mirror.rest.model.NftAllowancesResponse;
 import com.hedera.mirror.restjava.common.EntityIdParameter;
 import com.hedera.mirror.restjava.common.EntityIdRangeParameter;
 import com.hedera.mirror.restjava.common.LinkFactory;
+import com.hedera.mirror.restjava.common.StreamingJsonWriter;
 import com.hedera.mirror.restjava.dto.NftAllowanceRequest;
 import com.hedera.mirror.restjava.mapper.NftAllowanceMapper;
 import com.hedera.mirror.restjava.service.Bound;
 import com.hedera.mirror.restjava.service.NftAllowanceService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
@@ -66,9 +67,11 @@ public class AllowancesController {
     private final LinkFactory linkFactory;
     private final NftAllowanceService service;
     private final NftAllowanceMapper nftAllowanceMapper;
+    private final StreamingJsonWriter streamingJsonWriter;
 
     @GetMapping(value = "/nfts")
-    NftAllowancesResponse getNftAllowances(
+    void getNftAllowances(
+            HttpServletResponse response,
             @PathVariable EntityIdParameter id,
             @RequestParam(name = ACCOUNT_ID, required = false) @Size(max = 2) EntityIdRangeParameter[] accountIds,
             @RequestParam(defaultValue = DEFAULT_LIMIT) @Positive @Max(MAX_LIMIT) int limit,
@@ -85,13 +88,15 @@ public class AllowancesController {
                 .tokenIds(new Bound(tokenIds, false, TOKEN_ID, NFT_ALLOWANCE.TOKEN_ID))
                 .build();
 
-        var serviceResponse = service.getNftAllowances(request);
-        var allowances = nftAllowanceMapper.map(serviceResponse);
-
         var sort = Sort.by(order, ACCOUNT_ID, TOKEN_ID);
         var pageable = PageRequest.of(0, limit, sort);
-        var links = linkFactory.create(allowances, pageable, EXTRACTORS.get(owner));
+        var extractor = EXTRACTORS.get(owner);
 
-        return new NftAllowancesResponse().allowances(allowances).links(links);
+        streamingJsonWriter.write(
+                response,
+                "allowances",
+                () -> service.streamNftAllowances(request),
+                nftAllowanceMapper,
+                (last, count) -> linkFactory.create(last, count, pageable, extractor));
     }
 }
@@ -35,6 +35,7 @@ import java.util.Locale;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.springframework.context.MessageSource;
 import org.springframework.context.MessageSourceResolvable;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
@@ -58,6 +59,7 @@ import org.springframework.web.bind.MissingPathVariableException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
@@ -122,6 +124,15 @@ class GenericControllerAdvice extends ResponseEntityExceptionHandler {
     protected ResponseEntity<Object> handleExceptionInternal(
             Exception ex, @Nullable Object body, HttpHeaders headers, HttpStatusCode statusCode, WebRequest request) {
 
+        // A streamed response is committed with a 200 before its body is complete, so an error can no longer be
+        // reported in it. Rethrow so the container aborts the connection rather than ending a truncated body cleanly.
+        if (request instanceof ServletWebRequest servletWebRequest
+                && servletWebRequest.getResponse() != null
+                && servletWebRequest.getResponse().isCommitted()) {
+            log.warn("Aborting response that was already committed: {}", ex.getMessage());
+            return ExceptionUtils.rethrow(ex);
+        }
+
         Error errorResponse =
                 switch (ex) {
                     case Errors errors -> errorResponse(errors.getAllErrors());
@@ -29,20 +29,20 @@ import static com.hedera.mirror.restjava.jooq.domain.Tables.TOKEN_AIRDROP;
 
 import com.google.common.collect.ImmutableSortedMap;
 import com.hedera.mirror.rest.model.TokenAirdrop;
-import com.hedera.mirror.rest.model.TokenAirdropsResponse;
 import com.hedera.mirror.restjava.common.EntityIdParameter;
 import com.hedera.mirror.restjava.common.EntityIdRangeParameter;
 import com.hedera.mirror.restjava.common.LinkFactory;
 import com.hedera.mirror.restjava.common.NumberRangeParameter;
+import com.hedera.mirror.restjava.common.StreamingJsonWriter;
 import com.hedera.mirror.restjava.dto.TokenAirdropRequest;
 import com.hedera.mirror.restjava.dto.TokenAirdropRequest.AirdropRequestType;
 import com.hedera.mirror.restjava.mapper.TokenAirdropMapper;
 import com.hedera.mirror.restjava.service.Bound;
 import com.hedera.mirror.restjava.service.TokenAirdropService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
-import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import lombok.CustomLog;
@@ -75,31 +75,35 @@ public class TokenAirdropsController {
     private final LinkFactory linkFactory;
     private final TokenAirdropMapper tokenAirdropMapper;
     private final TokenAirdropService service;
+    private final StreamingJsonWriter streamingJsonWriter;
 
     @GetMapping(value = "/outstanding")
-    TokenAirdropsResponse getOutstandingAirdrops(
+    void getOutstandingAirdrops(
+            HttpServletResponse response,
             @PathVariable EntityIdParameter id,
             @RequestParam(defaultValue = DEFAULT_LIMIT) @Positive @Max(MAX_LIMIT) int limit,
             @RequestParam(defaultValue = "asc") Sort.Direction order,
             @RequestParam(name = RECEIVER_ID, required = false) @Size(max = 2) EntityIdRangeParameter[] receiverIds,
             @RequestParam(name = SERIAL_NUMBER, required = false) @Size(max = 2) NumberRangeParameter[] serialNumbers,
             @RequestParam(name = TOKEN_ID, required = false) @Size(max = 2) EntityIdRangeParameter[] tokenIds) {
-        return processRequest(id, receiverIds, limit, order, serialNumbers, tokenIds, OUTSTANDING);
+        processRequest(response, id, receiverIds, limit, order, serialNumbers, tokenIds, OUTSTANDING);
     }
 
     @GetMapping(value = "/pending")
-    TokenAirdropsResponse getPendingAirdrops(
+    void getPendingAirdrops(
+            HttpServletResponse response,
             @PathVariable EntityIdParameter id,
             @RequestParam(defaultValue = DEFAULT_LIMIT) @Positive @Max(MAX_LIMIT) int limit,
             @RequestParam(defaultValue = "asc") Sort.Direction order,
             @RequestParam(name = SENDER_ID, required = false) @Size(max = 2) EntityIdRangeParameter[] senderIds,
             @RequestParam(name = SERIAL_NUMBER, required = false) @Size(max = 2) NumberRangeParameter[] serialNumbers,
             @RequestParam(name = TOKEN_ID, required = false) @Size(max = 2) EntityIdRangeParameter[] tokenIds) {
-        return processRequest(id, senderIds, limit, order, serialNumbers, tokenIds, PENDING);
+        processRequest(response, id, senderIds, limit, order, serialNumbers, tokenIds, PENDING);
     }
 
     @SuppressWarnings("java:S107")
-    private TokenAirdropsResponse processRequest(
+    private void processRequest(
+            HttpServletResponse response,
             EntityIdParameter id,
             EntityIdRangeParameter[] entityIds,
             int limit,
@@ -118,17 +122,21 @@ public class TokenAirdropsController {
                 .type(type)
                 .build();
 
-        var response = service.getAirdrops(request);
-        var airdrops = tokenAirdropMapper.map(response);
-        var sort = getSort(airdrops, order, type.getParameter());
-        var pageable = PageRequest.of(0, limit, sort);
-        var links = linkFactory.create(airdrops, pageable, EXTRACTOR);
-        return new TokenAirdropsResponse().airdrops(airdrops).links(links);
+        streamingJsonWriter.write(
+                response,
+                "airdrops",
+                () -> service.streamAirdrops(request),
+                tokenAirdropMapper,
+                (last, count) -> {
+                    var sort = getSort(last, order, type.getParameter());
+                    var pageable = PageRequest.of(0, limit, sort);
+                    return linkFactory.create(last, count, pageable, EXTRACTOR);
+                });
     }
 
-    private Sort getSort(List<TokenAirdrop> airdrops, Sort.Direction order, String primarySortField) {
-        if (!airdrops.isEmpty()) {
-            var lastSerial = airdrops.getLast().getSerialNumber();
+    private Sort getSort(TokenAirdrop lastAirdrop, Sort.Direction order, String primarySortField) {
+        if (lastAirdrop != null) {
+            var lastSerial = lastAirdrop.getSerialNumber();
             if (lastSerial == null || lastSerial == DEFAULT_SERIAL_VALUE) {
                 // If no serial present, the next link should be based off of the token id
                 return Sort.by(order, primarySortField, TOKEN_ID);
@@ -16,9 +16,8 @@
 
 package com.hedera.mirror.restjava.jooq;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.CollectionType;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.google.common.base.CaseFormat;
 import com.google.common.base.Converter;
 import com.google.common.collect.Range;
@@ -27,12 +26,12 @@ import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.restjava.converter.LongRangeConverter;
 import com.hedera.mirror.restjava.exception.RecordMappingException;
 import jakarta.annotation.Nullable;
+import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
-import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -40,6 +39,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.jooq.EnumType;
@@ -49,6 +51,12 @@ import org.jooq.RecordMapper;
 import org.jooq.RecordType;
 import org.jooq.postgres.extensions.types.LongRange;
 
+/**
+ * Maps a jOOQ record to a domain object. All reflective work happens once when the mapper is created for a (record
+ * type, domain class) pair: the constructor and each column's setter are compiled into lambdas via
+ * {@link LambdaMetafactory} and each column's type conversion is resolved from the jOOQ field and setter parameter
+ * types. Mapping a row is then a straight loop over the columns with no reflection, map lookups or type checks.
+ */
 class DomainRecordMapper<R extends Record, E> implements RecordMapper<R, E> {
 
     private static final Converter<String, String> FORMAT_CONVERTER =
@@ -56,76 +64,132 @@ class DomainRecordMapper<R extends Record, E> implements RecordMapper<R, E> {
     private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
     private static final ObjectMapper OBJECT_MAPPER = ObjectToStringSerializer.OBJECT_MAPPER;
 
-    private final MethodHandle defaultConstructor;
-    private final org.jooq.Field<?>[] recordFields;
-    private final Map<String, Setter> setters;
+    private final Supplier<E> constructor;
+    private final ColumnMapper[] columnMappers;
 
     public DomainRecordMapper(RecordType<R> recordType, Class<? extends E> type) {
         try {
-            defaultConstructor = LOOKUP.findConstructor(type, MethodType.methodType(void.class));
-            recordFields = recordType.fields();
+            constructor = compileConstructor(type);
+            var recordFields = recordType.fields();
             var fieldNames =
                     Arrays.stream(recordFields).map(org.jooq.Field::getName).collect(Collectors.toSet());
-            setters = getSetters(fieldNames, type);
-        } catch (Exception e) {
+            var setters = getSetters(fieldNames, type);
+            columnMappers = new ColumnMapper[recordFields.length];
+
+            for (int i = 0; i < recordFields.length; i++) {
+                var field = recordFields[i];
+                var setter = setters.get(field.getName());
+                columnMappers[i] = setter != null ? compileColumnMapper(field, setter) : unmapped(field);
+            }
+        } catch (Throwable e) {
             throw new RecordMappingException(
                     String.format("Failed to create record mapper for entity type %s", type.getName()), e);
         }
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public @Nullable E map(R source) {
         try {
-            var entity = (E) defaultConstructor.invoke();
-            for (int i = 0; i < recordFields.length; i++) {
-                var field = recordFields[i];
-                var setter = setters.get(field.getName());
-                var method = setter.methodHandle;
-                var value = convert(setter, source.get(i));
-                method.invoke(entity, value);
+            var entity = constructor.get();
+            for (int i = 0; i < columnMappers.length; i++) {
+                var value = source.get(i);
+                var columnMapper = columnMappers[i];
+                columnMapper.setter.accept(entity, value != null ? columnMapper.converter.apply(value) : null);
             }
 
             return entity;
-        } catch (Throwable e) {
+        } catch (Exception e) {
             throw new RecordMappingException("Failed to map record to entity", e);
         }
     }
 
-    @SuppressWarnings({"java:S3776", "rawtypes", "unchecked"})
-    private static Object convert(Setter setter, Object source) throws JsonProcessingException {
-        if (source == null) {
-            return null;
-        }
+    @SuppressWarnings("unchecked")
+    private static <E> Supplier<E> compileConstructor(Class<? extends E> type) throws Throwable {
+        var handle = LOOKUP.findConstructor(type, MethodType.methodType(void.class));
+        var callSite = LambdaMetafactory.metafactory(
+                LOOKUP,
+                "get",
+                MethodType.methodType(Supplier.class),
+                MethodType.methodType(Object.class),
+                handle,
+                MethodType.methodType(type));
+        return (Supplier<E>) callSite.getTarget().invoke();
+    }
 
-        var collectionType = setter.collectionType;
-        var sourceType = source.getClass();
+    @SuppressWarnings("unchecked")
+    private static ColumnMapper compileColumnMapper(org.jooq.Field<?> field, Setter setter) throws Throwable {
+        var handle = setter.methodHandle;
+        var callSite = LambdaMetafactory.metafactory(
+                LOOKUP,
+                "accept",
+                MethodType.methodType(BiConsumer.class),
+                MethodType.methodType(void.class, Object.class, Object.class),
+                handle,
+                handle.type().wrap().changeReturnType(void.class));
+        var consumer = (BiConsumer<Object, Object>) callSite.getTarget().invoke();
+        return new ColumnMapper(getConverter(field.getType(), setter), consumer);
+    }
+
+    private static ColumnMapper unmapped(org.jooq.Field<?> field) {
+        return new ColumnMapper(Function.identity(), (entity, value) -> {
+            throw new RecordMappingException(String.format("No setter found for field %s", field.getName()));
+        });
+    }
+
+    @SuppressWarnings("java:S3776")
+    private static Function<Object, Object> getConverter(Class<?> sourceType, Setter setter) {
         var targetType = setter.methodHandle.type().parameterType(1);
 
         if (targetType.isEnum()) {
-            if (source instanceof EnumType enumValue) {
-                return Enum.valueOf((Class<Enum>) targetType, enumValue.getLiteral());
-            } else if (source instanceof Number number) {
+            var targetConstants = targetType.getEnumConstants();
+            if (EnumType.class.isAssignableFrom(sourceType) && sourceType.isEnum()) {
+                // Resolve the target constant for each database enum ordinal ahead of time
+                var sourceConstants = (EnumType[]) sourceType.getEnumConstants();
+                var constants = new Object[sourceConstants.length];
+                for (var constant : targetConstants) {
+                    for (int i = 0; i < sourceConstants.length; i++) {
+                        if (sourceConstants[i].getLiteral().equals(((Enum<?>) constant).name())) {
+                            constants[i] = constant;
+                        }
+                    }
+                }
+                return source -> {
+                    var constant = constants[((Enum<?>) source).ordinal()];
+                    if (constant == null) {
+                        throw new IllegalArgumentException(String.format(
+                                "No enum constant %s.%s", targetType.getName(), ((EnumType) source).getLiteral()));
+                    }
+                    return constant;
+                };
+            } else if (Number.class.isAssignableFrom(sourceType)) {
                 // TokenFreezeStatus and TokenKycStatus are stored as smallint instead of pg enum in the database
-                return targetType.getEnumConstants()[number.shortValue()];
+                return source -> targetConstants[((Number) source).shortValue()];
             }
-        } else if (targetType == Range.class && source instanceof LongRange longRange) {
-            return LongRangeConverter.INSTANCE.convert(longRange);
-        } else if (targetType == EntityId.class && source instanceof Long id) {
-            return EntityId.of(id);
-        } else if (collectionType != null && source instanceof JSONB jsonb) {
-            return OBJECT_MAPPER.readValue(jsonb.data(), collectionType);
-        } else if (sourceType != targetType
-                && source instanceof Number number
-                && Number.class.isAssignableFrom(targetType)) {
-            if (targetType == Integer.class) {
-                return number.intValue();
-            } else if (targetType == Long.class) {
-                return number.longValue();
+        } else if (targetType == Range.class && sourceType == LongRange.class) {
+            return source -> LongRangeConverter.INSTANCE.convert((LongRange) source);
+        } else if (targetType == EntityId.class && sourceType == Long.class) {
+            return source -> EntityId.of((Long) source);
+        } else if (sourceType == JSONB.class && Collection.class.isAssignableFrom(targetType)) {
+            var javaType = OBJECT_MAPPER.getTypeFactory().constructType(setter.member.getGenericType());
+            var reader = OBJECT_MAPPER.readerFor(javaType);
+            return source -> readJson(reader, (JSONB) source);
+        } else if (sourceType != targetType && Number.class.isAssignableFrom(sourceType)) {
+            if (targetType == Integer.class || targetType == int.class) {
+                return source -> ((Number) source).intValue();
+            } else if (targetType == Long.class || targetType == long.class) {
+                return source -> ((Number) source).longValue();
             }
         }
 
-        return source;
+        return Function.identity();
+    }
+
+    private static Object readJson(ObjectReader reader, JSONB jsonb) {
+        try {
+            return reader.readValue(jsonb.data());
+        } catch (Exception e) {
+            throw new RecordMappingException("Failed to deserialize JSONB", e);
+        }
     }
 
     private static List<Field> getInstanceMembers(Class<?> type) {
@@ -144,36 +208,26 @@ class DomainRecordMapper<R extends Record, E> implements RecordMapper<R, E> {
         return result;
     }
 
-    @SuppressWarnings("unchecked")
     private static Map<String, Setter> getSetters(Set<String> fieldNames, Class<?> type)
             throws ReflectiveOperationException {
         var setters = new HashMap<String, Setter>();
         for (var member : getInstanceMembers(type)) {
             var name = member.getName();
             var key = FORMAT_CONVERTER.convert(name);
-            if (!fieldNames.contains(key)) {
+            if (!fieldNames.contains(key) || setters.containsKey(key)) {
                 continue;
             }
 
-            CollectionType collectionType = null;
-            var memberType = member.getType();
-            if (Collection.class.isAssignableFrom(memberType)) {
-                var parameterizedType = (ParameterizedType) member.getGenericType();
-                var typeFactory = OBJECT_MAPPER.getTypeFactory();
-                var parameterType = typeFactory.constructType(parameterizedType.getActualTypeArguments()[0]);
-                collectionType =
-                        typeFactory.constructCollectionType((Class<? extends Collection<?>>) memberType, parameterType);
-            }
-
             var methodName = String.format("set%s", StringUtils.capitalize(name));
             var methodHandle =
                     LOOKUP.findVirtual(type, methodName, MethodType.methodType(void.class, member.getType()));
-
-            setters.put(key, new Setter(collectionType, methodHandle));
+            setters.put(key, new Setter(member, methodHandle));
         }
 
         return setters;
     }
 
-    private record Setter(CollectionType collectionType, MethodHandle methodHandle) {}
+    private record ColumnMapper(Function<Object, Object> converter, BiConsumer<Object, Object> setter) {}
+
+    private record Setter(Field member, MethodHandle methodHandle) {}
 }
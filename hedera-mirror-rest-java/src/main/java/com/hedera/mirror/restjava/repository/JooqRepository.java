@@ -19,11 +19,14 @@ package com.hedera.mirror.restjava.repository;
 import static com.hedera.mirror.restjava.common.RangeOperator.EQ;
 import static com.hedera.mirror.restjava.common.RangeOperator.GT;
 import static com.hedera.mirror.restjava.common.RangeOperator.LT;
+import static com.hedera.mirror.restjava.common.RangeOperator.NE;
 import static org.jooq.impl.DSL.noCondition;
+import static org.jooq.impl.DSL.row;
 
 import com.hedera.mirror.restjava.common.RangeOperator;
 import com.hedera.mirror.restjava.common.RangeParameter;
 import com.hedera.mirror.restjava.service.Bound;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import org.jooq.Condition;
@@ -31,6 +34,9 @@ import org.jooq.Field;
 
 interface JooqRepository {
 
+    // The number of rows to fetch from the database cursor at a time when streaming results
+    int STREAM_FETCH_SIZE = 100;
+
     default Condition getCondition(Field<Long> field, RangeOperator operator, Long value) {
         return operator.getFunction().apply(field, value);
     }
@@ -48,10 +54,89 @@ interface JooqRepository {
         return getCondition(bound.getLower(), field).and(getCondition(bound.getUpper(), field));
     }
 
+    /**
+     * Produces the bound conditions. When the bounds form a plain keyset range, i.e. no bound has an EQ or NE, the conditions
+     * are expressed as row value comparisons so the database can serve them with a single index range scan when the
+     * bounds are in index column order. Otherwise, falls back to the expanded conditions.
+     *
+     * Example:
+     *       Primary Bound:    receiver_account_id: GTE 2000, LTE 3000
+     *       Secondary Bounds: token_id:            GTE 4000, LTE 5000
+     *                         serial_number:       GT 5,     LT 100
+     *
+     * Returns:
+     *  ("receiver_account_id", "token_id", "serial_number") > (2000, 4000, 5) and
+     *  ("receiver_account_id", "token_id", "serial_number") < (3000, 5000, 100)
+     */
     default Condition getBoundConditions(List<Bound> bounds) {
+        if (isKeysetRange(bounds)) {
+            return getRowCondition(bounds, false).and(getRowCondition(bounds, true));
+        }
+
         return getBoundConditions(bounds, false, false);
     }
 
+    private boolean isKeysetRange(List<Bound> bounds) {
+        if (bounds == null || bounds.size() < 2 || bounds.getFirst().hasEqualBounds()) {
+            return false;
+        }
+
+        for (var bound : bounds) {
+            if (bound.getCardinality(EQ, NE) > 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Produces the row value comparison for either the lower or the upper side of the bounds. The row ends at the
+     * first bound without a range on that side, since the fields after it are unconstrained, or at the first exclusive
+     * operator, since the fields after it can't narrow the range any further.
+     */
+    private Condition getRowCondition(List<Bound> bounds, boolean isUpper) {
+        var fields = new ArrayList<Field<Long>>(bounds.size());
+        var values = new ArrayList<Long>(bounds.size());
+        RangeOperator operator = null;
+
+        for (var bound : bounds) {
+            var rangeParameter = isUpper ? bound.getUpper() : bound.getLower();
+            if (rangeParameter == null || rangeParameter.isEmpty()) {
+                break;
+            }
+
+            var field = bound.getField();
+            if (!fields.isEmpty() && field.equals(fields.getLast())) {
+                // The same field may be repeated as a secondary bound and adds nothing to the comparison
+                continue;
+            }
+
+            fields.add(field);
+            values.add(rangeParameter.value());
+            operator = rangeParameter.operator();
+            if (!operator.isInclusive()) {
+                break;
+            }
+        }
+
+        if (fields.isEmpty()) {
+            return noCondition();
+        } else if (fields.size() == 1) {
+            return getCondition(fields.getFirst(), operator, values.getFirst());
+        }
+
+        var row = row(fields);
+        var value = row(values);
+        return switch (operator) {
+            case GT -> row.gt(value);
+            case GTE -> row.ge(value);
+            case LT -> row.lt(value);
+            case LTE -> row.le(value);
+            default -> throw new IllegalArgumentException("Unsupported range operator " + operator);
+        };
+    }
+
     /**
      * Produces the bound conditions by recursively iterating through the bounds
      *
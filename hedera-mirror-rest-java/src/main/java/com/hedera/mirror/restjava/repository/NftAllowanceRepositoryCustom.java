@@ -20,17 +20,18 @@ import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.NftAllowance;
 import com.hedera.mirror.restjava.dto.NftAllowanceRequest;
 import jakarta.validation.constraints.NotNull;
-import java.util.Collection;
+import java.util.stream.Stream;
 
 public interface NftAllowanceRepositoryCustom extends JooqRepository {
 
     /**
-     * Find all NftAllowance matching the request parameters with the given limit, sort order, and byOwner flag
+     * Lazily stream all NftAllowance matching the request parameters from a database cursor. The caller must close the
+     * stream to release the underlying connection.
      *
      * @param request
      * @param id
      * @return The matching nft allowances
      */
     @NotNull
-    Collection<NftAllowance> findAll(NftAllowanceRequest request, EntityId id);
+    Stream<NftAllowance> stream(NftAllowanceRequest request, EntityId id);
 }
@@ -22,14 +22,16 @@ import static com.hedera.mirror.restjava.jooq.domain.Tables.NFT_ALLOWANCE;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.NftAllowance;
 import com.hedera.mirror.restjava.dto.NftAllowanceRequest;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.NftAllowanceRecord;
 import jakarta.inject.Named;
 import jakarta.validation.constraints.NotNull;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.ResultQuery;
 import org.jooq.SortField;
 import org.springframework.data.domain.Sort.Direction;
 
@@ -48,7 +50,11 @@ class NftAllowanceRepositoryCustomImpl implements NftAllowanceRepositoryCustom {
 
     @NotNull
     @Override
-    public Collection<NftAllowance> findAll(NftAllowanceRequest request, EntityId accountId) {
+    public Stream<NftAllowance> stream(NftAllowanceRequest request, EntityId accountId) {
+        return query(request, accountId).fetchSize(STREAM_FETCH_SIZE).fetchStreamInto(NftAllowance.class);
+    }
+
+    private ResultQuery<NftAllowanceRecord> query(NftAllowanceRequest request, EntityId accountId) {
         boolean byOwner = request.isOwner();
         var bounds = request.getBounds();
         var condition = getBaseCondition(accountId, byOwner).and(getBoundConditions(bounds));
@@ -56,8 +62,7 @@ class NftAllowanceRepositoryCustomImpl implements NftAllowanceRepositoryCustom {
                 .selectFrom(NFT_ALLOWANCE)
                 .where(condition)
                 .orderBy(SORT_ORDERS.get(new OrderSpec(byOwner, request.getOrder())))
-                .limit(request.getLimit())
-                .fetchInto(NftAllowance.class);
+                .limit(request.getLimit());
     }
 
     private Condition getBaseCondition(EntityId accountId, boolean byOwner) {
@@ -20,10 +20,10 @@ import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.token.TokenAirdrop;
 import com.hedera.mirror.restjava.dto.TokenAirdropRequest;
 import jakarta.validation.constraints.NotNull;
-import java.util.Collection;
+import java.util.stream.Stream;
 
 public interface TokenAirdropRepositoryCustom extends JooqRepository {
 
     @NotNull
-    Collection<TokenAirdrop> findAll(TokenAirdropRequest request, EntityId accountId);
+    Stream<TokenAirdrop> stream(TokenAirdropRequest request, EntityId accountId);
 }
@@ -26,14 +26,16 @@ import com.hedera.mirror.common.domain.token.TokenAirdrop;
 import com.hedera.mirror.restjava.dto.TokenAirdropRequest;
 import com.hedera.mirror.restjava.dto.TokenAirdropRequest.AirdropRequestType;
 import com.hedera.mirror.restjava.jooq.domain.enums.AirdropState;
+import com.hedera.mirror.restjava.jooq.domain.tables.records.TokenAirdropRecord;
 import jakarta.inject.Named;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.Field;
+import org.jooq.ResultQuery;
 import org.jooq.SortField;
 import org.springframework.data.domain.Sort.Direction;
 
@@ -69,7 +71,11 @@ class TokenAirdropRepositoryCustomImpl implements TokenAirdropRepositoryCustom {
                                             TOKEN_AIRDROP.SERIAL_NUMBER.desc())));
 
     @Override
-    public Collection<TokenAirdrop> findAll(TokenAirdropRequest request, EntityId accountId) {
+    public Stream<TokenAirdrop> stream(TokenAirdropRequest request, EntityId accountId) {
+        return query(request, accountId).fetchSize(STREAM_FETCH_SIZE).fetchStreamInto(TokenAirdrop.class);
+    }
+
+    private ResultQuery<TokenAirdropRecord> query(TokenAirdropRequest request, EntityId accountId) {
         var type = request.getType();
         var bounds = request.getBounds();
         var condition = getBaseCondition(accountId, type.getBaseField())
@@ -81,8 +87,7 @@ class TokenAirdropRepositoryCustomImpl implements TokenAirdropRepositoryCustom {
                 .selectFrom(TOKEN_AIRDROP)
                 .where(condition)
                 .orderBy(order)
-                .limit(request.getLimit())
-                .fetchInto(TokenAirdrop.class);
+                .limit(request.getLimit());
     }
 
     private Condition getBaseCondition(EntityId accountId, Field<Long> baseField) {
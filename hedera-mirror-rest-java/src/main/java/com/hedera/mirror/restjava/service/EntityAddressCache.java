@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.service;
+
+import com.hedera.mirror.common.domain.entity.EntityNotification;
+import com.hedera.mirror.restjava.RestJavaProperties;
+import jakarta.inject.Named;
+import java.util.Optional;
+import java.util.function.Function;
+import org.apache.commons.codec.binary.Hex;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Caches the resolution of aliases and EVM addresses to entity ids, including negative results. Entries are evicted
+ * when the importer notifies that an entity's alias or EVM address was set or that the entity was deleted. Since a
+ * deletion only carries the id, the keys that resolved to it are looked up in an {@link EntityAddressIndex}.
+ */
+@Named
+public class EntityAddressCache {
+
+    public static final String CACHE_NAME = "entityAddress";
+
+    private static final String ALIAS_PREFIX = "alias:";
+    private static final String EVM_ADDRESS_PREFIX = "evm:";
+
+    private final Cache cache;
+    private final EntityAddressIndex index;
+    private final RestJavaProperties properties;
+
+    EntityAddressCache(CacheManager cacheManager, EntityAddressIndex index, RestJavaProperties properties) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        this.index = index;
+        this.properties = properties;
+    }
+
+    public Optional<Long> getByAlias(byte[] alias, Function<byte[], Optional<Long>> loader) {
+        return get(ALIAS_PREFIX, alias, loader);
+    }
+
+    public Optional<Long> getByEvmAddress(byte[] evmAddress, Function<byte[], Optional<Long>> loader) {
+        return get(EVM_ADDRESS_PREFIX, evmAddress, loader);
+    }
+
+    public void evict(EntityNotification notification) {
+        if (notification.alias() != null) {
+            evict(ALIAS_PREFIX + notification.alias());
+        }
+
+        if (notification.evmAddress() != null) {
+            evict(EVM_ADDRESS_PREFIX + notification.evmAddress());
+        }
+
+        if (notification.deleted()) {
+            index.removeAll(notification.id()).forEach(cache::evict);
+        }
+    }
+
+    public void clear() {
+        cache.clear();
+        index.clear();
+    }
+
+    private Optional<Long> get(String prefix, byte[] address, Function<byte[], Optional<Long>> loader) {
+        if (!properties.getEntityCache().isEnabled()) {
+            return loader.apply(address);
+        }
+
+        var key = prefix + Hex.encodeHexString(address);
+        return cache.get(key, () -> {
+            var id = loader.apply(address);
+            id.ifPresent(i -> index.add(key, i));
+            return id;
+        });
+    }
+
+    private void evict(String key) {
+        var cached = cache.get(key);
+        cache.evict(key);
+
+        if (cached != null && cached.get() instanceof Optional<?> o && o.orElse(null) instanceof Long id) {
+            index.remove(key, id);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.service;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import jakarta.inject.Named;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps each entity id to the entity address cache keys that resolved to it, so that a deletion can evict the keys of an
+ * entity without scanning the cache. As an eviction listener of the cache, it drops keys when they expire or the cache
+ * is full. Explicit evictions are applied to it by {@link EntityAddressCache}.
+ */
+@Named
+public class EntityAddressIndex implements RemovalListener<Object, Object> {
+
+    private final Map<Long, Set<String>> keys = new ConcurrentHashMap<>();
+
+    @Override
+    public void onRemoval(Object key, Object value, RemovalCause cause) {
+        if (key instanceof String k && value instanceof Optional<?> o && o.orElse(null) instanceof Long id) {
+            remove(k, id);
+        }
+    }
+
+    void add(String key, long id) {
+        keys.compute(id, (i, current) -> {
+            var result = current != null ? current : new HashSet<String>();
+            result.add(key);
+            return result;
+        });
+    }
+
+    void remove(String key, long id) {
+        keys.computeIfPresent(id, (i, current) -> {
+            current.remove(key);
+            return current.isEmpty() ? null : current;
+        });
+    }
+
+    Set<String> removeAll(long id) {
+        var removed = keys.remove(id);
+        return removed != null ? removed : Set.of();
+    }
+
+    void clear() {
+        keys.clear();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.service;
+
+import static com.hedera.mirror.common.converter.ObjectToStringSerializer.OBJECT_MAPPER;
+
+import com.hedera.mirror.common.domain.entity.EntityNotification;
+import com.hedera.mirror.restjava.RestJavaProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Properties;
+import javax.sql.DataSource;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+
+/**
+ * Listens for the entity notifications the importer publishes via PostgreSQL NOTIFY and evicts the affected alias and
+ * EVM address cache entries. Since notifications sent while not listening are lost, the whole cache is cleared every
+ * time the listener (re)connects. The listener holds its connection for as long as it runs, so it opens a dedicated
+ * connection with the pool's settings instead of taking one away from the connection pool.
+ */
+@CustomLog
+@Named
+@RequiredArgsConstructor
+class EntityNotificationListener {
+
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5L);
+
+    private final DataSource dataSource;
+    private final EntityAddressCache entityAddressCache;
+    private final RestJavaProperties properties;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    @PostConstruct
+    void start() {
+        var config = properties.getEntityCache();
+        if (!config.isEnabled() || !config.isListen()) {
+            log.info("Entity notification listener is disabled");
+            return;
+        }
+
+        running = true;
+        thread = Thread.ofVirtual().name("entity-notification-listener").start(this::run);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                listen();
+            } catch (Exception e) {
+                if (running) {
+                    log.warn(
+                            "Error listening for entity notifications, retrying in {}: {}",
+                            RETRY_DELAY,
+                            e.getMessage());
+                    sleep();
+                }
+            }
+        }
+    }
+
+    private void listen() throws SQLException {
+        try (var connection = connect();
+                var statement = connection.createStatement()) {
+            var pgConnection = connection.unwrap(PGConnection.class);
+            statement.execute("listen " + EntityNotification.CHANNEL);
+            entityAddressCache.clear();
+            log.info("Listening for entity notifications");
+
+            while (running) {
+                var notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                if (notifications == null) {
+                    continue;
+                }
+
+                for (var notification : notifications) {
+                    onNotification(notification.getParameter());
+                }
+            }
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+            return dataSource.getConnection();
+        }
+
+        var pool = dataSource.unwrap(HikariDataSource.class);
+        var info = new Properties();
+        info.putAll(pool.getDataSourceProperties());
+        if (pool.getUsername() != null) {
+            info.setProperty("user", pool.getUsername());
+        }
+        if (pool.getPassword() != null) {
+            info.setProperty("password", pool.getPassword());
+        }
+        return DriverManager.getConnection(pool.getJdbcUrl(), info);
+    }
+
+    private void onNotification(String payload) {
+        try {
+            var notification = OBJECT_MAPPER.readValue(payload, EntityNotification.class);
+            log.debug("Received {}", notification);
+            entityAddressCache.evict(notification);
+        } catch (Exception e) {
+            log.warn("Unable to process entity notification {}, clearing cache: {}", payload, e.getMessage());
+            entityAddressCache.clear();
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(RETRY_DELAY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
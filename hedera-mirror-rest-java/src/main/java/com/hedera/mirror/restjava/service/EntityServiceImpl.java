@@ -34,6 +34,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 class EntityServiceImpl implements EntityService {
 
+    private final EntityAddressCache entityAddressCache;
     private final EntityRepository entityRepository;
     private final RestJavaProperties properties;
 
@@ -55,8 +56,12 @@ class EntityServiceImpl implements EntityService {
 
         var id = switch (accountId) {
             case EntityIdNumParameter p -> Optional.of(p.id());
-            case EntityIdAliasParameter p -> entityRepository.findByAlias(p.alias()).map(EntityId::of);
-            case EntityIdEvmAddressParameter p -> entityRepository.findByEvmAddress(p.evmAddress()).map(EntityId::of);
+            case EntityIdAliasParameter p -> entityAddressCache
+                    .getByAlias(p.alias(), entityRepository::findByAlias)
+                    .map(EntityId::of);
+            case EntityIdEvmAddressParameter p -> entityAddressCache
+                    .getByEvmAddress(p.evmAddress(), entityRepository::findByEvmAddress)
+                    .map(EntityId::of);
         };
 
         return id.orElseThrow(() -> new EntityNotFoundException("No account found for the given ID"));
@@ -18,9 +18,9 @@ package com.hedera.mirror.restjava.service;
 
 import com.hedera.mirror.common.domain.entity.NftAllowance;
 import com.hedera.mirror.restjava.dto.NftAllowanceRequest;
-import java.util.Collection;
+import java.util.stream.Stream;
 
 public interface NftAllowanceService {
 
-    Collection<NftAllowance> getNftAllowances(NftAllowanceRequest request);
+    Stream<NftAllowance> streamNftAllowances(NftAllowanceRequest request);
 }
@@ -22,7 +22,7 @@ import com.hedera.mirror.restjava.common.RangeOperator;
 import com.hedera.mirror.restjava.dto.NftAllowanceRequest;
 import com.hedera.mirror.restjava.repository.NftAllowanceRepository;
 import jakarta.inject.Named;
-import java.util.Collection;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 
 @Named
@@ -32,16 +32,10 @@ public class NftAllowanceServiceImpl implements NftAllowanceService {
     private final NftAllowanceRepository repository;
     private final EntityService entityService;
 
-    public Collection<NftAllowance> getNftAllowances(NftAllowanceRequest request) {
-
-        var ownerOrSpenderId = request.getOwnerOrSpenderIds();
-        var token = request.getTokenIds();
-
-        checkOwnerSpenderParamValidity(ownerOrSpenderId, token);
-
+    public Stream<NftAllowance> streamNftAllowances(NftAllowanceRequest request) {
+        checkOwnerSpenderParamValidity(request.getOwnerOrSpenderIds(), request.getTokenIds());
         var id = entityService.lookup(request.getAccountId());
-
-        return repository.findAll(request, id);
+        return repository.stream(request, id);
     }
 
     private static void checkOwnerSpenderParamValidity(Bound ownerOrSpenderParams, Bound tokenParams) {
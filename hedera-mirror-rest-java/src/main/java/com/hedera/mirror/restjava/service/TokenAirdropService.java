@@ -18,9 +18,9 @@ package com.hedera.mirror.restjava.service;
 
 import com.hedera.mirror.common.domain.token.TokenAirdrop;
 import com.hedera.mirror.restjava.dto.TokenAirdropRequest;
-import java.util.Collection;
+import java.util.stream.Stream;
 
 public interface TokenAirdropService {
 
-    Collection<TokenAirdrop> getAirdrops(TokenAirdropRequest request);
+    Stream<TokenAirdrop> streamAirdrops(TokenAirdropRequest request);
 }
@@ -20,7 +20,7 @@ import com.hedera.mirror.common.domain.token.TokenAirdrop;
 import com.hedera.mirror.restjava.dto.TokenAirdropRequest;
 import com.hedera.mirror.restjava.repository.TokenAirdropRepository;
 import jakarta.inject.Named;
-import java.util.Collection;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 
 @Named
@@ -30,8 +30,8 @@ public class TokenAirdropServiceImpl implements TokenAirdropService {
     private final EntityService entityService;
     private final TokenAirdropRepository repository;
 
-    public Collection<TokenAirdrop> getAirdrops(TokenAirdropRequest request) {
+    public Stream<TokenAirdrop> streamAirdrops(TokenAirdropRequest request) {
         var id = entityService.lookup(request.getAccountId());
-        return repository.findAll(request, id);
+        return repository.stream(request, id);
     }
 }
@@ -194,6 +194,21 @@ class LinkFactoryTest {
                 .returns(expectedLink, Links::getNext);
     }
 
+    @Test
+    void testLastItem() {
+        // given
+        var params = new LinkedHashMap<String, String[]>();
+        params.put("limit", new String[] {"2"});
+        when(request.getParameterMap()).thenReturn(params);
+        var pageable = PageRequest.of(0, 2, Sort.by(Direction.ASC, ACCOUNT_ID, TOKEN_ID));
+
+        // when then
+        assertThat(linkFactory.create(nftAllowance, 2, pageable, extractor))
+                .returns("/api?limit=2&account.id=gte:0.0.1000&token.id=gt:0.0.6458", Links::getNext);
+        assertThat(linkFactory.create(nftAllowance, 1, pageable, extractor)).returns(null, Links::getNext);
+        assertThat(linkFactory.create(null, 0, pageable, extractor)).returns(null, Links::getNext);
+    }
+
     @Test
     void testNullRequestAttributes() {
         // given
@@ -18,6 +18,7 @@ package com.hedera.mirror.restjava.config;
 
 import static com.google.common.net.HttpHeaders.X_FORWARDED_FOR;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
@@ -90,6 +91,21 @@ class LoggingFilterTest {
         assertLog(output, "WARN", "\\w+ GET / in \\d+ ms: 500 " + exception.getMessage());
     }
 
+    @Test
+    void filterOnErrorCommitted(CapturedOutput output) {
+        var request = new MockHttpServletRequest("GET", "/");
+        var exception = new IllegalStateException("error");
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setCommitted(true);
+
+        assertThatThrownBy(() -> loggingFilter.doFilter(request, response, (request1, response) -> {
+                    throw exception;
+                }))
+                .isSameAs(exception);
+        assertLog(output, "INFO", "\\w+ GET / in \\d+ ms: 200 " + exception.getMessage());
+    }
+
     @Test
     @SneakyThrows
     void filterOnErrorAttribute(CapturedOutput output) {
@@ -0,0 +1,309 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.config;
+
+import static com.hedera.mirror.restjava.config.ResponseCacheFilter.METRIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.CACHE_CONTROL;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+
+import com.hedera.mirror.restjava.RestJavaProperties;
+import com.hedera.mirror.restjava.RestJavaProperties.ResponseCacheConfig.Finality;
+import com.hedera.mirror.restjava.repository.RecordFileRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+@ExtendWith(MockitoExtension.class)
+class ResponseCacheFilterTest {
+
+    private static final String BODY = "{\"allowances\":[]}";
+    private static final String FINAL_CACHE_CONTROL = "public, max-age=86400, immutable";
+    private static final String OPEN_CACHE_CONTROL = "public, max-age=2";
+    private static final String PATH = "/api/v1/accounts/0.0.1000/allowances/nfts";
+    private static final String PATTERN = "/api/v1/accounts/{id}/allowances/nfts";
+
+    private final AtomicInteger invocations = new AtomicInteger();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RestJavaProperties properties = new RestJavaProperties();
+
+    @Mock
+    private RecordFileRepository recordFileRepository;
+
+    private ResponseCacheFilter filter;
+    private int status;
+
+    @BeforeEach
+    void setup() {
+        status = HttpServletResponse.SC_OK;
+        properties.getResponse().getCache().getPaths().put(PATTERN, Finality.TIMESTAMP);
+        createFilter();
+    }
+
+    @Test
+    void openMiss() {
+        var response = get("limit=1", null);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(response.getHeader(CACHE_CONTROL)).isEqualTo(OPEN_CACHE_CONTROL);
+        assertThat(response.getHeader(ETAG)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+        assertThat(invocations).hasValue(1);
+        assertThat(count(false, "miss")).isOne();
+        verifyNoInteractions(recordFileRepository);
+    }
+
+    @Test
+    void openHit() {
+        get("limit=1", null);
+
+        var response = get("limit=1", null);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(response.getHeader(ETAG)).isNotBlank();
+        assertThat(response.getHeader(CACHE_CONTROL)).isIn(OPEN_CACHE_CONTROL, "public, max-age=1");
+        assertThat(response.getContentType()).isEqualTo("application/json");
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+        assertThat(invocations).hasValue(1);
+        assertThat(count(false, "hit")).isOne();
+    }
+
+    @Test
+    void openNotModified() {
+        get("limit=1", null);
+        var etag = get("limit=1", null).getHeader(ETAG);
+
+        var response = get("limit=1", "W/" + etag);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+        assertThat(response.getHeader(ETAG)).isEqualTo(etag);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(invocations).hasValue(1);
+        assertThat(count(false, "not_modified")).isOne();
+    }
+
+    @Test
+    @SneakyThrows
+    void openExpired() {
+        properties.getResponse().getCache().setOpenMaxAge(Duration.ofSeconds(1L));
+        createFilter();
+        get("limit=1", null);
+
+        Thread.sleep(1100L);
+        var response = get("limit=1", null);
+
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+        assertThat(invocations).hasValue(2);
+    }
+
+    @Test
+    void finalMiss() {
+        when(recordFileRepository.findLatestConsensusEnd()).thenReturn(Optional.of(2_000_000_000L));
+
+        var response = get("timestamp=lte:1.5&timestamp=gte:1", null);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(response.getHeader(CACHE_CONTROL)).isEqualTo(FINAL_CACHE_CONTROL);
+        assertThat(response.getHeader(ETAG)).isNotBlank();
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+        assertThat(count(true, "miss")).isOne();
+    }
+
+    @Test
+    void finalHit() {
+        when(recordFileRepository.findLatestConsensusEnd()).thenReturn(Optional.of(2_000_000_000L));
+        var etag = get("timestamp=2", null).getHeader(ETAG);
+
+        var response = get("timestamp=2", null);
+
+        assertThat(response.getHeader(ETAG)).isEqualTo(etag);
+        assertThat(response.getHeader(CACHE_CONTROL)).isEqualTo(FINAL_CACHE_CONTROL);
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+        assertThat(invocations).hasValue(1);
+        assertThat(count(true, "hit")).isOne();
+    }
+
+    @Test
+    void finalNotModified() {
+        when(recordFileRepository.findLatestConsensusEnd()).thenReturn(Optional.of(2_000_000_000L));
+        var etag = get("timestamp=lt:2", null).getHeader(ETAG);
+
+        // A final response is answered from its ETag alone, even once its body has left the cache
+        createFilter();
+        var response = get("timestamp=lt:2", etag);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+        assertThat(response.getHeader(ETAG)).isEqualTo(etag);
+        assertThat(response.getHeader(CACHE_CONTROL)).isEqualTo(FINAL_CACHE_CONTROL);
+        assertThat(invocations).hasValue(1);
+        assertThat(count(true, "not_modified")).isOne();
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "timestamp=lte:2.000000001",
+                "timestamp=gte:1",
+                "timestamp=ne:1",
+                "timestamp=lte:abc",
+                "timestamp=lte:1.0000000001",
+                "timestamp=lte:1&timestamp=gt:x"
+            })
+    void notFinal(String queryString) {
+        lenient().when(recordFileRepository.findLatestConsensusEnd()).thenReturn(Optional.of(2_000_000_000L));
+
+        var response = get(queryString, null);
+
+        assertThat(response.getHeader(CACHE_CONTROL)).isEqualTo(OPEN_CACHE_CONTROL);
+        assertThat(response.getHeader(ETAG)).isNull();
+        assertThat(count(false, "miss")).isOne();
+    }
+
+    @Test
+    void noRecordFile() {
+        when(recordFileRepository.findLatestConsensusEnd()).thenReturn(Optional.empty());
+
+        var response = get("timestamp=1", null);
+
+        assertThat(response.getHeader(CACHE_CONTROL)).isEqualTo(OPEN_CACHE_CONTROL);
+        assertThat(response.getHeader(ETAG)).isNull();
+    }
+
+    @Test
+    void neverFinal() {
+        properties.getResponse().getCache().getPaths().put(PATTERN, Finality.NONE);
+        createFilter();
+
+        var response = get("timestamp=1", null);
+
+        assertThat(response.getHeader(CACHE_CONTROL)).isEqualTo(OPEN_CACHE_CONTROL);
+        verifyNoInteractions(recordFileRepository);
+    }
+
+    @Test
+    void notConfigured() {
+        properties.getResponse().getCache().getPaths().clear();
+        createFilter();
+
+        get("limit=1", null);
+        var response = get("limit=1", null);
+
+        assertThat(response.getHeader(CACHE_CONTROL)).isEqualTo("public, max-age=1");
+        assertThat(response.getHeader(ETAG)).isNull();
+        assertThat(invocations).hasValue(2);
+    }
+
+    @Test
+    void error() {
+        status = HttpServletResponse.SC_BAD_REQUEST;
+
+        get("limit=1", null);
+        var response = get("limit=1", null);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_BAD_REQUEST);
+        assertThat(response.getHeader(ETAG)).isNull();
+        assertThat(invocations).hasValue(2);
+    }
+
+    @Test
+    void tooLarge() {
+        properties.getResponse().getCache().setMaxBodySize(DataSize.ofBytes(BODY.length() - 1L));
+        createFilter();
+
+        get("limit=1", null);
+        var response = get("limit=1", null);
+
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+        assertThat(invocations).hasValue(2);
+    }
+
+    @Test
+    void disabled() {
+        properties.getResponse().getCache().setEnabled(false);
+
+        get("limit=1", null);
+        var response = get("limit=1", null);
+
+        assertThat(response.getHeader(ETAG)).isNull();
+        assertThat(invocations).hasValue(2);
+    }
+
+    private void createFilter() {
+        var cacheManager = new CacheConfiguration().cacheManager(properties);
+        filter = new ResponseCacheFilter(cacheManager, meterRegistry, recordFileRepository, properties);
+    }
+
+    private long count(boolean isFinal, String result) {
+        var counter = meterRegistry
+                .find(METRIC)
+                .tag("final", String.valueOf(isFinal))
+                .tag("result", result)
+                .counter();
+        return counter != null ? (long) counter.count() : 0L;
+    }
+
+    @SneakyThrows
+    private MockHttpServletResponse get(String queryString, String ifNoneMatch) {
+        var request = new MockHttpServletRequest("GET", PATH);
+        request.setQueryString(queryString);
+        for (var parameter : queryString.split("&")) {
+            var pair = parameter.split("=", 2);
+            request.addParameter(pair[0], pair[1]);
+        }
+
+        if (ifNoneMatch != null) {
+            request.addHeader(IF_NONE_MATCH, ifNoneMatch);
+        }
+
+        var response = new MockHttpServletResponse();
+        var chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                invocations.incrementAndGet();
+                resp.setStatus(status);
+                resp.setContentType("application/json");
+                resp.setHeader(CACHE_CONTROL, "public, max-age=1");
+                resp.getOutputStream().write(BODY.getBytes());
+            }
+        });
+
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.controller;
+
+import com.hedera.mirror.common.domain.token.TokenTypeEnum;
+import com.hedera.mirror.common.test.performance.LoadProperties;
+import com.hedera.mirror.common.test.performance.LoadTester;
+import com.hedera.mirror.restjava.RestJavaIntegrationTest;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.junit.jupiter.EnabledIf;
+
+/**
+ * Measures the latency of representative endpoints against a seeded database. No record file is persisted so the
+ * response cache always passes through and the full query path is measured.
+ */
+@EnabledIf(expression = "${hedera.mirror.test.performance.enabled:false}", loadContext = true)
+@RequiredArgsConstructor
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Tag("performance")
+class ControllerPerformanceTest extends RestJavaIntegrationTest {
+
+    private final LoadProperties properties;
+
+    @LocalServerPort
+    private int port;
+
+    private LoadTester loadTester;
+
+    @BeforeEach
+    void setup() {
+        loadTester = new LoadTester(properties);
+    }
+
+    @Test
+    void airdrops() {
+        var sender = domainBuilder.entity().persist();
+        for (int i = 0; i < properties.getScale(); i++) {
+            domainBuilder
+                    .tokenAirdrop(TokenTypeEnum.FUNGIBLE_COMMON)
+                    .customize(a -> a.senderAccountId(sender.getId()))
+                    .persist();
+        }
+
+        loadTester.run("restjava-airdrops-outstanding", get("accounts/%s/airdrops/outstanding", sender.toEntityId()));
+    }
+
+    @Test
+    void allowances() {
+        var owner = domainBuilder.entity().persist();
+        for (int i = 0; i < properties.getScale(); i++) {
+            domainBuilder
+                    .nftAllowance()
+                    .customize(a -> a.approvedForAll(true).owner(owner.getId()))
+                    .persist();
+        }
+
+        loadTester.run("restjava-allowances-nfts", get("accounts/%s/allowances/nfts", owner.toEntityId()));
+    }
+
+    @Test
+    void topics() {
+        var topic = domainBuilder.topic().persist();
+        for (int i = 1; i < properties.getScale(); i++) {
+            domainBuilder.topic().persist();
+        }
+
+        loadTester.run("restjava-topics", get("topics/%s", topic.toEntityId()));
+    }
+
+    private Supplier<HttpRequest> get(String path, Object... args) {
+        var uri = URI.create("http://localhost:%d/api/v1/%s".formatted(port, path.formatted(args)));
+        var request = HttpRequest.newBuilder(uri)
+                .header("Accept", "application/json")
+                .timeout(Duration.ofSeconds(10L))
+                .GET()
+                .build();
+        return () -> request;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.mirror.rest.model.Error;
+import com.hedera.mirror.restjava.RestJavaProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+class GenericControllerAdviceTest {
+
+    private final GenericControllerAdvice controllerAdvice = new GenericControllerAdvice(new RestJavaProperties());
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest(), response);
+
+    @Test
+    void handleException() {
+        var exception = new IllegalStateException("error");
+        var result = controllerAdvice.handleExceptionInternal(
+                exception, null, new HttpHeaders(), HttpStatus.INTERNAL_SERVER_ERROR, request);
+        assertThat(result).isNotNull().returns(HttpStatus.INTERNAL_SERVER_ERROR, ResponseEntity::getStatusCode);
+        assertThat(result.getBody()).isInstanceOf(Error.class);
+    }
+
+    @Test
+    void handleExceptionCommitted() {
+        var exception = new IllegalStateException("error");
+        response.setCommitted(true);
+        assertThatThrownBy(() -> controllerAdvice.handleExceptionInternal(
+                        exception, null, new HttpHeaders(), HttpStatus.INTERNAL_SERVER_ERROR, request))
+                .isSameAs(exception);
+    }
+}
@@ -20,15 +20,20 @@ import static com.hedera.mirror.restjava.jooq.domain.Tables.NFT_ALLOWANCE;
 import static com.hedera.mirror.restjava.jooq.domain.Tables.TOKEN;
 import static com.hedera.mirror.restjava.jooq.domain.Tables.TRANSACTION;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.hedera.mirror.common.domain.entity.NftAllowance;
 import com.hedera.mirror.common.domain.token.Token;
 import com.hedera.mirror.common.domain.token.TokenTypeEnum;
 import com.hedera.mirror.common.domain.transaction.Transaction;
 import com.hedera.mirror.restjava.RestJavaIntegrationTest;
+import com.hedera.mirror.restjava.exception.RecordMappingException;
+import java.util.ArrayList;
 import java.util.List;
+import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
 import org.junit.jupiter.api.Test;
 
 @RequiredArgsConstructor
@@ -45,6 +50,47 @@ class DomainRecordMapperTest extends RestJavaIntegrationTest {
         assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
     }
 
+    @Test
+    void nftAllowanceSelectedFields() {
+        var nftAllowance = domainBuilder.nftAllowance().persist();
+        var expected = new NftAllowance();
+        expected.setApprovedForAll(nftAllowance.isApprovedForAll());
+        expected.setOwner(nftAllowance.getOwner());
+        expected.setSpender(nftAllowance.getSpender());
+        expected.setTokenId(nftAllowance.getTokenId());
+
+        var actual = dslContext
+                .select(
+                        NFT_ALLOWANCE.APPROVED_FOR_ALL,
+                        NFT_ALLOWANCE.OWNER,
+                        NFT_ALLOWANCE.SPENDER,
+                        NFT_ALLOWANCE.TOKEN_ID)
+                .from(NFT_ALLOWANCE)
+                .fetchInto(NftAllowance.class);
+        assertThat(actual).containsExactly(expected);
+    }
+
+    @Test
+    void unselectedMemberWithoutSetter() {
+        var nftAllowance = domainBuilder.nftAllowance().persist();
+        var actual = dslContext
+                .select(NFT_ALLOWANCE.OWNER)
+                .from(NFT_ALLOWANCE)
+                .fetchInto(Owner.class);
+        assertThat(actual).extracting(Owner::getOwner).containsExactly(nftAllowance.getOwner());
+    }
+
+    @Test
+    void unmappedField() {
+        domainBuilder.nftAllowance().persist();
+        var query = dslContext
+                .select(NFT_ALLOWANCE.OWNER, DSL.inline(1).as("unknown"))
+                .from(NFT_ALLOWANCE);
+        assertThatThrownBy(() -> query.fetchInto(NftAllowance.class))
+                .isInstanceOf(RecordMappingException.class)
+                .hasRootCauseMessage("No setter found for field unknown");
+    }
+
     @Test
     void token() {
         var expected = List.of(
@@ -69,4 +115,10 @@ class DomainRecordMapperTest extends RestJavaIntegrationTest {
         var actual = dslContext.selectFrom(TRANSACTION).fetchInto(Transaction.class);
         assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
     }
+
+    @Data
+    static class Owner {
+        private final List<String> readOnly = new ArrayList<>();
+        private long owner;
+    }
 }
@@ -17,18 +17,34 @@
 package com.hedera.mirror.restjava.repository;
 
 import static com.hedera.mirror.common.domain.token.TokenTypeEnum.FUNGIBLE_COMMON;
+import static com.hedera.mirror.common.domain.token.TokenTypeEnum.NON_FUNGIBLE_UNIQUE;
+import static com.hedera.mirror.restjava.common.RangeOperator.EQ;
+import static com.hedera.mirror.restjava.common.RangeOperator.GT;
+import static com.hedera.mirror.restjava.common.RangeOperator.GTE;
+import static com.hedera.mirror.restjava.common.RangeOperator.LT;
+import static com.hedera.mirror.restjava.common.RangeOperator.LTE;
 import static com.hedera.mirror.restjava.dto.TokenAirdropRequest.AirdropRequestType.PENDING;
+import static com.hedera.mirror.restjava.jooq.domain.Tables.NFT_ALLOWANCE;
+import static com.hedera.mirror.restjava.jooq.domain.Tables.TOKEN_AIRDROP;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.token.TokenAirdrop;
 import com.hedera.mirror.restjava.RestJavaIntegrationTest;
+import com.hedera.mirror.restjava.common.Constants;
 import com.hedera.mirror.restjava.common.EntityIdNumParameter;
+import com.hedera.mirror.restjava.common.EntityIdRangeParameter;
+import com.hedera.mirror.restjava.common.NumberRangeParameter;
 import com.hedera.mirror.restjava.dto.TokenAirdropRequest;
 import com.hedera.mirror.restjava.service.Bound;
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.springframework.data.domain.Sort.Direction;
@@ -36,6 +52,7 @@ import org.springframework.data.domain.Sort.Direction;
 @RequiredArgsConstructor
 class JooqRepositoryTest extends RestJavaIntegrationTest {
 
+    private final DSLContext dslContext;
     private final TokenAirdropRepository repository;
 
     @ParameterizedTest
@@ -50,6 +67,102 @@ class JooqRepositoryTest extends RestJavaIntegrationTest {
         when(request.getOrder()).thenReturn(Direction.ASC);
         when(request.getType()).thenReturn(PENDING);
 
-        assertThat(repository.findAll(request, entityId)).contains(tokenAirdrop);
+        try (var stream = repository.stream(request, entityId)) {
+            assertThat(stream).contains(tokenAirdrop);
+        }
+    }
+
+    @Test
+    void rowValueBoundConditions() {
+        // given
+        var tokenAirdrop = domainBuilder.tokenAirdrop(NON_FUNGIBLE_UNIQUE).persist();
+        long sender = tokenAirdrop.getSenderAccountId();
+        long receiver = tokenAirdrop.getReceiverAccountId();
+        var receivers = new Bound(
+                paramToArray(new EntityIdRangeParameter(GTE, receiver)),
+                true,
+                Constants.ACCOUNT_ID,
+                TOKEN_AIRDROP.RECEIVER_ACCOUNT_ID);
+        var tokenIds = new Bound(
+                paramToArray(new EntityIdRangeParameter(GTE, tokenAirdrop.getTokenId())),
+                false,
+                Constants.TOKEN_ID,
+                TOKEN_AIRDROP.TOKEN_ID);
+        var serialNumbers = new Bound(
+                new NumberRangeParameter[] {new NumberRangeParameter(GT, tokenAirdrop.getSerialNumber() - 1)},
+                false,
+                Constants.SERIAL_NUMBER,
+                TOKEN_AIRDROP.SERIAL_NUMBER);
+        var condition = repository.getBoundConditions(List.of(receivers, tokenIds, serialNumbers));
+        var query = dslContext
+                .selectFrom(TOKEN_AIRDROP)
+                .where(TOKEN_AIRDROP.SENDER_ACCOUNT_ID.eq(sender))
+                .and(condition);
+
+        // when, then
+        assertThat(query.fetchInto(TokenAirdrop.class)).containsExactly(tokenAirdrop);
+        assertThat(explain(query))
+                .containsPattern("Index Cond: .*ROW\\(receiver_account_id, token_id, serial_number\\)")
+                .doesNotContain("BitmapOr");
+    }
+
+    @Test
+    void rowValueBoundConditionsUpper() {
+        // given
+        long owner = domainBuilder.id();
+        var spenders = new Bound(
+                paramToArray(new EntityIdRangeParameter(LTE, 5000L)),
+                true,
+                Constants.ACCOUNT_ID,
+                NFT_ALLOWANCE.SPENDER);
+        var tokenIds = new Bound(
+                paramToArray(new EntityIdRangeParameter(LT, 6000L)),
+                false,
+                Constants.TOKEN_ID,
+                NFT_ALLOWANCE.TOKEN_ID);
+        var condition = repository.getBoundConditions(List.of(spenders, tokenIds));
+        var query = dslContext.selectFrom(NFT_ALLOWANCE).where(NFT_ALLOWANCE.OWNER.eq(owner)).and(condition);
+
+        // when, then
+        assertThat(explain(query))
+                .containsPattern("Index Cond: .*ROW\\(spender, token_id\\)")
+                .doesNotContain("BitmapOr");
+    }
+
+    @Test
+    void expandedBoundConditions() {
+        // given
+        var tokenAirdrop = domainBuilder.tokenAirdrop(FUNGIBLE_COMMON).persist();
+        var receivers = new Bound(
+                paramToArray(new EntityIdRangeParameter(EQ, tokenAirdrop.getReceiverAccountId())),
+                true,
+                Constants.ACCOUNT_ID,
+                TOKEN_AIRDROP.RECEIVER_ACCOUNT_ID);
+        var tokenIds = new Bound(
+                paramToArray(new EntityIdRangeParameter(GTE, tokenAirdrop.getTokenId())),
+                false,
+                Constants.TOKEN_ID,
+                TOKEN_AIRDROP.TOKEN_ID);
+
+        // when
+        var condition = repository.getBoundConditions(List.of(receivers, tokenIds));
+
+        // then
+        assertThat(dslContext
+                        .selectFrom(TOKEN_AIRDROP)
+                        .where(TOKEN_AIRDROP.SENDER_ACCOUNT_ID.eq(tokenAirdrop.getSenderAccountId()))
+                        .and(condition)
+                        .fetchInto(TokenAirdrop.class))
+                .containsExactly(tokenAirdrop);
+    }
+
+    private String explain(Query query) {
+        return dslContext.transactionResult(t -> {
+            // Tables in tests are too small for the planner to prefer an index without this
+            t.dsl().execute("set local enable_seqscan = off");
+            return t.dsl().fetch("explain " + t.dsl().renderInlined(query)).stream()
+                    .map(r -> r.get(0, String.class))
+                    .collect(Collectors.joining("\n"));
+        });
     }
 }
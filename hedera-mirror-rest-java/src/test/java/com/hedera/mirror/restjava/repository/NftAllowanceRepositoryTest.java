@@ -71,7 +71,7 @@ class NftAllowanceRepositoryTest extends RestJavaIntegrationTest {
         setupNftAllowances();
 
         // when, then
-        assertThat(nftAllowanceRepository.findAll(
+        assertThat(findAll(
                         NftAllowanceRequest.builder()
                                 .isOwner(true)
                                 .accountId(new EntityIdNumParameter(EntityId.of(owners.get(2) + 1)))
@@ -84,7 +84,7 @@ class NftAllowanceRepositoryTest extends RestJavaIntegrationTest {
                 .isEmpty();
 
         // when, then
-        assertThat(nftAllowanceRepository.findAll(
+        assertThat(findAll(
                         NftAllowanceRequest.builder()
                                 .isOwner(true)
                                 .accountId(new EntityIdNumParameter(EntityId.of(owners.get(0))))
@@ -101,7 +101,7 @@ class NftAllowanceRepositoryTest extends RestJavaIntegrationTest {
                 .isEmpty();
 
         // when, then
-        assertThat(nftAllowanceRepository.findAll(
+        assertThat(findAll(
                         NftAllowanceRequest.builder()
                                 .isOwner(true)
                                 .accountId(new EntityIdNumParameter(EntityId.of(owners.get(0))))
@@ -122,7 +122,7 @@ class NftAllowanceRepositoryTest extends RestJavaIntegrationTest {
                 .isEmpty();
 
         // when, then
-        assertThat(nftAllowanceRepository.findAll(
+        assertThat(findAll(
                         NftAllowanceRequest.builder()
                                 .isOwner(true)
                                 .accountId(new EntityIdNumParameter(EntityId.of(owners.get(0))))
@@ -143,7 +143,7 @@ class NftAllowanceRepositoryTest extends RestJavaIntegrationTest {
                 .isEmpty();
 
         // when, then
-        assertThat(nftAllowanceRepository.findAll(
+        assertThat(findAll(
                         NftAllowanceRequest.builder()
                                 .isOwner(true)
                                 .accountId(new EntityIdNumParameter(EntityId.of(owners.get(0))))
@@ -523,8 +523,7 @@ class NftAllowanceRepositoryTest extends RestJavaIntegrationTest {
             var request = testSpec.request();
             var expected = testSpec.expected().stream().map(nftAllowances::get).toList();
             softAssertion
-                    .assertThat(nftAllowanceRepository.findAll(
-                            request, ((EntityIdNumParameter) request.getAccountId()).id()))
+                    .assertThat(findAll(request, ((EntityIdNumParameter) request.getAccountId()).id()))
                     .as(testSpec.description())
                     .containsExactlyElementsOf(expected);
         }
@@ -532,6 +531,12 @@ class NftAllowanceRepositoryTest extends RestJavaIntegrationTest {
         softAssertion.assertAll();
     }
 
+    private List<NftAllowance> findAll(NftAllowanceRequest request, EntityId accountId) {
+        try (var stream = nftAllowanceRepository.stream(request, accountId)) {
+            return stream.toList();
+        }
+    }
+
     private static EntityIdRangeParameter fromIndex(RangeOperator operator, List<Long> entityIds, int index) {
         return new EntityIdRangeParameter(operator, EntityId.of(entityIds.get(index)));
     }
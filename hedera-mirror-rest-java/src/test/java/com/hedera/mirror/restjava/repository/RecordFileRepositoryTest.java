@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.restjava.RestJavaIntegrationTest;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+@RequiredArgsConstructor
+class RecordFileRepositoryTest extends RestJavaIntegrationTest {
+
+    private final RecordFileRepository recordFileRepository;
+
+    @Test
+    void findLatestConsensusEnd() {
+        domainBuilder.recordFile().persist();
+        var latest = domainBuilder.recordFile().persist();
+
+        assertThat(recordFileRepository.findLatestConsensusEnd()).get().isEqualTo(latest.getConsensusEnd());
+    }
+
+    @Test
+    void findLatestConsensusEndEmpty() {
+        assertThat(recordFileRepository.findLatestConsensusEnd()).isEmpty();
+    }
+}
@@ -77,7 +77,7 @@ class TokenAirdropRepositoryTest extends RestJavaIntegrationTest {
         var request = TokenAirdropRequest.builder()
                 .accountId(new EntityIdNumParameter(entityId))
                 .build();
-        assertThat(repository.findAll(request, entityId)).contains(tokenAirdrop);
+        assertThat(findAll(request, entityId)).contains(tokenAirdrop);
     }
 
     @Test
@@ -88,7 +88,7 @@ class TokenAirdropRepositoryTest extends RestJavaIntegrationTest {
                 .accountId(new EntityIdNumParameter(entityId))
                 .type(PENDING)
                 .build();
-        assertThat(repository.findAll(request, entityId)).contains(tokenAirdrop);
+        assertThat(findAll(request, entityId)).contains(tokenAirdrop);
     }
 
     @Test
@@ -103,7 +103,7 @@ class TokenAirdropRepositoryTest extends RestJavaIntegrationTest {
                         Constants.ACCOUNT_ID,
                         TOKEN_AIRDROP.RECEIVER_ACCOUNT_ID))
                 .build();
-        assertThat(repository.findAll(request, entityId)).isEmpty();
+        assertThat(findAll(request, entityId)).isEmpty();
     }
 
     @ParameterizedTest
@@ -200,7 +200,7 @@ class TokenAirdropRepositoryTest extends RestJavaIntegrationTest {
                 .type(type)
                 .build();
         // Then
-        assertThat(repository.findAll(request, accountEntityId)).containsExactlyElementsOf(expectedResult);
+        assertThat(findAll(request, accountEntityId)).containsExactlyElementsOf(expectedResult);
 
         // When receiver id condition for Outstanding Airdrops
         //   or sender id condition for Pending Airdrops
@@ -213,7 +213,7 @@ class TokenAirdropRepositoryTest extends RestJavaIntegrationTest {
                 .type(type)
                 .build();
         // Then
-        assertThat(repository.findAll(request, accountEntityId)).containsExactlyElementsOf(expectedResult);
+        assertThat(findAll(request, accountEntityId)).containsExactlyElementsOf(expectedResult);
 
         // When token id and receiver or sender condition
         expectedResult =
@@ -226,7 +226,7 @@ class TokenAirdropRepositoryTest extends RestJavaIntegrationTest {
                 .type(type)
                 .build();
         // Then
-        assertThat(repository.findAll(request, accountEntityId)).containsExactlyElementsOf(expectedResult);
+        assertThat(findAll(request, accountEntityId)).containsExactlyElementsOf(expectedResult);
 
         // When token id condition as primary sort field and with receiver id
         request = TokenAirdropRequest.builder()
@@ -237,7 +237,7 @@ class TokenAirdropRepositoryTest extends RestJavaIntegrationTest {
                 .type(type)
                 .build();
         // Then
-        assertThat(repository.findAll(request, accountEntityId)).containsExactlyElementsOf(expectedResult);
+        assertThat(findAll(request, accountEntityId)).containsExactlyElementsOf(expectedResult);
 
         // When token id condition but no receiver id for outstanding airdrops nor receiver id for pending airdrops
         expectedResult = type == OUTSTANDING ? outstandingTokenSpecifiedAirdrops : pendingTokenSpecifiedAirdrops;
@@ -249,7 +249,7 @@ class TokenAirdropRepositoryTest extends RestJavaIntegrationTest {
                 .type(type)
                 .build();
         // Then
-        assertThat(repository.findAll(request, accountEntityId)).containsExactlyElementsOf(expectedResult);
+        assertThat(findAll(request, accountEntityId)).containsExactlyElementsOf(expectedResult);
     }
 
     @Test
@@ -810,7 +810,7 @@ class TokenAirdropRepositoryTest extends RestJavaIntegrationTest {
             var request = testSpec.request();
             var expected = testSpec.expected().stream().map(airdrops::get).toList();
             softAssertion
-                    .assertThat(repository.findAll(request, ((EntityIdNumParameter) request.getAccountId()).id()))
+                    .assertThat(findAll(request, ((EntityIdNumParameter) request.getAccountId()).id()))
                     .as(testSpec.description())
                     .containsExactlyElementsOf(expected);
         }
@@ -818,6 +818,12 @@ class TokenAirdropRepositoryTest extends RestJavaIntegrationTest {
         softAssertion.assertAll();
     }
 
+    private List<TokenAirdrop> findAll(TokenAirdropRequest request, EntityId accountId) {
+        try (var stream = repository.stream(request, accountId)) {
+            return stream.toList();
+        }
+    }
+
     private static Stream<Arguments> provideArguments() {
         return Stream.of(
                 Arguments.of(Direction.ASC, OUTSTANDING),
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class EntityAddressIndexTest {
+
+    private final EntityAddressIndex index = new EntityAddressIndex();
+
+    @Test
+    void removeAll() {
+        index.add("alias:a", 1L);
+        index.add("evm:b", 1L);
+        index.add("evm:c", 2L);
+
+        assertThat(index.removeAll(1L)).containsExactlyInAnyOrder("alias:a", "evm:b");
+        assertThat(index.removeAll(1L)).isEmpty();
+        assertThat(index.removeAll(2L)).containsExactly("evm:c");
+    }
+
+    @Test
+    void onRemoval() {
+        index.add("alias:a", 1L);
+        index.add("evm:b", 1L);
+
+        index.onRemoval("alias:a", Optional.of(1L), RemovalCause.EXPIRED);
+        index.onRemoval("evm:c", Optional.empty(), RemovalCause.SIZE);
+
+        assertThat(index.removeAll(1L)).containsExactly("evm:b");
+    }
+
+    @Test
+    void clear() {
+        index.add("alias:a", 1L);
+        index.clear();
+        assertThat(index.removeAll(1L)).isEmpty();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.restjava.service;
+
+import static com.hedera.mirror.common.converter.ObjectToStringSerializer.OBJECT_MAPPER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.hedera.mirror.common.domain.entity.EntityNotification;
+import com.hedera.mirror.restjava.RestJavaIntegrationTest;
+import com.hedera.mirror.restjava.common.EntityIdEvmAddressParameter;
+import com.hedera.mirror.restjava.repository.EntityRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityNotFoundException;
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+class EntityNotificationListenerTest extends RestJavaIntegrationTest {
+
+    private final DataSource dataSource;
+    private final EntityRepository entityRepository;
+    private final EntityService entityService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Test
+    void evictOnNotification() throws JsonProcessingException {
+        // given
+        var entity = domainBuilder.entity().persist();
+        var evmAddress = new EntityIdEvmAddressParameter(0, 0, entity.getEvmAddress());
+        assertThat(entityService.lookup(evmAddress)).isEqualTo(entity.toEntityId());
+        entityRepository.deleteById(entity.getId());
+        var notification = OBJECT_MAPPER.writeValueAsString(EntityNotification.of(entity.toBuilder()
+                .deleted(true)
+                .build()));
+
+        // when
+        jdbcTemplate.queryForList("select pg_notify(?, ?)", EntityNotification.CHANNEL, notification);
+
+        // then
+        await().atMost(Duration.ofSeconds(5))
+                .pollInterval(Duration.ofMillis(100))
+                .untilAsserted(() -> assertThatThrownBy(() -> entityService.lookup(evmAddress))
+                        .isInstanceOf(EntityNotFoundException.class));
+    }
+
+    @Test
+    void dedicatedConnection() throws SQLException {
+        var pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        var entity = domainBuilder.entity().persist();
+        var evmAddress = new EntityIdEvmAddressParameter(0, 0, entity.getEvmAddress());
+        assertThat(entityService.lookup(evmAddress)).isEqualTo(entity.toEntityId());
+        entityRepository.deleteById(entity.getId());
+        jdbcTemplate.queryForList("select pg_notify(?, ?)", EntityNotification.CHANNEL, "invalid");
+
+        // The listener is connected once it has processed the notification, yet doesn't hold a pooled connection
+        await().atMost(Duration.ofSeconds(5))
+                .pollInterval(Duration.ofMillis(100))
+                .untilAsserted(() -> assertThatThrownBy(() -> entityService.lookup(evmAddress))
+                        .isInstanceOf(EntityNotFoundException.class));
+        assertThat(pool.getActiveConnections()).isZero();
+    }
+
+    @Test
+    void invalidNotification() {
+        // given
+        var entity = domainBuilder.entity().persist();
+        var evmAddress = new EntityIdEvmAddressParameter(0, 0, entity.getEvmAddress());
+        assertThat(entityService.lookup(evmAddress)).isEqualTo(entity.toEntityId());
+        entityRepository.deleteById(entity.getId());
+
+        // when
+        jdbcTemplate.queryForList("select pg_notify(?, ?)", EntityNotification.CHANNEL, "invalid");
+
+        // then the whole cache is cleared
+        await().atMost(Duration.ofSeconds(5))
+                .pollInterval(Duration.ofMillis(100))
+                .untilAsserted(() -> assertThatThrownBy(() -> entityService.lookup(evmAddress))
+                        .isInstanceOf(EntityNotFoundException.class));
+    }
+}
@@ -20,13 +20,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.entity.EntityNotification;
 import com.hedera.mirror.restjava.RestJavaIntegrationTest;
 import com.hedera.mirror.restjava.common.EntityIdAliasParameter;
 import com.hedera.mirror.restjava.common.EntityIdEvmAddressParameter;
 import com.hedera.mirror.restjava.common.EntityIdNumParameter;
 import com.hedera.mirror.restjava.common.EntityIdParameter;
+import com.hedera.mirror.restjava.repository.EntityRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.codec.binary.Hex;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -34,6 +37,8 @@ import org.junit.jupiter.params.provider.ValueSource;
 @RequiredArgsConstructor
 class EntityServiceTest extends RestJavaIntegrationTest {
 
+    private final EntityAddressCache entityAddressCache;
+    private final EntityRepository entityRepository;
     private final EntityService service;
 
     @Test
@@ -73,6 +78,54 @@ class EntityServiceTest extends RestJavaIntegrationTest {
         assertThat(service.lookup(unknownAccountId)).isEqualTo(unknownAccountId.id());
     }
 
+    @Test
+    void lookupCached() {
+        // given
+        var entity = domainBuilder.entity().persist();
+        var id = entity.toEntityId();
+        var alias = new EntityIdAliasParameter(0, 0, entity.getAlias());
+        var evmAddress = new EntityIdEvmAddressParameter(0, 0, entity.getEvmAddress());
+        assertThat(service.lookup(alias)).isEqualTo(id);
+        assertThat(service.lookup(evmAddress)).isEqualTo(id);
+
+        // when
+        entityRepository.deleteById(entity.getId());
+
+        // then
+        assertThat(service.lookup(alias)).isEqualTo(id);
+        assertThat(service.lookup(evmAddress)).isEqualTo(id);
+
+        // when
+        entityAddressCache.evict(new EntityNotification(entity.getId(), null, null, true));
+
+        // then
+        assertThatThrownBy(() -> service.lookup(alias)).isInstanceOf(EntityNotFoundException.class);
+        assertThatThrownBy(() -> service.lookup(evmAddress)).isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void lookupNegativeCached() {
+        // given
+        var entity = domainBuilder.entity().get();
+        var evmAddress = new EntityIdEvmAddressParameter(0, 0, entity.getEvmAddress());
+        assertThatThrownBy(() -> service.lookup(evmAddress)).isInstanceOf(EntityNotFoundException.class);
+
+        // when
+        domainBuilder.entity(entity.getId(), entity.getCreatedTimestamp())
+                .customize(e -> e.evmAddress(entity.getEvmAddress()))
+                .persist();
+
+        // then
+        assertThatThrownBy(() -> service.lookup(evmAddress)).isInstanceOf(EntityNotFoundException.class);
+
+        // when
+        entityAddressCache.evict(new EntityNotification(
+                entity.getId(), null, Hex.encodeHexString(entity.getEvmAddress()), false));
+
+        // then
+        assertThat(service.lookup(evmAddress)).isEqualTo(entity.toEntityId());
+    }
+
     @ParameterizedTest
     @ValueSource(
             strings = {
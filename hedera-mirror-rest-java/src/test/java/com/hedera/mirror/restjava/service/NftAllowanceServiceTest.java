@@ -30,6 +30,7 @@ import com.hedera.mirror.restjava.common.EntityIdNumParameter;
 import com.hedera.mirror.restjava.common.EntityIdRangeParameter;
 import com.hedera.mirror.restjava.common.RangeOperator;
 import com.hedera.mirror.restjava.dto.NftAllowanceRequest;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -58,7 +59,7 @@ class NftAllowanceServiceTest extends RestJavaIntegrationTest {
                 .tokenIds(new Bound(null, false, Constants.TOKEN_ID, NFT_ALLOWANCE.TOKEN_ID))
                 .order(Sort.Direction.ASC)
                 .build();
-        var response = service.getNftAllowances(request);
+        var response = getNftAllowances(request);
         assertThat(response).containsExactly(nftAllowance1, nftAllowance2);
     }
 
@@ -86,7 +87,7 @@ class NftAllowanceServiceTest extends RestJavaIntegrationTest {
                         NFT_ALLOWANCE.TOKEN_ID))
                 .order(Sort.Direction.ASC)
                 .build();
-        var response = service.getNftAllowances(request);
+        var response = getNftAllowances(request);
         assertThat(response).containsExactlyInAnyOrder(nftAllowance1, nftAllowance2);
     }
 
@@ -114,7 +115,7 @@ class NftAllowanceServiceTest extends RestJavaIntegrationTest {
                         NFT_ALLOWANCE.TOKEN_ID))
                 .order(Sort.Direction.ASC)
                 .build();
-        var response = service.getNftAllowances(request);
+        var response = getNftAllowances(request);
         assertThat(response).containsExactlyInAnyOrder(nftAllowance1, nftAllowance2);
     }
 
@@ -149,7 +150,7 @@ class NftAllowanceServiceTest extends RestJavaIntegrationTest {
                 .order(Sort.Direction.DESC)
                 .build();
 
-        var response = service.getNftAllowances(request);
+        var response = getNftAllowances(request);
 
         assertThat(response).containsExactly(nftAllowance1, nftAllowance2);
     }
@@ -185,7 +186,7 @@ class NftAllowanceServiceTest extends RestJavaIntegrationTest {
                 .order(Sort.Direction.DESC)
                 .build();
 
-        var response = service.getNftAllowances(request);
+        var response = getNftAllowances(request);
 
         assertThat(response).containsExactly(nftAllowance1, nftAllowance2);
     }
@@ -223,7 +224,7 @@ class NftAllowanceServiceTest extends RestJavaIntegrationTest {
                         NFT_ALLOWANCE.TOKEN_ID))
                 .order(Sort.Direction.ASC)
                 .build();
-        var response = service.getNftAllowances(request);
+        var response = getNftAllowances(request);
         assertThat(response).containsExactly(nftAllowance1);
     }
 
@@ -258,7 +259,7 @@ class NftAllowanceServiceTest extends RestJavaIntegrationTest {
                         NFT_ALLOWANCE.TOKEN_ID))
                 .order(Sort.Direction.ASC)
                 .build();
-        var response = service.getNftAllowances(request);
+        var response = getNftAllowances(request);
         assertThat(response).containsExactlyInAnyOrder(nftAllowance1);
     }
 
@@ -294,7 +295,7 @@ class NftAllowanceServiceTest extends RestJavaIntegrationTest {
                         NFT_ALLOWANCE.TOKEN_ID))
                 .order(Sort.Direction.ASC)
                 .build();
-        var response = service.getNftAllowances(request);
+        var response = getNftAllowances(request);
         assertThat(response).containsExactly(nftAllowance1);
     }
 
@@ -327,7 +328,7 @@ class NftAllowanceServiceTest extends RestJavaIntegrationTest {
                         NFT_ALLOWANCE.TOKEN_ID))
                 .order(Sort.Direction.ASC)
                 .build();
-        assertThatThrownBy(() -> service.getNftAllowances(request))
+        assertThatThrownBy(() -> service.streamNftAllowances(request))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Requires the presence of an lte or eq account.id parameter");
 
@@ -349,7 +350,7 @@ class NftAllowanceServiceTest extends RestJavaIntegrationTest {
                         NFT_ALLOWANCE.TOKEN_ID))
                 .order(Sort.Direction.ASC)
                 .build();
-        assertThatThrownBy(() -> service.getNftAllowances(request1))
+        assertThatThrownBy(() -> service.streamNftAllowances(request1))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Requires the presence of an gte or eq account.id parameter");
     }
@@ -385,7 +386,7 @@ class NftAllowanceServiceTest extends RestJavaIntegrationTest {
                         NFT_ALLOWANCE.TOKEN_ID))
                 .order(Sort.Direction.ASC)
                 .build();
-        assertThatThrownBy(() -> service.getNftAllowances(request))
+        assertThatThrownBy(() -> service.streamNftAllowances(request))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Only one range operator from [lt, lte] is allowed for the given parameter");
     }
@@ -421,7 +422,7 @@ class NftAllowanceServiceTest extends RestJavaIntegrationTest {
                         NFT_ALLOWANCE.TOKEN_ID))
                 .order(Sort.Direction.ASC)
                 .build();
-        assertThatThrownBy(() -> service.getNftAllowances(request))
+        assertThatThrownBy(() -> service.streamNftAllowances(request))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Can't support both range and equal for account.id");
     }
@@ -450,7 +451,7 @@ class NftAllowanceServiceTest extends RestJavaIntegrationTest {
                         NFT_ALLOWANCE.TOKEN_ID))
                 .order(Sort.Direction.ASC)
                 .build();
-        assertThatThrownBy(() -> service.getNftAllowances(request))
+        assertThatThrownBy(() -> service.streamNftAllowances(request))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("token.id parameter must have account.id present");
     }
@@ -480,11 +481,17 @@ class NftAllowanceServiceTest extends RestJavaIntegrationTest {
                 .tokenIds(new Bound(null, false, Constants.TOKEN_ID, NFT_ALLOWANCE.TOKEN_ID))
                 .order(Sort.Direction.ASC)
                 .build();
-        assertThatThrownBy(() -> service.getNftAllowances(request))
+        assertThatThrownBy(() -> service.streamNftAllowances(request))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Unsupported range operator ne");
     }
 
+    private List<NftAllowance> getNftAllowances(NftAllowanceRequest request) {
+        try (var stream = service.streamNftAllowances(request)) {
+            return stream.toList();
+        }
+    }
+
     NftAllowance saveNftAllowance(EntityId accountId, boolean owner) {
         if (owner) {
             return domainBuilder
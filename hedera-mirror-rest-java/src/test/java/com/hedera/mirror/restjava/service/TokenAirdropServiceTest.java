@@ -21,12 +21,14 @@ import static com.hedera.mirror.restjava.dto.TokenAirdropRequest.AirdropRequestT
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.token.TokenAirdrop;
 import com.hedera.mirror.restjava.RestJavaIntegrationTest;
 import com.hedera.mirror.restjava.common.EntityIdAliasParameter;
 import com.hedera.mirror.restjava.common.EntityIdEvmAddressParameter;
 import com.hedera.mirror.restjava.common.EntityIdNumParameter;
 import com.hedera.mirror.restjava.dto.TokenAirdropRequest;
 import com.hedera.mirror.restjava.dto.TokenAirdropRequest.AirdropRequestType;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -55,7 +57,7 @@ class TokenAirdropServiceTest extends RestJavaIntegrationTest {
                 .accountId(new EntityIdNumParameter(accountId))
                 .type(type)
                 .build();
-        var response = service.getAirdrops(request);
+        var response = getAirdrops(request);
         assertThat(response).containsExactly(fungibleAirdrop);
     }
 
@@ -76,7 +78,7 @@ class TokenAirdropServiceTest extends RestJavaIntegrationTest {
                 .accountId(new EntityIdAliasParameter(entity.getShard(), entity.getRealm(), entity.getAlias()))
                 .type(type)
                 .build();
-        var response = service.getAirdrops(request);
+        var response = getAirdrops(request);
         assertThat(response).containsExactly(tokenAirdrop);
     }
 
@@ -97,7 +99,7 @@ class TokenAirdropServiceTest extends RestJavaIntegrationTest {
                         new EntityIdEvmAddressParameter(entity.getShard(), entity.getRealm(), entity.getEvmAddress()))
                 .type(type)
                 .build();
-        var response = service.getAirdrops(request);
+        var response = getAirdrops(request);
         assertThat(response).containsExactly(tokenAirdrop);
     }
 
@@ -108,7 +110,13 @@ class TokenAirdropServiceTest extends RestJavaIntegrationTest {
                 .accountId(new EntityIdNumParameter(EntityId.of(3000L)))
                 .type(type)
                 .build();
-        var response = service.getAirdrops(request);
+        var response = getAirdrops(request);
         assertThat(response).isEmpty();
     }
+
+    private List<TokenAirdrop> getAirdrops(TokenAirdropRequest request) {
+        try (var stream = service.streamAirdrops(request)) {
+            return stream.toList();
+        }
+    }
 }
@@ -22,6 +22,7 @@ import static com.hedera.mirror.web3.service.model.CallServiceParameters.CallTyp
 import static com.hedera.mirror.web3.service.model.CallServiceParameters.CallType.ERROR;
 import static org.apache.logging.log4j.util.Strings.EMPTY;
 
+import com.hedera.mirror.common.db.ReplicaFreshness;
 import com.hedera.mirror.web3.common.ContractCallContext;
 import com.hedera.mirror.web3.evm.contracts.execution.MirrorEvmTxProcessor;
 import com.hedera.mirror.web3.evm.store.Store;
@@ -93,13 +94,19 @@ public abstract class ContractCallService {
             throws MirrorEvmTransactionException {
         // if we have historical call, then set the corresponding record file in the context
         if (params.getBlock() != BlockType.LATEST) {
-            ctx.setRecordFile(recordFileService
+            var recordFile = recordFileService
                     .findByBlockType(params.getBlock())
-                    .orElseThrow(BlockNumberNotFoundException::new));
+                    .orElseThrow(BlockNumberNotFoundException::new);
+            ctx.setRecordFile(recordFile);
+            ctx.initializeStackFrames(store.getStackedStateFrames());
+            // historical state only needs a database that has replayed up to the requested block
+            return ReplicaFreshness.require(
+                    recordFile.getConsensusEnd(), () -> doProcessCall(params, params.getGas(), true));
         }
-        // initializes the stack frame with the current state or historical state (if the call is historical)
+        // initializes the stack frame with the current state
         ctx.initializeStackFrames(store.getStackedStateFrames());
-        return doProcessCall(params, params.getGas(), true);
+        // all reads of the call need to come from a single database that has everything the primary has
+        return ReplicaFreshness.latest(() -> doProcessCall(params, params.getGas(), true));
     }
 
     protected HederaEvmTransactionProcessingResult doProcessCall(
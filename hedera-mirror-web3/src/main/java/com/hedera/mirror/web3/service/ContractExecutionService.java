@@ -19,6 +19,7 @@ package com.hedera.mirror.web3.service;
 import static com.hedera.mirror.web3.service.model.CallServiceParameters.CallType;
 
 import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.db.ReplicaFreshness;
 import com.hedera.mirror.web3.common.ContractCallContext;
 import com.hedera.mirror.web3.evm.contracts.execution.MirrorEvmTxProcessor;
 import com.hedera.mirror.web3.evm.store.Store;
@@ -62,7 +63,8 @@ public class ContractExecutionService extends ContractCallService {
                 if (params.isEstimate()) {
                     // eth_estimateGas initialization - historical timestamp is Optional.empty()
                     ctx.initializeStackFrames(store.getStackedStateFrames());
-                    result = estimateGas(params);
+                    // every iteration of the estimation reads from the same database
+                    result = ReplicaFreshness.latest(() -> estimateGas(params));
                 } else {
                     final var ethCallTxnResult = callContract(params, ctx);
 
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hedera.mirror.common.test.performance.LoadProperties;
+import com.hedera.mirror.common.test.performance.LoadTester;
+import com.hedera.mirror.web3.Web3IntegrationTest;
+import com.hedera.mirror.web3.viewmodel.ContractCallRequest;
+import com.hedera.mirror.web3.web3j.TestWeb3jService;
+import com.hedera.mirror.web3.web3j.TestWeb3jService.Web3jTestConfiguration;
+import com.hedera.mirror.web3.web3j.generated.EthCall;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.commons.codec.binary.Hex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.EnabledIf;
+
+@EnabledIf(expression = "${hedera.mirror.test.performance.enabled:false}", loadContext = true)
+@Import(Web3jTestConfiguration.class)
+@RequiredArgsConstructor
+@SpringBootTest(
+        properties = "hedera.mirror.web3.throttle.requestsPerSecond=1000000",
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Tag("performance")
+class ContractCallPerformanceTest extends Web3IntegrationTest {
+
+    private final ObjectMapper objectMapper;
+    private final LoadProperties properties;
+    private final TestWeb3jService testWeb3jService;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    @SneakyThrows
+    void call() {
+        domainBuilder.recordFile().persist();
+        for (int i = 1; i < properties.getScale(); i++) {
+            domainBuilder.entity().persist();
+        }
+
+        var account = domainBuilder.entity().persist();
+        var contract = testWeb3jService.deploy(EthCall::deploy);
+        var request = new ContractCallRequest();
+        request.setData(contract.call_getAccountBalance("0x" + Hex.encodeHexString(account.getEvmAddress()))
+                .encodeFunctionCall());
+        request.setGas(100_000L);
+        request.setTo(contract.getContractAddress());
+
+        var uri = URI.create("http://localhost:%d/api/v1/contracts/call".formatted(port));
+        var httpRequest = HttpRequest.newBuilder(uri)
+                .header("Accept", "application/json")
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(10L))
+                .POST(BodyPublishers.ofString(objectMapper.writeValueAsString(request)))
+                .build();
+        new LoadTester(properties).run("web3-contracts-call", () -> httpRequest);
+    }
+}